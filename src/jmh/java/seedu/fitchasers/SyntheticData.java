@@ -0,0 +1,118 @@
+package seedu.fitchasers;
+
+import seedu.fitchasers.user.WeightRecord;
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+//@@author Kart04
+/**
+ * Deterministic generators for the data used by the benchmarks.
+ * Every generator takes a seed so repeated runs measure exactly the same input.
+ */
+public final class SyntheticData {
+    public static final String[] WORKOUT_NAMES = {
+        "leg day", "push day", "pull day", "morning run", "swim laps", "deadlift heavy",
+        "upper hypertrophy", "core and abs", "treadmill intervals", "shoulder press", "arms curl", "rest"
+    };
+    public static final String[] EXERCISE_NAMES = {
+        "Squat", "Bench Press", "Deadlift", "Overhead Press", "Barbell Row", "Pull-up",
+        "Bicep Curl", "Tricep Dip", "Plank", "Lunge", "Calf Raise", "Lat Pulldown"
+    };
+
+    private SyntheticData() {
+    }
+
+    /**
+     * Builds ended workouts spread evenly over a month, each with a few exercises and sets.
+     *
+     * @param month the month the workouts start in
+     * @param count number of workouts
+     * @param seed  random seed
+     * @return the generated workouts, oldest first
+     */
+    public static ArrayList<Workout> workouts(YearMonth month, int count, long seed) {
+        Random random = new Random(seed);
+        long minutesInMonth = month.lengthOfMonth() * 24L * 60L;
+        LocalDateTime monthStart = month.atDay(1).atStartOfDay();
+        ArrayList<Workout> out = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime start = monthStart.plusMinutes(i * minutesInMonth / count);
+            LocalDateTime end = start.plusMinutes(20 + random.nextInt(70));
+            Workout w = new Workout(WORKOUT_NAMES[random.nextInt(WORKOUT_NAMES.length)], start, end);
+            Set<String> tags = new LinkedHashSet<>();
+            tags.add("strength");
+            w.setAutoTags(tags);
+            int exercises = 1 + random.nextInt(5);
+            for (int e = 0; e < exercises; e++) {
+                Exercise exercise = new Exercise(EXERCISE_NAMES[random.nextInt(EXERCISE_NAMES.length)],
+                        1 + random.nextInt(20));
+                int sets = random.nextInt(4);
+                for (int s = 0; s < sets; s++) {
+                    exercise.addSet(1 + random.nextInt(20));
+                }
+                w.addExercise(exercise);
+            }
+            out.add(w);
+        }
+        return out;
+    }
+
+    /**
+     * Builds ended, non-overlapping workouts one after another, starting at the given time.
+     *
+     * @param from  start of the first workout
+     * @param count number of workouts
+     * @param seed  random seed
+     * @return the generated workouts, oldest first
+     */
+    public static ArrayList<Workout> schedule(LocalDateTime from, int count, long seed) {
+        Random random = new Random(seed);
+        ArrayList<Workout> out = new ArrayList<>(count);
+        LocalDateTime start = from;
+        for (int i = 0; i < count; i++) {
+            LocalDateTime end = start.plusMinutes(30 + random.nextInt(120));
+            out.add(new Workout(WORKOUT_NAMES[random.nextInt(WORKOUT_NAMES.length)], start, end));
+            start = end.plusMinutes(60 + random.nextInt(24 * 60));
+        }
+        return out;
+    }
+
+    /**
+     * Builds one weight record per day, drifting slowly around 70 kg.
+     *
+     * @param from  date of the first record
+     * @param count number of records
+     * @param seed  random seed
+     * @return the generated records, oldest first
+     */
+    public static List<WeightRecord> weights(LocalDate from, int count, long seed) {
+        Random random = new Random(seed);
+        List<WeightRecord> out = new ArrayList<>(count);
+        double weight = 70;
+        for (int i = 0; i < count; i++) {
+            weight = Math.max(40, Math.min(150, weight + random.nextGaussian() * 0.3));
+            out.add(new WeightRecord(Math.round(weight * 10) / 10.0, from.plusDays(i)));
+        }
+        return out;
+    }
+
+    /**
+     * Returns a stream that discards everything, used to keep console rendering out of the JMH output.
+     *
+     * @return a print stream writing nowhere
+     */
+    public static PrintStream nullOutput() {
+        return new PrintStream(OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.fitchasers.storage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.fitchasers.SyntheticData;
+import seedu.fitchasers.exceptions.FileNonexistent;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+//@@author Kart04
+/**
+ * Measures writing and reading a month file. {@code saveMonthList} waits for the background
+ * write to finish, while {@code submitSave} only measures what the command loop pays to queue it.
+ * {@code loadMonthListCold} uses a fresh {@link FileHandler} every time so the month is parsed
+ * from disk, while {@code loadMonthListCached} shows the cost of a month cache hit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileHandlerBenchmark {
+    private static final YearMonth MONTH = YearMonth.of(2025, 1);
+
+    @Param({"10", "1000", "100000"})
+    public int workoutCount;
+
+    private ArrayList<Workout> workouts;
+    private FileHandler fileHandler;
+    private PrintStream originalOut;
+
+    @Setup
+    public void setUp() throws IOException {
+        originalOut = System.out;
+        System.setOut(SyntheticData.nullOutput());
+        workouts = SyntheticData.workouts(MONTH, workoutCount, 42);
+        fileHandler = new FileHandler();
+        fileHandler.saveMonthList(MONTH, workouts);
+        fileHandler.flushJournal();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        fileHandler.flushJournal();
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public void saveMonthList() throws IOException {
+        fileHandler.saveMonthList(MONTH, workouts);
+        fileHandler.flushJournal();
+    }
+
+    @Benchmark
+    public void submitSave() throws IOException {
+        fileHandler.saveMonthList(MONTH, workouts);
+    }
+
+    @Benchmark
+    public ArrayList<Workout> loadMonthListCold() throws IOException, FileNonexistent {
+        return new FileHandler().loadMonthList(MONTH);
+    }
+
+    @Benchmark
+    public ArrayList<Workout> loadMonthListCached() throws IOException, FileNonexistent {
+        return fileHandler.loadMonthList(MONTH);
+    }
+}
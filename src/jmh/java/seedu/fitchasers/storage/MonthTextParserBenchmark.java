@@ -0,0 +1,70 @@
+package seedu.fitchasers.storage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.fitchasers.SyntheticData;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+//@@author Kart04
+/**
+ * Measures parsing the contents of a month text file that is already in memory, without the disk
+ * read that {@link FileHandlerBenchmark#loadMonthListCold} includes.
+ * Run with {@code -prof gc} to see the bytes allocated per parse ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MonthTextParserBenchmark {
+    private static final YearMonth MONTH = YearMonth.of(2025, 1);
+
+    @Param({"10", "1000", "100000"})
+    public int workoutCount;
+
+    private byte[] contents;
+    private int length;
+    private LoadWarnings warnings;
+    private PrintStream originalOut;
+
+    @Setup
+    public void setUp() throws IOException {
+        originalOut = System.out;
+        System.setOut(SyntheticData.nullOutput());
+        FileHandler fileHandler = new FileHandler();
+        fileHandler.saveMonthList(MONTH, SyntheticData.workouts(MONTH, workoutCount, 42));
+        fileHandler.flushJournal();
+        contents = Files.readAllBytes(FileHandler.DATA_DIRECTORY.resolve("workouts")
+                .resolve("workouts_" + MONTH + ".txt"));
+        length = AtomicFiles.contentLength(contents);
+        warnings = new LoadWarnings();
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public ArrayList<Workout> parse() {
+        return MonthTextParser.parse(contents, length, warnings);
+    }
+}
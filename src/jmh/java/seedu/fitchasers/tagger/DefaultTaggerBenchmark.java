@@ -0,0 +1,47 @@
+package seedu.fitchasers.tagger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.fitchasers.SyntheticData;
+import seedu.fitchasers.workouts.Workout;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+//@@author Kart04
+/**
+ * Measures tag suggestion for a rotating set of synthetic workouts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DefaultTaggerBenchmark {
+    private final DefaultTagger tagger = new DefaultTagger();
+    private ArrayList<Workout> workouts;
+    private int next = 0;
+
+    @Setup
+    public void setUp() {
+        workouts = SyntheticData.workouts(YearMonth.of(2025, 1), 1024, 7);
+    }
+
+    @Benchmark
+    public Set<String> suggest() {
+        Workout w = workouts.get(next);
+        next = (next + 1) & (workouts.size() - 1);
+        return tagger.suggest(w);
+    }
+}
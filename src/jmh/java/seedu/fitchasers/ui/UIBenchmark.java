@@ -0,0 +1,69 @@
+package seedu.fitchasers.ui;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.fitchasers.SyntheticData;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+//@@author Exceptional-Khoi
+/**
+ * Measures rendering a left speech bubble through {@link UI#showMessage}, with console output discarded.
+ * {@code leftBubble} is private, so the benchmark also includes the print to a null stream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UIBenchmark {
+    @Param({"plain", "ansi", "multiline", "wrapped"})
+    public String shape;
+
+    private UI ui;
+    private String message;
+    private PrintStream originalOut;
+
+    @Setup
+    public void setUp() {
+        originalOut = System.out;
+        System.setOut(SyntheticData.nullOutput());
+        ui = new UI();
+        switch (shape) {
+        case "ansi":
+            message = "\u001B[32mSaved\u001B[0m 12 workouts for \u001B[1m2025-10\u001B[0m";
+            break;
+        case "multiline":
+            message = "Tags generated for workout: strength, legs\nAdded workout: leg day\n".repeat(8);
+            break;
+        case "wrapped":
+            message = "Squat 5x5 at 100 kg, then lunges and calf raises to finish the leg day. ".repeat(12);
+            break;
+        default:
+            message = "Saved 12 workouts for 2025-10";
+            break;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public void leftBubble() {
+        ui.showMessage(message);
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.fitchasers.user;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.fitchasers.SyntheticData;
+
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+//@@author bennyy117
+/**
+ * Measures drawing the weight graph, with console output discarded, and a 30-day moving average.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersonBenchmark {
+    @Param({"30", "365", "3650"})
+    public int recordCount;
+
+    private Person person;
+    private LocalDate latest;
+    private PrintStream originalOut;
+
+    @Setup
+    public void setUp() {
+        originalOut = System.out;
+        System.setOut(SyntheticData.nullOutput());
+        person = new Person("Bench");
+        person.setWeightHistory(SyntheticData.weights(LocalDate.of(2015, 1, 1), recordCount, 13));
+        latest = LocalDate.of(2015, 1, 1).plusDays(recordCount - 1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public void displayWeightGraphWithDates() {
+        person.displayWeightGraphWithDates();
+    }
+
+    @Benchmark
+    public double movingAverage() {
+        return person.getMovingAverage(latest, 30);
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.fitchasers.workouts;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.fitchasers.SyntheticData;
+import seedu.fitchasers.storage.FileHandler;
+import seedu.fitchasers.storage.WorkoutIndex;
+import seedu.fitchasers.tagger.DefaultTagger;
+import seedu.fitchasers.ui.UI;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.time.YearMonth;
+import java.util.concurrent.TimeUnit;
+
+//@@author ZhongBaode
+/**
+ * Measures reading the first and last page of a month for {@code /view_log} from the workout index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ViewLogBenchmark {
+    private static final YearMonth MONTH = YearMonth.of(2025, 2);
+
+    @Param({"10", "1000"})
+    public int workoutCount;
+
+    private ViewLog viewLog;
+    private PrintStream originalOut;
+
+    @Setup
+    public void setUp() throws IOException {
+        originalOut = System.out;
+        System.setOut(SyntheticData.nullOutput());
+        FileHandler fileHandler = new FileHandler();
+        fileHandler.saveMonthList(MONTH, SyntheticData.workouts(MONTH, workoutCount, 11));
+        fileHandler.flushJournal();
+        UI ui = new UI();
+        viewLog = new ViewLog(ui, new WorkoutManager(new DefaultTagger(), fileHandler), fileHandler);
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public WorkoutIndex.Page firstPage() throws IOException {
+        return viewLog.pageOf(MONTH, 1);
+    }
+
+    @Benchmark
+    public WorkoutIndex.Page lastPage() throws IOException {
+        return viewLog.pageOf(MONTH, Integer.MAX_VALUE);
+    }
+}
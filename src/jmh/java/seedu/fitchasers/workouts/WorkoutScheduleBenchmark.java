@@ -0,0 +1,84 @@
+package seedu.fitchasers.workouts;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.fitchasers.SyntheticData;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+//@@author ZhongBaode
+/**
+ * Compares overlap detection through {@link WorkoutSchedule} with the linear scan it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WorkoutScheduleBenchmark {
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"10000", "100000"})
+    public int workoutCount;
+
+    private ArrayList<Workout> workouts;
+    private WorkoutSchedule schedule;
+    private LocalDateTime[] queries;
+    private int next = 0;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime from = LocalDateTime.of(2000, 1, 1, 6, 0);
+        workouts = SyntheticData.schedule(from, workoutCount, 3);
+        schedule = new WorkoutSchedule();
+        for (Workout w : workouts) {
+            schedule.add(YearMonth.from(w.getWorkoutStartDateTime()), w);
+        }
+        LocalDateTime last = workouts.get(workouts.size() - 1).getWorkoutEndDateTime();
+        long span = Duration.between(from, last).toMinutes();
+        Random random = new Random(5);
+        queries = new LocalDateTime[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queries[i] = from.plusMinutes((long) (random.nextDouble() * span));
+        }
+    }
+
+    private LocalDateTime nextQuery() {
+        LocalDateTime q = queries[next];
+        next = (next + 1) & (QUERY_COUNT - 1);
+        return q;
+    }
+
+    @Benchmark
+    public Workout intervalTree() {
+        return schedule.findContaining(nextQuery());
+    }
+
+    @Benchmark
+    public Workout linearScan() {
+        LocalDateTime newStart = nextQuery();
+        for (Workout w : workouts) {
+            LocalDateTime s = w.getWorkoutStartDateTime();
+            LocalDateTime e = w.getWorkoutEndDateTime();
+            if (!newStart.isBefore(s) && newStart.isBefore(e)) {
+                return w;
+            }
+        }
+        return null;
+    }
+}
@@ -1,7 +1,33 @@
 package seedu.fitchasers;
 
+import seedu.fitchasers.analytics.ProgressReport;
 import seedu.fitchasers.exceptions.CorruptedDataException;
+import seedu.fitchasers.exceptions.CorruptedFileError;
 import seedu.fitchasers.exceptions.FileNonexistent;
+import seedu.fitchasers.metrics.StatsReport;
+import seedu.fitchasers.parser.CommandParser;
+import seedu.fitchasers.parser.CommandRegistry;
+import seedu.fitchasers.parser.addexercise.AddExerciseParser;
+import seedu.fitchasers.parser.addset.AddSetParser;
+import seedu.fitchasers.parser.addweight.AddWeightArguments;
+import seedu.fitchasers.parser.addweight.AddWeightParser;
+import seedu.fitchasers.parser.convertmonth.ConvertMonthArguments;
+import seedu.fitchasers.parser.convertmonth.ConvertMonthParser;
+import seedu.fitchasers.parser.createworkout.CreateWorkoutParser;
+import seedu.fitchasers.parser.deleteworkout.DeleteParser;
+import seedu.fitchasers.parser.endworkout.EndWorkoutParser;
+import seedu.fitchasers.parser.gympage.GymPageParser;
+import seedu.fitchasers.parser.openworkout.deleteworkout.OpenWorkoutParser;
+import seedu.fitchasers.parser.overridetag.OverrideTagArguments;
+import seedu.fitchasers.parser.overridetag.OverrideTagParser;
+import seedu.fitchasers.parser.progress.ProgressParser;
+import seedu.fitchasers.parser.rename.RenameParser;
+import seedu.fitchasers.parser.search.SearchParser;
+import seedu.fitchasers.parser.setgoal.SetGoalParser;
+import seedu.fitchasers.parser.tagkeyword.TagKeywordArguments;
+import seedu.fitchasers.parser.tagkeyword.TagKeywordParser;
+import seedu.fitchasers.parser.transfer.TransferParser;
+import seedu.fitchasers.parser.viewlog.ViewLogParser;
 import seedu.fitchasers.ui.UI;
 import seedu.fitchasers.workouts.ViewLog;
 import seedu.fitchasers.gym.EquipmentDisplay;
@@ -13,15 +39,23 @@ import seedu.fitchasers.tagger.MuscleGroup;
 import seedu.fitchasers.user.GoalWeightTracker;
 import seedu.fitchasers.user.Person;
 import seedu.fitchasers.user.WeightManager;
+import seedu.fitchasers.workouts.RetagWorkouts;
+import seedu.fitchasers.workouts.SearchWorkouts;
+import seedu.fitchasers.workouts.TransferData;
 import seedu.fitchasers.workouts.Workout;
 import seedu.fitchasers.workouts.WorkoutManager;
 import seedu.fitchasers.storage.FileHandler;
 
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
@@ -33,6 +67,9 @@ import java.util.Set;
  * and persists data through FileHandler.
  */
 public class FitChasers {
+    private static final String USAGE =
+            "Usage: java -jar FitChasers.jar [--json] [--stats STATS_FILE] [--batch [SCRIPT_FILE]]";
+
     /**
      * Starts the FitChasers program.
      * Initializes all components, loads saved data if available,
@@ -48,10 +85,11 @@ public class FitChasers {
     private static final List<Gym> gyms = StaticGymData.getNusGyms();
     private static WorkoutManager workoutManager;
     private static boolean isRunning = true;
-    private static String argumentStr = "";
+    private static CommandRegistry commands;
     private static WeightManager weightManager;
     private static GoalWeightTracker goalTracker;
     private static boolean isWeightFileCorrupted = false;
+    private static Path statsFile = null;
 
     /**
      * The main entry point for the FitChasers application.
@@ -61,20 +99,40 @@ public class FitChasers {
      * according to their respective handlers (e.g., workouts, weight tracking, goals, gyms).
      * Invalid or malformed commands trigger user-friendly error messages.
      *
-     * @param args The command-line arguments (not used in this application).
+     * <p>
+     * With {@code --batch [FILE]}, commands are read from the file, or from standard input if no
+     * file is given, as described in {@link #startBatch}. With {@code --json}, every command's output
+     * is written as one line of JSON, for programs that drive the app. With {@code --stats FILE}, the
+     * table shown by {@code /stats} is written to the file when the app ends.
+     *
+     * @param args The command-line arguments: the options {@code --json} and {@code --stats FILE} in any
+     *             order, then optionally {@code --batch} followed by an optional script file.
      * @throws IOException If an I/O error occurs during file operations.
      */
     public static void main(String[] args) throws IOException {
+        int optionCount = readOptions(args);
+        if (optionCount < 0) {
+            System.exit(2);
+        }
+        args = Arrays.copyOfRange(args, optionCount, args.length);
+        if (args.length > 0 && !startBatch(args)) {
+            System.exit(2);
+        }
+        if (!UI.isBatchMode() && System.console() == null) {
+            UI.setPlainOutput(true);
+        }
+        fileHandler.flushOnShutdown();
         ui.printLeftHeader();
         initVariables();
         ui.showGreeting();
         try {
-            //viewLog.render(argumentStr);
-            System.out.println();
+            ui.showRaw(System.lineSeparator());
         } catch (IndexOutOfBoundsException e) {
             ui.showError(e.getMessage());
         }
         workoutManager.initWorkouts();
+        commands = buildCommands();
+        int commandCount = 0;
         while (isRunning) {
             String input = ui.readCommand();
 
@@ -82,157 +140,191 @@ public class FitChasers {
                 break;
             }
 
+            if (UI.isBatchMode() && (input.isBlank() || input.startsWith("#"))) {
+                continue;
+            }
+
             if (input.trim().isEmpty()) {
                 ui.showMessage("Please enter a command, or type /help or h for options.");
                 continue;
             }
+            commandCount++;
+            UI.beginCommand(input);
 
+            String line = input.trim();
+            String command = CommandRegistry.commandWord(line);
             if (isWeightFileCorrupted) {
-                String[] parts = input.trim().split("\\s+", 2);
-                String cmd = parts[0].toLowerCase();
-
-                boolean isCommandAllowed = cmd.equals("/clear_weights")
-                        || cmd.equals("/exit") || cmd.equals("e");
+                boolean isCommandAllowed = command.equals("/clear_weights")
+                        || command.equals("/exit") || command.equals("e");
 
                 if (!isCommandAllowed) {
-                    ui.showError("Action disabled due to corrupted weight file.");
+                    ui.showFailure("Action disabled due to corrupted weight file.");
                     ui.showMessage("Please use '/clear_weights' or '/exit' and manually resolve the weight.txt file.");
+                    UI.endCommand();
                     continue;
                 }
             }
 
-            String[] parts = input.trim().split("\\s+", 2);
-            String command = parts[0].toLowerCase();
-            argumentStr = (parts.length > 1) ? parts[1].trim() : "";
-
+            // write a command's output in one go when it finishes
+            ui.console().hold();
             try {
-                switch (command) {
-
-                case "/help":
-                case "h":
-                case "help": {
-                    if (!argumentStr.isEmpty()) {
-                        ui.showError("The /help command doesn't take any arguments.\n"
-                                + "Just type '/help' or 'h' to see all available commands.");
-                    } else if (command.equals("help")) {
-                        ui.showMessage("Did you mean '/help'? Type '/help' or 'h' to see all available commands.");
-                    } else {
-                        ui.showHelp();
-                    }
-                    break;
-                }
-
-                case "/rename":
-                case "rn":
-                    renameMethod();
-                    break;
-
-                case "/add_weight":
-                case "aw":
-                    weightManager.addWeight(argumentStr);
-                    // Format: /add_weight w/WEIGHT d/DATE
-                    break;
-
-                case "/view_weight":
-                case "vw":
-                    viewWeightMethod(weightManager);
-                    break;
-
-                case "/clear_weights":
-                    handleClearWeights();
-                    break;
-
-                case "/set_goal":
-                case "sg":
-                    goalTracker.handleSetGoal(argumentStr);
-                    break;
-
-                case "/view_goal":
-                case "vg":
-                    goalTracker.handleViewGoal(person.getLatestWeight());
-                    break;
-
-                case "/create_workout":
-                case "cw":
-                    // Format: /create_workout n/NAME d/DD/MM/YY t/HHmm
-                    workoutManager.addWorkout(argumentStr);
-                    break;
-
-                case "/add_exercise":
-                case "ae":
-                    // Format: /add_exercise n/NAME r/REPS
-                    workoutManager.addExercise(argumentStr);
-                    break;
-
-                case "/add_modality_tag":
-                case "amot":
-                    amotMethod();
-                    break;
-
-                case "/add_muscle_tag":
-                case "amt":
-                    amtMethod();
-                    break;
-
-                case "/gym_where":
-                case "gw":
-                    gwMethod();
-                    break;
-
-                case "/gym_page":
-                case "gp":
-                    gpMethod();
-                    break;
-
-                case "/override_workout_tag":
-                case "owt":
-                    owtMethod();
-                    break;
-
-                case "/add_set":
-                case "as":
-                    // Format: /add_set r/REPS
-                    workoutManager.addSet(argumentStr);
-                    break;
-
-                case "/end_workout":
-                case "ew":
-                    // Format: /end_workout d/DD/MM/YY t/HHmm
-                    workoutManager.endWorkout(argumentStr);
-                    break;
-
-                case "/view_log":
-                case "vl":
-                    try {
-                        viewLog.render(argumentStr);
-                    } catch (IndexOutOfBoundsException e) {
-                        ui.showError(e.getMessage());
-                    }
-                    break;
-
-                case "/open":
-                case "o":
-                    viewLog.openByIndex(argumentStr);
-                    break;
-
-                case "/delete_workout":
-                case "dw":
-                    workoutManager.deleteParser(argumentStr);
-                    break;
-
-                case "/exit":
-                case "e":
-                    exitMethod();
-                    break;
-
-                default:
-                    ui.showError("That's not a thing, bestie. Try /help or h for the real moves!");
-                    break;
+                if (!commands.dispatch(command, CommandRegistry.arguments(line), workoutManager.getCreationDate())) {
+                    ui.showFailure("That's not a thing, bestie. Try /help or h for the real moves!");
                 }
             } catch (Exception e) {
-                ui.showError(e.getMessage());
+                ui.showFailure(e.getMessage());
+            } finally {
+                UI.endCommand();
+                ui.console().release();
+            }
+        }
+        if (statsFile != null) {
+            try {
+                StatsReport.write(statsFile, commands.stats(), fileHandler.getMonthCacheStats());
+            } catch (IOException e) {
+                ui.showError("Failed to write the stats to " + statsFile + ": " + e.getMessage());
+            }
+        }
+        if (UI.isBatchMode()) {
+            finishBatch(commandCount);
+        }
+        UI.finishOutput();
+    }
+
+    /**
+     * Reads the options before {@code --batch}: {@code --json} turns on JSON output, and
+     * {@code --stats FILE} sets the file the command stats are written to on exit.
+     *
+     * @param args The command-line arguments.
+     * @return the number of arguments read, or -1 if an option is unknown or missing its file.
+     */
+    private static int readOptions(String[] args) {
+        int i = 0;
+        while (i < args.length && !args[i].equals("--batch")) {
+            if (args[i].equals("--json")) {
+                UI.startJsonOutput();
+                i++;
+            } else if (args[i].equals("--stats") && i + 1 < args.length && !args[i + 1].startsWith("--")) {
+                statsFile = Path.of(args[i + 1]);
+                i += 2;
+            } else {
+                System.err.println(USAGE);
+                return -1;
             }
         }
+        return i;
+    }
+
+    /**
+     * Starts batch mode if the arguments ask for it: {@code --batch} reads commands from standard
+     * input, and {@code --batch FILE} from a script file. Blank lines and lines starting with {@code #}
+     * are skipped, confirmations are answered yes, and changes are written once at the end instead of
+     * after every command.
+     *
+     * @param args The command-line arguments.
+     * @return {@code false} if the arguments are invalid or the script cannot be opened.
+     */
+    private static boolean startBatch(String[] args) {
+        if (!args[0].equals("--batch") || args.length > 2) {
+            System.err.println(USAGE);
+            return false;
+        }
+        Reader source;
+        if (args.length == 1 || args[1].equals("-")) {
+            source = new InputStreamReader(System.in, StandardCharsets.UTF_8);
+        } else {
+            try {
+                source = Files.newBufferedReader(Path.of(args[1]), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                System.err.println("Cannot read the script " + args[1] + ": " + e.getMessage());
+                return false;
+            }
+        }
+        UI.startBatchMode(source);
+        fileHandler.beginBatch();
+        return true;
+    }
+
+    private static void finishBatch(int commandCount) {
+        boolean isSaved = true;
+        try {
+            fileHandler.commitBatch();
+        } catch (IOException e) {
+            ui.showError("Failed to save the changes of the script: " + e.getMessage());
+            isSaved = false;
+        }
+        int errors = UI.getFailedCommandCount();
+        ui.showMessage("Ran " + commandCount + " command(s) with " + errors + " error(s).");
+        if (errors > 0 || !isSaved) {
+            UI.finishOutput();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Registers every command with the parser of its arguments and its handler.
+     * Handlers read the managers when they run, as those are created after the registry.
+     */
+    private static CommandRegistry buildCommands() {
+        CommandParser<String> exerciseName = (raw, creationDate) -> {
+            CommandParser.guard(raw.startsWith("n/") && raw.length() > 2, "Usage: /gym_where n/exercise_name");
+            return raw;
+        };
+
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(CommandParser.noArguments("/help", "h"), arguments -> ui.showHelp(), "/help", "h");
+        registry.register(CommandParser.noArguments("/help", "h"), arguments -> ui.showMessage("Did you mean '/help'? "
+                + "Type '/help' or 'h' to see all available commands."), "help");
+        registry.register(new RenameParser(), FitChasers::renameMethod, "/rename", "rn");
+        // Format: /add_weight w/WEIGHT d/DATE
+        registry.register(new AddWeightParser(), arguments -> weightManager.addWeight(arguments), "/add_weight", "aw");
+        registry.register(CommandParser.noArguments("/view_weight", "vw"), arguments -> viewWeightMethod(weightManager),
+                "/view_weight", "vw");
+        registry.register(CommandParser.noArguments("/clear_weights"), arguments -> handleClearWeights(),
+                "/clear_weights");
+        registry.register(new SetGoalParser(), arguments -> goalTracker.handleSetGoal(arguments), "/set_goal", "sg");
+        registry.register(CommandParser.noArguments("/view_goal", "vg"),
+                arguments -> goalTracker.handleViewGoal(person.getLatestWeight()), "/view_goal", "vg");
+        // Format: /create_workout n/NAME d/DD/MM/YY t/HHmm
+        registry.register(new CreateWorkoutParser(), arguments -> workoutManager.addWorkout(arguments),
+                "/create_workout", "cw");
+        // Format: /add_exercise n/NAME r/REPS
+        registry.register(new AddExerciseParser(), arguments -> workoutManager.addExercise(arguments),
+                "/add_exercise", "ae");
+        registry.register(new TagKeywordParser<>(Modality.class, "Modality",
+                "Usage: /add_modality_tag m/(CARDIO/STRENGTH) k/keyword"),
+                FitChasers::amotMethod, "/add_modality_tag", "amot");
+        registry.register(new TagKeywordParser<>(MuscleGroup.class, "Muscle group",
+                "Usage: /add_muscle_tag m/LEGS/ CHEST/... k/keyword"),
+                FitChasers::amtMethod, "/add_muscle_tag", "amt");
+        registry.register(exerciseName, FitChasers::gwMethod, "/gym_where", "gw");
+        registry.register(new GymPageParser(gyms), EquipmentDisplay::showEquipmentForSingleGym, "/gym_page", "gp");
+        registry.register(new OverrideTagParser(), FitChasers::owtMethod, "/override_workout_tag", "owt");
+        registry.register(CommandParser.noArguments("/retag", "rt"),
+                arguments -> new RetagWorkouts(ui, fileHandler, workoutManager, tagger).execute(), "/retag", "rt");
+        // Format: /add_set r/REPS
+        registry.register(new AddSetParser(), arguments -> workoutManager.addSet(arguments), "/add_set", "as");
+        // Format: /end_workout d/DD/MM/YY t/HHmm
+        registry.register(new EndWorkoutParser(), arguments -> workoutManager.endWorkout(arguments),
+                "/end_workout", "ew");
+        registry.register(new ViewLogParser(), arguments -> viewLog.render(arguments), "/view_log", "vl");
+        registry.register(new OpenWorkoutParser(), arguments -> viewLog.openByIndex(arguments), "/open", "o");
+        registry.register(new ProgressParser(),
+                arguments -> new ProgressReport(ui, fileHandler, workoutManager).execute(arguments), "/progress", "pr");
+        registry.register(new SearchParser(), arguments -> new SearchWorkouts(ui, fileHandler).execute(arguments),
+                "/search", "se");
+        registry.register(new TransferParser("/import", "workouts f/strong_export.csv"),
+                arguments -> new TransferData(ui, fileHandler, workoutManager, person, tagger).executeImport(arguments),
+                "/import", "imp");
+        registry.register(new TransferParser("/export", "weights f/weights.json"),
+                arguments -> new TransferData(ui, fileHandler, workoutManager, person, tagger).executeExport(arguments),
+                "/export", "exp");
+        registry.register(new DeleteParser(), arguments -> workoutManager.deleteWorkout(arguments),
+                "/delete_workout", "dw");
+        registry.register(new ConvertMonthParser(), FitChasers::convertMonthMethod, "/convert_month", "cm");
+        registry.register(CommandParser.noArguments("/stats", "st"), arguments -> statsMethod(), "/stats", "st");
+        registry.register(CommandParser.noArguments("/exit", "e"), arguments -> exitMethod(), "/exit", "e");
+        return registry;
     }
 
     private static void handleClearWeights() {
@@ -247,309 +339,186 @@ public class FitChasers {
                 isWeightFileCorrupted = false;
                 ui.showMessage("All weight data has been cleared. You can now use all commands.");
             } catch (IOException e) {
-                ui.showError("Failed to clear weight data: " + e.getMessage());
+                ui.showFailure("Failed to clear weight data: " + e.getMessage());
             }
         } else {
             ui.showMessage("Operation cancelled. Your weight data is safe.");
         }
     }
 
+    private static void statsMethod() {
+        ui.showData("stats", () -> StatsReport.data(commands.stats(), fileHandler.getMonthCacheStats()));
+        if (!UI.isJsonOutput()) {
+            ui.showRaw(StatsReport.format(commands.stats(), fileHandler.getMonthCacheStats()));
+        }
+    }
+
     private static void exitMethod() {
         ui.showMessage("Saving your progress...");
         try {
             fileHandler.saveWeightList(person);
+            fileHandler.flushJournal();
             ui.showExitMessage();
         } catch (IOException e) {
-            ui.showError("Failed to save workouts before exit.");
+            ui.showFailure("Failed to save workouts before exit.");
         }
         isRunning = false;
     }
 
+    //@@author Kart04
+    private static void convertMonthMethod(ConvertMonthArguments arguments)
+            throws IOException, FileNonexistent, CorruptedFileError {
+        YearMonth month = arguments.month();
+        if (arguments.isToBinary()) {
+            fileHandler.convertMonthToBinary(month);
+            ui.showMessage("Saved " + month + " in the binary format as well. It now loads from the binary file.");
+        } else {
+            fileHandler.convertMonthToText(month);
+            fileHandler.flushJournal();
+            ui.showMessage("Removed the binary save of " + month + ". It now loads from the text file.");
+        }
+    }
+
     //@@author bennyy117
-    private static void owtMethod() throws FileNonexistent, IOException {
-        // Parse parameters
-        String[] params = argumentStr.split("\\s+");
-        Integer workoutId = null;
-        String newTag = null;
-
-        for (String param : params) {
-            if (param.startsWith("id/")) {
-                try {
-                    workoutId = Integer.parseInt(param.substring(3));
-                } catch (NumberFormatException e) {
-                    ui.showMessage("Invalid workout ID.");
-                    return;
-                }
-            } else if (param.startsWith("newTag/")) {
-                newTag = param.substring(7);
-            }
+    private static void owtMethod(OverrideTagArguments arguments) throws FileNonexistent, IOException {
+        int workoutId = arguments.workoutId();
+        String newTag = arguments.tag();
+
+        // Validate workout ID
+        if (workoutId <= 0 || workoutId > workoutManager.getWorkouts().size()) {
+            ui.showFailure("Invalid workout ID. Use valid ID between 1 and " +
+                    workoutManager.getWorkouts().size());
+            return;
         }
 
-        if (workoutId != null && newTag != null) {
-            // Validate empty tag
-            if (newTag.trim().isEmpty()) {
-                ui.showMessage("Tag cannot be empty.");
-                return;
-            }
+        Workout workout = viewLog.getWorkoutByDisplayId(workoutId, currentMonth);
+        if (workout == null) {
+            ui.showFailure("Invalid workout ID.");
+            return;
+        }
 
-            // Validate workout ID
-            if (workoutId <= 0 || workoutId > workoutManager.getWorkouts().size()) {
-                ui.showMessage("Invalid workout ID. Use valid ID between 1 and " +
-                        workoutManager.getWorkouts().size());
-                return;
-            }
+        Set<String> oldTags = workout.getAllTags();
 
-            Workout workout = viewLog.getWorkoutByDisplayId(workoutId, currentMonth);
-            if (workout == null) {
-                ui.showMessage("Invalid workout ID.");
-                return;
-            }
+        ui.showMessage("Current tags: " + String.join(", ", oldTags));
+        ui.showMessage("Change to: " + newTag + "?");
+        ui.showMessage("Are you sure? (y/n)");
 
-            Set<String> oldTags = workout.getAllTags();
+        if (!ui.confirmationMessage()) {
+            ui.showMessage("Tag change cancelled.");
+            return;
+        }
 
-            ui.showMessage("Current tags: " + String.join(", ", oldTags));
-            ui.showMessage("Change to: " + newTag + "?");
-            ui.showMessage("Are you sure? (y/n)");
+        Set<String> autoTagsThatWillBeOverridden = tagger.suggest(workout);
+        if (!autoTagsThatWillBeOverridden.isEmpty()) {
+            ui.showMessage("WARNING: This will override auto generated tags: " + String.join(", ",
+                    autoTagsThatWillBeOverridden));
+            ui.showMessage("Continue with override? (y/n)");
 
             if (!ui.confirmationMessage()) {
-                ui.showMessage("Tag change cancelled.");
+                ui.showMessage("Override cancelled.");
                 return;
             }
+        }
 
-            Set<String> autoTagsThatWillBeOverridden = tagger.suggest(workout);
-            if (!autoTagsThatWillBeOverridden.isEmpty()) {
-                ui.showMessage("WARNING: This will override auto generated tags: " + String.join(", ",
-                        autoTagsThatWillBeOverridden));
-                ui.showMessage("Continue with override? (y/n)");
-
-                if (!ui.confirmationMessage()) {
-                    ui.showMessage("Override cancelled.");
-                    return;
-                }
-            }
-
-            workoutManager.overrideWorkoutTags(workout, newTag);
-
-            try {
-                fileHandler.saveMonthList(currentMonth, workoutManager.getWorkouts());
+        workoutManager.overrideWorkoutTags(workout, newTag);
 
-                ArrayList<Workout> reloadedWorkouts = fileHandler.getWorkoutsForMonth(currentMonth);
-                workoutManager.setWorkouts(reloadedWorkouts);
+        try {
+            fileHandler.saveMonthList(currentMonth, workoutManager.getWorkouts());
 
-                ui.showMessage("✓ Workout tags updated successfully.");
-                ui.showMessage("  New tags: " + newTag);
+            ArrayList<Workout> reloadedWorkouts = fileHandler.getWorkoutsForMonth(currentMonth);
+            workoutManager.setWorkouts(reloadedWorkouts);
 
-                Set<String> conflicts = workoutManager.checkForOverriddenTags(reloadedWorkouts.get(workoutId - 1));
+            ui.showMessage("✓ Workout tags updated successfully.");
+            ui.showMessage("  New tags: " + newTag);
 
-                if (!conflicts.isEmpty()) {
-                    ui.showMessage("WARNING: These manual tags override auto-tags: " + conflicts);
-                }
+            Set<String> conflicts = workoutManager.checkForOverriddenTags(reloadedWorkouts.get(workoutId - 1));
 
-            } catch (IOException e) {
-                ui.showMessage("Error saving workout data: " + e.getMessage());
-            } catch (FileNonexistent e) {
-                throw new RuntimeException(e);
+            if (!conflicts.isEmpty()) {
+                ui.showMessage("WARNING: These manual tags override auto-tags: " + conflicts);
             }
 
-        } else {
-            ui.showMessage("Usage: /override_workout_tag id/WORKOUT_ID newTag/NEW_TAG");
+        } catch (IOException e) {
+            ui.showFailure("Error saving workout data: " + e.getMessage());
+        } catch (FileNonexistent e) {
+            throw new RuntimeException(e);
         }
     }
 
     //@@author Exceptional-Khoi
-    private static void gpMethod() {
-        try {
-            String trimmedArg = argumentStr.trim();
-            Gym selectedGym = null;
-
-            if (trimmedArg.startsWith("p/") && trimmedArg.length() > 2) {
-                String input = trimmedArg.substring(2).trim();
-                if (input.isEmpty()) {  // ADD THIS
-                    ui.showMessage("Please provide a gym number or name.");
-                    listAvailableGyms();
-                    return;
-                }
-
-                try {
-                    int pageNum = Integer.parseInt(input);
-                    if (pageNum >= 1 && pageNum <= gyms.size()) {
-                        selectedGym = gyms.get(pageNum - 1);
-                    }
-                } catch (NumberFormatException e) {
-                    selectedGym = findGymByName(input);
-                }
-
-                if (selectedGym != null) {
-                    EquipmentDisplay.showEquipmentForSingleGym(selectedGym);
-                } else {
-                    ui.showMessage("Invalid gym. Use number (1-" + gyms.size() + ") or gym name (e.g., SRC Gym)");
-                    listAvailableGyms();
-                }
-            } else {
-                ui.showMessage("Usage: /gym_page p/page_number_or_gym_name");
-                ui.showMessage("Example: /gym_page p/1 OR /gym_page p/SRC Gym");
-                listAvailableGyms();
-            }
-        } catch (Exception e) {
-            ui.showMessage("Error: " + e.getMessage());
-        }
-    }
-
-    private static Gym findGymByName(String gymName) {
-        String searchName = gymName.toLowerCase().trim();
-        for (Gym gym : gyms) {
-            if (gym.getName().toLowerCase().contains(searchName)) {
-                return gym;
-            }
-        }
-        return null;
-    }
-
-    private static void listAvailableGyms() {
-        ui.showMessage("Available gyms:");
-        for (int i = 0; i < gyms.size(); i++) {
-            ui.showMessage("  " + (i + 1) + ". " + gyms.get(i).getName());
-        }
-    }
-
-    private static void gwMethod() {
-        String trimmedArg = argumentStr.trim();
+    private static void gwMethod(String arguments) {
         try {
-            if (trimmedArg.startsWith("n/") && trimmedArg.length() > 2) {
-                Set<String> gymsToSuggest = EquipmentDisplay.suggestGymsForExercise(gyms, argumentStr);
-                if (!gymsToSuggest.isEmpty()) {
-                    ui.showMessage("You can do this workout at: " + String.join(", ",
-                            gymsToSuggest));
-                } else {
-                    ui.showMessage("Sorry, no gyms found for that exercise.");
-                }
+            Set<String> gymsToSuggest = EquipmentDisplay.suggestGymsForExercise(gyms, arguments);
+            if (!gymsToSuggest.isEmpty()) {
+                ui.showMessage("You can do this workout at: " + String.join(", ",
+                        gymsToSuggest));
             } else {
-                ui.showMessage("Usage: /gym_where n/exercise_name");
+                ui.showMessage("Sorry, no gyms found for that exercise.");
             }
         } catch (Exception e) {
-            ui.showMessage("An error occurred while searching for gyms. Please check your input " +
+            ui.showFailure("An error occurred while searching for gyms. Please check your input " +
                     "and try again.");
         }
     }
 
-    private static void amtMethod() {
-        String[] params = argumentStr.split("\\s+");
-        String mus = null;
-        String keyword = null;
+    private static void amtMethod(TagKeywordArguments<MuscleGroup> arguments) {
+        MuscleGroup muscleGroup = arguments.group();
+        String keyword = arguments.keyword();
+        tagger.addMuscleKeyword(muscleGroup, keyword);
 
-        for (String param : params) {
-            if (param.startsWith("m/")) {
-                mus = param.substring(2).toUpperCase();
-            }
-            if (param.startsWith("k/")) {
-                keyword = param.substring(2).toLowerCase();
-            }
-        }
-        if (mus != null && mus.trim().isEmpty()) {
-            ui.showMessage("Muscle cannot be empty. Use: LEGS, POSTERIOR_CHAIN, CHEST, BACK, SHOULDERS, ARMS, CORE");
-            return;
+        for (Workout w : workoutManager.getWorkouts()) {
+            Set<String> updatedTags = tagger.suggest(w);
+            w.setAutoTags(updatedTags);
+            ui.showMessage("Retagged workout " + w.getWorkoutName() + ": " + updatedTags);
         }
-
-        if (keyword != null && keyword.trim().isEmpty()) {
-            ui.showMessage("Keyword cannot be empty. Example: /add_muscle_tag m/CARDIO k/running");
-            return;
-        }
-        if (mus != null && keyword != null) {
-            try {
-                MuscleGroup muscleGroup = MuscleGroup.valueOf(mus);
-                tagger.addMuscleKeyword(muscleGroup, keyword);
-
-                for (Workout w : workoutManager.getWorkouts()) {
-                    Set<String> updatedTags = tagger.suggest(w);
-                    w.setAutoTags(updatedTags);
-                    ui.showMessage("Retagged workout " + w.getWorkoutName() + ": " + updatedTags);
-                }
-                try {
-                    fileHandler.saveMonthList(currentMonth, workoutManager.getWorkouts());
-                    ui.showMessage("Added keyword " + keyword + " to muscle group " + mus);
-                } catch (IOException e) {
-                    ui.showMessage("Error saving changes: " + e.getMessage());
-                }
-            } catch (IllegalArgumentException e) {
-                ui.showMessage("Invalid muscle group. Valid options: LEGS, POSTERIOR_CHAIN, CHEST, BACK, " +
-                        "SHOULDERS, ARMS, CORE");
-            }
-        } else {
-            ui.showMessage("Usage: /add_muscle_tag m/LEGS/ CHEST/... k/keyword");
+        try {
+            fileHandler.saveMonthList(currentMonth, workoutManager.getWorkouts());
+            ui.showMessage("Added keyword " + keyword + " to muscle group " + muscleGroup);
+        } catch (IOException e) {
+            ui.showFailure("Error saving changes: " + e.getMessage());
         }
     }
 
     //@@author Kart04
-    private static void amotMethod() {
-        String[] params = argumentStr.split("\\s+");
-        String mod = null;
-        String keyword = null;
-
-        for (String param : params) {
-            if (param.startsWith("m/")) {
-                mod = param.substring(2).toUpperCase();
-            }
-            if (param.startsWith("k/")) {
-                keyword = param.substring(2).toLowerCase();
+    private static void amotMethod(TagKeywordArguments<Modality> arguments) {
+        Modality modality = arguments.group();
+        String mod = modality.name();
+        String keyword = arguments.keyword();
+        tagger.addModalityKeyword(modality, keyword);
+
+        // Check ONLY workouts that contain this keyword
+        StringBuilder conflicts = new StringBuilder();
+        List<Workout> affectedWorkouts = new ArrayList<>();
+
+        for (Workout w : workoutManager.getWorkouts()) {
+            String workoutText = w.getWorkoutName().toLowerCase();
+            if (workoutText.contains(keyword)) {
+                affectedWorkouts.add(w);
+                if (workoutManager.hasConflictingModality(w, mod)) {
+                    String existing = workoutManager.getConflictingModality(w);
+                    conflicts.append("\n - ").append(w.getWorkoutName())
+                            .append(" is already tagged to ").append(existing);
+                }
             }
         }
 
-        if (mod != null && mod.trim().isEmpty()) {
-            ui.showMessage("Modality cannot be empty. Use: CARDIO or STRENGTH");
+        if (!conflicts.isEmpty()) {
+            ui.showFailure("CANNOT ADD KEYWORD: Conflicting modality tags detected:");
+            ui.showMessage(conflicts.toString());
+            ui.showMessage("\nTo change these tags, first remove the old keyword or manually edit the tag.");
             return;
         }
 
-        if (keyword != null && keyword.trim().isEmpty()) {
-            ui.showMessage("Keyword cannot be empty. Example: /add_modality_tag m/CARDIO k/running");
-            return;
+        for (Workout w : affectedWorkouts) {
+            Set<String> updatedTags = tagger.suggest(w);
+            w.setAutoTags(updatedTags);
+            ui.showMessage("Retagged: " + w.getWorkoutName() + " → " + updatedTags);
         }
 
-        if (mod != null && keyword != null) {
-            try {
-                Modality modality = Modality.valueOf(mod);
-                tagger.addModalityKeyword(modality, keyword);
-
-                // Check ONLY workouts that contain this keyword
-                StringBuilder conflicts = new StringBuilder();
-                List<Workout> affectedWorkouts = new ArrayList<>();
-
-                for (Workout w : workoutManager.getWorkouts()) {
-                    String workoutText = w.getWorkoutName().toLowerCase();
-                    if (workoutText.contains(keyword.toLowerCase())) {
-                        affectedWorkouts.add(w);
-                        if (workoutManager.hasConflictingModality(w, mod)) {
-                            String existing = workoutManager.getConflictingModality(w);
-                            conflicts.append("\n - ").append(w.getWorkoutName())
-                                    .append(" is already tagged to ").append(existing);
-                        }
-                    }
-                }
-
-                if (!conflicts.isEmpty()) {
-                    ui.showMessage("CANNOT ADD KEYWORD: Conflicting modality tags detected:");
-                    ui.showMessage(conflicts.toString());
-                    ui.showMessage("\nTo change these tags, first remove the old keyword or manually edit the tag.");
-                    return;
-                }
-
-                for (Workout w : affectedWorkouts) {
-                    Set<String> updatedTags = tagger.suggest(w);
-                    w.setAutoTags(updatedTags);
-                    ui.showMessage("Retagged: " + w.getWorkoutName() + " → " + updatedTags);
-                }
-
-                try {
-                    fileHandler.saveMonthList(currentMonth, workoutManager.getWorkouts());
-                    ui.showMessage("✓ Added keyword '" + keyword + "' to modality " + mod);
-                } catch (IOException e) {
-                    ui.showMessage("Error saving changes: " + e.getMessage());
-                }
-            } catch (IllegalArgumentException e) {
-                ui.showMessage("Invalid modality. Valid options: CARDIO, STRENGTH");
-            }
-
-        } else {
-            ui.showMessage("Usage: /add_modality_tag m/(CARDIO/STRENGTH) k/keyword");
+        try {
+            fileHandler.saveMonthList(currentMonth, workoutManager.getWorkouts());
+            ui.showMessage("✓ Added keyword '" + keyword + "' to modality " + mod);
+        } catch (IOException e) {
+            ui.showFailure("Error saving changes: " + e.getMessage());
         }
     }
 
@@ -562,29 +531,7 @@ public class FitChasers {
         person.displayWeightGraphWithDates();
     }
 
-    private static void renameMethod() {
-        if (argumentStr == null || !argumentStr.startsWith("n/")) {
-            ui.showMessage("Usage: /my_name n/YourName");
-            return;
-        }
-        String newName = argumentStr.substring(2).trim();
-        if (newName.isEmpty()) {
-            ui.showMessage("Usage: /my_name n/YourName");
-            ui.showMessage("You didn’t enter any name after 'n/'. Example: /my_name n/Nary");
-            return;
-        }
-
-        if (newName.length() > 30) {
-            ui.showMessage("Name is too long. Maximum is 30 characters.");
-            return;
-        }
-
-        if (!newName.matches("^[a-zA-Z0-9 _-]+$")) {
-            ui.showMessage("Name can only contain letters, numbers, spaces, " +
-                    "underscores (_), or dashes (-).");
-            return;
-        }
-
+    private static void renameMethod(String newName) {
         person.setName(newName);
         ui.showMessage("Alright, I'll call you " + newName + " from now on.");
 
@@ -623,11 +570,7 @@ public class FitChasers {
             WeightManager tempWeightManager = new WeightManager(person);
             double initialWeight = ui.enterWeight(tempWeightManager);
             if (initialWeight > 0) {
-                String todayStr = java.time.LocalDate.now()
-                        .format(java.time.format.DateTimeFormatter.ofPattern("dd/MM/yy"));
-                String command = "w/" + initialWeight + " d/" + todayStr;
-
-                tempWeightManager.addWeight(command);
+                tempWeightManager.addWeight(new AddWeightArguments(initialWeight, LocalDate.now()));
                 try {
                     fileHandler.saveWeightList(person);
                 } catch (IOException e) {
@@ -0,0 +1,96 @@
+package seedu.fitchasers.analytics;
+
+import seedu.fitchasers.workouts.SetLog;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+//@@author ZhongBaode
+/**
+ * Running totals and personal bests of one exercise across every workout.
+ * <p>
+ * The bests are read from counted histograms of the reps and weights of all sets, so removing a set
+ * (when a workout is deleted) updates them exactly in O(log n) without rescanning any workout.
+ */
+public final class ExerciseStats {
+    private final String name;
+    private final TreeMap<Integer, Integer> repCounts = new TreeMap<>();
+    private final TreeMap<Float, Integer> weightCounts = new TreeMap<>();
+    private int setCount = 0;
+    private long totalReps = 0;
+    private double totalLoad = 0;
+
+    ExerciseStats(String name) {
+        this.name = name;
+    }
+
+    void addSet(int reps, float weight) {
+        setCount++;
+        totalReps += reps;
+        repCounts.merge(reps, 1, Integer::sum);
+        if (!Float.isNaN(weight)) {
+            totalLoad += (double) reps * weight;
+            weightCounts.merge(weight, 1, Integer::sum);
+        }
+    }
+
+    void removeSet(int reps, float weight) {
+        setCount--;
+        totalReps -= reps;
+        decrement(repCounts, reps);
+        if (!Float.isNaN(weight)) {
+            totalLoad -= (double) reps * weight;
+            decrement(weightCounts, weight);
+        }
+    }
+
+    private static <K> void decrement(Map<K, Integer> counts, K key) {
+        counts.computeIfPresent(key, (k, count) -> (count == 1) ? null : count - 1);
+    }
+
+    boolean isEmpty() {
+        return setCount == 0;
+    }
+
+    /**
+     * Returns the name of the exercise as it was first recorded.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of sets recorded.
+     */
+    public int getSetCount() {
+        return setCount;
+    }
+
+    /**
+     * Returns the sum of the reps of all sets.
+     */
+    public long getTotalReps() {
+        return totalReps;
+    }
+
+    /**
+     * Returns the sum of reps times weight over the sets that record a weight.
+     */
+    public double getTotalLoad() {
+        return totalLoad;
+    }
+
+    /**
+     * Returns the most reps done in a single set, or 0 if there are no sets.
+     */
+    public int getBestReps() {
+        return repCounts.isEmpty() ? 0 : repCounts.lastKey();
+    }
+
+    /**
+     * Returns the heaviest weight lifted in a single set, or {@link SetLog#NONE} if no set records one.
+     */
+    public float getBestWeight() {
+        return weightCounts.isEmpty() ? SetLog.NONE : weightCounts.lastKey();
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.fitchasers.analytics;
+
+//@@author ZhongBaode
+/**
+ * Totals of the workouts that started in one week or month.
+ * <p>
+ * A workout counts as a session, and adds its duration, only once it has ended; its sets count
+ * towards the volume as soon as they are added.
+ */
+public final class PeriodStats {
+    private int sessions = 0;
+    private long minutes = 0;
+    private int sets = 0;
+    private long reps = 0;
+
+    void addSession(int durationMinutes) {
+        sessions++;
+        minutes += durationMinutes;
+    }
+
+    void removeSession(int durationMinutes) {
+        sessions--;
+        minutes -= durationMinutes;
+    }
+
+    void addSets(int count, long totalReps) {
+        sets += count;
+        reps += totalReps;
+    }
+
+    boolean isEmpty() {
+        return sessions == 0 && sets == 0;
+    }
+
+    /**
+     * Returns the number of ended workouts.
+     */
+    public int getSessions() {
+        return sessions;
+    }
+
+    /**
+     * Returns the total duration of the ended workouts in minutes.
+     */
+    public long getMinutes() {
+        return minutes;
+    }
+
+    /**
+     * Returns the number of sets done.
+     */
+    public int getSets() {
+        return sets;
+    }
+
+    /**
+     * Returns the volume, i.e. the total reps of all sets.
+     */
+    public long getReps() {
+        return reps;
+    }
+}
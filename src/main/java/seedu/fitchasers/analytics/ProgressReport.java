@@ -0,0 +1,173 @@
+package seedu.fitchasers.analytics;
+
+import seedu.fitchasers.parser.progress.ProgressArguments;
+import seedu.fitchasers.storage.FileHandler;
+import seedu.fitchasers.storage.MonthSummary;
+import seedu.fitchasers.ui.UI;
+import seedu.fitchasers.workouts.SetLog;
+import seedu.fitchasers.workouts.WorkoutManager;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+//@@author ZhongBaode
+/**
+ * Handles the {@code /progress} command, which shows the aggregates of {@link WorkoutAnalytics}.
+ * <p>
+ * Without arguments it lists every exercise with its totals and personal bests, followed by the
+ * last few weeks and months. With {@code n/NAME} it shows one exercise, and with {@code y/YEAR} an
+ * overview of each month of a year, read from the month summaries kept by {@link FileHandler}.
+ */
+public class ProgressReport {
+    private static final int RECENT_WEEKS = 8;
+    private static final int RECENT_MONTHS = 6;
+    private static final DateTimeFormatter WEEK_FMT = DateTimeFormatter.ofPattern("dd MMM yy");
+
+    private final UI ui;
+    private final FileHandler fileHandler;
+    private final WorkoutManager workoutManager;
+
+    /**
+     * Constructs a {@code ProgressReport} with the specified dependencies.
+     *
+     * @param ui             The user interface to show the report on.
+     * @param fileHandler    The file handler that keeps the month summaries.
+     * @param workoutManager The workout manager that keeps the analytics up to date.
+     */
+    public ProgressReport(UI ui, FileHandler fileHandler, WorkoutManager workoutManager) {
+        this.ui = ui;
+        this.fileHandler = fileHandler;
+        this.workoutManager = workoutManager;
+    }
+
+    /**
+     * Executes the {@code /progress} command.
+     *
+     * @param args The exercise or year to report on, both {@code null} for every exercise.
+     * @throws IOException If the saved months have to be read to build the analytics and that fails.
+     */
+    public void execute(ProgressArguments args) throws IOException {
+        if (args.year() != null) {
+            showYear(args.year());
+            return;
+        }
+        WorkoutAnalytics analytics = workoutManager.getAnalytics();
+        String name = args.exerciseName();
+        if (name == null) {
+            ui.showMessage(renderOverview(analytics));
+            return;
+        }
+        ExerciseStats stats = analytics.getExercise(name);
+        if (stats == null) {
+            ui.showMessage("No sets recorded for \"" + name + "\" yet.");
+            return;
+        }
+        ui.showMessage(renderExercise(stats));
+    }
+
+    private void showYear(int year) throws IOException {
+        List<MonthSummary> summaries = fileHandler.getMonthSummaries(YearMonth.of(year, 1), YearMonth.of(year, 12));
+        ui.showMessage(renderYear(year, summaries));
+    }
+
+    static String renderYear(int year, List<MonthSummary> summaries) {
+        int workouts = 0;
+        long minutes = 0;
+        for (MonthSummary m : summaries) {
+            workouts += m.getWorkoutCount();
+            minutes += m.getTotalMinutes();
+        }
+        if (workouts == 0) {
+            return "No workouts saved in " + year + ".";
+        }
+        StringBuilder buf = new StringBuilder();
+        buf.append(String.format("Year %d: %d workouts, %d minutes%n", year, workouts, minutes));
+        buf.append(String.format("%-9s %8s %8s  %-20s %-24s%n", "Month", "Workouts", "Minutes", "Top tag",
+                "Top exercise"));
+        for (MonthSummary m : summaries) {
+            if (m.getWorkoutCount() == 0) {
+                continue;
+            }
+            Map.Entry<String, Integer> tag = topEntry(m.getTagCounts());
+            Map.Entry<String, Long> exercise = topEntry(m.getExerciseReps());
+            buf.append(String.format("%-9s %8d %8d  %-20s %-24s%n", m.getMonth(), m.getWorkoutCount(),
+                    m.getTotalMinutes(),
+                    (tag == null) ? "-" : tag.getKey() + " (" + tag.getValue() + ")",
+                    (exercise == null) ? "-" : exercise.getKey() + " (" + exercise.getValue() + " reps)"));
+        }
+        return buf.toString().stripTrailing();
+    }
+
+    /**
+     * Returns the entry with the largest value, the first in key order on a tie, or {@code null} if there is none.
+     */
+    private static <V extends Comparable<V>> Map.Entry<String, V> topEntry(Map<String, V> counts) {
+        Map.Entry<String, V> top = null;
+        for (Map.Entry<String, V> e : counts.entrySet()) {
+            if (top == null || e.getValue().compareTo(top.getValue()) > 0) {
+                top = e;
+            }
+        }
+        return top;
+    }
+
+    static String renderOverview(WorkoutAnalytics analytics) {
+        List<ExerciseStats> exercises = analytics.getExercises();
+        if (exercises.isEmpty() && analytics.getMonths().isEmpty()) {
+            return "No workouts recorded yet. Start one with /create_workout!";
+        }
+        StringBuilder buf = new StringBuilder();
+        buf.append(String.format("Exercises (%d)%n", exercises.size()));
+        buf.append(String.format("%-24s %6s %10s %9s %9s%n", "Name", "Sets", "Total reps", "Best set", "Heaviest"));
+        for (ExerciseStats e : exercises) {
+            buf.append(String.format("%-24s %6d %10d %9d %9s%n", e.getName(), e.getSetCount(),
+                    e.getTotalReps(), e.getBestReps(), formatWeight(e.getBestWeight())));
+        }
+
+        buf.append(String.format("%nLast %d weeks%n", RECENT_WEEKS));
+        buf.append(String.format("%-12s %8s %6s %8s %8s%n", "Week of", "Sessions", "Sets", "Reps", "Minutes"));
+        LocalDate oldestWeek = WorkoutAnalytics.weekOf(LocalDateTime.now()).minusWeeks(RECENT_WEEKS - 1);
+        for (Map.Entry<LocalDate, PeriodStats> week
+                : analytics.getWeeks().tailMap(oldestWeek, true).descendingMap().entrySet()) {
+            buf.append(formatPeriod(week.getKey().format(WEEK_FMT), week.getValue()));
+        }
+
+        buf.append(String.format("%nLast %d months%n", RECENT_MONTHS));
+        buf.append(String.format("%-12s %8s %6s %8s %8s%n", "Month", "Sessions", "Sets", "Reps", "Minutes"));
+        YearMonth oldestMonth = YearMonth.now().minusMonths(RECENT_MONTHS - 1);
+        for (Map.Entry<YearMonth, PeriodStats> month
+                : analytics.getMonths().tailMap(oldestMonth, true).descendingMap().entrySet()) {
+            buf.append(formatPeriod(month.getKey().toString(), month.getValue()));
+        }
+        buf.append("Tip: /progress n/Squat to see one exercise.");
+        return buf.toString();
+    }
+
+    static String renderExercise(ExerciseStats stats) {
+        StringBuilder buf = new StringBuilder();
+        buf.append(stats.getName()).append(System.lineSeparator());
+        buf.append("  Sets: ").append(stats.getSetCount()).append(System.lineSeparator());
+        buf.append("  Total reps: ").append(stats.getTotalReps()).append(System.lineSeparator());
+        buf.append("  Best set: ").append(stats.getBestReps()).append(" reps").append(System.lineSeparator());
+        buf.append("  Heaviest: ").append(formatWeight(stats.getBestWeight()));
+        if (stats.getTotalLoad() > 0) {
+            buf.append(System.lineSeparator()).append("  Total load: ")
+                    .append(SetLog.formatValue((float) stats.getTotalLoad()));
+        }
+        return buf.toString();
+    }
+
+    private static String formatPeriod(String label, PeriodStats stats) {
+        return String.format("%-12s %8d %6d %8d %8d%n", label, stats.getSessions(), stats.getSets(),
+                stats.getReps(), stats.getMinutes());
+    }
+
+    private static String formatWeight(float weight) {
+        return Float.isNaN(weight) ? "-" : SetLog.formatValue(weight);
+    }
+}
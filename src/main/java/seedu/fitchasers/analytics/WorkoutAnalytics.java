@@ -0,0 +1,180 @@
+package seedu.fitchasers.analytics;
+
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.SetLog;
+import seedu.fitchasers.workouts.Workout;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+//@@author ZhongBaode
+/**
+ * Aggregates over every workout: per-exercise totals and personal bests, and weekly and monthly
+ * volume and session counts.
+ * <p>
+ * The aggregates are built once from all saved workouts and then kept up to date by the
+ * {@code WorkoutManager} as sets are added and workouts are ended or deleted, so a query never
+ * reads a month file. Exercises are grouped by name, ignoring case. Weeks start on Monday, and a
+ * workout belongs to the week and month it started in.
+ */
+public class WorkoutAnalytics {
+    private final Map<String, ExerciseStats> exercises = new HashMap<>();
+    private final TreeMap<LocalDate, PeriodStats> weeks = new TreeMap<>();
+    private final TreeMap<YearMonth, PeriodStats> months = new TreeMap<>();
+
+    /**
+     * Adds every set of a workout, and the workout itself as a session if it has ended.
+     *
+     * @param workout the workout to add
+     */
+    public void addWorkout(Workout workout) {
+        for (Exercise exercise : workout.getExercises()) {
+            SetLog sets = exercise.getSetLog();
+            for (int i = 0; i < sets.size(); i++) {
+                recordSet(workout, exercise.getName(), sets.getReps(i), sets.getWeight(i));
+            }
+        }
+        if (workout.getWorkoutEndDateTime() != null) {
+            recordWorkoutEnded(workout);
+        }
+    }
+
+    /**
+     * Removes everything {@link #addWorkout} added for a workout, e.g. when it is deleted.
+     * The workout must be unchanged since its sets and end were recorded.
+     *
+     * @param workout the workout to remove
+     */
+    public void removeWorkout(Workout workout) {
+        for (Exercise exercise : workout.getExercises()) {
+            String key = keyOf(exercise.getName());
+            ExerciseStats stats = exercises.get(key);
+            SetLog sets = exercise.getSetLog();
+            for (int i = 0; i < sets.size() && stats != null; i++) {
+                stats.removeSet(sets.getReps(i), sets.getWeight(i));
+            }
+            if (stats != null && stats.isEmpty()) {
+                exercises.remove(key);
+            }
+            updatePeriods(workout.getWorkoutStartDateTime(), -sets.size(), -sets.totalReps());
+        }
+        LocalDateTime start = workout.getWorkoutStartDateTime();
+        if (workout.getWorkoutEndDateTime() != null && start != null) {
+            removeSession(weeks, weekOf(start), workout.getDuration());
+            removeSession(months, YearMonth.from(start), workout.getDuration());
+        }
+    }
+
+    /**
+     * Records one set added to a workout.
+     *
+     * @param workout      the workout the set belongs to
+     * @param exerciseName the name of the exercise
+     * @param reps         the reps of the set
+     * @param weight       the weight of the set, or {@link SetLog#NONE}
+     */
+    public void recordSet(Workout workout, String exerciseName, int reps, float weight) {
+        exercises.computeIfAbsent(keyOf(exerciseName), k -> new ExerciseStats(exerciseName))
+                .addSet(reps, weight);
+        updatePeriods(workout.getWorkoutStartDateTime(), 1, reps);
+    }
+
+    /**
+     * Records that a workout has ended, counting it as a session with its current duration.
+     *
+     * @param workout the workout that ended
+     */
+    public void recordWorkoutEnded(Workout workout) {
+        LocalDateTime start = workout.getWorkoutStartDateTime();
+        if (start == null) {
+            return;
+        }
+        weeks.computeIfAbsent(weekOf(start), k -> new PeriodStats()).addSession(workout.getDuration());
+        months.computeIfAbsent(YearMonth.from(start), k -> new PeriodStats()).addSession(workout.getDuration());
+    }
+
+    private void updatePeriods(LocalDateTime start, int sets, long reps) {
+        if (start == null || sets == 0) {
+            return;
+        }
+        addSets(weeks, weekOf(start), sets, reps);
+        addSets(months, YearMonth.from(start), sets, reps);
+    }
+
+    private static <K> void addSets(Map<K, PeriodStats> periods, K key, int sets, long reps) {
+        PeriodStats stats = periods.computeIfAbsent(key, k -> new PeriodStats());
+        stats.addSets(sets, reps);
+        if (stats.isEmpty()) {
+            periods.remove(key);
+        }
+    }
+
+    private static <K> void removeSession(Map<K, PeriodStats> periods, K key, int durationMinutes) {
+        PeriodStats stats = periods.get(key);
+        if (stats == null) {
+            return;
+        }
+        stats.removeSession(durationMinutes);
+        if (stats.isEmpty()) {
+            periods.remove(key);
+        }
+    }
+
+    private static String keyOf(String exerciseName) {
+        return exerciseName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the Monday of the week the given time falls in.
+     *
+     * @param time the time to look up
+     * @return the first day of its week
+     */
+    public static LocalDate weekOf(LocalDateTime time) {
+        return time.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    /**
+     * Returns the totals of an exercise.
+     *
+     * @param exerciseName the name of the exercise, in any case
+     * @return its totals, or {@code null} if no set of it was recorded
+     */
+    public ExerciseStats getExercise(String exerciseName) {
+        return exercises.get(keyOf(exerciseName));
+    }
+
+    /**
+     * Returns the totals of every exercise, sorted by name.
+     */
+    public List<ExerciseStats> getExercises() {
+        List<ExerciseStats> list = new ArrayList<>(exercises.values());
+        list.sort((a, b) -> a.getName().compareToIgnoreCase(b.getName()));
+        return list;
+    }
+
+    /**
+     * Returns the totals of every week with a workout, keyed by the Monday it starts on.
+     */
+    public NavigableMap<LocalDate, PeriodStats> getWeeks() {
+        return Collections.unmodifiableNavigableMap(weeks);
+    }
+
+    /**
+     * Returns the totals of every month with a workout.
+     */
+    public NavigableMap<YearMonth, PeriodStats> getMonths() {
+        return Collections.unmodifiableNavigableMap(months);
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.fitchasers.gym;
 
+import seedu.fitchasers.ui.UI;
+
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -60,8 +62,9 @@ public class EquipmentDisplay {
 
         assert gym != null : "Gym object passed to showEquipmentForSingleGym cannot be null";
 
-        System.out.println("\n" + gym.getName());
-        System.out.println("+" + "-".repeat(gym.getName().length()) + "+");
+        StringBuilder out = new StringBuilder();
+        out.append('\n').append(gym.getName()).append(System.lineSeparator());
+        out.append('+').append("-".repeat(gym.getName().length())).append('+').append(System.lineSeparator());
 
         int machineWidth = 20;
         int exerciseWidth = 25;
@@ -76,16 +79,17 @@ public class EquipmentDisplay {
         String line = "+" + "-".repeat(machineWidth + 2) + "+"
                 + "-".repeat(exerciseWidth + 2) + "+";
 
-        System.out.println(line);  // NOW print the table
-        System.out.printf(format, "Machine", "Exercises You Can Do");
-        System.out.println(line);
+        out.append(line).append(System.lineSeparator());  // NOW print the table
+        out.append(String.format(format, "Machine", "Exercises You Can Do"));
+        out.append(line).append(System.lineSeparator());
 
         for (Machine machine : gym.getMachines()) {
             String exercises = getExercisesForMachine(machine.getName());
-            System.out.printf(format, machine.getName(), exercises);
+            out.append(String.format(format, machine.getName(), exercises));
         }
 
-        System.out.println(line);
+        out.append(line).append(System.lineSeparator());
+        new UI().showRaw(out.toString());
         return gym.getName();
     }
 
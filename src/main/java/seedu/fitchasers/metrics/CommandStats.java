@@ -0,0 +1,67 @@
+package seedu.fitchasers.metrics;
+
+//@@author nitin19011
+/**
+ * What one command cost over all its runs: a histogram of its wall time, and the bytes it allocated,
+ * read and wrote and the month files it parsed.
+ * <p>
+ * Reads and writes are counted on every thread the command uses while it runs, except background
+ * threads: saves done by the writer thread are reported apart, since they may belong to an earlier
+ * command.
+ */
+public class CommandStats {
+    private final String name;
+    private final LatencyHistogram wallNanos = new LatencyHistogram();
+    private long allocatedBytes = 0;
+    private long bytesRead = 0;
+    private long bytesWritten = 0;
+    private long monthsParsed = 0;
+
+    public CommandStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records one run that started when {@code start} was taken and ends now.
+     *
+     * @param start the counters when the run started, from {@link Metrics#sample()} on this thread
+     */
+    public void record(Metrics.Sample start) {
+        Metrics.Sample end = Metrics.sample();
+        wallNanos.record(end.nanos() - start.nanos());
+        if (start.allocated() >= 0) {
+            allocatedBytes += end.allocated() - start.allocated();
+        }
+        bytesRead += end.read() - start.read();
+        bytesWritten += end.written() - start.written();
+        monthsParsed += end.parsed() - start.parsed();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getRuns() {
+        return wallNanos.getCount();
+    }
+
+    public LatencyHistogram getWallNanos() {
+        return wallNanos;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    public long getMonthsParsed() {
+        return monthsParsed;
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.fitchasers.metrics;
+
+//@@author nitin19011
+/**
+ * Counts durations in log-linear buckets, in the style of HdrHistogram.
+ * <p>
+ * Values below 32 get a bucket each. Above that, every power of two is split into 16 equal buckets,
+ * so a bucket is never wider than about 6% of the values in it and percentiles are reported to that
+ * precision. The whole range of {@code long} fits in 960 counters, and recording a value is a
+ * couple of bit operations and an increment.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = bucketOf(Long.MAX_VALUE) + 1;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count = 0;
+    private long total = 0;
+    private long min = Long.MAX_VALUE;
+    private long max = 0;
+
+    /**
+     * Records one value, e.g. a duration in nanoseconds. Negative values are recorded as 0.
+     */
+    public void record(long value) {
+        long v = Math.max(value, 0);
+        counts[bucketOf(v)]++;
+        count++;
+        total += v;
+        min = Math.min(min, v);
+        max = Math.max(max, v);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the smallest value recorded, or 0 if there is none.
+     */
+    public long getMin() {
+        return (count == 0) ? 0 : min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the mean of the values recorded, or 0 if there is none.
+     */
+    public double getMean() {
+        return (count == 0) ? 0 : (double) total / count;
+    }
+
+    /**
+     * Returns a value that {@code percentile} percent of the recorded values are at or below: the top of
+     * the bucket holding that rank, but never more than the largest value recorded.
+     *
+     * @param percentile from 0 to 100
+     * @return the value, or 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        double clamped = Math.min(Math.max(percentile, 0), 100);
+        long rank = Math.max(1, (long) Math.ceil(clamped / 100 * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(highestValueIn(bucket), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the bucket of {@code value}: the value itself below {@code 2 * SUB_BUCKETS}, and above that
+     * 16 buckets per power of two, picked by the four bits after the leading one.
+     */
+    static int bucketOf(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int shift = magnitude - SUB_BUCKET_BITS;
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    static long lowestValueIn(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket >> SUB_BUCKET_BITS) - 1;
+        return (long) (SUB_BUCKETS + (bucket & (SUB_BUCKETS - 1))) << shift;
+    }
+
+    static long highestValueIn(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket >> SUB_BUCKET_BITS) - 1;
+        return lowestValueIn(bucket) + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,136 @@
+package seedu.fitchasers.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.LongAdder;
+
+//@@author nitin19011
+/**
+ * Counters for the work the app does as a whole: bytes read and written by storage, and month files
+ * parsed. Storage reports to them as it goes, from any thread.
+ * <p>
+ * Work done on a thread that {@linkplain #markBackgroundThread() marked itself} as background, such
+ * as the writer thread that saves months after the command that changed them has returned, is
+ * counted apart. {@link #sample()} snapshots only the other counters, together with the clock and the
+ * bytes allocated so far by the current thread, as reported by {@link ThreadMXBean}, so that
+ * {@link CommandStats} can charge the difference to one command without also charging it for
+ * whatever the writer happened to do meanwhile.
+ */
+public final class Metrics {
+    private static final Counters FOREGROUND = new Counters();
+    private static final Counters BACKGROUND = new Counters();
+    private static final ThreadLocal<Counters> CURRENT = ThreadLocal.withInitial(() -> FOREGROUND);
+    private static final com.sun.management.ThreadMXBean ALLOCATIONS = allocationCounter();
+
+    /**
+     * The counters at one moment.
+     *
+     * @param nanos     the value of {@link System#nanoTime()}
+     * @param allocated the bytes allocated by the current thread so far, or -1 if the JVM cannot tell
+     * @param read      the bytes read so far, apart from background work
+     * @param written   the bytes written so far, apart from background work
+     * @param parsed    the month files parsed so far, apart from background work
+     */
+    public record Sample(long nanos, long allocated, long read, long written, long parsed) {
+    }
+
+    /**
+     * The I/O counted so far on background threads.
+     *
+     * @param read    the bytes read
+     * @param written the bytes written
+     * @param parsed  the month files parsed
+     */
+    public record Background(long read, long written, long parsed) {
+        public boolean isEmpty() {
+            return read == 0 && written == 0 && parsed == 0;
+        }
+    }
+
+    private static final class Counters {
+        private final LongAdder read = new LongAdder();
+        private final LongAdder written = new LongAdder();
+        private final LongAdder parsed = new LongAdder();
+    }
+
+    private Metrics() {
+    }
+
+    /**
+     * Counts everything the current thread reads, writes and parses from now on as background work,
+     * which no command is charged for.
+     */
+    public static void markBackgroundThread() {
+        CURRENT.set(BACKGROUND);
+    }
+
+    public static void addBytesRead(long bytes) {
+        CURRENT.get().read.add(bytes);
+    }
+
+    public static void addBytesWritten(long bytes) {
+        CURRENT.get().written.add(bytes);
+    }
+
+    /**
+     * Counts one month file parsed from disk, text or binary.
+     */
+    public static void countMonthParsed() {
+        CURRENT.get().parsed.increment();
+    }
+
+    public static long getBytesRead() {
+        return FOREGROUND.read.sum() + BACKGROUND.read.sum();
+    }
+
+    public static long getBytesWritten() {
+        return FOREGROUND.written.sum() + BACKGROUND.written.sum();
+    }
+
+    public static long getMonthsParsed() {
+        return FOREGROUND.parsed.sum() + BACKGROUND.parsed.sum();
+    }
+
+    /**
+     * Returns the I/O counted on background threads so far.
+     */
+    public static Background background() {
+        return new Background(BACKGROUND.read.sum(), BACKGROUND.written.sum(), BACKGROUND.parsed.sum());
+    }
+
+    /**
+     * Returns whether allocated bytes can be measured on this JVM.
+     */
+    public static boolean isAllocationSupported() {
+        return ALLOCATIONS != null;
+    }
+
+    /**
+     * Returns the bytes allocated by the current thread since it started, or -1 if the JVM cannot tell.
+     */
+    public static long getAllocatedBytes() {
+        return (ALLOCATIONS == null) ? -1 : ALLOCATIONS.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Returns the counters as they are now, leaving out background work.
+     */
+    public static Sample sample() {
+        return new Sample(System.nanoTime(), getAllocatedBytes(), FOREGROUND.read.sum(), FOREGROUND.written.sum(),
+                FOREGROUND.parsed.sum());
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean counter)
+                || !counter.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        try {
+            counter.setThreadAllocatedMemoryEnabled(true);
+        } catch (UnsupportedOperationException | SecurityException e) {
+            return null;
+        }
+        return counter;
+    }
+}
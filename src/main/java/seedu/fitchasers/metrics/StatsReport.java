@@ -0,0 +1,146 @@
+package seedu.fitchasers.metrics;
+
+import seedu.fitchasers.storage.MonthCache;
+import seedu.fitchasers.ui.JsonOutput;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+//@@author nitin19011
+/**
+ * Lays out the cost of each command that ran, as shown by {@code /stats} and written on exit with
+ * {@code --stats FILE}.
+ */
+public final class StatsReport {
+    private static final String ROW = "%-22s %5s %9s %9s %9s %10s %9s %9s %6s%n";
+    private static final String BACKGROUND_ROW = "(background writer)";
+    private static final String[] UNITS = {"B", "KB", "MB", "GB", "TB"};
+
+    private StatsReport() {
+    }
+
+    /**
+     * Returns a table with a row for each command that ran at least once and a row for what the background
+     * writer read and wrote, followed by the totals since startup and how well the month cache did. Times
+     * are in milliseconds; allocation is per run.
+     *
+     * @param commands the commands, in the order to list them
+     * @param cache    the counters of the month cache
+     */
+    public static String format(List<CommandStats> commands, MonthCache.Stats cache) {
+        return format(commands, cache, Metrics.background());
+    }
+
+    /**
+     * Returns the table of {@link #format(List, MonthCache.Stats)} with the given background work, for tests.
+     */
+    static String format(List<CommandStats> commands, MonthCache.Stats cache, Metrics.Background background) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, ROW, "Command", "Runs", "p50 ms", "p95 ms", "max ms",
+                "Alloc/run", "Read", "Written", "Months"));
+        boolean isAnyRun = false;
+        for (CommandStats command : commands) {
+            if (command.getRuns() == 0) {
+                continue;
+            }
+            isAnyRun = true;
+            LatencyHistogram wall = command.getWallNanos();
+            String allocated = Metrics.isAllocationSupported()
+                    ? bytes(command.getAllocatedBytes() / command.getRuns())
+                    : "n/a";
+            out.append(String.format(Locale.ROOT, ROW, command.getName(), command.getRuns(),
+                    millis(wall.getValueAtPercentile(50)), millis(wall.getValueAtPercentile(95)),
+                    millis(wall.getMax()), allocated, bytes(command.getBytesRead()),
+                    bytes(command.getBytesWritten()), command.getMonthsParsed()));
+        }
+        if (!background.isEmpty()) {
+            out.append(String.format(Locale.ROOT, ROW, BACKGROUND_ROW, "-", "-", "-", "-", "-",
+                    bytes(background.read()), bytes(background.written()), background.parsed()));
+        }
+        if (!isAnyRun) {
+            out.append("No commands have run yet.").append(System.lineSeparator());
+        }
+        out.append("Since startup: ").append(bytes(Metrics.getBytesRead())).append(" read, ")
+                .append(bytes(Metrics.getBytesWritten())).append(" written, ")
+                .append(Metrics.getMonthsParsed()).append(" month file(s) parsed.")
+                .append(System.lineSeparator());
+        out.append("Month cache: ").append(cache.hits()).append(" hit(s), ").append(cache.misses())
+                .append(" miss(es), ").append(cache.evictions()).append(" eviction(s), ").append(cache.entries())
+                .append(" month(s) held in ").append(bytes(cache.bytes())).append('.')
+                .append(System.lineSeparator());
+        return out.toString();
+    }
+
+    /**
+     * Returns the same figures as {@link #format} for JSON output, with times in milliseconds and
+     * sizes in bytes. Allocation is {@code null} if the JVM cannot measure it.
+     */
+    public static Map<String, Object> data(List<CommandStats> commands, MonthCache.Stats cache) {
+        return data(commands, cache, Metrics.background());
+    }
+
+    /**
+     * Returns the figures of {@link #data(List, MonthCache.Stats)} with the given background work, for tests.
+     */
+    static Map<String, Object> data(List<CommandStats> commands, MonthCache.Stats cache,
+            Metrics.Background background) {
+        List<Object> rows = new ArrayList<>();
+        for (CommandStats command : commands) {
+            if (command.getRuns() == 0) {
+                continue;
+            }
+            LatencyHistogram wall = command.getWallNanos();
+            rows.add(JsonOutput.object("command", command.getName(), "runs", command.getRuns(),
+                    "p50Ms", wall.getValueAtPercentile(50) / 1e6, "p95Ms", wall.getValueAtPercentile(95) / 1e6,
+                    "p99Ms", wall.getValueAtPercentile(99) / 1e6, "maxMs", wall.getMax() / 1e6,
+                    "meanMs", wall.getMean() / 1e6,
+                    "allocatedBytes", Metrics.isAllocationSupported() ? command.getAllocatedBytes() : null,
+                    "bytesRead", command.getBytesRead(), "bytesWritten", command.getBytesWritten(),
+                    "monthsParsed", command.getMonthsParsed()));
+        }
+        return JsonOutput.object("commands", rows, "bytesRead", Metrics.getBytesRead(),
+                "bytesWritten", Metrics.getBytesWritten(), "monthsParsed", Metrics.getMonthsParsed(),
+                "background", JsonOutput.object("bytesRead", background.read(), "bytesWritten", background.written(),
+                        "monthsParsed", background.parsed()),
+                "monthCache", JsonOutput.object("hits", cache.hits(), "misses", cache.misses(),
+                        "evictions", cache.evictions(), "entries", cache.entries(), "bytes", cache.bytes()));
+    }
+
+    /**
+     * Writes {@link #format} to a file, replacing it.
+     *
+     * @param file the file to write
+     * @param commands the commands to report
+     * @param cache the counters of the month cache
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path file, List<CommandStats> commands, MonthCache.Stats cache) throws IOException {
+        Files.writeString(file, format(commands, cache), StandardCharsets.UTF_8);
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1e6);
+    }
+
+    /**
+     * Returns a size such as {@code 512 B} or {@code 1.5 MB}.
+     */
+    static String bytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        double value = bytes;
+        int unit = 0;
+        while (value >= 1024 && unit < UNITS.length - 1) {
+            value /= 1024;
+            unit++;
+        }
+        return String.format(Locale.ROOT, "%.1f %s", value, UNITS[unit]);
+    }
+}
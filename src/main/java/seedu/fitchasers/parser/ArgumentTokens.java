@@ -0,0 +1,219 @@
+package seedu.fitchasers.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+//@@author Exceptional-Khoi
+/**
+ * The arguments of a command, split into flags such as {@code n/} and {@code d/} in one pass.
+ * <p>
+ * For each letter, the tokenizer counts how often {@code x/} occurs and where it first occurs. A flag at
+ * the start or after whitespace is a <em>boundary flag</em>; the value of a flag runs up to the whitespace
+ * before the next boundary flag, so {@code n/Leg Day d/20/10/25} gives {@code Leg Day} for {@code n/}.
+ * Commands look up their flags here instead of scanning the text again for each one.
+ */
+public final class ArgumentTokens {
+    private static final int LETTERS = 52;
+
+    private final String text;
+    private final int[] counts = new int[LETTERS];
+    private final int[] firstIndex = new int[LETTERS];
+    private int[] flags = new int[4];
+    private int flagCount = 0;
+    private int[] boundaries = new int[4];
+    private int boundaryCount = 0;
+    private int[] wordStarts = new int[4];
+    private int wordCount = 0;
+
+    /**
+     * The value of a flag in the text.
+     *
+     * @param start the index of the flag letter
+     * @param raw   the text between the flag and the next boundary flag, untrimmed
+     * @param end   the index just past the value
+     */
+    public record Slice(int start, String raw, int end) {
+        public String value() {
+            return raw.trim();
+        }
+
+        /**
+         * Returns whether there is whitespace between the flag and its value, as in {@code d/ 20/10/25}.
+         */
+        public boolean startsWithSpace() {
+            return !raw.isEmpty() && Character.isWhitespace(raw.charAt(0));
+        }
+
+        boolean contains(int index) {
+            return index >= start && index < end;
+        }
+    }
+
+    private ArgumentTokens(String text) {
+        this.text = text;
+        Arrays.fill(firstIndex, -1);
+        int n = text.length();
+        int runStart = -1;
+        for (int i = 0; i < n; i++) {
+            char c = text.charAt(i);
+            if (isSpace(c)) {
+                if (runStart < 0) {
+                    runStart = i;
+                }
+                continue;
+            }
+            boolean isBoundary = i == 0 || runStart >= 0;
+            if (isBoundary) {
+                wordStarts = add(wordStarts, wordCount++, i);
+            }
+            int slot = slotOf(c);
+            if (slot >= 0 && i + 1 < n && text.charAt(i + 1) == '/') {
+                counts[slot]++;
+                if (firstIndex[slot] < 0) {
+                    firstIndex[slot] = i;
+                }
+                if (isBoundary) {
+                    flags = add(flags, flagCount++, i);
+                    if (runStart >= 0) {
+                        boundaries = add(boundaries, boundaryCount++, runStart);
+                    }
+                }
+            }
+            runStart = -1;
+        }
+    }
+
+    /**
+     * Tokenizes the arguments of a command, ignoring leading and trailing whitespace.
+     *
+     * @param raw the arguments, or {@code null} for none
+     */
+    public static ArgumentTokens of(String raw) {
+        return new ArgumentTokens(raw == null ? "" : raw.trim());
+    }
+
+    /**
+     * Returns the trimmed arguments.
+     */
+    public String text() {
+        return text;
+    }
+
+    public boolean isEmpty() {
+        return text.isEmpty();
+    }
+
+    /**
+     * Returns how often {@code flag/} occurs anywhere in the text.
+     */
+    public int count(char flag) {
+        int slot = slotOf(flag);
+        return (slot < 0) ? 0 : counts[slot];
+    }
+
+    /**
+     * Returns the index of the first {@code flag/}, or -1 if there is none.
+     */
+    public int indexOf(char flag) {
+        int slot = slotOf(flag);
+        return (slot < 0) ? -1 : firstIndex[slot];
+    }
+
+    /**
+     * Returns the value of the first {@code flag/}, or {@code null} if there is none.
+     */
+    public Slice slice(char flag) {
+        int start = indexOf(flag);
+        if (start < 0) {
+            return null;
+        }
+        int valueStart = start + 2;
+        int end = text.length();
+        for (int i = 0; i < boundaryCount; i++) {
+            if (boundaries[i] > valueStart) {
+                end = boundaries[i];
+                break;
+            }
+        }
+        return new Slice(start, text.substring(valueStart, end), end);
+    }
+
+    /**
+     * Returns the letter of the first boundary flag that is not in {@code allowed} and not inside any of
+     * {@code parsed}, or 0 if there is none.
+     *
+     * @param allowed the flag letters the command accepts
+     * @param parsed  values already taken, whose text may look like flags
+     */
+    public char strayFlag(String allowed, Slice... parsed) {
+        for (int i = 0; i < flagCount; i++) {
+            int position = flags[i];
+            char letter = text.charAt(position);
+            if (allowed.indexOf(letter) >= 0 || isInside(position, parsed)) {
+                continue;
+            }
+            return letter;
+        }
+        return 0;
+    }
+
+    /**
+     * Returns what follows {@code prefix} in each whitespace-separated word starting with it, in order,
+     * e.g. {@code ["3"]} for {@code id/} in {@code id/3 newTag/cardio}.
+     */
+    public List<String> words(String prefix) {
+        List<String> values = new ArrayList<>(1);
+        for (int i = 0; i < wordCount; i++) {
+            int start = wordStarts[i];
+            if (text.startsWith(prefix, start)) {
+                int end = start + prefix.length();
+                while (end < text.length() && !isSpace(text.charAt(end))) {
+                    end++;
+                }
+                values.add(text.substring(start + prefix.length(), end));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Returns what follows {@code prefix} in the last word starting with it, or {@code null} if there is none.
+     */
+    public String lastWord(String prefix) {
+        List<String> values = words(prefix);
+        return values.isEmpty() ? null : values.get(values.size() - 1);
+    }
+
+    private static boolean isInside(int position, Slice[] parsed) {
+        for (Slice slice : parsed) {
+            if (slice != null && slice.contains(position)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether {@code c} is whitespace as {@code \s} matches it in a regular expression.
+     */
+    static boolean isSpace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+
+    private static int slotOf(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return 26 + c - 'A';
+        }
+        return -1;
+    }
+
+    private static int[] add(int[] array, int index, int value) {
+        int[] target = (index < array.length) ? array : Arrays.copyOf(array, array.length * 2);
+        target[index] = value;
+        return target;
+    }
+}
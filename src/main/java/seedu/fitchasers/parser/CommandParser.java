@@ -12,6 +12,19 @@ public interface CommandParser<T> {
 
     T parse(String raw, YearMonth creationDate) throws InvalidArgumentInput;
 
+    /**
+     * Returns a parser for a command that takes no arguments, which rejects any it is given.
+     *
+     * @param names the command word and its aliases, for the error message
+     */
+    static CommandParser<String> noArguments(String... names) {
+        return (raw, creationDate) -> {
+            guard(raw == null || raw.isBlank(), "The " + names[0] + " command doesn't take any arguments.\n"
+                    + "Just type '" + String.join("' or '", names) + "'.");
+            return "";
+        };
+    }
+
     static void validateMonth(int m) throws InvalidArgumentInput {
         if (m < 1 || m > 12) {
             throw new InvalidArgumentInput("Month must be between 1 and 12.");
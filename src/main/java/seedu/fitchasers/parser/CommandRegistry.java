@@ -0,0 +1,140 @@
+package seedu.fitchasers.parser;
+
+import seedu.fitchasers.metrics.CommandStats;
+import seedu.fitchasers.metrics.Metrics;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//@@author Exceptional-Khoi
+/**
+ * Maps each command word and its aliases to the parser of its arguments and the handler that runs it.
+ * <p>
+ * Running a command is one hash lookup on the command word, then a parse of the arguments into the
+ * command's own type, then the handler. Each command keeps a {@link CommandStats} of its runs,
+ * including the parse: a histogram of how long they took and what they allocated, read and wrote.
+ */
+public class CommandRegistry {
+    /**
+     * A parser that passes the arguments on as they are, for handlers that read them themselves.
+     */
+    public static final CommandParser<String> RAW = (raw, creationDate) -> raw;
+
+    private final Map<String, Command<?>> commands = new HashMap<>();
+    private final List<Command<?>> inOrder = new ArrayList<>();
+
+    /**
+     * Runs a command with the arguments parsed by its parser.
+     *
+     * @param <T> the type of the parsed arguments
+     */
+    @FunctionalInterface
+    public interface Handler<T> {
+        void handle(T arguments) throws Exception;
+    }
+
+    private static final class Command<T> {
+        private final CommandParser<T> parser;
+        private final Handler<T> handler;
+        private final CommandStats stats;
+
+        private Command(String name, CommandParser<T> parser, Handler<T> handler) {
+            this.parser = parser;
+            this.handler = handler;
+            this.stats = new CommandStats(name);
+        }
+
+        private void run(String arguments, YearMonth creationDate) throws Exception {
+            Metrics.Sample start = Metrics.sample();
+            try {
+                handler.handle(parser.parse(arguments, creationDate));
+            } finally {
+                stats.record(start);
+            }
+        }
+    }
+
+    /**
+     * Registers a command under one or more names, e.g. {@code "/view_log", "vl"}.
+     *
+     * @param parser  turns the arguments into what the handler takes
+     * @param handler runs the command
+     * @param names   the command word and its aliases, in lower case
+     * @throws IllegalArgumentException if no name is given or a name is already taken
+     */
+    public <T> void register(CommandParser<T> parser, Handler<T> handler, String... names) {
+        if (names.length == 0) {
+            throw new IllegalArgumentException("A command needs a name.");
+        }
+        Command<T> command = new Command<>(names[0], parser, handler);
+        for (String name : names) {
+            if (commands.putIfAbsent(name, command) != null) {
+                throw new IllegalArgumentException("The command " + name + " is registered twice.");
+            }
+        }
+        inOrder.add(command);
+    }
+
+    /**
+     * Returns whether {@code word} names a registered command.
+     */
+    public boolean contains(String word) {
+        return commands.containsKey(word);
+    }
+
+    /**
+     * Runs the command named by {@code word}.
+     *
+     * @param word         the command word, in lower case
+     * @param arguments    the rest of the line, trimmed
+     * @param creationDate the month the app was first used, for parsers that check dates
+     * @return {@code false} if no command has that name
+     * @throws Exception whatever the parser or handler throws, e.g. {@code InvalidArgumentInput}
+     */
+    public boolean dispatch(String word, String arguments, YearMonth creationDate) throws Exception {
+        Command<?> command = commands.get(word);
+        if (command == null) {
+            return false;
+        }
+        command.run(arguments, creationDate);
+        return true;
+    }
+
+    /**
+     * Returns the stats of all commands, named after the name each was registered with first, in the
+     * order they were registered. Runs that failed are counted too.
+     */
+    public List<CommandStats> stats() {
+        List<CommandStats> stats = new ArrayList<>(inOrder.size());
+        for (Command<?> command : inOrder) {
+            stats.add(command.stats);
+        }
+        return stats;
+    }
+
+    /**
+     * Returns the command word of {@code line}: everything up to the first whitespace, in lower case.
+     */
+    public static String commandWord(String line) {
+        int end = wordEnd(line);
+        return line.substring(0, end).toLowerCase();
+    }
+
+    /**
+     * Returns what follows the command word of {@code line}, trimmed.
+     */
+    public static String arguments(String line) {
+        return line.substring(wordEnd(line)).trim();
+    }
+
+    private static int wordEnd(String line) {
+        int end = 0;
+        while (end < line.length() && !ArgumentTokens.isSpace(line.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+}
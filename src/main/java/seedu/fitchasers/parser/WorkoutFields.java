@@ -0,0 +1,73 @@
+package seedu.fitchasers.parser;
+
+import seedu.fitchasers.exceptions.InvalidArgumentInput;
+
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+//@@author ZhongBaode
+/**
+ * The rules shared by the parsers of the workout commands: the date and time formats, and what
+ * makes a valid workout or exercise name and a valid number of reps.
+ */
+public final class WorkoutFields {
+    public static final DateTimeFormatter DATE_FMT =
+            DateTimeFormatter.ofPattern("dd/MM/yy").withResolverStyle(ResolverStyle.SMART);
+    public static final DateTimeFormatter TIME_FMT =
+            DateTimeFormatter.ofPattern("HHmm").withResolverStyle(ResolverStyle.SMART);
+
+    private static final int MAX_NAME_LEN = 32;
+    private static final int MAX_REPS = 1000;
+    private static final Pattern NAME_ALLOWED = Pattern.compile("[A-Za-z0-9 _-]+");
+    private static final Pattern NAME_ILLEGAL_FINDER = Pattern.compile("[^A-Za-z0-9 _-]");
+    private static final Pattern REPS_TOKEN = Pattern.compile("^\\d{1,4}$");
+
+    private WorkoutFields() {
+    }
+
+    /**
+     * Checks a workout or exercise name: at most 32 letters, digits, spaces, hyphens and underscores.
+     *
+     * @param name the trimmed name
+     * @param kind what is named, e.g. {@code "workout"}, for the error message
+     * @throws InvalidArgumentInput naming the first character that is not allowed, if any
+     */
+    public static void checkName(String name, String kind) throws InvalidArgumentInput {
+        if (name.length() <= MAX_NAME_LEN && NAME_ALLOWED.matcher(name).matches()) {
+            return;
+        }
+        Matcher bad = NAME_ILLEGAL_FINDER.matcher(name);
+        String problem;
+        if (bad.find()) {
+            char c = name.charAt(bad.start());
+            problem = "'" + ((c == '\\') ? "\\\\" : String.valueOf(c)) + "' is not allowed in the " + kind + " name.";
+        } else {
+            problem = "Name too long or invalid.";
+        }
+        throw new InvalidArgumentInput(problem
+                + "\nAllowed characters: letters, digits, spaces, hyphen (-), underscore (_). Max 32 chars.");
+    }
+
+    /**
+     * Reads a number of reps: only digits, between 1 and 1000.
+     *
+     * @return the reps, or {@code null} if the value is not valid
+     */
+    public static Integer parseReps(String value) {
+        String t = value.trim();
+        if (!REPS_TOKEN.matcher(t).matches()) {
+            return null;
+        }
+        int reps = Integer.parseInt(t);
+        return (reps < 1 || reps > MAX_REPS) ? null : reps;
+    }
+
+    /**
+     * Returns whether anything but whitespace follows {@code endIndex} in {@code s}.
+     */
+    public static boolean hasTextAfter(String s, int endIndex) {
+        return !s.substring(Math.min(endIndex, s.length())).isBlank();
+    }
+}
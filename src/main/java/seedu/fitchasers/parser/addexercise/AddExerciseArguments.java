@@ -0,0 +1,8 @@
+package seedu.fitchasers.parser.addexercise;
+
+/**
+ * Parsed args for /add_exercise
+ */
+public record AddExerciseArguments(String name, int reps) {
+
+}
@@ -0,0 +1,54 @@
+package seedu.fitchasers.parser.addexercise;
+
+import seedu.fitchasers.exceptions.InvalidArgumentInput;
+import seedu.fitchasers.parser.ArgumentTokens;
+import seedu.fitchasers.parser.ArgumentTokens.Slice;
+import seedu.fitchasers.parser.CommandParser;
+import seedu.fitchasers.parser.WorkoutFields;
+
+import java.time.YearMonth;
+
+//@@author ZhongBaode
+/**
+ * Parses user input for the /add_exercise command.
+ * Requires exactly one n/ and one r/ in that order, with nothing after the reps.
+ */
+public class AddExerciseParser implements CommandParser<AddExerciseArguments> {
+
+    /**
+     * Parses the raw user input and returns an {@code AddExerciseArguments} object.
+     *
+     * @param raw The raw user input string.
+     * @param creationDate Unused.
+     * @return The exercise name and the reps of its first set.
+     * @throws InvalidArgumentInput If a flag is missing, repeated, out of order or unsupported, or a value is invalid.
+     */
+    @Override
+    public AddExerciseArguments parse(String raw, YearMonth creationDate) throws InvalidArgumentInput {
+        ArgumentTokens tokens = ArgumentTokens.of(raw);
+        CommandParser.guard(!tokens.isEmpty(),
+                "Missing information. Use: /add_exercise n/NAME r/REPS (e.g., /add_exercise n/PushUp r/12)");
+        CommandParser.guard(tokens.count('n') == 1 && tokens.count('r') == 1,
+                "Please provide exactly one n/ and one r/ in this order: n/NAME r/REPS");
+        CommandParser.guard(tokens.indexOf('n') < tokens.indexOf('r'),
+                "Order must be n/ then r/. Example: /add_exercise n/Bench Press r/12");
+        CommandParser.guard(tokens.indexOf('n') == 0,
+                "Unexpected text before n/. Use exactly: /add_exercise n/NAME r/REPS");
+
+        Slice nameSlice = tokens.slice('n');
+        String name = nameSlice.value();
+        CommandParser.guard(!name.isEmpty(), "Exercise name is missing after n/. Example: n/Bench Press");
+        WorkoutFields.checkName(name, "exercise");
+
+        Slice repsSlice = tokens.slice('r');
+        CommandParser.guard(!repsSlice.startsWithSpace(),
+                "Remove spaces between r/ and the number. Example: r/12 (not r/ 12)");
+        Integer reps = WorkoutFields.parseReps(repsSlice.value());
+        CommandParser.guard(reps != null, "Invalid reps. Use a whole number between 1 and 1000. Example: r/12");
+        CommandParser.guard(!WorkoutFields.hasTextAfter(tokens.text(), repsSlice.end()),
+                "Unexpected text after reps. Use exactly: /add_exercise n/NAME r/REPS");
+        char stray = tokens.strayFlag("nr", nameSlice, repsSlice);
+        CommandParser.guard(stray == 0, "Unsupported flag \"" + stray + "/\" found. Only n/ and r/ are allowed.");
+        return new AddExerciseArguments(name, reps);
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.fitchasers.parser.addset;
+
+import seedu.fitchasers.exceptions.InvalidArgumentInput;
+import seedu.fitchasers.parser.ArgumentTokens;
+import seedu.fitchasers.parser.ArgumentTokens.Slice;
+import seedu.fitchasers.parser.CommandParser;
+import seedu.fitchasers.parser.WorkoutFields;
+
+import java.time.YearMonth;
+
+//@@author ZhongBaode
+/**
+ * Parses user input for the /add_set command and returns the reps after r/.
+ */
+public class AddSetParser implements CommandParser<Integer> {
+    private static final String INVALID_REPS =
+            "Invalid reps. Use a whole number between 1 and 1000. Example: /add_set r/15";
+
+    /**
+     * Parses the raw user input and returns the reps of the new set.
+     *
+     * @param raw The raw user input string.
+     * @param creationDate Unused.
+     * @return The reps, between 1 and 1000.
+     * @throws InvalidArgumentInput If r/ is missing or repeated, another flag is given, or the reps are invalid.
+     */
+    @Override
+    public Integer parse(String raw, YearMonth creationDate) throws InvalidArgumentInput {
+        ArgumentTokens tokens = ArgumentTokens.of(raw);
+        CommandParser.guard(!tokens.isEmpty(), "Missing information. Use: /add_set r/REPS\nREPS: 1–1000");
+        CommandParser.guard(tokens.count('r') == 1, "Provide exactly one r/. Usage: /add_set r/REPS");
+        CommandParser.guard(tokens.strayFlag("r") == 0, "Only r/ is allowed for this command. Usage: /add_set r/REPS");
+        CommandParser.guard(tokens.indexOf('r') == 0, "Unexpected text before r/. Use exactly: /add_set r/REPS");
+
+        Slice repsSlice = tokens.slice('r');
+        CommandParser.guard(!repsSlice.startsWithSpace(), INVALID_REPS);
+        Integer reps = WorkoutFields.parseReps(repsSlice.value());
+        CommandParser.guard(reps != null, INVALID_REPS);
+        CommandParser.guard(!WorkoutFields.hasTextAfter(tokens.text(), repsSlice.end()),
+                "Unexpected text after reps. Use exactly: /add_set r/REPS");
+        return reps;
+    }
+}
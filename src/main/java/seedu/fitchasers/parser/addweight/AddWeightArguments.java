@@ -0,0 +1,13 @@
+package seedu.fitchasers.parser.addweight;
+
+import java.time.LocalDate;
+
+/**
+ * Parsed args for /add_weight
+ *
+ * @param weight the weight in kg
+ * @param date   the day it was measured, or {@code null} if d/ was not given and the user is to be asked
+ */
+public record AddWeightArguments(double weight, LocalDate date) {
+
+}
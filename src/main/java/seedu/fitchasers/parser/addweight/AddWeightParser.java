@@ -0,0 +1,71 @@
+package seedu.fitchasers.parser.addweight;
+
+import seedu.fitchasers.exceptions.InvalidArgumentInput;
+import seedu.fitchasers.parser.ArgumentTokens;
+import seedu.fitchasers.parser.ArgumentTokens.Slice;
+import seedu.fitchasers.parser.CommandParser;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+//@@author bennyy117
+/**
+ * Parses user input for the /add_weight command.
+ * Takes the weight from w/ and optionally the date from d/; without a date, the user is asked for one.
+ */
+public class AddWeightParser implements CommandParser<AddWeightArguments> {
+    public static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yy");
+    private static final String USAGE = "Please enter a valid command: /add_weight w/WEIGHT [d/DATE]";
+
+    /**
+     * Parses the raw user input and returns an {@code AddWeightArguments} object.
+     *
+     * @param raw The raw user input string.
+     * @param creationDate Unused; weights can be recorded for any past day.
+     * @return The weight, and the date if given.
+     * @throws InvalidArgumentInput If w/ is missing, a flag is repeated or unsupported, or a value is invalid.
+     */
+    @Override
+    public AddWeightArguments parse(String raw, YearMonth creationDate) throws InvalidArgumentInput {
+        ArgumentTokens tokens = ArgumentTokens.of(raw);
+        CommandParser.guard(!tokens.isEmpty(), USAGE);
+        CommandParser.guard(tokens.count('w') <= 1 && tokens.count('d') <= 1 && tokens.strayFlag("wd") == 0,
+                USAGE);
+        Slice weightSlice = tokens.slice('w');
+        CommandParser.guard(weightSlice != null && !weightSlice.value().isEmpty(),
+                "Missing weight value. Example: /add_weight w/65 d/10/10/25");
+        Slice dateSlice = tokens.slice('d');
+        CommandParser.guard(tokens.indexOf('w') == 0 || tokens.indexOf('d') == 0, USAGE);
+
+        double weight;
+        try {
+            weight = Double.parseDouble(weightSlice.value());
+        } catch (NumberFormatException e) {
+            throw new InvalidArgumentInput("Invalid weight. Please enter a number (e.g., 65 or 65.5).");
+        }
+        checkWeight(weight);
+        if (dateSlice == null || dateSlice.value().isEmpty()) {
+            return new AddWeightArguments(weight, null);
+        }
+        LocalDate date;
+        try {
+            date = LocalDate.parse(dateSlice.value(), DATE_FORMAT);
+        } catch (DateTimeParseException e) {
+            throw new InvalidArgumentInput("Invalid date format. Use dd/MM/yy (e.g., 28/10/25).");
+        }
+        return new AddWeightArguments(weight, date);
+    }
+
+    /**
+     * Checks that a weight is a positive number within a realistic range.
+     *
+     * @param weight the weight in kg
+     * @throws InvalidArgumentInput if the weight is not between 20 kg and 500 kg
+     */
+    public static void checkWeight(double weight) throws InvalidArgumentInput {
+        CommandParser.guard(weight > 0, "Weight must be a positive number.");
+        CommandParser.guard(weight >= 20 && weight <= 500, "Weight must be between 20 kg and 500 kg.");
+    }
+}
@@ -0,0 +1,10 @@
+package seedu.fitchasers.parser.convertmonth;
+
+import java.time.YearMonth;
+
+/**
+ * Parsed args for /convert_month
+ */
+public record ConvertMonthArguments(YearMonth month, boolean isToBinary) {
+
+}
@@ -0,0 +1,50 @@
+package seedu.fitchasers.parser.convertmonth;
+
+import seedu.fitchasers.exceptions.InvalidArgumentInput;
+import seedu.fitchasers.parser.ArgumentTokens;
+import seedu.fitchasers.parser.CommandParser;
+
+import java.io.IOException;
+import java.time.YearMonth;
+
+//@@author Kart04
+/**
+ * Parses user input for the /convert_month command.
+ * Takes the month from ym/ and the format to convert its save file to from f/, either {@code bin} or {@code txt}.
+ */
+public class ConvertMonthParser implements CommandParser<ConvertMonthArguments> {
+    private static final String USAGE = "Usage: /convert_month ym/MM/YY f/bin OR /convert_month ym/MM/YY f/txt";
+
+    /**
+     * Parses the raw user input and returns a {@code ConvertMonthArguments} object.
+     *
+     * @param raw The raw user input string.
+     * @param creationDate The month the app was first used; earlier months are rejected.
+     * @return The month and the format to convert it to.
+     * @throws InvalidArgumentInput If ym/ or f/ is missing or invalid, or another flag is given.
+     */
+    @Override
+    public ConvertMonthArguments parse(String raw, YearMonth creationDate) throws InvalidArgumentInput {
+        ArgumentTokens tokens = ArgumentTokens.of(raw);
+        String monthToken = tokens.lastWord("ym/");
+        String format = tokens.lastWord("f/");
+        CommandParser.guard(monthToken != null && format != null, USAGE);
+        CommandParser.guard(tokens.words("").size() == tokens.words("ym/").size() + tokens.words("f/").size(),
+                USAGE);
+
+        YearMonth month;
+        try {
+            month = CommandParser.parseYearMonthTokenStrict(monthToken, creationDate);
+        } catch (IOException e) {
+            throw new InvalidArgumentInput(e.getMessage());
+        }
+        switch (format.toLowerCase()) {
+        case "bin":
+            return new ConvertMonthArguments(month, true);
+        case "txt":
+            return new ConvertMonthArguments(month, false);
+        default:
+            throw new InvalidArgumentInput("Format must be bin or txt. " + USAGE);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package seedu.fitchasers.parser.createworkout;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Parsed args for /create_workout
+ *
+ * @param name the workout name
+ * @param date the day it starts, or {@code null} if d/ was not given and the user is to be asked
+ * @param time the time it starts, or {@code null} if t/ was not given and the user is to be asked
+ */
+public record CreateWorkoutArguments(String name, LocalDate date, LocalTime time) {
+
+}
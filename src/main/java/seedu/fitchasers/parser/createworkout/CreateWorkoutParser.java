@@ -0,0 +1,82 @@
+package seedu.fitchasers.parser.createworkout;
+
+import seedu.fitchasers.exceptions.InvalidArgumentInput;
+import seedu.fitchasers.parser.ArgumentTokens;
+import seedu.fitchasers.parser.ArgumentTokens.Slice;
+import seedu.fitchasers.parser.CommandParser;
+import seedu.fitchasers.parser.WorkoutFields;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+
+//@@author ZhongBaode
+/**
+ * Parses user input for the /create_workout command.
+ * <p>
+ * With only n/, the date and time are left out, to be asked for when the workout is created. Once
+ * d/ or t/ is given, exactly one n/, d/ and t/ are required in that order, with nothing after the time.
+ */
+public class CreateWorkoutParser implements CommandParser<CreateWorkoutArguments> {
+    private static final String USAGE = "Use: /create_workout n/NAME d/DD/MM/YY t/HHmm";
+
+    /**
+     * Parses the raw user input and returns a {@code CreateWorkoutArguments} object.
+     *
+     * @param raw The raw user input string.
+     * @param creationDate Unused; the month of the workout is checked when it is created.
+     * @return The name, and the date and time if given.
+     * @throws InvalidArgumentInput If a flag is missing, repeated, out of order or unsupported, or a value is invalid.
+     */
+    @Override
+    public CreateWorkoutArguments parse(String raw, YearMonth creationDate) throws InvalidArgumentInput {
+        ArgumentTokens tokens = ArgumentTokens.of(raw);
+        CommandParser.guard(tokens.indexOf('n') == 0, "Invalid format. " + USAGE);
+        if (tokens.count('d') == 0 && tokens.count('t') == 0) {
+            String name = readName(tokens, "Workout name cannot be empty. " + USAGE);
+            char stray = tokens.strayFlag("n", tokens.slice('n'));
+            CommandParser.guard(stray == 0, "Unsupported flag \"" + stray + "/\" found. " + USAGE);
+            return new CreateWorkoutArguments(name, null, null);
+        }
+
+        CommandParser.guard(tokens.count('n') == 1 && tokens.count('d') == 1 && tokens.count('t') == 1,
+                "Please provide exactly one n/, one d/, and one t/ in this order: n/NAME d/DATE t/TIME");
+        CommandParser.guard(tokens.indexOf('d') < tokens.indexOf('t'),
+                "Order must be n/ then d/ then t/. Example: /create_workout n/Push Day d/20/10/25 t/1900");
+        String name = readName(tokens, "Workout name is missing after n/. Example: n/Leg Day");
+
+        Slice dateSlice = tokens.slice('d');
+        CommandParser.guard(!dateSlice.startsWithSpace(),
+                "Remove spaces between d/ and the date. Example: d/23/10/25 (not d/ 23/10/25)");
+        LocalDate date;
+        try {
+            date = LocalDate.parse(dateSlice.value(), WorkoutFields.DATE_FMT);
+        } catch (DateTimeParseException e) {
+            throw new InvalidArgumentInput("Invalid date. Use d/DD/MM/YY (e.g., d/23/10/25).");
+        }
+
+        Slice timeSlice = tokens.slice('t');
+        CommandParser.guard(!timeSlice.startsWithSpace(),
+                "Remove spaces between t/ and the time. Example: t/1905 (not t/ 1905)");
+        LocalTime time;
+        try {
+            time = LocalTime.parse(timeSlice.value(), WorkoutFields.TIME_FMT);
+        } catch (DateTimeParseException e) {
+            throw new InvalidArgumentInput("Invalid time. Use t/HHmm (e.g., t/1905).");
+        }
+
+        CommandParser.guard(!WorkoutFields.hasTextAfter(tokens.text(), timeSlice.end()),
+                "Unexpected text after time. " + USAGE);
+        char stray = tokens.strayFlag("ndt", tokens.slice('n'), dateSlice, timeSlice);
+        CommandParser.guard(stray == 0, "Unsupported flag \"" + stray + "/\" found. Only n/, d/, and t/ are allowed.");
+        return new CreateWorkoutArguments(name, date, time);
+    }
+
+    private static String readName(ArgumentTokens tokens, String missing) throws InvalidArgumentInput {
+        String name = tokens.slice('n').value();
+        CommandParser.guard(!name.isEmpty(), missing);
+        WorkoutFields.checkName(name, "workout");
+        return name;
+    }
+}
@@ -89,8 +89,8 @@ public class DeleteParser implements CommandParser<DeleteWorkoutArguments> {
             throw usage("Missing ID. Example: id/3");
         }
         if (ym == null) {
-            ui.showError("Since you didn't input any month or year, I will assume you mean the current month ya! \n " +
-                    "If that's not what you want check help to see correct date format input :) ");
+            ui.showMessage("Since you didn't input any month or year, I will assume you mean the current month ya! \n "
+                    + "If that's not what you want check help to see correct date format input :) ");
             ym = YearMonth.now();
         }
 
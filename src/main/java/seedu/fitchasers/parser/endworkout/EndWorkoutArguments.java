@@ -0,0 +1,14 @@
+package seedu.fitchasers.parser.endworkout;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Parsed args for /end_workout
+ *
+ * @param date the day the workout ended, or {@code null} if d/ was not given and the user is to be asked
+ * @param time the time the workout ended, or {@code null} if t/ was not given and the user is to be asked
+ */
+public record EndWorkoutArguments(LocalDate date, LocalTime time) {
+
+}
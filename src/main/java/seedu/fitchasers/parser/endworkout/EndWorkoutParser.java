@@ -0,0 +1,76 @@
+package seedu.fitchasers.parser.endworkout;
+
+import seedu.fitchasers.exceptions.InvalidArgumentInput;
+import seedu.fitchasers.parser.ArgumentTokens;
+import seedu.fitchasers.parser.ArgumentTokens.Slice;
+import seedu.fitchasers.parser.CommandParser;
+import seedu.fitchasers.parser.WorkoutFields;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalQuery;
+
+//@@author nitin19011
+/**
+ * Parses user input for the /end_workout command.
+ * Allows at most one d/ and one t/, in that order if both are given; either may be left out to be asked for.
+ */
+public class EndWorkoutParser implements CommandParser<EndWorkoutArguments> {
+    public static final String USAGE = "Please enter: /end_workout d/DD/MM/YY t/HHmm"
+            + "\n Alternatively you may just enter 'ew' or 'ew t/HHmm' (Will prompt current date)";
+
+    /**
+     * Parses the raw user input and returns an {@code EndWorkoutArguments} object.
+     *
+     * @param raw The raw user input string.
+     * @param creationDate Unused; the end is checked against the start of the workout when it ends.
+     * @return The end date and time, each {@code null} if not given.
+     * @throws InvalidArgumentInput If a flag is repeated, out of order or unsupported, or a value is invalid.
+     */
+    @Override
+    public EndWorkoutArguments parse(String raw, YearMonth creationDate) throws InvalidArgumentInput {
+        ArgumentTokens tokens = ArgumentTokens.of(raw);
+        CommandParser.guard(tokens.count('d') <= 1 && tokens.count('t') <= 1,
+                "Too many date/time flags. Use at most one d/ and one t/.\nUsage: /end_workout d/DD/MM/YY t/HHmm");
+        int dIdx = tokens.indexOf('d');
+        int tIdx = tokens.indexOf('t');
+        CommandParser.guard(dIdx == -1 || tIdx == -1 || dIdx < tIdx,
+                "Order must be d/ then t/. Example: /end_workout d/29/10/25 t/1800");
+        CommandParser.guard(tokens.strayFlag("dt") == 0,
+                "Only d/ and t/ are allowed. Usage: /end_workout d/DD/MM/YY t/HHmm");
+        CommandParser.guard(tokens.isEmpty() || dIdx == 0 || (dIdx == -1 && tIdx == 0),
+                "Unexpected text before d/ or t/. Usage: /end_workout d/DD/MM/YY t/HHmm");
+
+        Slice dateSlice = (dIdx == -1) ? null : tokens.slice('d');
+        Slice timeSlice = (tIdx == -1) ? null : tokens.slice('t');
+        Slice last = (timeSlice != null) ? timeSlice : dateSlice;
+        CommandParser.guard(last == null || !WorkoutFields.hasTextAfter(tokens.text(), last.end()),
+                "Unexpected text after time/date. Use exactly: /end_workout d/DD/MM/YY t/HHmm");
+
+        String invalidDate = "Invalid date. Use d/DD/MM/YY (e.g., d/23/10/25)."
+                + " \nTip: Single digit date needs a 0 infront! e.g 02/11/26\n" + USAGE;
+        String invalidTime = "Invalid time. Use t/HHmm (e.g., t/1905).\n" + USAGE;
+        LocalDate date = parseOrNull(dateSlice, WorkoutFields.DATE_FMT, LocalDate::from, invalidDate);
+        LocalTime time = parseOrNull(timeSlice, WorkoutFields.TIME_FMT, LocalTime::from, invalidTime);
+        return new EndWorkoutArguments(date, time);
+    }
+
+    /**
+     * Parses the value of a flag, or returns {@code null} if the flag is missing or empty and is to be asked for.
+     */
+    private static <T> T parseOrNull(Slice slice, DateTimeFormatter format, TemporalQuery<T> query, String invalid)
+            throws InvalidArgumentInput {
+        if (slice == null || slice.raw().isEmpty()) {
+            return null;
+        }
+        CommandParser.guard(!slice.startsWithSpace(), invalid);
+        try {
+            return format.parse(slice.value(), query);
+        } catch (DateTimeParseException e) {
+            throw new InvalidArgumentInput(invalid);
+        }
+    }
+}
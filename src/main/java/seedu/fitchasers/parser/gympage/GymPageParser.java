@@ -0,0 +1,74 @@
+package seedu.fitchasers.parser.gympage;
+
+import seedu.fitchasers.exceptions.InvalidArgumentInput;
+import seedu.fitchasers.gym.Gym;
+import seedu.fitchasers.parser.CommandParser;
+
+import java.time.YearMonth;
+import java.util.List;
+
+//@@author Exceptional-Khoi
+/**
+ * Parses user input for the /gym_page command.
+ * Resolves p/ to a gym, either by its page number or by part of its name.
+ */
+public class GymPageParser implements CommandParser<Gym> {
+    private final List<Gym> gyms;
+
+    public GymPageParser(List<Gym> gyms) {
+        this.gyms = gyms;
+    }
+
+    /**
+     * Parses the raw user input and returns the gym it names.
+     *
+     * @param raw The raw user input string.
+     * @param creationDate Unused.
+     * @return The gym to show.
+     * @throws InvalidArgumentInput If p/ is missing or empty, or names no gym; the message lists the gyms.
+     */
+    @Override
+    public Gym parse(String raw, YearMonth creationDate) throws InvalidArgumentInput {
+        String trimmedArg = raw.trim();
+        if (!trimmedArg.startsWith("p/") || trimmedArg.length() <= 2) {
+            throw withGymList("Usage: /gym_page p/page_number_or_gym_name\n"
+                    + "Example: /gym_page p/1 OR /gym_page p/SRC Gym");
+        }
+        String input = trimmedArg.substring(2).trim();
+        if (input.isEmpty()) {
+            throw withGymList("Please provide a gym number or name.");
+        }
+
+        Gym selectedGym = null;
+        if (CommandParser.isInt(input)) {
+            int pageNum = Integer.parseInt(input);
+            if (pageNum >= 1 && pageNum <= gyms.size()) {
+                selectedGym = gyms.get(pageNum - 1);
+            }
+        } else {
+            selectedGym = findGymByName(input);
+        }
+        if (selectedGym == null) {
+            throw withGymList("Invalid gym. Use number (1-" + gyms.size() + ") or gym name (e.g., SRC Gym)");
+        }
+        return selectedGym;
+    }
+
+    private Gym findGymByName(String gymName) {
+        String searchName = gymName.toLowerCase();
+        for (Gym gym : gyms) {
+            if (gym.getName().toLowerCase().contains(searchName)) {
+                return gym;
+            }
+        }
+        return null;
+    }
+
+    private InvalidArgumentInput withGymList(String msg) {
+        StringBuilder message = new StringBuilder(msg).append("\nAvailable gyms:");
+        for (int i = 0; i < gyms.size(); i++) {
+            message.append("\n  ").append(i + 1).append(". ").append(gyms.get(i).getName());
+        }
+        return new InvalidArgumentInput(message.toString());
+    }
+}
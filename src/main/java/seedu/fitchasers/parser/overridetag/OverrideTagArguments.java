@@ -0,0 +1,8 @@
+package seedu.fitchasers.parser.overridetag;
+
+/**
+ * Parsed args for /override_workout_tag
+ */
+public record OverrideTagArguments(int workoutId, String tag) {
+
+}
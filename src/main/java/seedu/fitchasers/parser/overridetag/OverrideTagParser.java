@@ -0,0 +1,42 @@
+package seedu.fitchasers.parser.overridetag;
+
+import seedu.fitchasers.exceptions.InvalidArgumentInput;
+import seedu.fitchasers.parser.ArgumentTokens;
+import seedu.fitchasers.parser.CommandParser;
+
+import java.time.YearMonth;
+
+//@@author bennyy117
+/**
+ * Parses user input for the /override_workout_tag command.
+ * Takes the workout from id/ and the new tag from newTag/; if either is given twice, the last one counts.
+ */
+public class OverrideTagParser implements CommandParser<OverrideTagArguments> {
+    private static final String USAGE = "Usage: /override_workout_tag id/WORKOUT_ID newTag/NEW_TAG";
+
+    /**
+     * Parses the raw user input and returns an {@code OverrideTagArguments} object.
+     *
+     * @param raw The raw user input string.
+     * @param creationDate Unused; the workout is looked up in the current month.
+     * @return The workout ID and the new tag.
+     * @throws InvalidArgumentInput If an ID is not a number, or the ID or tag is missing or empty.
+     */
+    @Override
+    public OverrideTagArguments parse(String raw, YearMonth creationDate) throws InvalidArgumentInput {
+        ArgumentTokens tokens = ArgumentTokens.of(raw);
+        Integer workoutId = null;
+        for (String id : tokens.words("id/")) {
+            try {
+                workoutId = Integer.parseInt(id);
+            } catch (NumberFormatException e) {
+                throw new InvalidArgumentInput("Invalid workout ID.");
+            }
+        }
+        String tag = tokens.lastWord("newTag/");
+
+        CommandParser.guard(workoutId != null && tag != null, USAGE);
+        CommandParser.guard(!tag.isEmpty(), "Tag cannot be empty.");
+        return new OverrideTagArguments(workoutId, tag);
+    }
+}
@@ -0,0 +1,11 @@
+package seedu.fitchasers.parser.progress;
+
+/**
+ * Parsed args for /progress
+ *
+ * @param exerciseName the exercise to show, or {@code null} for every exercise
+ * @param year         the year to give an overview of, or {@code null} for none
+ */
+public record ProgressArguments(String exerciseName, Integer year) {
+
+}
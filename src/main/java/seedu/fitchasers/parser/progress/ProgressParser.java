@@ -0,0 +1,41 @@
+package seedu.fitchasers.parser.progress;
+
+import seedu.fitchasers.exceptions.InvalidArgumentInput;
+import seedu.fitchasers.parser.CommandParser;
+
+import java.time.Year;
+import java.time.YearMonth;
+
+//@@author ZhongBaode
+/**
+ * Parses user input for the /progress command: nothing, {@code n/EXERCISE_NAME} or {@code y/YEAR}.
+ */
+public class ProgressParser implements CommandParser<ProgressArguments> {
+    private static final String USAGE = "Usage: /progress, /progress n/EXERCISE_NAME or /progress y/YEAR";
+
+    /**
+     * Parses the raw user input and returns a {@code ProgressArguments} object.
+     *
+     * @param raw The raw user input string.
+     * @param creationDate Unused.
+     * @return The exercise or year to report on, both {@code null} for the overview.
+     * @throws InvalidArgumentInput If the input is neither form, the name is empty or the year is not 4 digits.
+     */
+    @Override
+    public ProgressArguments parse(String raw, YearMonth creationDate) throws InvalidArgumentInput {
+        String s = (raw == null) ? "" : raw.trim();
+        if (s.isEmpty()) {
+            return new ProgressArguments(null, null);
+        }
+        if (s.startsWith("y/")) {
+            String year = s.substring(2).trim();
+            CommandParser.guard(year.matches("\\d{4}"),
+                    "Invalid year. Use a 4-digit year, e.g. /progress y/" + Year.now());
+            return new ProgressArguments(null, Integer.parseInt(year));
+        }
+        CommandParser.guard(s.startsWith("n/"), USAGE);
+        String name = s.substring(2).trim();
+        CommandParser.guard(!name.isEmpty(), "Exercise name is missing after n/. " + USAGE);
+        return new ProgressArguments(name, null);
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.fitchasers.parser.rename;
+
+import seedu.fitchasers.exceptions.InvalidArgumentInput;
+import seedu.fitchasers.parser.CommandParser;
+
+import java.time.YearMonth;
+import java.util.regex.Pattern;
+
+//@@author Kart04
+/**
+ * Parses user input for the /rename command and returns the new name.
+ */
+public class RenameParser implements CommandParser<String> {
+    private static final Pattern NAME = Pattern.compile("^[a-zA-Z0-9 _-]+$");
+    private static final int MAX_NAME_LENGTH = 30;
+    private static final String USAGE = "Usage: /rename n/YourName";
+
+    /**
+     * Parses the raw user input and returns the name after n/.
+     *
+     * @param raw The raw user input string.
+     * @param creationDate Unused.
+     * @return The new name, trimmed.
+     * @throws InvalidArgumentInput If n/ is missing, or the name is empty, too long or has other characters.
+     */
+    @Override
+    public String parse(String raw, YearMonth creationDate) throws InvalidArgumentInput {
+        CommandParser.guard(raw != null && raw.startsWith("n/"), USAGE);
+        String newName = raw.substring(2).trim();
+        CommandParser.guard(!newName.isEmpty(),
+                USAGE + "\nYou didn't enter any name after 'n/'. Example: /rename n/Nary");
+        CommandParser.guard(newName.length() <= MAX_NAME_LENGTH,
+                "Name is too long. Maximum is " + MAX_NAME_LENGTH + " characters.");
+        CommandParser.guard(NAME.matcher(newName).matches(),
+                "Name can only contain letters, numbers, spaces, underscores (_), or dashes (-).");
+        return newName;
+    }
+}
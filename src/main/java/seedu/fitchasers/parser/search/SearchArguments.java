@@ -0,0 +1,23 @@
+package seedu.fitchasers.parser.search;
+
+import java.time.LocalDate;
+
+/**
+ * Parsed args for /search
+ *
+ * @param query the words to look for, or an empty string to list every workout in the range
+ * @param from  the first day to include, {@link #EARLIEST} if not given
+ * @param to    the last day to include, {@link #LATEST} if not given
+ * @param tag   the tag the workouts must have, or {@code null} for any
+ */
+public record SearchArguments(String query, LocalDate from, LocalDate to, String tag) {
+    public static final LocalDate EARLIEST = LocalDate.of(2000, 1, 1);
+    public static final LocalDate LATEST = LocalDate.of(2099, 12, 31);
+
+    /**
+     * Returns whether the search is narrowed by a date or tag, not just by words.
+     */
+    public boolean isFiltered() {
+        return !from.equals(EARLIEST) || !to.equals(LATEST) || tag != null;
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.fitchasers.parser.search;
+
+import seedu.fitchasers.exceptions.InvalidArgumentInput;
+import seedu.fitchasers.parser.CommandParser;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.ArrayList;
+import java.util.List;
+
+//@@author Kart04
+/**
+ * Parses user input for the /search command.
+ * Words starting with from/, to/ or tag/ narrow the search; every other word is part of the query.
+ * If a filter is given twice, the last one counts.
+ */
+public class SearchParser implements CommandParser<SearchArguments> {
+    private static final String USAGE = "Usage: /search [KEYWORDS] [from/DD/MM/YY] [to/DD/MM/YY] [tag/TAG], "
+            + "e.g. /search squat legs or /search tag/legs from/01/09/25";
+    private static final DateTimeFormatter DATE_FMT =
+            DateTimeFormatter.ofPattern("dd/MM/yy").withResolverStyle(ResolverStyle.SMART);
+
+    /**
+     * Parses the raw user input and returns a {@code SearchArguments} object.
+     *
+     * @param raw The raw user input string.
+     * @param creationDate Unused; workouts of any month can be searched.
+     * @return The query and the filters, with the dates defaulting to every supported year.
+     * @throws InvalidArgumentInput If nothing is given, a date is invalid, from/ is after to/, or a tag is empty.
+     */
+    @Override
+    public SearchArguments parse(String raw, YearMonth creationDate) throws InvalidArgumentInput {
+        List<String> words = new ArrayList<>();
+        LocalDate from = SearchArguments.EARLIEST;
+        LocalDate to = SearchArguments.LATEST;
+        String tag = null;
+        for (String word : (raw == null) ? new String[0] : raw.trim().split("\\s+")) {
+            if (word.startsWith("from/")) {
+                from = parseDate(word.substring(5), "from/");
+            } else if (word.startsWith("to/")) {
+                to = parseDate(word.substring(3), "to/");
+            } else if (word.startsWith("tag/")) {
+                tag = word.substring(4);
+                CommandParser.guard(!tag.isEmpty(), "Tag cannot be empty.");
+            } else if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        String query = String.join(" ", words);
+        SearchArguments arguments = new SearchArguments(query, from, to, tag);
+        CommandParser.guard(!query.isEmpty() || arguments.isFiltered(), USAGE);
+        CommandParser.guard(!from.isAfter(to), "The from/ date must not be after the to/ date.");
+        return arguments;
+    }
+
+    private static LocalDate parseDate(String value, String flag) throws InvalidArgumentInput {
+        try {
+            return LocalDate.parse(value, DATE_FMT);
+        } catch (DateTimeParseException e) {
+            throw new InvalidArgumentInput("Invalid date after " + flag + ", use DD/MM/YY, e.g. " + flag + "01/10/25");
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.fitchasers.parser.setgoal;
+
+import seedu.fitchasers.exceptions.InvalidArgumentInput;
+import seedu.fitchasers.parser.CommandParser;
+
+import java.time.YearMonth;
+
+//@@author bennyy117
+/**
+ * Parses user input for the /set_goal command and returns the goal weight after w/.
+ */
+public class SetGoalParser implements CommandParser<Double> {
+    private static final String USAGE = "Usage: /set_goal w/TARGET_WEIGHT (e.g., /set_goal w/60)";
+
+    /**
+     * Parses the raw user input and returns the goal weight.
+     *
+     * @param raw The raw user input string, e.g. {@code "w/60"}.
+     * @param creationDate Unused.
+     * @return The goal weight in kg, a positive number.
+     * @throws InvalidArgumentInput If w/ is missing or the weight is not a positive number.
+     */
+    @Override
+    public Double parse(String raw, YearMonth creationDate) throws InvalidArgumentInput {
+        CommandParser.guard(raw != null && raw.startsWith("w/"), USAGE);
+        double target;
+        try {
+            target = Double.parseDouble(raw.substring(2).trim());
+        } catch (NumberFormatException e) {
+            throw new InvalidArgumentInput("Invalid weight. Please enter a number (e.g., 60 or 60.5).");
+        }
+        CommandParser.guard(target > 0 && Double.isFinite(target), "Goal weight must be a positive number.");
+        return target;
+    }
+}
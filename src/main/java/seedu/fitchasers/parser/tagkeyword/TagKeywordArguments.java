@@ -0,0 +1,8 @@
+package seedu.fitchasers.parser.tagkeyword;
+
+/**
+ * Parsed args for /add_muscle_tag and /add_modality_tag
+ */
+public record TagKeywordArguments<E extends Enum<E>>(E group, String keyword) {
+
+}
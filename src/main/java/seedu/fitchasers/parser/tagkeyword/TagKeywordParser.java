@@ -0,0 +1,64 @@
+package seedu.fitchasers.parser.tagkeyword;
+
+import seedu.fitchasers.exceptions.InvalidArgumentInput;
+import seedu.fitchasers.parser.ArgumentTokens;
+import seedu.fitchasers.parser.CommandParser;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+//@@author Exceptional-Khoi
+/**
+ * Parses user input for commands that add a tagging keyword to a group, such as /add_muscle_tag
+ * m/LEGS k/lunge and /add_modality_tag m/CARDIO k/running.
+ * The group is matched ignoring case and the keyword is stored in lower case.
+ *
+ * @param <E> the groups a keyword can be added to, e.g. {@code MuscleGroup}
+ */
+public class TagKeywordParser<E extends Enum<E>> implements CommandParser<TagKeywordArguments<E>> {
+    private final Class<E> groups;
+    private final String groupLabel;
+    private final String usage;
+    private final String options;
+
+    /**
+     * Constructs a parser for one command.
+     *
+     * @param groups The enum of the groups, e.g. {@code MuscleGroup.class}.
+     * @param groupLabel What a group is called in messages, e.g. "Muscle group".
+     * @param usage The usage line shown when m/ or k/ is missing.
+     */
+    public TagKeywordParser(Class<E> groups, String groupLabel, String usage) {
+        this.groups = groups;
+        this.groupLabel = groupLabel;
+        this.usage = usage;
+        this.options = Arrays.stream(groups.getEnumConstants()).map(Enum::name).collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Parses the raw user input and returns a {@code TagKeywordArguments} object.
+     *
+     * @param raw The raw user input string.
+     * @param creationDate Unused.
+     * @return The group and the keyword.
+     * @throws InvalidArgumentInput If m/ or k/ is missing or empty, or the group does not exist.
+     */
+    @Override
+    public TagKeywordArguments<E> parse(String raw, YearMonth creationDate) throws InvalidArgumentInput {
+        ArgumentTokens tokens = ArgumentTokens.of(raw);
+        String group = tokens.lastWord("m/");
+        String keyword = tokens.lastWord("k/");
+
+        CommandParser.guard(group == null || !group.isEmpty(),
+                groupLabel + " cannot be empty. Use: " + options);
+        CommandParser.guard(keyword == null || !keyword.isEmpty(),
+                "Keyword cannot be empty. " + usage);
+        CommandParser.guard(group != null && keyword != null, usage);
+        try {
+            return new TagKeywordArguments<>(Enum.valueOf(groups, group.toUpperCase()), keyword.toLowerCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidArgumentInput("Invalid " + groupLabel.toLowerCase() + ". Valid options: " + options);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package seedu.fitchasers.parser.transfer;
+
+import seedu.fitchasers.storage.RecordFormat;
+
+import java.nio.file.Path;
+
+/**
+ * Parsed args for /import and /export
+ *
+ * @param isWorkouts {@code true} for workouts, {@code false} for weights
+ * @param file       the file to read or write
+ * @param format     the format of the file, chosen by its extension
+ */
+public record TransferArguments(boolean isWorkouts, Path file, RecordFormat format) {
+
+}
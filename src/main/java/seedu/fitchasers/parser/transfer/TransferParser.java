@@ -0,0 +1,55 @@
+package seedu.fitchasers.parser.transfer;
+
+import seedu.fitchasers.exceptions.InvalidArgumentInput;
+import seedu.fitchasers.parser.CommandParser;
+import seedu.fitchasers.storage.RecordFormat;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.YearMonth;
+
+//@@author Kart04
+/**
+ * Parses user input for the /import and /export commands: {@code workouts|weights f/FILE}, where FILE
+ * ends in .csv or .json.
+ */
+public class TransferParser implements CommandParser<TransferArguments> {
+    private final String usage;
+
+    /**
+     * Constructs a parser for one of the commands.
+     *
+     * @param command the command word, {@code "/import"} or {@code "/export"}, for the usage message
+     * @param example the file of the example in the usage message
+     */
+    public TransferParser(String command, String example) {
+        this.usage = "Usage: " + command + " workouts|weights f/FILE, where FILE ends in .csv or .json, e.g. "
+                + command + " " + example;
+    }
+
+    /**
+     * Parses the raw user input and returns a {@code TransferArguments} object.
+     *
+     * @param raw The raw user input string.
+     * @param creationDate Unused.
+     * @return The kind of data, the file and its format.
+     * @throws InvalidArgumentInput If the kind or f/ is missing, or the file is not a valid .csv or .json path.
+     */
+    @Override
+    public TransferArguments parse(String raw, YearMonth creationDate) throws InvalidArgumentInput {
+        String[] parts = (raw == null) ? new String[0] : raw.trim().split("\\s+", 2);
+        CommandParser.guard(parts.length == 2
+                && (parts[0].equalsIgnoreCase("workouts") || parts[0].equalsIgnoreCase("weights"))
+                && parts[1].startsWith("f/") && !parts[1].substring(2).isBlank(), usage);
+        String name = parts[1].substring(2).trim();
+        Path file;
+        try {
+            file = Path.of(name);
+        } catch (InvalidPathException e) {
+            throw new InvalidArgumentInput("\"" + name + "\" is not a valid file path.");
+        }
+        RecordFormat format = RecordFormat.of(file);
+        CommandParser.guard(format != null, usage);
+        return new TransferArguments(parts[0].equalsIgnoreCase("workouts"), file, format);
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.fitchasers.parser.viewlog;
+
+import java.time.YearMonth;
+
+/**
+ * Parsed args for /view_log
+ *
+ * @param ym           the month to show
+ * @param extractedArg the page of the month to show
+ * @param detailed     {@code true} if detailed output is requested; {@code false} otherwise
+ * @param navigation   whether to continue from the last page shown instead of opening a page
+ */
+public record ViewLogArguments(YearMonth ym, int extractedArg, boolean detailed, Navigation navigation) {
+
+    /**
+     * Where {@code next/} and {@code prev/} move from the last page shown.
+     */
+    public enum Navigation {
+        NONE,
+        NEXT,
+        PREV
+    }
+}
@@ -0,0 +1,176 @@
+package seedu.fitchasers.parser.viewlog;
+
+import seedu.fitchasers.exceptions.InvalidArgumentInput;
+import seedu.fitchasers.parser.CommandParser;
+import seedu.fitchasers.parser.viewlog.ViewLogArguments.Navigation;
+
+import java.time.YearMonth;
+import java.util.regex.Pattern;
+
+//@@author nitin19011
+/**
+ * Parses user input for the /view_log command.
+ */
+public class ViewLogParser implements CommandParser<ViewLogArguments> {
+    private static final Pattern INT = Pattern.compile("^-?\\d+$");
+
+    /**
+     * Parses raw user input to extract date, page, and detail parameters.
+     * <p>
+     * Supports arguments in the following formats:
+     * <ul>
+     *   <li>{@code m/<MM>} — Specifies the month of the current year.</li>
+     *   <li>{@code ym/<MM>/<YY>} — Specifies a particular year and month.</li>
+     *   <li>{@code pg/<N>} — Specifies the page number for paginated display.</li>
+     *   <li>{@code detailed/} — Requests detailed output mode.</li>
+     *   <li>{@code next/}, {@code prev/} — Continues with the older or newer page after the last one shown.</li>
+     * </ul>
+     * The method validates argument consistency (e.g., {@code m/} cannot be combined with {@code ym/})
+     * and ensures numeric values are positive.
+     *
+     * @param raw The raw user input string containing command arguments.
+     * @param creationDate Unused; any month from 2025 can be shown.
+     * @return The month, page number, detail flag and navigation.
+     * @throws InvalidArgumentInput If the arguments are invalid, conflicting, or improperly formatted.
+     */
+    @Override
+    public ViewLogArguments parse(String raw, YearMonth creationDate) throws InvalidArgumentInput {
+        YearMonth now = YearMonth.now();
+        YearMonth target = now;
+        int page = 1;
+        boolean detailed = false;
+
+        if (raw == null || raw.isBlank()) {
+            return new ViewLogArguments(target, page, false, Navigation.NONE);
+        }
+
+        String[] arguments = raw.trim().split("\\s+");
+        boolean seenM = false;
+        boolean seenYM = false;
+        boolean seenPg = false;
+        Navigation navigation = Navigation.NONE;
+
+        for (int i = 0; i < arguments.length; i++) {
+            String t = arguments[i];
+
+            if ("detailed/".equals(t)) {
+                detailed = true;
+                continue;
+            }
+
+            if ("next/".equals(t) || "prev/".equals(t)) {
+                if (navigation != Navigation.NONE) {
+                    throw new InvalidArgumentInput("Use only one of next/ and prev/.");
+                }
+                navigation = "next/".equals(t) ? Navigation.NEXT : Navigation.PREV;
+                continue;
+            }
+
+            if (t.startsWith("m/")) {
+                if (seenYM) {
+                    throw new InvalidArgumentInput("Cannot combine m/<MM> with ym/<A>/<B>.");
+                }
+                seenM = true;
+                int month = readPositiveInt(t.substring(2), "Month after m/ must be an integer.");
+                validateMonth(month);
+                target = YearMonth.of(now.getYear(), month);
+
+                // optional trailing page
+                if (i + 1 < arguments.length && isInt(arguments[i + 1])) {
+                    page = readPositiveInt(arguments[++i], "Page must be a positive integer.");
+                }
+                continue;
+            }
+
+            if (t.startsWith("ym/")) {
+                if (seenM) {
+                    throw new InvalidArgumentInput("Cannot combine ym/<A>/<B> with m/<MM>.");
+                }
+                seenYM = true;
+                target = parseYearMonthToken(t.substring(3));
+                // optional trailing page
+                if (i + 1 < arguments.length && isInt(arguments[i + 1])) {
+                    page = readPositiveInt(arguments[++i], "Page must be a positive integer.");
+                }
+                continue;
+            }
+
+            if (t.startsWith("pg/")) {
+                if (seenPg) {
+                    throw new InvalidArgumentInput("Page specified more than once. Use a single pg/<N>.");
+                }
+                seenPg = true;
+                page = readPositiveInt(t.substring(3), "Page after pg/ must be above 1!" +
+                        " Also remember no space after pg/ :) e.g pg/2 ");
+                continue;
+            }
+
+            if (t.contains("/")) {
+                throw new InvalidArgumentInput("Unknown flag: " + t + ". Use /help to see how to use view log :)");
+            } else {
+                throw new InvalidArgumentInput("Unexpected Argument: " + t +
+                        " . Use /help to see how to use view log :)");
+            }
+        }
+
+        if (navigation != Navigation.NONE && (seenM || seenYM || seenPg)) {
+            throw new InvalidArgumentInput("next/ and prev/ continue from the last page shown, "
+                    + "so they cannot be combined with m/, ym/ or pg/.");
+        }
+        return new ViewLogArguments(target, page, detailed, navigation);
+    }
+
+    private static boolean isInt(String s) {
+        return s != null && INT.matcher(s).matches();
+    }
+
+    private static int readPositiveInt(String s, String err) throws InvalidArgumentInput {
+        try {
+            int v = Integer.parseInt(s);
+            if (v <= 0) {
+                throw new NumberFormatException();
+            }
+            return v;
+        } catch (NumberFormatException nfe) {
+            throw new InvalidArgumentInput(err);
+        }
+    }
+
+    private static void validateMonth(int month) throws InvalidArgumentInput {
+        if (month < 1 || month > 12) {
+            throw new InvalidArgumentInput("Month must be between 1 and 12.");
+        }
+    }
+
+    private static void validateYear(int year) throws InvalidArgumentInput {
+        if (year < 2025 || year > 2099) {
+            throw new InvalidArgumentInput("Month must be between 1 and 12.");
+        }
+    }
+
+    private static YearMonth parseYearMonthToken(String token) throws InvalidArgumentInput {
+        String[] parts = token.split("/");
+        if (parts.length != 2) {
+            throw new InvalidArgumentInput("Use ym/<MM>/<YY>, e.g., ym/10/25.");
+        }
+        String mmStr = parts[0].trim();
+        String yyStr = parts[1].trim();
+
+        if (!isInt(mmStr) || !isInt(yyStr)) {
+            throw new InvalidArgumentInput("Use digits only: ym/<MM>/<YY>, e.g., ym/10/25.");
+        }
+
+        int mm = Integer.parseInt(mmStr);
+        int yy = Integer.parseInt(yyStr);
+
+
+        if (yy < 0 || yy > 99) {
+            throw new InvalidArgumentInput("Year must be 00..99 (two digits).");
+        }
+
+        int yyyy = 2000 + yy; // Simple rule: map 00..99 → 2000..2099
+        validateYear(yyyy);    // your existing guard (e.g., 1970..2100)
+        validateMonth(mm);
+        return YearMonth.of(yyyy, mm);
+    }
+}
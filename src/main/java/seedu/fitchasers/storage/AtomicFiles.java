@@ -0,0 +1,184 @@
+package seedu.fitchasers.storage;
+
+import seedu.fitchasers.metrics.Metrics;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+//@@author Kart04
+/**
+ * Writes data files so that a crash leaves either the old or the new version on disk, never a
+ * truncated mix of both.
+ * <p>
+ * The content goes to a temporary file next to the target, is forced to disk and then moved over
+ * the target in one atomic rename. Text files can also end with a checksum footer,
+ * <pre>
+ *   # CRC32C 1c291ca3
+ * </pre>
+ * covering every byte before it. The footer is a comment line, so readers that skip {@code #} lines
+ * need no changes, and files without one (older saves) are accepted as {@link Integrity#UNCHECKED}.
+ */
+final class AtomicFiles {
+    static final String FOOTER_PREFIX = "# CRC32C ";
+    private static final int CHECKSUM_DIGITS = 8;
+
+    /**
+     * Outcome of checking the footer of a file.
+     */
+    enum Integrity {
+        /** The file has no footer, e.g. because it was saved by an older version. */
+        UNCHECKED,
+        /** The footer matches the content. */
+        VALID,
+        /** The content was changed or damaged after the footer was written. */
+        DAMAGED
+    }
+
+    /**
+     * Text content of a file, without its footer.
+     *
+     * @param text      the content before the footer
+     * @param integrity the result of checking the footer
+     */
+    record Checked(String text, Integrity integrity) {
+    }
+
+    private AtomicFiles() {
+    }
+
+    /**
+     * Atomically replaces a file with the given bytes.
+     *
+     * @param target the file to replace
+     * @param bytes  the new content
+     * @throws IOException if writing or renaming fails; the target is then left unchanged
+     */
+    static void write(Path target, byte[] bytes) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buf = ByteBuffer.wrap(bytes);
+            while (buf.hasRemaining()) {
+                channel.write(buf);
+            }
+            channel.force(true);
+        }
+        Metrics.addBytesWritten(bytes.length);
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        syncDirectory(target.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Atomically replaces a text file with the given text followed by a checksum footer.
+     *
+     * @param target the file to replace
+     * @param text   the new content, which should end with a line separator
+     * @throws IOException if writing or renaming fails; the target is then left unchanged
+     */
+    static void writeChecked(Path target, String text) throws IOException {
+        byte[] content = text.getBytes(StandardCharsets.UTF_8);
+        byte[] footer = footerFor(content, 0, content.length).getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = new byte[content.length + footer.length];
+        System.arraycopy(content, 0, bytes, 0, content.length);
+        System.arraycopy(footer, 0, bytes, content.length, footer.length);
+        write(target, bytes);
+    }
+
+    /**
+     * Reads a text file and checks its footer.
+     *
+     * @param path the file to read
+     * @return the text before the footer and whether it matches the footer
+     * @throws IOException if reading fails
+     */
+    static Checked readChecked(Path path) throws IOException {
+        byte[] data = Files.readAllBytes(path);
+        Metrics.addBytesRead(data.length);
+        int length = contentLength(data);
+        return new Checked(new String(data, 0, length, StandardCharsets.UTF_8), verify(data));
+    }
+
+    /**
+     * Returns the number of bytes before the checksum footer.
+     *
+     * @param data the whole file
+     * @return the offset of the footer line, or {@code data.length} if there is no footer
+     */
+    static int contentLength(byte[] data) {
+        int end = data.length;
+        while (end > 0 && (data[end - 1] == '\n' || data[end - 1] == '\r')) {
+            end--;
+        }
+        int start = end;
+        while (start > 0 && data[start - 1] != '\n') {
+            start--;
+        }
+        return (parseFooter(data, start, end) < 0) ? data.length : start;
+    }
+
+    /**
+     * Checks the checksum footer of a file.
+     *
+     * @param data the whole file
+     * @return whether the footer matches, or {@link Integrity#UNCHECKED} if there is none
+     */
+    static Integrity verify(byte[] data) {
+        int length = contentLength(data);
+        if (length == data.length) {
+            return Integrity.UNCHECKED;
+        }
+        long expected = parseFooter(data, length, data.length);
+        return (checksum(data, 0, length) == expected) ? Integrity.VALID : Integrity.DAMAGED;
+    }
+
+    private static String footerFor(byte[] data, int from, int to) {
+        return FOOTER_PREFIX + String.format("%08x", checksum(data, from, to)) + System.lineSeparator();
+    }
+
+    private static long checksum(byte[] data, int from, int to) {
+        CRC32C crc = new CRC32C();
+        crc.update(data, from, to - from);
+        return crc.getValue();
+    }
+
+    /**
+     * Returns the checksum stored in a footer line, or -1 if the line is not a footer.
+     */
+    private static long parseFooter(byte[] data, int from, int to) {
+        String line = new String(data, from, to - from, StandardCharsets.UTF_8).trim();
+        if (!line.startsWith(FOOTER_PREFIX) || line.length() != FOOTER_PREFIX.length() + CHECKSUM_DIGITS) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(line.substring(FOOTER_PREFIX.length()), 16);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Forces the directory entry of a renamed file to disk where the platform allows it.
+     */
+    private static void syncDirectory(Path dir) {
+        if (dir == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // directories cannot be opened or synced on some platforms, such as Windows
+        }
+    }
+}
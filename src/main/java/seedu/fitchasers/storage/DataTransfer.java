@@ -0,0 +1,699 @@
+package seedu.fitchasers.storage;
+
+import seedu.fitchasers.exceptions.FileNonexistent;
+import seedu.fitchasers.exceptions.InvalidArgumentInput;
+import seedu.fitchasers.tagger.Tagger;
+import seedu.fitchasers.user.Person;
+import seedu.fitchasers.user.WeightRecord;
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.SetLog;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+//@@author Kart04
+/**
+ * Imports workouts and weights from CSV or JSON files, such as the exports of other trackers, and
+ * exports them in the same formats (see {@link RecordFormat}).
+ * <p>
+ * Workouts are exchanged as one record per set with the fields of {@link #WORKOUT_COLUMNS}.
+ * The sets of a workout share its start time, and consecutive sets of the same exercise form one
+ * exercise; a workout without sets is a record without an exercise. Tags are separated by
+ * {@code ;}, and workouts imported without an {@code auto_tags} field are tagged by the tagger.
+ * <p>
+ * An import reads the file once, spooling its records into a temporary file per month. The months
+ * are then checked and merged with the saved workouts on a fork-join pool, a few at a time, while
+ * the calling thread saves each month once as soon as it is ready. Memory therefore holds a
+ * handful of months however large the file is. A workout is skipped if any of its records is
+ * invalid, or if a workout with the same start time is already saved, so importing a file twice
+ * adds nothing the second time.
+ */
+public class DataTransfer {
+    public static final List<String> WORKOUT_COLUMNS =
+            List.of("start", "end", "workout", "exercise", "reps", "weight", "rpe", "tags", "auto_tags");
+    public static final List<String> WEIGHT_COLUMNS = List.of("date", "weight");
+    static final int MAX_REPORTED_ERRORS = 10;
+    private static final String LINE_COLUMN = "line";
+    private static final List<String> SPOOL_COLUMNS = spoolColumns();
+    private static final int MAX_OPEN_SPOOLS = 32;
+    private static final int MAX_NAME_LENGTH = 32;
+    private static final int MAX_REPS = 1000;
+    private static final float MAX_SET_WEIGHT = 1000;
+    private static final float MAX_RPE = 10;
+    private static final double MIN_BODY_WEIGHT = 20;
+    private static final double MAX_BODY_WEIGHT = 500;
+    private static final String TAG_SEPARATOR = ";";
+
+    private final FileHandler fileHandler;
+
+    /**
+     * Outcome of an import.
+     *
+     * @param added      the number of workouts or weights added
+     * @param duplicates the number skipped because one was already saved at the same time or date
+     * @param rejected   the number skipped because of invalid records
+     * @param errorCount the number of invalid records
+     * @param errors     descriptions of the first few invalid records, in file order
+     * @param months     the months that workouts were added to
+     * @param warnings   problems found while reading the saved months, to be shown by the caller
+     */
+    public record Report(int added, int duplicates, int rejected, int errorCount, List<String> errors,
+                         NavigableSet<YearMonth> months, LoadWarnings warnings) {
+    }
+
+    /**
+     * Outcome of a workout export.
+     *
+     * @param workouts the number of workouts written
+     * @param records  the number of records written
+     * @param unended  the number of workouts left out because they have not ended
+     * @param warnings problems found while reading the saved months, to be shown by the caller
+     */
+    public record ExportReport(int workouts, int records, int unended, LoadWarnings warnings) {
+    }
+
+    /**
+     * The workouts of one month after merging in its imported records.
+     */
+    record MonthImport(YearMonth month, ArrayList<Workout> workouts, int added, int duplicates, int rejected,
+                       Problems problems, LoadWarnings warnings) {
+    }
+
+    /**
+     * The workouts of one month read for an export, with the problems found reading it.
+     */
+    private record MonthRead(ArrayList<Workout> workouts, LoadWarnings warnings) {
+    }
+
+    /**
+     * One valid set record.
+     */
+    private record SetRecord(LocalDateTime start, LocalDateTime end, String workout, String exercise, int reps,
+                             float weight, float rpe, Set<String> tags, Set<String> autoTags) {
+    }
+
+    /**
+     * Counts invalid records and keeps the descriptions of the first few by line.
+     */
+    static final class Problems {
+        private final TreeMap<Integer, String> first = new TreeMap<>();
+        private int count = 0;
+
+        void add(int line, String problem) {
+            count++;
+            first.put(line, "Line " + line + ": " + problem);
+            if (first.size() > MAX_REPORTED_ERRORS) {
+                first.pollLastEntry();
+            }
+        }
+
+        void addAll(Problems other) {
+            count += other.count - other.first.size();
+            for (Map.Entry<Integer, String> e : other.first.entrySet()) {
+                count++;
+                first.put(e.getKey(), e.getValue());
+                if (first.size() > MAX_REPORTED_ERRORS) {
+                    first.pollLastEntry();
+                }
+            }
+        }
+
+        int count() {
+            return count;
+        }
+
+        List<String> first() {
+            return new ArrayList<>(first.values());
+        }
+    }
+
+    /**
+     * Constructs a {@code DataTransfer} that reads and saves workouts through the given file handler.
+     *
+     * @param fileHandler the file handler of the saved workouts and weights
+     */
+    public DataTransfer(FileHandler fileHandler) {
+        this.fileHandler = fileHandler;
+    }
+
+    private static List<String> spoolColumns() {
+        List<String> columns = new ArrayList<>(WORKOUT_COLUMNS);
+        columns.add(LINE_COLUMN);
+        return List.copyOf(columns);
+    }
+
+    // ----------------- Workouts -----------------
+
+    /**
+     * Imports the workouts of a CSV or JSON file into the saved months.
+     *
+     * @param source the file to import
+     * @param format the format of the file
+     * @param tagger suggests the auto tags of workouts imported without them
+     * @return what was imported and skipped
+     * @throws IOException if the file cannot be read or is malformed, or saving fails
+     */
+    public Report importWorkouts(Path source, RecordFormat format, Tagger tagger) throws IOException {
+        Path spoolDir = Files.createTempDirectory("fitchasers-import-");
+        try {
+            Problems problems = new Problems();
+            TreeMap<YearMonth, Path> spools = spool(source, format, spoolDir, problems);
+            // Journaled mutations must be on disk before other threads replay them.
+            fileHandler.flushJournal();
+
+            int added = 0;
+            int duplicates = 0;
+            int rejected = 0;
+            NavigableSet<YearMonth> changed = new TreeSet<>();
+            LoadWarnings warnings = new LoadWarnings();
+            ForkJoinPool pool = new ForkJoinPool();
+            try {
+                CompletionService<MonthImport> results = new ExecutorCompletionService<>(pool);
+                Iterator<Map.Entry<YearMonth, Path>> waiting = spools.entrySet().iterator();
+                int running = 0;
+                while (waiting.hasNext() || running > 0) {
+                    // only a few months are read and merged at a time, so memory stays bounded
+                    while (waiting.hasNext() && running < pool.getParallelism()) {
+                        Map.Entry<YearMonth, Path> next = waiting.next();
+                        results.submit(() -> importMonth(next.getKey(), next.getValue(), tagger));
+                        running++;
+                    }
+                    MonthImport result = await(results::take);
+                    running--;
+                    added += result.added();
+                    duplicates += result.duplicates();
+                    rejected += result.rejected();
+                    problems.addAll(result.problems());
+                    warnings.addAll(result.warnings());
+                    if (result.added() > 0) {
+                        fileHandler.saveMonthList(result.month(), result.workouts());
+                        changed.add(result.month());
+                    }
+                }
+            } finally {
+                pool.shutdownNow();
+            }
+            return new Report(added, duplicates, rejected, problems.count(), problems.first(), changed, warnings);
+        } finally {
+            deleteSpools(spoolDir);
+        }
+    }
+
+    /**
+     * Copies each record of the file into the spool file of its month, normalizing its start time
+     * and noting its line. Records without a valid start time are reported and dropped.
+     */
+    private static TreeMap<YearMonth, Path> spool(Path source, RecordFormat format, Path spoolDir,
+                                                 Problems problems) throws IOException {
+        TreeMap<YearMonth, Path> spools = new TreeMap<>();
+        // the least recently written spools are closed first, so a file spanning decades opens few files
+        LinkedHashMap<YearMonth, RecordFormat.RecordWriter> open = new LinkedHashMap<>(16, 0.75f, true);
+        try (RecordFormat.RecordReader records = format.reader(Files.newBufferedReader(source,
+                StandardCharsets.UTF_8))) {
+            Map<String, String> record;
+            while ((record = records.next()) != null) {
+                LocalDateTime start;
+                try {
+                    start = parseDateTime(record.get("start"), "start");
+                } catch (InvalidArgumentInput e) {
+                    problems.add(records.line(), e.getMessage());
+                    continue;
+                }
+                YearMonth month = YearMonth.from(start);
+                RecordFormat.RecordWriter out = open.get(month);
+                if (out == null) {
+                    if (open.size() >= MAX_OPEN_SPOOLS) {
+                        Iterator<RecordFormat.RecordWriter> eldest = open.values().iterator();
+                        eldest.next().close();
+                        eldest.remove();
+                    }
+                    Path file = spools.computeIfAbsent(month, m -> spoolDir.resolve(m + ".csv"));
+                    out = RecordFormat.headerlessCsvWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                            StandardOpenOption.CREATE, StandardOpenOption.APPEND), SPOOL_COLUMNS);
+                    open.put(month, out);
+                }
+                List<Object> row = new ArrayList<>(SPOOL_COLUMNS.size());
+                for (String column : WORKOUT_COLUMNS) {
+                    row.add(column.equals("start") ? start.toString() : record.get(column));
+                }
+                row.add(records.line());
+                out.write(row);
+            }
+        } finally {
+            for (RecordFormat.RecordWriter out : open.values()) {
+                out.close();
+            }
+        }
+        return spools;
+    }
+
+    private MonthImport importMonth(YearMonth month, Path spool, Tagger tagger) throws IOException {
+        ArrayList<Workout> saved;
+        LoadWarnings warnings = new LoadWarnings();
+        try {
+            saved = fileHandler.readMonthUncached(month, warnings);
+        } catch (FileNonexistent e) {
+            saved = new ArrayList<>();
+        }
+        try (RecordFormat.RecordReader records = RecordFormat.headerlessCsvReader(
+                Files.newBufferedReader(spool, StandardCharsets.UTF_8), SPOOL_COLUMNS)) {
+            MonthImport merged = mergeMonth(month, saved, records, tagger);
+            merged.warnings().addAll(warnings);
+            return merged;
+        }
+    }
+
+    /**
+     * Checks the set records of a month and adds the workouts they describe to its saved workouts.
+     *
+     * @param month   the month of the records
+     * @param saved   the saved workouts of the month, which are added to
+     * @param records the records of the month
+     * @param tagger  suggests auto tags for workouts imported without them
+     * @return the merged month and what was skipped
+     * @throws IOException if reading the records fails
+     */
+    static MonthImport mergeMonth(YearMonth month, ArrayList<Workout> saved, RecordFormat.RecordReader records,
+                                  Tagger tagger) throws IOException {
+        Problems problems = new Problems();
+        Map<LocalDateTime, Workout> imported = new LinkedHashMap<>();
+        Set<LocalDateTime> invalid = new HashSet<>();
+        Set<LocalDateTime> untagged = new HashSet<>();
+        Map<String, String> record;
+        while ((record = records.next()) != null) {
+            int line = lineOf(record, records.line());
+            SetRecord set;
+            try {
+                set = parseSet(record);
+            } catch (InvalidArgumentInput e) {
+                problems.add(line, e.getMessage());
+                try {
+                    invalid.add(parseDateTime(record.get("start"), "start"));
+                } catch (InvalidArgumentInput ignored) {
+                    // a record without a start time belongs to no workout
+                }
+                continue;
+            }
+            Workout workout = imported.get(set.start());
+            if (workout == null) {
+                workout = new Workout(set.workout(), set.start(), set.end());
+                workout.setManualTags(set.tags());
+                if (set.autoTags() == null) {
+                    untagged.add(set.start());
+                } else {
+                    workout.setAutoTags(set.autoTags());
+                }
+                imported.put(set.start(), workout);
+            } else if (!workout.getWorkoutName().equals(set.workout())
+                    || !workout.getWorkoutEndDateTime().equals(set.end())) {
+                problems.add(line, "the workout starting at " + set.start()
+                        + " has a different name or end time in an earlier record");
+                invalid.add(set.start());
+                continue;
+            }
+            if (set.exercise() != null) {
+                List<Exercise> exercises = workout.getExercises();
+                Exercise last = exercises.isEmpty() ? null : exercises.get(exercises.size() - 1);
+                if (last != null && last.getName().equals(set.exercise())) {
+                    last.addSet(set.reps(), set.weight(), set.rpe());
+                } else {
+                    workout.addExercise(new Exercise(set.exercise(), set.reps(), set.weight(), set.rpe()));
+                }
+            }
+        }
+
+        Set<LocalDateTime> taken = new HashSet<>();
+        for (Workout w : saved) {
+            taken.add(w.getWorkoutStartDateTime());
+        }
+        int added = 0;
+        int duplicates = 0;
+        for (Map.Entry<LocalDateTime, Workout> e : imported.entrySet()) {
+            if (invalid.contains(e.getKey())) {
+                continue;
+            }
+            if (!taken.add(e.getKey())) {
+                // the start time identifies a workout in the journal and search index, so it must be unique
+                duplicates++;
+            } else {
+                Workout workout = e.getValue();
+                if (untagged.contains(e.getKey())) {
+                    workout.setAutoTags(tagger.suggest(workout));
+                }
+                saved.add(workout);
+                added++;
+            }
+        }
+        return new MonthImport(month, saved, added, duplicates, invalid.size(), problems, new LoadWarnings());
+    }
+
+    private static int lineOf(Map<String, String> record, int fallback) {
+        try {
+            return Integer.parseInt(record.getOrDefault(LINE_COLUMN, ""));
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    private static SetRecord parseSet(Map<String, String> record) throws InvalidArgumentInput {
+        LocalDateTime start = parseDateTime(record.get("start"), "start");
+        String endText = record.get("end");
+        if (endText == null) {
+            throw new InvalidArgumentInput("end is missing; only finished workouts can be imported");
+        }
+        LocalDateTime end = parseDateTime(endText, "end");
+        if (end.isBefore(start)) {
+            throw new InvalidArgumentInput("end " + end + " is before start " + start);
+        }
+        String workout = checkName(record.get("workout"), "workout");
+        String exercise = record.get("exercise");
+        int reps = 0;
+        float weight = SetLog.NONE;
+        float rpe = SetLog.NONE;
+        if (exercise == null) {
+            if (record.containsKey("reps") || record.containsKey("weight") || record.containsKey("rpe")) {
+                throw new InvalidArgumentInput("a set needs an exercise name");
+            }
+        } else {
+            exercise = checkName(exercise, "exercise");
+            reps = parseReps(record.get("reps"));
+            weight = parseOptional(record.get("weight"), "weight", MAX_SET_WEIGHT);
+            rpe = parseOptional(record.get("rpe"), "rpe", MAX_RPE);
+        }
+        Set<String> tags = parseTags(record.get("tags"));
+        Set<String> autoTags = record.containsKey("auto_tags") ? parseTags(record.get("auto_tags")) : null;
+        return new SetRecord(start, end, workout, exercise, reps, weight, rpe, tags, autoTags);
+    }
+
+    private static LocalDateTime parseDateTime(String text, String field) throws InvalidArgumentInput {
+        if (text == null) {
+            throw new InvalidArgumentInput(field + " is missing");
+        }
+        try {
+            return LocalDateTime.parse(text.replace(' ', 'T'));
+        } catch (DateTimeParseException e) {
+            throw new InvalidArgumentInput(field + " \"" + text + "\" is not a date and time like 2025-10-14T18:30");
+        }
+    }
+
+    private static String checkName(String name, String field) throws InvalidArgumentInput {
+        if (name == null) {
+            throw new InvalidArgumentInput(field + " name is missing");
+        }
+        if (name.length() > MAX_NAME_LENGTH) {
+            throw new InvalidArgumentInput(field + " name \"" + name + "\" is longer than " + MAX_NAME_LENGTH
+                    + " characters");
+        }
+        // | and , separate the fields of the journal and the search index
+        for (char c : name.toCharArray()) {
+            if (c == '|' || c == ',' || Character.isISOControl(c)) {
+                throw new InvalidArgumentInput(field + " name \"" + name + "\" may not contain '" + c + "'");
+            }
+        }
+        return name;
+    }
+
+    private static int parseReps(String text) throws InvalidArgumentInput {
+        String problem = "reps must be a whole number between 1 and " + MAX_REPS;
+        if (text == null) {
+            throw new InvalidArgumentInput(problem);
+        }
+        try {
+            int reps = new BigDecimal(text).intValueExact();
+            if (reps < 1 || reps > MAX_REPS) {
+                throw new InvalidArgumentInput(problem);
+            }
+            return reps;
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new InvalidArgumentInput(problem);
+        }
+    }
+
+    private static float parseOptional(String text, String field, float max) throws InvalidArgumentInput {
+        if (text == null) {
+            return SetLog.NONE;
+        }
+        try {
+            float value = Float.parseFloat(text);
+            if (value >= 0 && value <= max) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new InvalidArgumentInput(field + " must be a number between 0 and " + SetLog.formatValue(max));
+    }
+
+    private static Set<String> parseTags(String text) throws InvalidArgumentInput {
+        Set<String> tags = new LinkedHashSet<>();
+        if (text == null) {
+            return tags;
+        }
+        for (String tag : text.split(TAG_SEPARATOR)) {
+            String clean = tag.trim().toLowerCase(Locale.ROOT);
+            if (clean.isEmpty()) {
+                continue;
+            }
+            if (clean.contains(",") || clean.contains("|")) {
+                throw new InvalidArgumentInput("tag \"" + clean + "\" may not contain ',' or '|'");
+            }
+            tags.add(clean);
+        }
+        return tags;
+    }
+
+    /**
+     * Exports every saved workout that has ended, one record per set, oldest month first.
+     * Months are read a few at a time on a fork-join pool, ahead of the one being written.
+     *
+     * @param target the file to write, which is replaced
+     * @param format the format to write
+     * @return how many workouts and records were written
+     * @throws IOException if reading a month or writing the file fails
+     */
+    public ExportReport exportWorkouts(Path target, RecordFormat format) throws IOException {
+        // Journaled mutations must be on disk before other threads replay them.
+        fileHandler.flushJournal();
+        List<YearMonth> months = fileHandler.listSavedMonths();
+        int workouts = 0;
+        int records = 0;
+        int unended = 0;
+        LoadWarnings warnings = new LoadWarnings();
+        ForkJoinPool pool = new ForkJoinPool();
+        try (RecordFormat.RecordWriter out = format.writer(Files.newBufferedWriter(target, StandardCharsets.UTF_8),
+                WORKOUT_COLUMNS)) {
+            ArrayDeque<Future<MonthRead>> ahead = new ArrayDeque<>();
+            Iterator<YearMonth> waiting = months.iterator();
+            while (waiting.hasNext() || !ahead.isEmpty()) {
+                while (waiting.hasNext() && ahead.size() <= pool.getParallelism()) {
+                    YearMonth month = waiting.next();
+                    ahead.add(pool.submit(() -> {
+                        LoadWarnings read = new LoadWarnings();
+                        return new MonthRead(fileHandler.readMonthUncached(month, read), read);
+                    }));
+                }
+                Future<MonthRead> next = ahead.poll();
+                MonthRead loaded = await(() -> next);
+                warnings.addAll(loaded.warnings());
+                for (Workout w : loaded.workouts()) {
+                    if (w.getWorkoutEndDateTime() == null) {
+                        unended++;
+                        continue;
+                    }
+                    records += writeWorkout(w, out);
+                    workouts++;
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return new ExportReport(workouts, records, unended, warnings);
+    }
+
+    private static int writeWorkout(Workout w, RecordFormat.RecordWriter out) throws IOException {
+        String tags = String.join(TAG_SEPARATOR, w.getManualTags());
+        String autoTags = String.join(TAG_SEPARATOR, w.getAutoTags());
+        List<Object> head = Arrays.asList(w.getWorkoutStartDateTime().toString(),
+                w.getWorkoutEndDateTime().toString(), w.getWorkoutName());
+        int records = 0;
+        for (Exercise exercise : w.getExercises()) {
+            SetLog sets = exercise.getSetLog();
+            for (int i = 0; i < sets.size(); i++) {
+                List<Object> row = new ArrayList<>(head);
+                row.addAll(Arrays.asList(exercise.getName(), sets.getReps(i), numberOrNull(sets.getWeight(i)),
+                        numberOrNull(sets.getRpe(i)), tags, autoTags));
+                out.write(row);
+                records++;
+            }
+        }
+        if (records == 0) {
+            List<Object> row = new ArrayList<>(head);
+            row.addAll(Arrays.asList(null, null, null, null, tags, autoTags));
+            out.write(row);
+            records++;
+        }
+        return records;
+    }
+
+    private static BigDecimal numberOrNull(float value) {
+        return Float.isNaN(value) ? null : new BigDecimal(SetLog.formatValue(value));
+    }
+
+    // ----------------- Weights -----------------
+
+    /**
+     * Imports the weight records of a CSV or JSON file into a person's weight history and saves it
+     * once. Dates that already have a weight keep it.
+     *
+     * @param source the file to import
+     * @param format the format of the file
+     * @param person the person whose weight history is added to
+     * @return what was imported and skipped
+     * @throws IOException if the file cannot be read or is malformed, or saving fails
+     */
+    public Report importWeights(Path source, RecordFormat format, Person person) throws IOException {
+        TreeMap<LocalDate, WeightRecord> merged = new TreeMap<>();
+        for (WeightRecord wr : person.getWeightHistory()) {
+            merged.put(wr.getDate(), wr);
+        }
+        Problems problems = new Problems();
+        int added = 0;
+        int duplicates = 0;
+        try (RecordFormat.RecordReader records = format.reader(Files.newBufferedReader(source,
+                StandardCharsets.UTF_8))) {
+            Map<String, String> record;
+            while ((record = records.next()) != null) {
+                try {
+                    LocalDate date = parseDate(record.get("date"));
+                    double weight = parseBodyWeight(record.get("weight"));
+                    if (merged.containsKey(date)) {
+                        duplicates++;
+                    } else {
+                        merged.put(date, new WeightRecord(weight, date));
+                        added++;
+                    }
+                } catch (InvalidArgumentInput e) {
+                    problems.add(records.line(), e.getMessage());
+                }
+            }
+        }
+        if (added > 0) {
+            person.setWeightHistory(new ArrayList<>(merged.values()));
+            fileHandler.saveWeightList(person);
+        }
+        return new Report(added, duplicates, problems.count(), problems.count(), problems.first(), new TreeSet<>(),
+                new LoadWarnings());
+    }
+
+    private static LocalDate parseDate(String text) throws InvalidArgumentInput {
+        if (text == null) {
+            throw new InvalidArgumentInput("date is missing");
+        }
+        try {
+            // a date and time, as exported by some trackers, counts for its day
+            return (text.length() > 10) ? parseDateTime(text, "date").toLocalDate() : LocalDate.parse(text);
+        } catch (DateTimeParseException | InvalidArgumentInput e) {
+            throw new InvalidArgumentInput("date \"" + text + "\" is not a date like 2025-10-14");
+        }
+    }
+
+    private static double parseBodyWeight(String text) throws InvalidArgumentInput {
+        String problem = "weight must be a number between " + (int) MIN_BODY_WEIGHT + " and "
+                + (int) MAX_BODY_WEIGHT + " kg";
+        if (text == null) {
+            throw new InvalidArgumentInput(problem);
+        }
+        try {
+            double weight = Double.parseDouble(text);
+            if (weight >= MIN_BODY_WEIGHT && weight <= MAX_BODY_WEIGHT) {
+                return weight;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new InvalidArgumentInput(problem);
+    }
+
+    /**
+     * Exports a person's weight history, oldest first.
+     *
+     * @param target the file to write, which is replaced
+     * @param format the format to write
+     * @param person the person whose weights are exported
+     * @return the number of records written
+     * @throws IOException if writing fails
+     */
+    public int exportWeights(Path target, RecordFormat format, Person person) throws IOException {
+        List<WeightRecord> history = person.getWeightHistory();
+        try (RecordFormat.RecordWriter out = format.writer(Files.newBufferedWriter(target, StandardCharsets.UTF_8),
+                WEIGHT_COLUMNS)) {
+            for (WeightRecord wr : history) {
+                out.write(List.of(wr.getDate().toString(), BigDecimal.valueOf(wr.getWeight())));
+            }
+        }
+        return history.size();
+    }
+
+    // ----------------- Helpers -----------------
+
+    private interface Wait<T> {
+        T get() throws InterruptedException, ExecutionException;
+    }
+
+    private static <T> T await(Wait<Future<T>> next) throws IOException {
+        try {
+            return next.get().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("The transfer was interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof FileNonexistent) {
+                throw new IOException(cause.getMessage(), cause);
+            }
+            throw new IOException("The transfer failed: " + cause, cause);
+        }
+    }
+
+    private static void deleteSpools(Path spoolDir) {
+        try (var files = Files.list(spoolDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+            Files.deleteIfExists(spoolDir);
+        } catch (IOException e) {
+            // only temporary files are left behind
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package seedu.fitchasers.storage;
+
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.ExerciseLoader;
+import seedu.fitchasers.workouts.SetLog;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+//@@author Kart04
+/**
+ * The unparsed {@code EXERCISES:} section of one workout in a month text file.
+ * <p>
+ * Holds a byte range of the month file's contents, which all workouts of the month share, and
+ * turns the {@code - Name | reps | weight | rpe} lines in it into exercises only when {@link #load()}
+ * is called. The weight and RPE columns are optional.
+ * The rep counts are checked by {@link #isValidSetLine} while the month is read, so a damaged
+ * block is still skipped up front rather than failing when the exercises are first opened.
+ */
+final class ExerciseSection implements ExerciseLoader {
+    private final byte[] data;
+    private final int from;
+    private final int to;
+
+    /**
+     * Constructs a section covering {@code data[from, to)}.
+     *
+     * @param data the contents of the month file; must not be modified afterwards
+     * @param from the offset of the first line after {@code EXERCISES:}
+     * @param to   the offset of the {@code END_WORKOUT} line
+     */
+    ExerciseSection(byte[] data, int from, int to) {
+        assert 0 <= from && from <= to && to <= data.length : "Section out of range";
+        this.data = data;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public int sizeHint() {
+        return to - from;
+    }
+
+    @Override
+    public List<Exercise> load() {
+        List<SetLine> setLines = new ArrayList<>();
+        int lineStart = from;
+        for (int i = from; i <= to; i++) {
+            if (i < to && data[i] != '\n') {
+                continue;
+            }
+            String line = new String(data, lineStart, i - lineStart, StandardCharsets.UTF_8).trim();
+            if (line.startsWith("-")) {
+                setLines.add(parseSetLine(line));
+            }
+            lineStart = i + 1;
+        }
+        return collapse(setLines);
+    }
+
+    /**
+     * Returns whether the rep count of a {@code - Name | reps} line in {@code data[from, to)} is
+     * absent or a valid integer, without decoding the line, and whether the optional weight and RPE
+     * columns that may follow it are blank or valid numbers.
+     *
+     * @param data the file contents
+     * @param from the offset of the line's first non-blank byte, which is {@code '-'}
+     * @param to   the offset just past the line's last non-blank byte
+     * @return {@code true} if {@link #load()} can parse the line
+     */
+    static boolean isValidSetLine(byte[] data, int from, int to) {
+        // "- " is skipped before splitting, so a '|' right after the dash is part of the name
+        int bar = from + 2;
+        while (bar < to && data[bar] != '|') {
+            bar++;
+        }
+        if (bar >= to) {
+            return true;
+        }
+        int columns = bar + 1;
+        while (columns < to && data[columns] != '|') {
+            columns++;
+        }
+        if (columns < to && !areValidColumns(new String(data, columns + 1, to - columns - 1,
+                StandardCharsets.UTF_8))) {
+            return false;
+        }
+        return isValidInt(data, bar + 1, columns);
+    }
+
+    private static boolean isValidInt(byte[] data, int from, int to) {
+        int start = from;
+        int end = to;
+        while (start < end && isBlank(data[start])) {
+            start++;
+        }
+        while (end > start && isBlank(data[end - 1])) {
+            end--;
+        }
+        if (start == end) {
+            return true;
+        }
+        int digitsFrom = (data[start] == '-' || data[start] == '+') ? start + 1 : start;
+        if (digitsFrom == end || end - digitsFrom > 10) {
+            return false;
+        }
+        long value = 0;
+        for (int i = digitsFrom; i < end; i++) {
+            if (data[i] < '0' || data[i] > '9') {
+                return false;
+            }
+            value = value * 10 + (data[i] - '0');
+        }
+        return (data[start] == '-') ? -value >= Integer.MIN_VALUE : value <= Integer.MAX_VALUE;
+    }
+
+    private static boolean areValidColumns(String columns) {
+        String[] values = columns.split("\\|", -1);
+        if (values.length > 2) {
+            return false;
+        }
+        for (String value : values) {
+            if (Float.isNaN(parseColumn(value)) && !value.isBlank()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses a weight or RPE column, returning {@link SetLog#NONE} if it is blank or not a finite number.
+     */
+    private static float parseColumn(String value) {
+        try {
+            float parsed = Float.parseFloat(value.trim());
+            return Float.isFinite(parsed) ? parsed : SetLog.NONE;
+        } catch (NumberFormatException e) {
+            return SetLog.NONE;
+        }
+    }
+
+    private static boolean isBlank(byte b) {
+        // matches String.trim(); UTF-8 continuation bytes are negative and never blank
+        return b >= 0 && b <= ' ';
+    }
+
+    private static SetLine parseSetLine(String line) {
+        // "- Name | 12"
+        String body = line.substring(Math.min(2, line.length())).trim();
+        String[] parts = body.split("\\|", 2);
+        String setName = parts[0].trim();
+        Integer reps = null;
+        float weight = SetLog.NONE;
+        float rpe = SetLog.NONE;
+        if (parts.length == 2) {
+            String[] columns = parts[1].split("\\|", -1);
+            String repStr = columns[0].trim();
+            if (!repStr.isEmpty()) {
+                reps = Integer.parseInt(repStr);
+            }
+            if (columns.length > 1) {
+                weight = parseColumn(columns[1]);
+            }
+            if (columns.length > 2) {
+                rpe = parseColumn(columns[2]);
+            }
+        }
+        return new SetLine(setName, reps, weight, rpe);
+    }
+
+    private static List<Exercise> collapse(List<SetLine> setLines) {
+        // 1) Sort by name (case-insensitive), keeping null/blank names last.
+        setLines.sort(Comparator.comparing((SetLine s) -> s.name() == null ? "" : s.name().toLowerCase()));
+
+        // 2) Collapse rows with same name into one Exercise, adding sets.
+        List<Exercise> exercises = new ArrayList<>();
+        Exercise current = null;
+        String lastName = null;
+
+        for (SetLine s : setLines) {
+            final String exerciseName = (s.name() == null) ? "" : s.name().trim();
+            final int reps = (s.reps() == null) ? 0 : s.reps();
+
+            // skip rows with no exerciseName at all
+            if (exerciseName.isEmpty()) {
+                continue;
+            }
+
+            if (lastName != null && lastName.equalsIgnoreCase(exerciseName)) {
+                current.addSet(reps, s.weight(), s.rpe());
+            } else {
+                current = new Exercise(exerciseName, reps, s.weight(), s.rpe());
+                exercises.add(current);
+                lastName = exerciseName;
+            }
+        }
+        return exercises;
+    }
+
+    private record SetLine(String name, Integer reps, float weight, float rpe) {
+    }
+}
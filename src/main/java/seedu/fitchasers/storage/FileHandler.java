@@ -3,19 +3,23 @@ package seedu.fitchasers.storage;
 import seedu.fitchasers.exceptions.CorruptedDataException;
 import seedu.fitchasers.exceptions.CorruptedFileError;
 import seedu.fitchasers.exceptions.FileNonexistent;
+import seedu.fitchasers.metrics.Metrics;
 import seedu.fitchasers.ui.UI;
 import seedu.fitchasers.user.Person;
 import seedu.fitchasers.user.WeightRecord;
+import seedu.fitchasers.user.WeightSeries;
 import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.SetLog;
 import seedu.fitchasers.workouts.Workout;
 
 import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
@@ -24,10 +28,11 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 //@@author Kart04
 /**
@@ -44,17 +49,80 @@ import java.util.Set;
 public class FileHandler {
 
     public static final Path DATA_DIRECTORY = Paths.get("data");
-    private final Path workoutDir = DATA_DIRECTORY.resolve("workouts");
+    private static final int MONTH_CACHE_ENTRIES = 12;
+    private static final long MONTH_CACHE_BYTES = 8L * 1024 * 1024;
+    private final Path dataDir;
+    private final Path workoutDir;
     private final UI ui = new UI();
-    private final Map<YearMonth, ArrayList<Workout>> arrayByMonth = new HashMap<>();
+    private final WorkoutJournal journal;
+    private final MonthCache monthCache = new MonthCache(MONTH_CACHE_ENTRIES, MONTH_CACHE_BYTES);
+    private final WorkoutIndex workoutIndex;
+    // Kept up to date by the writer thread as it writes months, and read by searches; both hold the disk lock.
+    private final SearchIndex searchIndex;
+    // Set by the writer thread when building the search index fails, and thrown by the next search.
+    private IOException searchIndexFailure = null;
+    private boolean isSearchIndexRequested = false;
     private final Set<YearMonth> onDiskMonths = new HashSet<>();
+    private boolean isBatch = false;
+    // Warnings found on the writer thread, shown by the command thread at its next save or load.
+    private final ConcurrentLinkedQueue<LoadWarnings> writerWarnings = new ConcurrentLinkedQueue<>();
+    // Held by the writer thread while it writes, and by readers of the workout files and their caches.
+    private final ReentrantReadWriteLock diskLock = new ReentrantReadWriteLock();
+    private final WriteBehindQueue writeBehind = new WriteBehindQueue(new WriteBehindQueue.MonthWriter() {
+        @Override
+        public void writeSnapshot(YearMonth month, ArrayList<Workout> snapshot) throws IOException {
+            writeMonthFile(month, snapshot);
+        }
+
+        @Override
+        public void appendRecord(YearMonth month, String record) throws IOException {
+            appendMutationNow(month, record);
+        }
+
+        @Override
+        public void finishMonth(YearMonth month) throws IOException {
+            searchIndex.writeAppended();
+        }
+    }, diskLock.writeLock(), "fitchasers-writer");
+
+    /**
+     * Constructs a file handler that keeps its files in {@link #DATA_DIRECTORY}.
+     */
+    public FileHandler() {
+        this(DATA_DIRECTORY);
+    }
 
     /**
-     * Initialize index for lazy loading
+     * Constructs a file handler that keeps its files in the given directory, e.g. a temporary one in tests.
+     *
+     * @param dataDir the directory holding the weight, goal and user files and the workouts folder
+     */
+    public FileHandler(Path dataDir) {
+        this.dataDir = dataDir;
+        this.workoutDir = dataDir.resolve("workouts");
+        this.journal = new WorkoutJournal(workoutDir);
+        this.workoutIndex = new WorkoutIndex(workoutDir.resolve("index.txt"));
+        this.searchIndex = new SearchIndex(dataDir.resolve(SearchIndex.FILE_NAME));
+    }
+
+    /**
+     * Initialize index for lazy loading.
+     * Months whose files were removed are also dropped from the persistent workout index.
      *
      * @throws IOException if directory or file creation fails
      */
     public void initIndex() throws IOException {
+        LoadWarnings warnings = new LoadWarnings();
+        diskLock.writeLock().lock();
+        try {
+            scanSavedMonths(warnings);
+        } finally {
+            diskLock.writeLock().unlock();
+            warnings.report(ui);
+        }
+    }
+
+    private void scanSavedMonths(LoadWarnings warnings) throws IOException {
         ensureDataDir();
         onDiskMonths.clear();
         try (var stream = Files.list(workoutDir)) {
@@ -66,50 +134,317 @@ public class FileHandler {
                             try {
                                 onDiskMonths.add(YearMonth.parse(ym));
                             } catch (Exception ignore) {
-                                System.out.println("Skipping workout " + name
-                                        + " because file does not conform to standards ");
+                                warnings.message("Skipping workout " + name
+                                        + " because file does not conform to standards");
                             }
                         }
                     });
         }
+        workoutIndex.retainMonths(onDiskMonths);
     }
 
     /**
-     * Returns the mapping of all workouts grouped by month.
+     * Re-scans the workout directory and returns every month that has a save file, oldest first.
+     * Pending writes are flushed first, so every month saved so far has its file.
+     *
+     * @return the saved months in chronological order
+     * @throws IOException if the directory cannot be listed or a pending write fails
+     */
+    public List<YearMonth> listSavedMonths() throws IOException {
+        writeBehind.flush();
+        LoadWarnings warnings = new LoadWarnings();
+        diskLock.writeLock().lock();
+        try {
+            scanSavedMonths(warnings);
+            List<YearMonth> months = new ArrayList<>(onDiskMonths);
+            months.sort(Comparator.naturalOrder());
+            return months;
+        } finally {
+            diskLock.writeLock().unlock();
+            warnings.report(ui);
+        }
+    }
+
+    /**
+     * Returns the months currently held in the month cache.
      *
      * @return A map where each key is a {@code YearMonth} and the value is a list of workouts for that month.
      */
     public Map<YearMonth, ArrayList<Workout>> getArrayByMonth() {
-        return arrayByMonth;
+        diskLock.writeLock().lock();
+        try {
+            return monthCache.snapshot();
+        } finally {
+            diskLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the hit, miss and eviction counters of the month cache.
+     *
+     * @return the current cache statistics
+     */
+    public MonthCache.Stats getMonthCacheStats() {
+        diskLock.writeLock().lock();
+        try {
+            return monthCache.getStats();
+        } finally {
+            diskLock.writeLock().unlock();
+        }
     }
 
     private void ensureDataDir() throws IOException {
-        Files.createDirectories(DATA_DIRECTORY);
+        Files.createDirectories(dataDir);
         Files.createDirectories(workoutDir);
     }
 
     // ----------------- Workout -----------------
     /**
-     * Saves the given month's workout list into a serialized file inside /data/workouts/
+     * Saves the given month's workout list into a file inside /data/workouts/.
+     * <p>
+     * The list is copied and written by a background thread, so this returns without waiting for
+     * the disk. Saves of the same month that are still waiting are merged into one write, and
+     * loading the month returns the saved workouts even before they reach the disk.
+     * Call {@link #flushJournal()} to wait until everything is written.
      *
      * @param month the month of the workout list
      * @param list  the list of workouts to save
-     * @throws IOException if saving fails
+     * @throws IOException if an earlier background write failed
      */
     public void saveMonthList(YearMonth month, ArrayList<Workout> list) throws IOException {
+        ArrayList<Workout> snapshot = new ArrayList<>(list.size());
+        for (Workout w : list) {
+            snapshot.add(w.copy());
+        }
+        reportWriterWarnings();
+        // only queued here; a failed write is reported by the next save or flush
+        ui.showMessage("Saving " + list.size() + " workouts for " + month);
+        writeBehind.submitSnapshot(month, snapshot);
+    }
+
+    private void writeMonthFile(YearMonth month, ArrayList<Workout> list) throws IOException {
         ensureDataDir();
 
         String filename = String.format("workouts_%s.txt", month); // e.g., workouts_2025-10.txt
         Path filePath = workoutDir.resolve(filename);
 
-        try (BufferedWriter bw = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
-            for (Workout w : list) {
-                writeWorkoutBlock(bw, w);
-                bw.newLine();
+        List<WorkoutIndex.Entry> rows = new ArrayList<>(list.size());
+        MonthSummary summary = new MonthSummary(month);
+        StringBuilder sb = new StringBuilder();
+        long offset = 0;
+        for (Workout w : list) {
+            String block = formatWorkoutBlock(w) + System.lineSeparator();
+            rows.add(WorkoutIndex.entryOf(month, w, offset));
+            summary.add(w);
+            sb.append(block);
+            offset += block.getBytes(StandardCharsets.UTF_8).length;
+        }
+        // A crash leaves the previous version of the month in place rather than a truncated file.
+        AtomicFiles.writeChecked(filePath, sb.toString());
+        writeSummary(month, filePath, summary);
+        Path bin = binaryPathFor(month);
+        if (Files.exists(bin)) {
+            MonthBinaryCodec.write(bin, list);
+        }
+        // The snapshot now holds every mutation, so the journal is no longer needed.
+        journal.discard(month);
+        monthCache.invalidate(month);
+        workoutIndex.replaceMonth(month, stampOf(month, filePath), rows);
+        onDiskMonths.add(month);
+        SearchIndex index = searchIndexToUpdate();
+        if (index != null) {
+            List<SearchIndex.Match> matches = new ArrayList<>(rows.size());
+            for (WorkoutIndex.Entry row : rows) {
+                matches.add(SearchIndex.matchOf(row));
+            }
+            index.replaceMonth(month, matches);
+        }
+    }
+
+    private void writeSummary(YearMonth month, Path txt, MonthSummary summary) {
+        try {
+            BasicFileAttributes snapshot = Files.readAttributes(txt, BasicFileAttributes.class);
+            summary.write(summaryPathFor(month), snapshot.lastModifiedTime().toMillis(), snapshot.size());
+        } catch (IOException e) {
+            // The summary is only a cache: a stale one no longer matches the month file and is rebuilt.
+        }
+    }
+
+    private Path summaryPathFor(YearMonth month) {
+        return workoutDir.resolve("workouts_" + month + MonthSummary.EXTENSION);
+    }
+
+    /**
+     * Returns the summaries of every saved month between two months, oldest first.
+     * <p>
+     * Each summary is read from the small summary file kept next to the month file, plus the month's
+     * journal. Only a month whose summary is missing or out of date is parsed, and its summary is
+     * then rewritten.
+     *
+     * @param from the first month to include
+     * @param to   the last month to include
+     * @return the summaries of the months in that range that have a save file
+     * @throws IOException if reading fails
+     */
+    public List<MonthSummary> getMonthSummaries(YearMonth from, YearMonth to) throws IOException {
+        writeBehind.flush();
+        LoadWarnings warnings = new LoadWarnings();
+        diskLock.writeLock().lock();
+        try {
+            List<MonthSummary> summaries = new ArrayList<>();
+            for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+                Path txt = workoutDir.resolve(String.format("workouts_%s.txt", month));
+                if (Files.notExists(txt)) {
+                    continue;
+                }
+                BasicFileAttributes snapshot = Files.readAttributes(txt, BasicFileAttributes.class);
+                MonthSummary summary = MonthSummary.read(summaryPathFor(month), month,
+                        snapshot.lastModifiedTime().toMillis(), snapshot.size());
+                if (summary == null) {
+                    summary = new MonthSummary(month);
+                    for (Workout w : readSnapshot(month, txt, warnings)) {
+                        summary.add(w);
+                    }
+                    writeSummary(month, txt, summary);
+                }
+                journal.replay(month, summary);
+                summaries.add(summary);
+            }
+            return summaries;
+        } finally {
+            diskLock.writeLock().unlock();
+            warnings.report(ui);
+        }
+    }
+
+    /**
+     * Records a single workout mutation in the month's append-only journal instead of
+     * rewriting the whole month file. Once the journal grows past
+     * {@link WorkoutJournal#COMPACT_THRESHOLD} records it is folded into the snapshot.
+     * Like {@link #saveMonthList}, the record is written by a background thread.
+     *
+     * @param month  the month the mutated workout belongs to
+     * @param record the encoded mutation, built with one of the {@link WorkoutJournal} builders
+     * @throws IOException if an earlier background write failed
+     */
+    public void appendMutation(YearMonth month, String record) throws IOException {
+        reportWriterWarnings();
+        if (!isBatch || !foldIntoSnapshot(month, record)) {
+            writeBehind.submitRecord(month, record);
+        }
+    }
+
+    /**
+     * Applies a record to the snapshot of its month queued during a batch, queuing a snapshot of the
+     * month first if this is its first change in the batch.
+     */
+    private boolean foldIntoSnapshot(YearMonth month, String record) throws IOException {
+        if (writeBehind.foldRecord(month, record)) {
+            return true;
+        }
+        ArrayList<Workout> current;
+        LoadWarnings warnings = new LoadWarnings();
+        try {
+            current = readMonthUncached(month, warnings);
+        } catch (FileNonexistent e) {
+            current = new ArrayList<>();
+        }
+        warnings.report(ui);
+        writeBehind.submitSnapshot(month, current);
+        return writeBehind.foldRecord(month, record);
+    }
+
+    /**
+     * Starts a batch of changes, such as a script of commands, that is written by {@link #commitBatch()}
+     * instead of change by change. Each month changed in the batch is then written once as a snapshot,
+     * without journal records, along with its search index changes. Reads during the batch see
+     * every change, and anything that needs the files on disk writes the batch so far first.
+     */
+    public void beginBatch() {
+        isBatch = true;
+        writeBehind.hold();
+    }
+
+    /**
+     * Writes every change made since {@link #beginBatch()} and forces it to disk.
+     *
+     * @throws IOException if writing fails
+     */
+    public void commitBatch() throws IOException {
+        isBatch = false;
+        writeBehind.release();
+        flushJournal();
+    }
+
+    private void appendMutationNow(YearMonth month, String record) throws IOException {
+        ensureDataDir();
+        if (Files.notExists(workoutDir.resolve(String.format("workouts_%s.txt", month)))) {
+            writeMonthFile(month, new ArrayList<>());
+        }
+        int pending = journal.append(month, record);
+        monthCache.invalidate(month);
+        SearchIndex index = searchIndexToUpdate();
+        if (index != null) {
+            WorkoutJournal.index(record, index);
+        }
+        if (pending >= WorkoutJournal.COMPACT_THRESHOLD) {
+            compactJournal(month);
+        }
+    }
+
+    /**
+     * Waits for every pending save and forces all journaled mutations to disk.
+     * Called before the application exits.
+     *
+     * @throws IOException if a pending write or syncing fails
+     */
+    public void flushJournal() throws IOException {
+        writeBehind.flush();
+        diskLock.writeLock().lock();
+        try {
+            journal.flush();
+        } finally {
+            diskLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Registers a JVM shutdown hook that flushes pending saves, so that workouts saved just before
+     * the application is closed without {@code /exit} still reach the disk.
+     */
+    public void flushOnShutdown() {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                flushJournal();
+            } catch (IOException e) {
+                System.err.println("Could not save workouts before shutting down: " + e.getMessage());
             }
+        }, "fitchasers-shutdown-flush"));
+    }
+
+    /**
+     * Folds a month's journal into its snapshot. Runs on the writer thread, so what the read finds is
+     * queued for the command thread instead of shown.
+     */
+    private void compactJournal(YearMonth month) throws IOException {
+        Path txt = workoutDir.resolve(String.format("workouts_%s.txt", month));
+        LoadWarnings warnings = new LoadWarnings();
+        ArrayList<Workout> merged = readSnapshot(month, txt, warnings);
+        journal.replay(month, merged);
+        if (!warnings.isEmpty()) {
+            writerWarnings.add(warnings);
         }
+        writeMonthFile(month, merged);
+    }
 
-        ui.showMessage("Saved " + list.size() + " workouts for " + month);
+    /**
+     * Shows the warnings of reads done on the writer thread since the last call.
+     */
+    private void reportWriterWarnings() {
+        LoadWarnings warnings;
+        while ((warnings = writerWarnings.poll()) != null) {
+            warnings.report(ui);
+        }
     }
 
     /**
@@ -120,27 +455,35 @@ public class FileHandler {
      * @throws IOException If an I/O error occurs while accessing the directory.
      */
     public boolean checkFileExists(YearMonth month) throws IOException {
+        if (writeBehind.isPending(month)) {
+            return true;
+        }
         ensureDataDir();
         Path txt = workoutDir.resolve(String.format("workouts_%s.txt", month));
         return Files.exists(txt);
     }
 
     /**
-     * Loads the given month's workouts from the human-readable text file.
-     * If .txt is absent but legacy .dat exists, migrate once: load .dat, save as .txt, return data.
+     * Loads the given month's workouts, answering from the month cache when the files are unchanged.
+     * The returned list is a fresh copy, but the {@code Workout} objects in it are shared with the cache,
+     * so any change to them must be saved or journaled.
      */
     public ArrayList<Workout> loadMonthList(YearMonth month) throws IOException, FileNonexistent {
         Path txt = workoutDir.resolve(String.format("workouts_%s.txt", month));
+        reportWriterWarnings();
         if (checkFileExists(month)) {
-            return readMonthFromTxt(txt);
+            LoadWarnings warnings = new LoadWarnings();
+            ArrayList<Workout> list = readMonthWithJournal(month, txt, warnings);
+            warnings.report(ui);
+            return list;
         }
 
         throw new FileNonexistent("No save file found for " + month);
     }
 
     /**
-     * Gets the workouts for a specific month from disk.
-     * This bypasses the cache and always reads fresh data from the file.
+     * Gets the workouts for a specific month.
+     * The month cache is only used if the month's files have not changed since they were parsed.
      *
      * @param month the YearMonth to load workouts for
      * @return a fresh ArrayList of workouts for that month
@@ -148,259 +491,495 @@ public class FileHandler {
      * @throws FileNonexistent if no file exists for that month
      */
     public ArrayList<Workout> getWorkoutsForMonth(YearMonth month) throws IOException, FileNonexistent {
-        // Always read directly from file, don't use cache
         Path txt = workoutDir.resolve(String.format("workouts_%s.txt", month));
         if (!checkFileExists(month)) {
             throw new FileNonexistent("No save file found for " + month);
         }
-        return readMonthFromTxt(txt);  // Always fresh from disk
+        LoadWarnings warnings = new LoadWarnings();
+        ArrayList<Workout> list = readMonthWithJournal(month, txt, warnings);
+        warnings.report(ui);
+        return list;
     }
 
-    private void writeWorkoutBlock(BufferedWriter bw, Workout workout) throws IOException {
-        final String name = workout.getWorkoutName();
-        final int duration = workout.getDuration();
-        final LocalDateTime start = workout.getWorkoutStartDateTime();
-        final Set<String> autoTags = workout.getAutoTags();
-        final Set<String> manualTags = workout.getManualTags();
-        String endTime;
-        final List<Exercise> exercises = workout.getExercises();
-        if (workout.getWorkoutEndDateTime() == null) {
-            endTime = "Unended";
+    /**
+     * Reads a month from disk without consulting or filling the month cache, so every call returns
+     * workouts that no one else holds. Safe to call for different months from several threads at once,
+     * provided {@link #flushJournal()} was called first and nothing is saved to those months meanwhile.
+     * Nothing is shown: problems with the files are added to {@code warnings}, for the caller to report
+     * on the command thread.
+     *
+     * @param month    the month to read
+     * @param warnings collects problems found while reading, such as a damaged file
+     * @return the workouts of the month, with journaled mutations applied
+     * @throws IOException     if reading fails
+     * @throws FileNonexistent if no file exists for that month
+     */
+    public ArrayList<Workout> readMonthUncached(YearMonth month, LoadWarnings warnings)
+            throws IOException, FileNonexistent {
+        Path txt = workoutDir.resolve(String.format("workouts_%s.txt", month));
+        diskLock.readLock().lock();
+        try {
+            WriteBehindQueue.Pending pending = writeBehind.pending(month);
+            if (pending == null && Files.notExists(txt)) {
+                throw new FileNonexistent("No save file found for " + month);
+            }
+            return readMonthFromDisk(month, txt, pending, warnings);
+        } finally {
+            diskLock.readLock().unlock();
+        }
+    }
+
+    private ArrayList<Workout> readMonthWithJournal(YearMonth month, Path txt, LoadWarnings warnings)
+            throws IOException {
+        diskLock.writeLock().lock();
+        try {
+            WriteBehindQueue.Pending pending = writeBehind.pending(month);
+            if (pending != null) {
+                // changes still waiting for the writer thread are not on disk, so bypass the cache
+                return readMonthFromDisk(month, txt, pending, warnings);
+            }
+            MonthCache.FileStamp stamp = stampOf(month, txt);
+            ArrayList<Workout> cached = monthCache.get(month, stamp);
+            if (cached != null) {
+                return cached;
+            }
+
+            ArrayList<Workout> list = readMonthFromDisk(month, txt, null, warnings);
+            monthCache.put(month, stamp, list);
+            return list;
+        } finally {
+            diskLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reads a month with its journal applied, followed by the changes still waiting to be written.
+     * The caller must hold the disk lock.
+     */
+    private ArrayList<Workout> readMonthFromDisk(YearMonth month, Path txt, WriteBehindQueue.Pending pending,
+            LoadWarnings warnings) throws IOException {
+        ArrayList<Workout> list;
+        int skipped = 0;
+        if (pending != null && pending.snapshot() != null) {
+            list = pending.snapshot();
+        } else if (Files.exists(txt)) {
+            list = readSnapshot(month, txt, warnings);
+            skipped = journal.replay(month, list);
         } else {
-            endTime = workout.getWorkoutEndDateTime().toString();
+            list = new ArrayList<>();
         }
-        bw.write("WORKOUT");
-        bw.newLine();
-        bw.write("Name: " + name);
-        bw.newLine();
-        bw.write("Start: " + start);
-        bw.newLine();
-        bw.write("End: " + endTime);
-        bw.newLine();
-        bw.write("DurationMin: " + duration);
-        bw.newLine();
-        bw.write("AutoTags: ");
-        for(String tag : autoTags){
-            bw.write(tag);
-            bw.write(',');
+        if (pending != null) {
+            skipped += WorkoutJournal.applyRecords(pending.records(), list);
         }
-        bw.newLine();
-        bw.write("ManualTags: ");
-        for(String tag : manualTags){
-            bw.write(tag);
-            bw.write(',');
+        if (skipped > 0) {
+            warnings.message("Skipped " + skipped + " unreadable journal entries for " + month);
         }
-        bw.newLine();
-        bw.write("EXERCISES:");
-        bw.newLine();
-        for (Exercise exercise : exercises) {
-            for (int i = 0; i < exercise.getSets().size(); i++) {
-                String exerciseName = exercise.getName();
-                bw.write("  - " + exerciseName + " | " + exercise.getSets().get(i));
-                bw.newLine();
-            }
+        return list;
+    }
+
+    private MonthCache.FileStamp stampOf(YearMonth month, Path txt) throws IOException {
+        BasicFileAttributes snapshot = Files.readAttributes(txt, BasicFileAttributes.class);
+        Path journalPath = journal.pathFor(month);
+        long journalModified = -1;
+        long journalSize = -1;
+        if (Files.exists(journalPath)) {
+            BasicFileAttributes log = Files.readAttributes(journalPath, BasicFileAttributes.class);
+            journalModified = log.lastModifiedTime().toMillis();
+            journalSize = log.size();
         }
-        bw.write("END_WORKOUT");
-        bw.newLine();
+        return new MonthCache.FileStamp(snapshot.lastModifiedTime().toMillis(), snapshot.size(),
+                journalModified, journalSize);
     }
 
-    private ArrayList<Workout> readMonthFromTxt(Path txt) throws IOException {
-        ArrayList<Workout> list = new ArrayList<>();
-        try (BufferedReader br = Files.newBufferedReader(txt, StandardCharsets.UTF_8)) {
-            String line;
-            List<String> block = new ArrayList<>();
-            while ((line = br.readLine()) != null) {
-                String trimmed = line.trim();
-                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
-                    continue; // ignore empties/comments
-                }
-                if ("WORKOUT".equals(trimmed)) {
-                    block.clear();
-                }
-                block.add(line);
-                if ("END_WORKOUT".equals(trimmed)) {
-                    Workout w;
-                    try {
-                        w = parseWorkoutBlock(block);
-                    } catch (CorruptedFileError e) {
-                        corruptedFileErrorHandling();
-                        w = null;
-                    }
-                    if (w != null) {
-                        list.add(w);
-                    }
-                    block.clear();
-                }
-            }
+    // ----------------- Workout index -----------------
+
+    /**
+     * Returns a summary of every workout that starts on or between the given dates, oldest first.
+     * Only the persistent workout index is read, except for months whose files changed since they
+     * were last indexed.
+     *
+     * @param from the first day to include
+     * @param to   the last day to include
+     * @return the matching index entries
+     * @throws IOException if reading fails
+     */
+    public List<WorkoutIndex.Entry> findWorkoutsBetween(LocalDate from, LocalDate to) throws IOException {
+        writeBehind.flush();
+        LoadWarnings warnings = new LoadWarnings();
+        diskLock.writeLock().lock();
+        try {
+            refreshIndex(from, to, warnings);
+            return workoutIndex.findBetween(from, to);
+        } finally {
+            diskLock.writeLock().unlock();
+            warnings.report(ui);
         }
-        return list;
     }
 
-    private Workout parseWorkoutBlock(List<String> lines) throws CorruptedFileError {
-        String name = null;
-        LocalDateTime start = null;
-        LocalDateTime end = null;
-        Integer duration = null;
-        Set<String> autoTags = new HashSet<>();
-        Set<String> manualTags = new HashSet<>();
+    /**
+     * Returns a summary of every workout with the given tag that starts on or between the given dates,
+     * oldest first.
+     *
+     * @param tag  the tag to match, case-insensitively
+     * @param from the first day to include
+     * @param to   the last day to include
+     * @return the matching index entries
+     * @throws IOException if reading fails
+     */
+    public List<WorkoutIndex.Entry> findWorkoutsByTag(String tag, LocalDate from, LocalDate to) throws IOException {
+        writeBehind.flush();
+        LoadWarnings warnings = new LoadWarnings();
+        diskLock.writeLock().lock();
+        try {
+            refreshIndex(from, to, warnings);
+            return workoutIndex.findByTagBetween(tag, from, to);
+        } finally {
+            diskLock.writeLock().unlock();
+            warnings.report(ui);
+        }
+    }
 
-        List<SetLine> setLines = new ArrayList<>();
+    /**
+     * Returns consecutive workouts of a month in {@code /view_log} order, newest first, starting at a display ID.
+     * Only the persistent workout index is read, and the month is re-indexed first if its files changed.
+     *
+     * @param month   the month to list
+     * @param firstId display ID of the first workout to return, where the newest workout is 1
+     * @param size    the largest number of workouts to return
+     * @return the page, which is empty if the month has fewer workouts
+     * @throws IOException if reading fails
+     */
+    public WorkoutIndex.Page findWorkoutPage(YearMonth month, int firstId, int size) throws IOException {
+        writeBehind.flush();
+        LoadWarnings warnings = new LoadWarnings();
+        diskLock.writeLock().lock();
+        try {
+            refreshIndex(month.atDay(1), month.atEndOfMonth(), warnings);
+            return workoutIndex.pageOf(month, firstId, size);
+        } finally {
+            diskLock.writeLock().unlock();
+            warnings.report(ui);
+        }
+    }
 
-        boolean inSets = false;
+    /**
+     * Returns the page of workouts after the given one in {@code /view_log} order, continuing into
+     * earlier months once its month runs out.
+     *
+     * @param cursor the last workout shown
+     * @param size   the largest number of workouts to return
+     * @return the next page, or {@code null} if there are no older workouts
+     * @throws IOException if reading fails
+     */
+    public WorkoutIndex.Page findWorkoutsOlderThan(WorkoutIndex.Entry cursor, int size) throws IOException {
+        writeBehind.flush();
+        LoadWarnings warnings = new LoadWarnings();
+        diskLock.writeLock().lock();
+        try {
+            refreshIndex(LocalDate.MIN, cursor.month().atEndOfMonth(), warnings);
+            return workoutIndex.pageOlderThan(cursor, size);
+        } finally {
+            diskLock.writeLock().unlock();
+            warnings.report(ui);
+        }
+    }
 
-        for (String raw : lines) {
-            String line = raw.trim();
-            if (line.equals("WORKOUT") || line.equals("END_WORKOUT")) {
-                continue;
-            }
+    /**
+     * Returns the page of workouts before the given one in {@code /view_log} order, continuing into
+     * later months once its month runs out.
+     *
+     * @param cursor the first workout shown
+     * @param size   the largest number of workouts to return
+     * @return the previous page, or {@code null} if there are no newer workouts
+     * @throws IOException if reading fails
+     */
+    public WorkoutIndex.Page findWorkoutsNewerThan(WorkoutIndex.Entry cursor, int size) throws IOException {
+        writeBehind.flush();
+        LoadWarnings warnings = new LoadWarnings();
+        diskLock.writeLock().lock();
+        try {
+            refreshIndex(cursor.month().atDay(1), LocalDate.MAX, warnings);
+            return workoutIndex.pageNewerThan(cursor, size);
+        } finally {
+            diskLock.writeLock().unlock();
+            warnings.report(ui);
+        }
+    }
 
-            if (line.startsWith("Name:")) {
-                name = line.substring(5).trim();
-                continue;
+    /**
+     * Returns the workouts whose name, exercises or tags contain every word of a query, newest first.
+     * Each word matches the words it is a prefix of, ignoring case.
+     * <p>
+     * The index is kept up to date by the writer thread, so a search waits for pending saves. The first
+     * search also has the writer thread read the index, or build it if there is none yet.
+     *
+     * @param query the words to look for
+     * @return the matching workouts
+     * @throws IOException if a pending write failed, or the index had to be built and reading the saved
+     *                     months failed
+     */
+    public List<SearchIndex.Match> searchWorkouts(String query) throws IOException {
+        if (!isSearchIndexRequested) {
+            isSearchIndexRequested = true;
+            writeBehind.submitTask(this::loadSearchIndex);
+        }
+        writeBehind.flush();
+        reportWriterWarnings();
+        diskLock.writeLock().lock();
+        try {
+            if (searchIndexFailure != null) {
+                IOException error = searchIndexFailure;
+                searchIndexFailure = null;
+                isSearchIndexRequested = false;
+                throw error;
             }
+            return searchIndex.search(query);
+        } finally {
+            diskLock.writeLock().unlock();
+        }
+    }
 
-            if (line.startsWith("Start:")) {
-                String v = line.substring(6).trim();
-                try {
-                    if (!v.isEmpty()) {
-                        start = LocalDateTime.parse(v);
-                    }
-                } catch (Throwable e) {
-                    throw new CorruptedFileError();
+    /**
+     * Reads the search index, or builds it from the workout index if there is no index file yet, which
+     * only parses months changed since they were last indexed. Runs on the writer thread with the disk
+     * lock held, once every queued month has been written.
+     */
+    private void loadSearchIndex() {
+        LoadWarnings warnings = new LoadWarnings();
+        try {
+            if (!searchIndex.isLoaded() && !searchIndex.load()) {
+                refreshIndex(LocalDate.MIN, LocalDate.MAX, warnings);
+                List<SearchIndex.Match> matches = new ArrayList<>();
+                for (WorkoutIndex.Entry e : workoutIndex.findBetween(LocalDate.MIN, LocalDate.MAX)) {
+                    matches.add(SearchIndex.matchOf(e));
                 }
-                continue;
+                searchIndex.rebuild(matches);
             }
+        } catch (IOException e) {
+            searchIndex.unload();
+            searchIndexFailure = e;
+        }
+        if (!warnings.isEmpty()) {
+            writerWarnings.add(warnings);
+        }
+    }
 
-            if (line.startsWith("End:")) {
-                String v = line.substring(4).trim();
-                try {
-                    if (!v.isEmpty()) {
-                        end = LocalDateTime.parse(v);
-                    }
-                } catch (Throwable e) {
-                    if (v.equalsIgnoreCase("unended")) {
-                        end = null;
-                    } else {
-                        throw new CorruptedFileError();
-                    }
-                }
-                continue;
+    /**
+     * Returns the search index for the writer thread to update with a month it writes, reading the index
+     * file first if needed. Returns {@code null} while the index has never been built, as building it
+     * reads the saved months, this write included.
+     */
+    private SearchIndex searchIndexToUpdate() throws IOException {
+        if (!searchIndex.isLoaded()) {
+            if (!searchIndex.hasFile()) {
+                return null;
             }
+            searchIndex.load();
+        }
+        return searchIndex;
+    }
 
-            if (line.startsWith("DurationMin:")) {
-                String durationString = line.substring("DurationMin:".length()).trim();
-                try {
-                    duration = Integer.parseInt(durationString);
-                } catch (NumberFormatException ignore) {
-                    throw new CorruptedFileError();
-                }
+    /**
+     * Re-indexes the months in the given range whose files changed since they were last indexed,
+     * such as months with journaled mutations or files edited outside the application.
+     * The caller must hold the disk lock.
+     */
+    private void refreshIndex(LocalDate from, LocalDate to, LoadWarnings warnings) throws IOException {
+        if (onDiskMonths.isEmpty()) {
+            scanSavedMonths(warnings);
+        }
+        YearMonth first = YearMonth.from(from);
+        YearMonth last = YearMonth.from(to);
+        for (YearMonth month : onDiskMonths) {
+            Path txt = workoutDir.resolve(String.format("workouts_%s.txt", month));
+            if (month.isBefore(first) || month.isAfter(last) || Files.notExists(txt)) {
                 continue;
             }
-
-            if (line.startsWith("AutoTags:")) {
-                autoTags = parseTagList(line.substring("AutoTags:".length()).trim());
+            MonthCache.FileStamp stamp = stampOf(month, txt);
+            if (!workoutIndex.isStale(month, stamp)) {
                 continue;
             }
-
-            if (line.startsWith("ManualTags:")) {
-                manualTags = parseTagList(line.substring("ManualTags:".length()).trim());
-                continue;
+            Map<LocalDateTime, Long> offsets = scanWorkoutOffsets(txt);
+            List<WorkoutIndex.Entry> rows = new ArrayList<>();
+            for (Workout w : readMonthWithJournal(month, txt, warnings)) {
+                long offset = offsets.getOrDefault(w.getWorkoutStartDateTime(), WorkoutIndex.NO_OFFSET);
+                rows.add(WorkoutIndex.entryOf(month, w, offset));
             }
+            workoutIndex.replaceMonth(month, stamp, rows);
+        }
+    }
 
-            if (line.startsWith("EXERCISES:")) {
-                inSets = true;
+    /**
+     * Maps the start time of each workout in a month file to the byte offset of its {@code WORKOUT} line.
+     * Workouts that only exist in the journal are absent from the map.
+     */
+    private static Map<LocalDateTime, Long> scanWorkoutOffsets(Path txt) throws IOException {
+        Map<LocalDateTime, Long> offsets = new HashMap<>();
+        byte[] bytes = Files.readAllBytes(txt);
+        Metrics.addBytesRead(bytes.length);
+        long blockStart = -1;
+        int lineStart = 0;
+        for (int i = 0; i <= bytes.length; i++) {
+            if (i < bytes.length && bytes[i] != '\n') {
                 continue;
             }
-
-            if (inSets && line.startsWith("-")) {
-                // "- Name | 12"
-                String body = line.substring(2).trim();
-                String[] parts = body.split("\\|", 2);
-                String setName = parts[0].trim();
-                Integer reps = null;
-                if (parts.length == 2) {
-                    String repStr = parts[1].trim();
-                    if (!repStr.isEmpty()) {
-                        try {
-                            reps = Integer.parseInt(repStr);
-                        } catch (NumberFormatException e) {
-                            throw new CorruptedFileError();
-                        }
-                    }
+            String line = new String(bytes, lineStart, i - lineStart, StandardCharsets.UTF_8).trim();
+            if (line.equals("WORKOUT")) {
+                blockStart = lineStart;
+            } else if (line.startsWith("Start:") && blockStart >= 0) {
+                try {
+                    offsets.put(LocalDateTime.parse(line.substring(6).trim()), blockStart);
+                } catch (DateTimeParseException ignore) {
+                    // the block is skipped when the month is parsed, so it has no offset either
                 }
-                setLines.add(new SetLine(setName, reps));
+                blockStart = -1;
             }
+            lineStart = i + 1;
         }
+        return offsets;
+    }
 
-        // Instantiate Workout with parsed values.
-        Workout w = new Workout(name, start, end); // e.g., ctor computes duration
-        w.setAutoTags(autoTags);
-        w.setManualTags(manualTags);
-
-        if (duration != null && duration >= 0 && w.getDuration() != duration) {
-            // Don’t fail hard; just warn or normalize if you prefer
-            ui.showError("Duration mismatch for workout \"" + name + "\": file=" + duration
-                    + " computed=" + w.getDuration());
+    /**
+     * Converts a month's text file into the binary format. Once a binary copy exists it is
+     * kept up to date by {@link #saveMonthList} and preferred when loading.
+     *
+     * @param month the month to convert
+     * @throws IOException     if reading or writing fails
+     * @throws FileNonexistent if no text file exists for that month
+     */
+    public void convertMonthToBinary(YearMonth month) throws IOException, FileNonexistent {
+        writeBehind.flush();
+        if (!checkFileExists(month)) {
+            throw new FileNonexistent("No save file found for " + month);
         }
-        // Add sets
-        // 1) Sort by name (case-insensitive), keeping null/blank names last.
-        setLines.sort(Comparator.comparing((SetLine s) -> s.name() == null ? "" : s.name().toLowerCase()));
-
-        // 2) Collapse rows with same name into one Exercise, adding sets.
-        Exercise current = null;
-        String lastName = null;
-
-        for (SetLine s : setLines) {
-            final String exerciseName = (s.name() == null) ? "" : s.name().trim();
-            final int reps = (s.reps() == null) ? 0 : s.reps();
+        Path txt = workoutDir.resolve(String.format("workouts_%s.txt", month));
+        LoadWarnings warnings = new LoadWarnings();
+        diskLock.writeLock().lock();
+        try {
+            MonthBinaryCodec.write(binaryPathFor(month), readMonthFromTxt(txt, warnings));
+        } finally {
+            diskLock.writeLock().unlock();
+            warnings.report(ui);
+        }
+    }
 
-            // skip rows with no exerciseName at all (optional; remove if you want empty-exerciseName exercises)
-            if (exerciseName.isEmpty()){
-                continue;
+    /**
+     * Rewrites a month's text file from its binary copy and journal, and removes the binary copy.
+     *
+     * @param month the month to convert
+     * @throws IOException        if reading or writing fails
+     * @throws FileNonexistent    if no binary file exists for that month
+     * @throws CorruptedFileError if the binary file cannot be decoded
+     */
+    public void convertMonthToText(YearMonth month) throws IOException, FileNonexistent, CorruptedFileError {
+        writeBehind.flush();
+        Path bin = binaryPathFor(month);
+        ArrayList<Workout> list;
+        LoadWarnings warnings = new LoadWarnings();
+        diskLock.writeLock().lock();
+        try {
+            if (Files.notExists(bin)) {
+                throw new FileNonexistent("No binary save file found for " + month);
             }
-
-            if (lastName != null && lastName.equalsIgnoreCase(exerciseName)) {
-                current.addSet(reps);
-            } else {
-                // new exercise exerciseName → flush previous, start new
-                if (current != null) {
-                    w.addExercise(current);
-                }
-                current = new Exercise(exerciseName, reps);
-                lastName = exerciseName;
+            list = MonthBinaryCodec.read(bin);
+            // the save below discards the journal, so its records must be in the list first
+            int skipped = journal.replay(month, list);
+            if (skipped > 0) {
+                warnings.message("Skipped " + skipped + " unreadable journal entries for " + month);
             }
+            Files.delete(bin);
+        } finally {
+            diskLock.writeLock().unlock();
+            warnings.report(ui);
         }
-        // 3) Flush the last one
-        if (current != null) {
-            w.addExercise(current);
-        }
+        saveMonthList(month, list);
+    }
 
-        return w;
+    private Path binaryPathFor(YearMonth month) {
+        return workoutDir.resolve("workouts_" + month + MonthBinaryCodec.EXTENSION);
     }
 
-    private Set<String> parseTagList(String raw) {
-        Set<String> out = new LinkedHashSet<>();
-        if (raw == null || raw.isEmpty()) {
-            return out;
-        }
-        for (String part : raw.split(",")) {
-            String t = part.trim();
-            if (!t.isEmpty()) {
-                out.add(t);
+    /**
+     * Reads the month snapshot, preferring the binary copy when it is at least as new as the text file.
+     */
+    private ArrayList<Workout> readSnapshot(YearMonth month, Path txt, LoadWarnings warnings) throws IOException {
+        Path bin = binaryPathFor(month);
+        if (Files.exists(bin)
+                && Files.getLastModifiedTime(bin).compareTo(Files.getLastModifiedTime(txt)) >= 0) {
+            try {
+                return MonthBinaryCodec.read(bin);
+            } catch (CorruptedFileError e) {
+                warnings.message("Binary save for " + month + " is unreadable. Loading the text file instead.");
             }
         }
-        return out;
+        return readMonthFromTxt(txt, warnings);
     }
 
-    private record SetLine(String name, Integer reps) {
+    private String formatWorkoutBlock(Workout workout) {
+        final String name = workout.getWorkoutName();
+        final int duration = workout.getDuration();
+        final LocalDateTime start = workout.getWorkoutStartDateTime();
+        final Set<String> autoTags = workout.getAutoTags();
+        final Set<String> manualTags = workout.getManualTags();
+        final String newLine = System.lineSeparator();
+        String endTime;
+        final List<Exercise> exercises = workout.getExercises();
+        if (workout.getWorkoutEndDateTime() == null) {
+            endTime = "Unended";
+        } else {
+            endTime = workout.getWorkoutEndDateTime().toString();
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("WORKOUT").append(newLine);
+        sb.append("Name: ").append(name).append(newLine);
+        sb.append("Start: ").append(start).append(newLine);
+        sb.append("End: ").append(endTime).append(newLine);
+        sb.append("DurationMin: ").append(duration).append(newLine);
+        sb.append("AutoTags: ");
+        for(String tag : autoTags){
+            sb.append(tag).append(',');
+        }
+        sb.append(newLine);
+        sb.append("ManualTags: ");
+        for(String tag : manualTags){
+            sb.append(tag).append(',');
+        }
+        sb.append(newLine);
+        sb.append("EXERCISES:").append(newLine);
+        for (Exercise exercise : exercises) {
+            String exerciseName = exercise.getName();
+            SetLog sets = exercise.getSetLog();
+            for (int i = 0; i < sets.size(); i++) {
+                sb.append("  - ").append(exerciseName).append(" | ").append(sets.getReps(i));
+                float weight = sets.getWeight(i);
+                float rpe = sets.getRpe(i);
+                if (!Float.isNaN(weight) || !Float.isNaN(rpe)) {
+                    // "- Name | reps | weight | rpe", leaving a missing column blank
+                    sb.append(" | ").append(Float.isNaN(weight) ? "" : SetLog.formatValue(weight));
+                    sb.append(" | ").append(Float.isNaN(rpe) ? "" : SetLog.formatValue(rpe));
+                }
+                sb.append(newLine);
+            }
+        }
+        sb.append("END_WORKOUT").append(newLine);
+        return sb.toString();
     }
 
-
     /**
-     * Ask the user to input a valid End date-time and return it.
+     * Reads a month text file, parsing only the workout headers.
+     * <p>
+     * The {@code EXERCISES:} section of each workout is kept as a byte range of the file and parsed the
+     * first time the workout's exercises are accessed, so listing a month does not build every set.
      */
-    private void corruptedFileErrorHandling() {
-        ui.showMessage("Invalid End date/time found in file. Skipping workout");
+    private ArrayList<Workout> readMonthFromTxt(Path txt, LoadWarnings warnings) throws IOException {
+        byte[] bytes = Files.readAllBytes(txt);
+        Metrics.addBytesRead(bytes.length);
+        Metrics.countMonthParsed();
+        if (AtomicFiles.verify(bytes) == AtomicFiles.Integrity.DAMAGED) {
+            warnings.error(txt.getFileName() + " does not match its checksum, so it was edited or damaged "
+                    + "outside FitChasers. Loading every workout that can still be read.");
+        }
+        return MonthTextParser.parse(bytes, AtomicFiles.contentLength(bytes), warnings);
     }
 
     /**
@@ -411,16 +990,19 @@ public class FileHandler {
      */
     public void loadWeightList(Person person) throws IOException, CorruptedDataException {
         ensureDataDir();
-        Path filePath = DATA_DIRECTORY.resolve("weight.txt");
+        Path filePath = dataDir.resolve("weight.txt");
         if (Files.notExists(filePath)) {
             return;
         }
 
-        List<WeightRecord> list = new ArrayList<>();
-        Set<LocalDate> seenDates = new HashSet<>();
+        WeightSeries series = new WeightSeries();
         int lineNumber = 0;
 
-        try (BufferedReader reader = Files.newBufferedReader(filePath)) {
+        AtomicFiles.Checked checked = AtomicFiles.readChecked(filePath);
+        if (checked.integrity() == AtomicFiles.Integrity.DAMAGED) {
+            ui.showError("weight.txt does not match its checksum, so it was edited or damaged outside FitChasers.");
+        }
+        try (BufferedReader reader = new BufferedReader(new StringReader(checked.text()))) {
             String line;
             while ((line = reader.readLine()) != null) {
                 lineNumber++;
@@ -442,11 +1024,6 @@ public class FileHandler {
                             + ": Invalid date format. Use YYYY-MM-DD.");
                 }
 
-                if (!seenDates.add(date)) {
-                    throw new CorruptedDataException("Error in weight.txt: Duplicate date '"
-                            + date + "' found. Only one weight entry per day is allowed.");
-                }
-
                 double weight;
                 try {
                     weight = Double.parseDouble(parts[1].trim());
@@ -460,10 +1037,13 @@ public class FileHandler {
                             + ": Weight " + weight + " is outside the valid range (20-500 kg).");
                 }
 
-                list.add(new WeightRecord(weight, date));
+                if (!series.put(date, weight)) {
+                    throw new CorruptedDataException("Error in weight.txt: Duplicate date '"
+                            + date + "' found. Only one weight entry per day is allowed.");
+                }
             }
         }
-        person.setWeightHistory(list);
+        person.setWeightSeries(series);
     }
 
     // ----------------- Goal -----------------
@@ -477,10 +1057,8 @@ public class FileHandler {
      */
     public void saveGoal(double goalWeight, LocalDate setDate) throws IOException {
         ensureDataDir();
-        Path filePath = DATA_DIRECTORY.resolve("goal.txt");
-        try (BufferedWriter writer = Files.newBufferedWriter(filePath)) {
-            writer.write(goalWeight + "," + setDate);
-        }
+        Path filePath = dataDir.resolve("goal.txt");
+        AtomicFiles.writeChecked(filePath, goalWeight + "," + setDate + System.lineSeparator());
     }
 
     // ----------------- Weight -----------------
@@ -493,13 +1071,12 @@ public class FileHandler {
      */
     public void saveWeightList(Person person) throws IOException {
         ensureDataDir();
-        Path filePath = DATA_DIRECTORY.resolve("weight.txt");
-        try (BufferedWriter writer = Files.newBufferedWriter(filePath)) {
-            for (WeightRecord wr : person.getWeightHistory()) {
-                writer.write(wr.getDate() + "," + wr.getWeight());
-                writer.newLine();
-            }
+        Path filePath = dataDir.resolve("weight.txt");
+        StringBuilder sb = new StringBuilder();
+        for (WeightRecord wr : person.getWeightHistory()) {
+            sb.append(wr.getDate()).append(',').append(wr.getWeight()).append(System.lineSeparator());
         }
+        AtomicFiles.writeChecked(filePath, sb.toString());
     }
 
     /**
@@ -510,12 +1087,16 @@ public class FileHandler {
      */
     public Double[] loadGoal() throws IOException {
         ensureDataDir();
-        Path filePath = DATA_DIRECTORY.resolve("goal.txt");
+        Path filePath = dataDir.resolve("goal.txt");
         if (Files.notExists(filePath)) {
             return null;
         }
 
-        try (BufferedReader reader = Files.newBufferedReader(filePath)) {
+        AtomicFiles.Checked checked = AtomicFiles.readChecked(filePath);
+        if (checked.integrity() == AtomicFiles.Integrity.DAMAGED) {
+            ui.showError("goal.txt does not match its checksum, so it was edited or damaged outside FitChasers.");
+        }
+        try (BufferedReader reader = new BufferedReader(new StringReader(checked.text()))) {
             String[] parts = reader.readLine().split(",");
             double goal = Double.parseDouble(parts[0]);
             long epochDay = LocalDate.parse(parts[1]).toEpochDay();
@@ -536,8 +1117,8 @@ public class FileHandler {
      */
     public void saveUserName(Person person) throws IOException {
         ensureDataDir();
-        Path filePath = DATA_DIRECTORY.resolve("username.txt");
-        Files.writeString(filePath, person.getName());
+        Path filePath = dataDir.resolve("username.txt");
+        AtomicFiles.write(filePath, person.getName().getBytes(StandardCharsets.UTF_8));
     }
 
     /**
@@ -551,8 +1132,8 @@ public class FileHandler {
      */
     public void saveCreationMonth(YearMonth yearMonth) throws IOException {
         ensureDataDir();
-        Path filePath = DATA_DIRECTORY.resolve("creationDate.txt");
-        Files.writeString(filePath, yearMonth.toString());
+        Path filePath = dataDir.resolve("creationDate.txt");
+        AtomicFiles.write(filePath, yearMonth.toString().getBytes(StandardCharsets.UTF_8));
     }
 
     /**
@@ -567,7 +1148,7 @@ public class FileHandler {
      */
     public YearMonth getCreationMonth() throws IOException {
         ensureDataDir();
-        Path filePath = DATA_DIRECTORY.resolve("creationDate.txt");
+        Path filePath = dataDir.resolve("creationDate.txt");
         if (Files.notExists(filePath)) {
             ui.showError("Creation File Not Found!! Using Today's Date as Creation Date. \n" +
                     "This means you may not be able to add workout before today!");
@@ -594,7 +1175,7 @@ public class FileHandler {
      */
     public String loadUserName() throws IOException {
         ensureDataDir();
-        Path filePath = DATA_DIRECTORY.resolve("username.txt");
+        Path filePath = dataDir.resolve("username.txt");
         if (Files.notExists(filePath)) {
             return null;
         }
@@ -0,0 +1,68 @@
+package seedu.fitchasers.storage;
+
+import seedu.fitchasers.ui.UI;
+
+import java.util.ArrayList;
+import java.util.List;
+
+//@@author Kart04
+/**
+ * Problems found while reading saved workouts, such as a damaged month file, kept to be shown later.
+ * <p>
+ * Months are also read on worker threads and on the writer thread, which must not touch the console,
+ * so readers add what they find here and the command thread shows it with {@link #report}. Each read
+ * collects into its own instance, which is handed to the command thread with the workouts it read.
+ */
+public class LoadWarnings {
+    private final List<Warning> warnings = new ArrayList<>();
+
+    private record Warning(String text, boolean isError) {
+    }
+
+    void message(String text) {
+        warnings.add(new Warning(text, false));
+    }
+
+    void error(String text) {
+        warnings.add(new Warning(text, true));
+    }
+
+    /**
+     * Adds the warnings of another read after these.
+     */
+    public void addAll(LoadWarnings other) {
+        warnings.addAll(other.warnings);
+    }
+
+    public boolean isEmpty() {
+        return warnings.isEmpty();
+    }
+
+    /**
+     * Returns the texts of the warnings collected so far, for tests.
+     */
+    List<String> texts() {
+        List<String> texts = new ArrayList<>(warnings.size());
+        for (Warning warning : warnings) {
+            texts.add(warning.text());
+        }
+        return texts;
+    }
+
+    /**
+     * Shows the warnings collected so far, in the order they were found, and forgets them.
+     * Must be called on the command thread.
+     *
+     * @param ui the UI to show them on
+     */
+    public void report(UI ui) {
+        for (Warning warning : warnings) {
+            if (warning.isError()) {
+                ui.showError(warning.text());
+            } else {
+                ui.showMessage(warning.text());
+            }
+        }
+        warnings.clear();
+    }
+}
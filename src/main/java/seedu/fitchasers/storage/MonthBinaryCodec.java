@@ -0,0 +1,335 @@
+package seedu.fitchasers.storage;
+
+import seedu.fitchasers.exceptions.CorruptedFileError;
+import seedu.fitchasers.metrics.Metrics;
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.SetLog;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+//@@author Kart04
+/**
+ * Reads and writes the versioned binary month format ({@code workouts_YYYY-MM.bin}).
+ * <p>
+ * The file stores every workout column by column so a month can be decoded with a handful of
+ * bulk reads from one buffer instead of parsing text line by line:
+ * <pre>
+ *   int    magic "FCWB", short version
+ *   int    dictionary size, then each string as (short length, UTF-8 bytes)
+ *   int    workout count N
+ *   int[N] start, int[N] end        epoch minutes (UTC), NO_TIME when absent
+ *   int[N] duration, int[N] name    duration in minutes, name as dictionary id
+ *   int[N] auto tag count, int[N] manual tag count, then all tag ids
+ *   int[N] exercise count, then (name id, set count) per exercise
+ *   byte per exercise               column flags: 1 = weights, 2 = RPEs (version 2)
+ *   float[] weights, then RPEs, of each flagged exercise, one per set (version 2)
+ *   short[] reps of every set, in exercise order
+ * </pre>
+ * Workout names, exercise names and tags share one interned dictionary. Version 1 files, which
+ * have no weight or RPE columns, can still be read.
+ */
+public final class MonthBinaryCodec {
+    public static final String EXTENSION = ".bin";
+    static final int MAGIC = 0x46435742;
+    static final short VERSION = 2;
+    private static final short OLDEST_READABLE_VERSION = 1;
+    private static final byte HAS_WEIGHTS = 1;
+    private static final byte HAS_RPES = 2;
+    private static final int NO_TIME = Integer.MIN_VALUE;
+
+    private MonthBinaryCodec() {
+    }
+
+    /**
+     * Atomically writes the given workouts to a binary month file, replacing any existing content.
+     *
+     * @param path     the file to write
+     * @param workouts the workouts of the month
+     * @throws IOException if writing fails
+     */
+    public static void write(Path path, List<Workout> workouts) throws IOException {
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> dictionary = new ArrayList<>();
+        int n = workouts.size();
+        int[] nameIds = new int[n];
+        List<int[]> autoTagIds = new ArrayList<>(n);
+        List<int[]> manualTagIds = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            Workout w = workouts.get(i);
+            nameIds[i] = intern(w.getWorkoutName(), ids, dictionary);
+            autoTagIds.add(internAll(w.getAutoTags(), ids, dictionary));
+            manualTagIds.add(internAll(w.getManualTags(), ids, dictionary));
+            for (Exercise e : w.getExercises()) {
+                intern(e.getName(), ids, dictionary);
+            }
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+
+            out.writeInt(dictionary.size());
+            for (String entry : dictionary) {
+                byte[] bytes = entry.getBytes(StandardCharsets.UTF_8);
+                out.writeShort(bytes.length);
+                out.write(bytes);
+            }
+
+            out.writeInt(n);
+            for (Workout w : workouts) {
+                out.writeInt(toEpochMinutes(w.getWorkoutStartDateTime()));
+            }
+            for (Workout w : workouts) {
+                out.writeInt(toEpochMinutes(w.getWorkoutEndDateTime()));
+            }
+            for (Workout w : workouts) {
+                out.writeInt(w.getDuration());
+            }
+            for (int nameId : nameIds) {
+                out.writeInt(nameId);
+            }
+            for (int[] tags : autoTagIds) {
+                out.writeInt(tags.length);
+            }
+            for (int[] tags : manualTagIds) {
+                out.writeInt(tags.length);
+            }
+            writeFlattened(out, autoTagIds);
+            writeFlattened(out, manualTagIds);
+
+            for (Workout w : workouts) {
+                out.writeInt(w.getExercises().size());
+            }
+            for (Workout w : workouts) {
+                for (Exercise e : w.getExercises()) {
+                    out.writeInt(intern(e.getName(), ids, dictionary));
+                    out.writeInt(e.getNumSets());
+                }
+            }
+            for (Workout w : workouts) {
+                for (Exercise e : w.getExercises()) {
+                    SetLog sets = e.getSetLog();
+                    out.writeByte((sets.hasWeights() ? HAS_WEIGHTS : 0) | (sets.hasRpe() ? HAS_RPES : 0));
+                }
+            }
+            for (Workout w : workouts) {
+                for (Exercise e : w.getExercises()) {
+                    SetLog sets = e.getSetLog();
+                    for (int i = 0; sets.hasWeights() && i < sets.size(); i++) {
+                        out.writeFloat(sets.getWeight(i));
+                    }
+                    for (int i = 0; sets.hasRpe() && i < sets.size(); i++) {
+                        out.writeFloat(sets.getRpe(i));
+                    }
+                }
+            }
+            for (Workout w : workouts) {
+                for (Exercise e : w.getExercises()) {
+                    SetLog sets = e.getSetLog();
+                    for (int i = 0; i < sets.size(); i++) {
+                        out.writeShort(sets.getReps(i));
+                    }
+                }
+            }
+        }
+        AtomicFiles.write(path, buffer.toByteArray());
+    }
+
+    /**
+     * Reads a binary month file with a single bulk read from its {@code FileChannel}.
+     * <p>
+     * The file is deliberately not memory-mapped: on Windows a live mapping blocks the file from being
+     * rewritten by the next save until the buffer is garbage collected.
+     *
+     * @param path the file to read
+     * @return the decoded workouts, in the order they were written
+     * @throws IOException        if reading fails
+     * @throws CorruptedFileError if the file is not a supported binary month file
+     */
+    public static ArrayList<Workout> read(Path path) throws IOException, CorruptedFileError {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buf = ByteBuffer.allocate((int) channel.size());
+            while (buf.hasRemaining() && channel.read(buf) >= 0) {
+                // keep reading until the whole file is buffered
+            }
+            buf.flip();
+            Metrics.addBytesRead(buf.limit());
+            Metrics.countMonthParsed();
+            return decode(buf);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+                | NegativeArraySizeException e) {
+            throw new CorruptedFileError();
+        }
+    }
+
+    private static ArrayList<Workout> decode(ByteBuffer buf) throws CorruptedFileError {
+        if (buf.getInt() != MAGIC) {
+            throw new CorruptedFileError();
+        }
+        short version = buf.getShort();
+        if (version < OLDEST_READABLE_VERSION || version > VERSION) {
+            throw new CorruptedFileError();
+        }
+
+        String[] dictionary = new String[buf.getInt()];
+        for (int i = 0; i < dictionary.length; i++) {
+            byte[] bytes = new byte[buf.getShort()];
+            buf.get(bytes);
+            dictionary[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        int n = buf.getInt();
+        int[] starts = readInts(buf, n);
+        int[] ends = readInts(buf, n);
+        int[] durations = readInts(buf, n);
+        int[] names = readInts(buf, n);
+        int[] autoCounts = readInts(buf, n);
+        int[] manualCounts = readInts(buf, n);
+
+        ArrayList<Workout> workouts = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            Workout w = new Workout(dictionary[names[i]], fromEpochMinutes(starts[i]), fromEpochMinutes(ends[i]));
+            w.setDuration(durations[i]);
+            workouts.add(w);
+        }
+        for (int i = 0; i < n; i++) {
+            workouts.get(i).setAutoTags(readTags(buf, autoCounts[i], dictionary));
+        }
+        for (int i = 0; i < n; i++) {
+            workouts.get(i).setManualTags(readTags(buf, manualCounts[i], dictionary));
+        }
+
+        int[] exerciseCounts = readInts(buf, n);
+        int totalExercises = 0;
+        for (int count : exerciseCounts) {
+            totalExercises += count;
+        }
+        int[] exerciseShape = readInts(buf, totalExercises * 2);
+        float[][] weights = new float[totalExercises][];
+        float[][] rpes = new float[totalExercises][];
+        if (version >= 2) {
+            readColumns(buf, exerciseShape, weights, rpes);
+        }
+
+        int shapeIndex = 0;
+        int exerciseIndex = 0;
+        for (int i = 0; i < n; i++) {
+            for (int e = 0; e < exerciseCounts[i]; e++) {
+                String name = dictionary[exerciseShape[shapeIndex++]];
+                int sets = exerciseShape[shapeIndex++];
+                if (sets < 1) {
+                    throw new CorruptedFileError();
+                }
+                float[] weight = weights[exerciseIndex];
+                float[] rpe = rpes[exerciseIndex];
+                exerciseIndex++;
+                Exercise exercise = new Exercise(name, buf.getShort(), columnValue(weight, 0), columnValue(rpe, 0));
+                for (int s = 1; s < sets; s++) {
+                    exercise.addSet(buf.getShort(), columnValue(weight, s), columnValue(rpe, s));
+                }
+                workouts.get(i).addExercise(exercise);
+            }
+        }
+        return workouts;
+    }
+
+    private static void readColumns(ByteBuffer buf, int[] exerciseShape, float[][] weights, float[][] rpes) {
+        byte[] flags = new byte[weights.length];
+        buf.get(flags);
+        for (int e = 0; e < flags.length; e++) {
+            int sets = exerciseShape[e * 2 + 1];
+            if ((flags[e] & HAS_WEIGHTS) != 0) {
+                weights[e] = readFloats(buf, sets);
+            }
+            if ((flags[e] & HAS_RPES) != 0) {
+                rpes[e] = readFloats(buf, sets);
+            }
+        }
+    }
+
+    private static float[] readFloats(ByteBuffer buf, int count) {
+        float[] out = new float[count];
+        buf.asFloatBuffer().get(out);
+        buf.position(buf.position() + count * Float.BYTES);
+        return out;
+    }
+
+    private static float columnValue(float[] column, int index) {
+        return (column == null) ? SetLog.NONE : column[index];
+    }
+
+    private static int intern(String value, Map<String, Integer> ids, List<String> dictionary) {
+        String key = (value == null) ? "" : value;
+        Integer id = ids.get(key);
+        if (id == null) {
+            id = dictionary.size();
+            ids.put(key, id);
+            dictionary.add(key);
+        }
+        return id;
+    }
+
+    private static int[] internAll(Set<String> values, Map<String, Integer> ids, List<String> dictionary) {
+        int[] out = new int[values.size()];
+        int i = 0;
+        for (String value : values) {
+            out[i++] = intern(value, ids, dictionary);
+        }
+        return out;
+    }
+
+    private static void writeFlattened(DataOutputStream out, List<int[]> columns) throws IOException {
+        for (int[] column : columns) {
+            for (int value : column) {
+                out.writeInt(value);
+            }
+        }
+    }
+
+    private static int[] readInts(ByteBuffer buf, int count) {
+        int[] out = new int[count];
+        buf.asIntBuffer().get(out);
+        buf.position(buf.position() + count * Integer.BYTES);
+        return out;
+    }
+
+    private static Set<String> readTags(ByteBuffer buf, int count, String[] dictionary) {
+        Set<String> tags = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            tags.add(dictionary[buf.getInt()]);
+        }
+        return tags;
+    }
+
+    private static int toEpochMinutes(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NO_TIME;
+        }
+        return (int) (dateTime.toEpochSecond(ZoneOffset.UTC) / 60);
+    }
+
+    private static LocalDateTime fromEpochMinutes(int minutes) {
+        if (minutes == NO_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(minutes * 60L, 0, ZoneOffset.UTC);
+    }
+}
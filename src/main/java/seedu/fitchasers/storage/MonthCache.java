@@ -0,0 +1,171 @@
+package seedu.fitchasers.storage;
+
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.Workout;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+//@@author Kart04
+/**
+ * Bounded least-recently-used cache of parsed month files.
+ * <p>
+ * Each entry remembers the {@link FileStamp} of the files it was parsed from, so an entry whose
+ * files were modified outside the application is treated as a miss. The cache is bounded both by
+ * the number of months and by an estimate of the memory held by their workouts; the least
+ * recently used months are evicted first.
+ */
+public class MonthCache {
+    private static final long WORKOUT_OVERHEAD_BYTES = 256;
+    private static final long EXERCISE_OVERHEAD_BYTES = 64;
+    private static final long SET_BYTES = 16;
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final LinkedHashMap<YearMonth, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long currentBytes = 0;
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    /**
+     * Identifies the on-disk state a month was parsed from.
+     *
+     * @param snapshotModified last-modified time of the snapshot, in milliseconds
+     * @param snapshotSize     size of the snapshot in bytes
+     * @param journalModified  last-modified time of the journal, or -1 if there is none
+     * @param journalSize      size of the journal in bytes, or -1 if there is none
+     */
+    public record FileStamp(long snapshotModified, long snapshotSize, long journalModified, long journalSize) {
+    }
+
+    /**
+     * Snapshot of the cache counters.
+     *
+     * @param hits      lookups answered from memory
+     * @param misses    lookups that had to read from disk
+     * @param evictions entries dropped to stay within the budget
+     * @param entries   months currently cached
+     * @param bytes     estimated memory held by the cached months
+     */
+    public record Stats(long hits, long misses, long evictions, int entries, long bytes) {
+    }
+
+    private record Entry(ArrayList<Workout> workouts, FileStamp stamp, long bytes) {
+    }
+
+    /**
+     * Constructs a cache bounded by a number of months and an estimated byte budget.
+     *
+     * @param maxEntries the maximum number of months to keep
+     * @param maxBytes   the maximum estimated memory to keep, in bytes
+     */
+    public MonthCache(int maxEntries, long maxBytes) {
+        assert maxEntries > 0 && maxBytes > 0 : "Cache bounds must be positive";
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns a copy of the cached workouts for a month if they were parsed from the same file state.
+     *
+     * @param month the month to look up
+     * @param stamp the current state of the month's files
+     * @return a new list holding the cached workouts, or {@code null} on a miss
+     */
+    public ArrayList<Workout> get(YearMonth month, FileStamp stamp) {
+        Entry entry = entries.get(month);
+        if (entry == null || !entry.stamp().equals(stamp)) {
+            if (entry != null) {
+                remove(month);
+            }
+            misses++;
+            return null;
+        }
+        hits++;
+        return new ArrayList<>(entry.workouts());
+    }
+
+    /**
+     * Stores the parsed workouts for a month, evicting least recently used months if needed.
+     * Months larger than the whole byte budget are not cached.
+     *
+     * @param month    the month being cached
+     * @param stamp    the state of the files the workouts were parsed from
+     * @param workouts the parsed workouts; a copy of the list is kept
+     */
+    public void put(YearMonth month, FileStamp stamp, ArrayList<Workout> workouts) {
+        remove(month);
+        long bytes = estimateBytes(workouts);
+        if (bytes > maxBytes) {
+            return;
+        }
+        entries.put(month, new Entry(new ArrayList<>(workouts), stamp, bytes));
+        currentBytes += bytes;
+        evictIfNeeded();
+    }
+
+    /**
+     * Drops the cached copy of a month, typically after the month was written.
+     *
+     * @param month the month to invalidate
+     */
+    public void invalidate(YearMonth month) {
+        remove(month);
+    }
+
+    /**
+     * Returns the cached months and their workouts.
+     *
+     * @return a new map from month to a copy of its cached workouts
+     */
+    public Map<YearMonth, ArrayList<Workout>> snapshot() {
+        Map<YearMonth, ArrayList<Workout>> out = new LinkedHashMap<>();
+        for (Map.Entry<YearMonth, Entry> e : entries.entrySet()) {
+            out.put(e.getKey(), new ArrayList<>(e.getValue().workouts()));
+        }
+        return out;
+    }
+
+    public Stats getStats() {
+        return new Stats(hits, misses, evictions, entries.size(), currentBytes);
+    }
+
+    private void remove(YearMonth month) {
+        Entry removed = entries.remove(month);
+        if (removed != null) {
+            currentBytes -= removed.bytes();
+        }
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<YearMonth, Entry>> it = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || currentBytes > maxBytes) && it.hasNext()) {
+            Entry eldest = it.next().getValue();
+            it.remove();
+            currentBytes -= eldest.bytes();
+            evictions++;
+        }
+    }
+
+    private static long estimateBytes(ArrayList<Workout> workouts) {
+        long bytes = 0;
+        for (Workout w : workouts) {
+            bytes += WORKOUT_OVERHEAD_BYTES;
+            String name = w.getWorkoutName();
+            bytes += (name == null) ? 0 : name.length() * 2L;
+            if (!w.isExercisesLoaded()) {
+                // unparsed exercises hold on to their raw bytes; don't parse them just to measure them
+                bytes += w.getPendingExerciseBytes();
+                continue;
+            }
+            for (Exercise e : w.getExercises()) {
+                bytes += EXERCISE_OVERHEAD_BYTES + e.getName().length() * 2L + e.getNumSets() * SET_BYTES;
+            }
+        }
+        return bytes;
+    }
+}
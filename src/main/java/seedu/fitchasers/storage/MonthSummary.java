@@ -0,0 +1,190 @@
+package seedu.fitchasers.storage;
+
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+//@@author Kart04
+/**
+ * Totals of one month: workout count, total duration, how often each tag was used and the total
+ * reps of each exercise.
+ * <p>
+ * {@link FileHandler} keeps a summary next to each month file as {@code workouts_YYYY-MM.summary},
+ * rewritten in the same pass that writes the month snapshot, so an overview of many months reads a
+ * few small files instead of parsing every workout:
+ * <pre>
+ *   SNAPSHOT|1760439600000|5123
+ *   WORKOUTS|12
+ *   MINUTES|690
+ *   TAG|legs|4
+ *   EXERCISE|Squat|180
+ * </pre>
+ * The {@code SNAPSHOT} line records the modification time and size of the month file it was
+ * computed from; a summary whose month file has changed since is ignored and rebuilt. Mutations
+ * journaled after the snapshot are added on top when the summary is read.
+ */
+public final class MonthSummary {
+    static final String EXTENSION = ".summary";
+    private static final String SEPARATOR = "|";
+
+    private final YearMonth month;
+    private final TreeMap<String, Integer> tagCounts = new TreeMap<>();
+    private final TreeMap<String, Long> exerciseReps = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private int workoutCount = 0;
+    private long totalMinutes = 0;
+
+    MonthSummary(YearMonth month) {
+        this.month = month;
+    }
+
+    /**
+     * Adds a whole workout.
+     */
+    void add(Workout workout) {
+        addWorkout(workout.getAllTags(), workout.getDuration());
+        for (Exercise exercise : workout.getExercises()) {
+            addReps(exercise.getName(), exercise.getSetLog().totalReps());
+        }
+    }
+
+    void addWorkout(Set<String> tags, int minutes) {
+        workoutCount++;
+        totalMinutes += minutes;
+        for (String tag : tags) {
+            tagCounts.merge(tag, 1, Integer::sum);
+        }
+    }
+
+    void addMinutes(int minutes) {
+        totalMinutes += minutes;
+    }
+
+    void addReps(String exerciseName, long reps) {
+        exerciseReps.merge(exerciseName, reps, Long::sum);
+    }
+
+    /**
+     * Returns the month summarised.
+     */
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    /**
+     * Returns the number of workouts in the month.
+     */
+    public int getWorkoutCount() {
+        return workoutCount;
+    }
+
+    /**
+     * Returns the total duration of the month's workouts in minutes.
+     */
+    public long getTotalMinutes() {
+        return totalMinutes;
+    }
+
+    /**
+     * Returns how many workouts carry each tag, sorted by tag.
+     */
+    public SortedMap<String, Integer> getTagCounts() {
+        return Collections.unmodifiableSortedMap(tagCounts);
+    }
+
+    /**
+     * Returns the total reps of each exercise, sorted by name ignoring case.
+     */
+    public SortedMap<String, Long> getExerciseReps() {
+        return Collections.unmodifiableSortedMap(exerciseReps);
+    }
+
+    /**
+     * Writes the summary, stamped with the month file it was computed from.
+     *
+     * @param path             the summary file
+     * @param snapshotModified the modification time of the month file in milliseconds
+     * @param snapshotSize     the size of the month file in bytes
+     * @throws IOException if writing fails
+     */
+    void write(Path path, long snapshotModified, long snapshotSize) throws IOException {
+        String newLine = System.lineSeparator();
+        StringBuilder sb = new StringBuilder();
+        sb.append("SNAPSHOT").append(SEPARATOR).append(snapshotModified).append(SEPARATOR).append(snapshotSize)
+                .append(newLine);
+        sb.append("WORKOUTS").append(SEPARATOR).append(workoutCount).append(newLine);
+        sb.append("MINUTES").append(SEPARATOR).append(totalMinutes).append(newLine);
+        for (Map.Entry<String, Integer> tag : tagCounts.entrySet()) {
+            sb.append("TAG").append(SEPARATOR).append(tag.getKey()).append(SEPARATOR).append(tag.getValue())
+                    .append(newLine);
+        }
+        for (Map.Entry<String, Long> exercise : exerciseReps.entrySet()) {
+            sb.append("EXERCISE").append(SEPARATOR).append(exercise.getKey()).append(SEPARATOR)
+                    .append(exercise.getValue()).append(newLine);
+        }
+        AtomicFiles.writeChecked(path, sb.toString());
+    }
+
+    /**
+     * Reads a summary if it is still valid for the given month file.
+     *
+     * @param path             the summary file
+     * @param month            the month it summarises
+     * @param snapshotModified the current modification time of the month file in milliseconds
+     * @param snapshotSize     the current size of the month file in bytes
+     * @return the summary, or {@code null} if it is missing, damaged or was computed from another
+     *         version of the month file
+     * @throws IOException if reading fails
+     */
+    static MonthSummary read(Path path, YearMonth month, long snapshotModified, long snapshotSize)
+            throws IOException {
+        if (Files.notExists(path)) {
+            return null;
+        }
+        AtomicFiles.Checked checked = AtomicFiles.readChecked(path);
+        if (checked.integrity() != AtomicFiles.Integrity.VALID) {
+            return null;
+        }
+        MonthSummary summary = new MonthSummary(month);
+        boolean isCurrent = false;
+        try (BufferedReader br = new BufferedReader(new StringReader(checked.text()))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                String[] parts = line.split("\\|", -1);
+                switch (parts[0]) {
+                case "SNAPSHOT":
+                    isCurrent = parts.length == 3 && Long.parseLong(parts[1]) == snapshotModified
+                            && Long.parseLong(parts[2]) == snapshotSize;
+                    break;
+                case "WORKOUTS":
+                    summary.workoutCount = Integer.parseInt(parts[1]);
+                    break;
+                case "MINUTES":
+                    summary.totalMinutes = Long.parseLong(parts[1]);
+                    break;
+                case "TAG":
+                    summary.tagCounts.put(parts[1], Integer.parseInt(parts[2]));
+                    break;
+                case "EXERCISE":
+                    summary.exerciseReps.put(parts[1], Long.parseLong(parts[2]));
+                    break;
+                default:
+                    break;
+                }
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            return null;
+        }
+        return isCurrent ? summary : null;
+    }
+}
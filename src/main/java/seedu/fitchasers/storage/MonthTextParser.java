@@ -0,0 +1,267 @@
+package seedu.fitchasers.storage;
+
+import seedu.fitchasers.workouts.Workout;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+//@@author Kart04
+/**
+ * Single-pass parser for the contents of a month text file.
+ * <p>
+ * Walks the bytes of the file once, line by line, and keeps only the fields of the workout being
+ * read. Keys such as {@code Start:} are matched on the raw bytes, so a {@code String} is created only
+ * for a value that is kept. Each workout is emitted at its {@code END_WORKOUT} line, with its
+ * {@code EXERCISES:} section left as an {@link ExerciseSection} to be parsed on demand.
+ * <p>
+ * A workout with a value that cannot be parsed is skipped with a warning naming the field; the rest
+ * of the month is still read.
+ */
+final class MonthTextParser {
+    private static final byte[] WORKOUT = ascii("WORKOUT");
+    private static final byte[] END_WORKOUT = ascii("END_WORKOUT");
+    private static final byte[] EXERCISES = ascii("EXERCISES:");
+    private static final byte[] NAME = ascii("Name:");
+    private static final byte[] START = ascii("Start:");
+    private static final byte[] END = ascii("End:");
+    private static final byte[] DURATION = ascii("DurationMin:");
+    private static final byte[] AUTO_TAGS = ascii("AutoTags:");
+    private static final byte[] MANUAL_TAGS = ascii("ManualTags:");
+
+    private final byte[] data;
+    private final LoadWarnings warnings;
+    private final ArrayList<Workout> workouts = new ArrayList<>();
+
+    // Fields of the workout being read
+    private String name;
+    private LocalDateTime start;
+    private LocalDateTime end;
+    private int duration;
+    private Set<String> autoTags;
+    private Set<String> manualTags;
+    private int sectionStart;
+    // the first field of the workout being read that could not be parsed, or null
+    private String corruptField;
+
+    private MonthTextParser(byte[] data, LoadWarnings warnings) {
+        this.data = data;
+        this.warnings = warnings;
+        startBlock();
+    }
+
+    /**
+     * Parses the workouts in {@code data[0, length)}.
+     *
+     * @param data     the contents of a month file; must not be modified afterwards, since unloaded
+     *                 exercise sections keep referring to it
+     * @param length   the number of bytes to parse, e.g. to leave out a checksum footer
+     * @param warnings collects what is said about skipped or inconsistent workouts
+     * @return the workouts in file order
+     */
+    static ArrayList<Workout> parse(byte[] data, int length, LoadWarnings warnings) {
+        assert 0 <= length && length <= data.length : "Length out of range";
+        MonthTextParser parser = new MonthTextParser(data, warnings);
+        int lineStart = 0;
+        for (int i = 0; i <= length; i++) {
+            if (i < length && data[i] != '\n') {
+                continue;
+            }
+            int from = lineStart;
+            int to = i;
+            lineStart = i + 1;
+            while (from < to && isBlank(data[from])) {
+                from++;
+            }
+            while (to > from && isBlank(data[to - 1])) {
+                to--;
+            }
+            if (from < to && data[from] != '#') { // ignore empties/comments
+                parser.acceptLine(from, to, lineStart);
+            }
+        }
+        return parser.workouts;
+    }
+
+    private void startBlock() {
+        name = null;
+        start = null;
+        end = null;
+        duration = -1;
+        autoTags = null;
+        manualTags = null;
+        sectionStart = -1;
+        corruptField = null;
+    }
+
+    /**
+     * Handles one trimmed, non-empty line {@code data[from, to)}; {@code next} is where the following line starts.
+     */
+    private void acceptLine(int from, int to, int next) {
+        if (sectionStart >= 0 && data[from] == '-') {
+            // set lines are only checked here; ExerciseSection parses them on demand
+            if (!ExerciseSection.isValidSetLine(data, from, to)) {
+                markCorrupted("set");
+            }
+        } else if (matches(from, to, WORKOUT)) {
+            startBlock();
+        } else if (matches(from, to, END_WORKOUT)) {
+            emit(from);
+            startBlock();
+        } else if (corruptField != null) {
+            return;
+        } else if (startsWith(from, to, EXERCISES)) {
+            if (sectionStart < 0) {
+                sectionStart = next;
+            }
+        } else if (startsWith(from, to, NAME)) {
+            name = valueOf(from + NAME.length, to);
+        } else if (startsWith(from, to, START)) {
+            String v = valueOf(from + START.length, to);
+            if (!v.isEmpty()) {
+                start = parseTime(v, false, "Start date/time");
+            }
+        } else if (startsWith(from, to, END)) {
+            String v = valueOf(from + END.length, to);
+            if (!v.isEmpty()) {
+                end = parseTime(v, true, "End date/time");
+            }
+        } else if (startsWith(from, to, DURATION)) {
+            duration = parseDuration(from + DURATION.length, to);
+        } else if (startsWith(from, to, AUTO_TAGS)) {
+            autoTags = parseTags(from + AUTO_TAGS.length, to);
+        } else if (startsWith(from, to, MANUAL_TAGS)) {
+            manualTags = parseTags(from + MANUAL_TAGS.length, to);
+        }
+    }
+
+    /**
+     * Builds the workout read so far; {@code endLine} is the offset of its {@code END_WORKOUT} line.
+     */
+    private void emit(int endLine) {
+        if (corruptField != null) {
+            warnings.message("Invalid " + corruptField + " found in file. Skipping workout"
+                    + (name == null ? "" : " \"" + name + "\""));
+            return;
+        }
+        Workout w = new Workout(name, start, end); // e.g., ctor computes duration
+        if (autoTags != null) {
+            w.setAutoTags(autoTags);
+        }
+        if (manualTags != null) {
+            w.setManualTags(manualTags);
+        }
+        if (duration >= 0 && w.getDuration() != duration) {
+            // Don’t fail hard; just warn or normalize if you prefer
+            warnings.error("Duration mismatch for workout \"" + name + "\": file=" + duration
+                    + " computed=" + w.getDuration());
+        }
+        if (sectionStart >= 0) {
+            w.setExerciseLoader(new ExerciseSection(data, sectionStart, endLine));
+        }
+        workouts.add(w);
+    }
+
+    private LocalDateTime parseTime(String v, boolean isUnendedAllowed, String field) {
+        if (isUnendedAllowed && v.equalsIgnoreCase("unended")) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(v);
+        } catch (DateTimeParseException e) {
+            markCorrupted(field);
+            return null;
+        }
+    }
+
+    private void markCorrupted(String field) {
+        if (corruptField == null) {
+            corruptField = field;
+        }
+    }
+
+    /**
+     * Parses a non-negative duration without creating a string, marking the workout corrupted if it is not one.
+     */
+    private int parseDuration(int from, int to) {
+        while (from < to && isBlank(data[from])) {
+            from++;
+        }
+        boolean isNegative = from < to && data[from] == '-';
+        int digitsFrom = (isNegative || (from < to && data[from] == '+')) ? from + 1 : from;
+        long value = 0;
+        for (int i = digitsFrom; i < to; i++) {
+            int digit = data[i] - '0';
+            if (digit < 0 || digit > 9 || value > Integer.MAX_VALUE) {
+                markCorrupted("DurationMin");
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        if (digitsFrom == to || value > (isNegative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE)) {
+            markCorrupted("DurationMin");
+            return -1;
+        }
+        // a negative duration is valid in the file but never compared, as before
+        return isNegative ? -1 : (int) value;
+    }
+
+    /**
+     * Splits a comma-separated tag list, dropping blank entries.
+     */
+    private Set<String> parseTags(int from, int to) {
+        Set<String> out = new LinkedHashSet<>();
+        int partStart = from;
+        for (int i = from; i <= to; i++) {
+            if (i < to && data[i] != ',') {
+                continue;
+            }
+            String tag = valueOf(partStart, i);
+            if (!tag.isEmpty()) {
+                out.add(tag);
+            }
+            partStart = i + 1;
+        }
+        return out;
+    }
+
+    /**
+     * Returns {@code data[from, to)} as a string without its surrounding blanks.
+     */
+    private String valueOf(int from, int to) {
+        while (from < to && isBlank(data[from])) {
+            from++;
+        }
+        while (to > from && isBlank(data[to - 1])) {
+            to--;
+        }
+        return new String(data, from, to - from, StandardCharsets.UTF_8);
+    }
+
+    private boolean matches(int from, int to, byte[] key) {
+        return to - from == key.length && startsWith(from, to, key);
+    }
+
+    private boolean startsWith(int from, int to, byte[] key) {
+        if (to - from < key.length) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (data[from + i] != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isBlank(byte b) {
+        return b >= 0 && b <= ' ';
+    }
+
+    private static byte[] ascii(String key) {
+        return key.getBytes(StandardCharsets.US_ASCII);
+    }
+}
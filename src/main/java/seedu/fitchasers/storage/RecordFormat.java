@@ -0,0 +1,554 @@
+package seedu.fitchasers.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+//@@author Kart04
+/**
+ * Text formats that data is imported from and exported to, as flat records of named fields.
+ * <p>
+ * A CSV file starts with a header row naming the columns. A field may be quoted with double quotes,
+ * with {@code ""} standing for a quote inside it, and a quoted field may span lines.
+ * A JSON file holds an array of flat objects, or objects one after another as in JSON Lines, whose
+ * values are strings, numbers, booleans or {@code null}.
+ * <p>
+ * Both are read and written as a stream, one record at a time, so the size of a file does not
+ * matter.
+ */
+public enum RecordFormat {
+    CSV,
+    JSON;
+
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    /**
+     * Reads the records of a file one at a time.
+     */
+    public interface RecordReader extends Closeable {
+        /**
+         * Reads the next record.
+         *
+         * @return the record's fields by lower-case name, leaving out empty and {@code null} fields,
+         *     or {@code null} at the end of the input
+         * @throws IOException if reading fails or the input is malformed
+         */
+        Map<String, String> next() throws IOException;
+
+        /**
+         * Returns the line of the input that the last record read starts on, counting from 1.
+         */
+        int line();
+    }
+
+    /**
+     * Writes records one at a time.
+     */
+    public interface RecordWriter extends Closeable {
+        /**
+         * Writes one record.
+         *
+         * @param values the values in column order: a {@link Number} is written as a number, anything
+         *               else as text, and {@code null} leaves the field out
+         * @throws IOException if writing fails
+         */
+        void write(List<?> values) throws IOException;
+    }
+
+    /**
+     * Returns the format of a file from its extension.
+     *
+     * @param file the file to read or write
+     * @return the format, or {@code null} if the extension is neither {@code .csv} nor {@code .json}
+     */
+    public static RecordFormat of(Path file) {
+        Path name = file.getFileName();
+        String lower = (name == null) ? "" : name.toString().toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".csv")) {
+            return CSV;
+        }
+        if (lower.endsWith(".json") || lower.endsWith(".jsonl")) {
+            return JSON;
+        }
+        return null;
+    }
+
+    /**
+     * Opens a reader over some input in this format.
+     *
+     * @param in the input, which is closed with the reader
+     * @return a reader of its records
+     */
+    public RecordReader reader(Reader in) {
+        return (this == CSV) ? new CsvReader(in, null) : new JsonReader(in);
+    }
+
+    /**
+     * Opens a writer of records in this format with the given columns.
+     *
+     * @param out     the output, which is closed with the writer
+     * @param columns the names of the fields of each record
+     * @return a writer of records
+     * @throws IOException if writing the CSV header fails
+     */
+    public RecordWriter writer(Writer out, List<String> columns) throws IOException {
+        return (this == CSV) ? new CsvWriter(out, columns, true) : new JsonWriter(out, columns);
+    }
+
+    /**
+     * Opens a reader of CSV rows without a header, whose fields are the given columns in order.
+     */
+    static RecordReader headerlessCsvReader(Reader in, List<String> columns) {
+        return new CsvReader(in, columns);
+    }
+
+    /**
+     * Opens a writer of CSV rows without a header, so that rows can be appended to an earlier file.
+     */
+    static RecordWriter headerlessCsvWriter(Writer out, List<String> columns) throws IOException {
+        return new CsvWriter(out, columns, false);
+    }
+
+    private static IOException malformed(int line, String problem) {
+        return new IOException("Line " + line + ": " + problem);
+    }
+
+    private static void putField(Map<String, String> record, String name, String value) {
+        if (value != null && !value.isBlank()) {
+            record.put(name, value.trim());
+        }
+    }
+
+    /**
+     * Reads its input in blocks rather than through {@link Reader#read()}, which locks the reader for
+     * every character.
+     */
+    private abstract static class BlockReader implements RecordReader {
+        private final Reader in;
+        private final char[] buffer = new char[8192];
+        private int position = 0;
+        private int limit = 0;
+
+        BlockReader(Reader in) {
+            this.in = in;
+        }
+
+        /**
+         * Returns the next character, or -1 at the end of the input.
+         */
+        int read() throws IOException {
+            if (position == limit) {
+                limit = Math.max(0, in.read(buffer, 0, buffer.length));
+                position = 0;
+                if (limit == 0) {
+                    return -1;
+                }
+            }
+            return buffer[position++];
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    private static final class CsvReader extends BlockReader {
+        private List<String> header;
+        private int line = 1;
+        private int recordLine = 0;
+
+        CsvReader(Reader in, List<String> header) {
+            super(in);
+            this.header = header;
+        }
+
+        @Override
+        public Map<String, String> next() throws IOException {
+            if (header == null) {
+                List<String> names = readRow();
+                if (names == null) {
+                    return null;
+                }
+                header = new ArrayList<>();
+                for (String name : names) {
+                    // spreadsheet programs may start the file with a byte order mark
+                    header.add(name.replace(BYTE_ORDER_MARK, "").trim().toLowerCase(Locale.ROOT));
+                }
+            }
+            List<String> fields = readRow();
+            if (fields == null) {
+                return null;
+            }
+            if (fields.size() > header.size()) {
+                throw malformed(recordLine, "has " + fields.size() + " fields but the header names only "
+                        + header.size() + " columns");
+            }
+            Map<String, String> record = new HashMap<>();
+            for (int i = 0; i < fields.size(); i++) {
+                putField(record, header.get(i), fields.get(i));
+            }
+            return record;
+        }
+
+        /**
+         * Reads the fields of the next row, skipping blank lines.
+         */
+        private List<String> readRow() throws IOException {
+            int c = read();
+            while (c == '\n' || c == '\r') {
+                line += (c == '\n') ? 1 : 0;
+                c = read();
+            }
+            if (c == -1) {
+                return null;
+            }
+            recordLine = line;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean isQuoted = false;
+            while (true) {
+                if (isQuoted) {
+                    if (c == -1) {
+                        throw malformed(recordLine, "a quoted field is not closed");
+                    }
+                    if (c == '"') {
+                        c = read();
+                        if (c == '"') {
+                            field.append('"');
+                            c = read();
+                        } else {
+                            // the closing quote; anything after it is read as unquoted text
+                            isQuoted = false;
+                        }
+                    } else {
+                        line += (c == '\n') ? 1 : 0;
+                        field.append((char) c);
+                        c = read();
+                    }
+                } else if (c == '"' && field.length() == 0) {
+                    isQuoted = true;
+                    c = read();
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    c = read();
+                } else if (c == '\n' || c == -1) {
+                    line += (c == '\n') ? 1 : 0;
+                    fields.add(field.toString());
+                    return fields;
+                } else {
+                    if (c != '\r') {
+                        field.append((char) c);
+                    }
+                    c = read();
+                }
+            }
+        }
+
+        @Override
+        public int line() {
+            return recordLine;
+        }
+    }
+
+    private static final class CsvWriter implements RecordWriter {
+        private final Writer out;
+        private final int columnCount;
+
+        CsvWriter(Writer out, List<String> columns, boolean isHeaderWritten) throws IOException {
+            this.out = out;
+            this.columnCount = columns.size();
+            if (isHeaderWritten) {
+                write(columns);
+            }
+        }
+
+        @Override
+        public void write(List<?> values) throws IOException {
+            assert values.size() == columnCount : "A row must have a value for every column";
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                Object value = values.get(i);
+                if (value != null) {
+                    out.write(quote(value.toString()));
+                }
+            }
+            out.write(System.lineSeparator());
+        }
+
+        private static String quote(String text) {
+            boolean isQuoteNeeded = text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0
+                    || text.indexOf('\r') >= 0 || !text.equals(text.trim());
+            return isQuoteNeeded ? '"' + text.replace("\"", "\"\"") + '"' : text;
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    private static final class JsonReader extends BlockReader {
+        private int c;
+        private int line = 1;
+        private int recordLine = 0;
+        private boolean isStarted = false;
+        private boolean isInArray = false;
+        private boolean isDone = false;
+
+        JsonReader(Reader in) {
+            super(in);
+        }
+
+        @Override
+        public Map<String, String> next() throws IOException {
+            if (!isStarted) {
+                isStarted = true;
+                advance();
+                if (c == BYTE_ORDER_MARK.charAt(0)) {
+                    advance();
+                }
+                skipWhitespace();
+                if (c == '[') {
+                    isInArray = true;
+                    advance();
+                    skipWhitespace();
+                    isDone = (c == ']');
+                }
+            } else if (isInArray && !isDone) {
+                skipWhitespace();
+                if (c == ']') {
+                    isDone = true;
+                } else {
+                    expect(',');
+                }
+            }
+            if (isDone) {
+                return null;
+            }
+            skipWhitespace();
+            if (c == -1) {
+                if (isInArray) {
+                    throw malformed(line, "the array is not closed with ]");
+                }
+                return null;
+            }
+            if (c != '{') {
+                throw malformed(line, "expected an object starting with {");
+            }
+            recordLine = line;
+            return readObject();
+        }
+
+        private Map<String, String> readObject() throws IOException {
+            Map<String, String> record = new HashMap<>();
+            expect('{');
+            skipWhitespace();
+            if (c == '}') {
+                advance();
+                return record;
+            }
+            while (true) {
+                skipWhitespace();
+                if (c != '"') {
+                    throw malformed(line, "expected a field name in double quotes");
+                }
+                String name = readString().toLowerCase(Locale.ROOT);
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+                putField(record, name, readValue());
+                skipWhitespace();
+                if (c == '}') {
+                    advance();
+                    return record;
+                }
+                expect(',');
+            }
+        }
+
+        /**
+         * Reads a string, number, boolean or {@code null}, returning {@code null} for the latter.
+         */
+        private String readValue() throws IOException {
+            if (c == '"') {
+                return readString();
+            }
+            if (c == '{' || c == '[') {
+                throw malformed(line, "nested objects and arrays are not supported");
+            }
+            StringBuilder literal = new StringBuilder();
+            while (c != -1 && c != ',' && c != '}' && c != ']' && !Character.isWhitespace(c)) {
+                literal.append((char) c);
+                advance();
+            }
+            if (literal.length() == 0) {
+                throw malformed(line, "a field has no value");
+            }
+            String text = literal.toString();
+            return text.equals("null") ? null : text;
+        }
+
+        private String readString() throws IOException {
+            StringBuilder text = new StringBuilder();
+            advance();
+            while (c != '"') {
+                if (c == -1) {
+                    throw malformed(recordLine, "a string is not closed");
+                }
+                if (c == '\\') {
+                    advance();
+                    text.append(readEscape());
+                } else {
+                    text.append((char) c);
+                }
+                advance();
+            }
+            advance();
+            return text.toString();
+        }
+
+        private char readEscape() throws IOException {
+            switch (c) {
+            case 'n':
+                return '\n';
+            case 't':
+                return '\t';
+            case 'r':
+                return '\r';
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'u':
+                int code = 0;
+                for (int i = 0; i < 4; i++) {
+                    advance();
+                    int digit = Character.digit(c, 16);
+                    if (digit < 0) {
+                        throw malformed(line, "a \\u escape needs four hex digits");
+                    }
+                    code = code * 16 + digit;
+                }
+                return (char) code;
+            case '"':
+            case '\\':
+            case '/':
+                return (char) c;
+            default:
+                throw malformed(line, "unknown escape \\" + (char) c);
+            }
+        }
+
+        private void expect(char expected) throws IOException {
+            if (c != expected) {
+                String found = (c == -1) ? "the end of the file" : "'" + (char) c + "'";
+                throw malformed(line, "expected '" + expected + "' but found " + found);
+            }
+            advance();
+        }
+
+        private void skipWhitespace() throws IOException {
+            while (c != -1 && Character.isWhitespace(c)) {
+                advance();
+            }
+        }
+
+        private void advance() throws IOException {
+            if (c == '\n') {
+                line++;
+            }
+            c = read();
+        }
+
+        @Override
+        public int line() {
+            return recordLine;
+        }
+    }
+
+    private static final class JsonWriter implements RecordWriter {
+        private final Writer out;
+        private final List<String> columns;
+        private int count = 0;
+
+        JsonWriter(Writer out, List<String> columns) {
+            this.out = out;
+            this.columns = columns;
+        }
+
+        @Override
+        public void write(List<?> values) throws IOException {
+            assert values.size() == columns.size() : "A record must have a value for every column";
+            out.write(count == 0 ? "[" : ",");
+            out.write(System.lineSeparator());
+            out.write("  {");
+            boolean isFirst = true;
+            for (int i = 0; i < values.size(); i++) {
+                Object value = values.get(i);
+                if (value == null) {
+                    continue;
+                }
+                out.write(isFirst ? "" : ", ");
+                out.write(quote(columns.get(i)));
+                out.write(": ");
+                out.write((value instanceof Number) ? value.toString() : quote(value.toString()));
+                isFirst = false;
+            }
+            out.write('}');
+            count++;
+        }
+
+        private static String quote(String text) {
+            StringBuilder sb = new StringBuilder(text.length() + 2).append('"');
+            for (int i = 0; i < text.length(); i++) {
+                char ch = text.charAt(i);
+                switch (ch) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (ch < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) ch));
+                    } else {
+                        sb.append(ch);
+                    }
+                }
+            }
+            return sb.append('"').toString();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                out.write(count == 0 ? "[" : System.lineSeparator());
+                out.write("]");
+                out.write(System.lineSeparator());
+            } finally {
+                out.close();
+            }
+        }
+    }
+}
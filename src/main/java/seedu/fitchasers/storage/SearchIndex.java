@@ -0,0 +1,373 @@
+package seedu.fitchasers.storage;
+
+import seedu.fitchasers.metrics.Metrics;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+//@@author Kart04
+/**
+ * Inverted index from the words in workout names, exercise names and tags to the workouts that
+ * contain them, persisted as {@code data/search_index.txt}.
+ * <p>
+ * Workouts are identified by their start time, as in the journal. Every word of a query matches
+ * any indexed word it is a prefix of, and a workout must match all words of the query, so
+ * {@code "dead leg"} finds leg workouts with deadlifts. A lookup only touches the posting sets of
+ * the matching words.
+ * <p>
+ * The file is an append-only log of documents added or replaced ({@code +}) and removed ({@code -}):
+ * <pre>
+ *   +|2025-10-14T15:00|Leg Day|strength,legs,|Squat,Deadlift,
+ *   -|2025-10-14T15:00
+ * </pre>
+ * It is read once and rewritten without superseded lines when they outnumber the live documents.
+ * Changes are collected in memory and appended together by {@link #writeAppended()}, which the
+ * writer thread calls once for each month it writes.
+ */
+public class SearchIndex {
+    static final String FILE_NAME = "search_index.txt";
+    private static final String SEPARATOR = "|";
+    private static final int COMPACT_SLACK = 64;
+
+    private final Path file;
+    private final TreeMap<LocalDateTime, Match> documents = new TreeMap<>();
+    private final TreeMap<String, NavigableSet<LocalDateTime>> postings = new TreeMap<>();
+    private boolean isLoaded = false;
+    private int logLines = 0;
+    private final StringBuilder unwritten = new StringBuilder();
+
+    /**
+     * One indexed workout.
+     *
+     * @param start     start time of the workout, which identifies it
+     * @param name      the workout name
+     * @param tags      manual and automatic tags
+     * @param exercises names of the exercises
+     */
+    public record Match(LocalDateTime start, String name, Set<String> tags, Set<String> exercises) {
+        private Set<String> words() {
+            Set<String> words = new LinkedHashSet<>();
+            addWords(name, words);
+            for (String tag : tags) {
+                addWords(tag, words);
+            }
+            for (String exercise : exercises) {
+                addWords(exercise, words);
+            }
+            return words;
+        }
+    }
+
+    /**
+     * Constructs an index backed by the given file. The file is read by {@link #load}.
+     *
+     * @param file where the index is persisted
+     */
+    public SearchIndex(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Builds the document of a workout from its row in the {@link WorkoutIndex}.
+     */
+    public static Match matchOf(WorkoutIndex.Entry entry) {
+        return new Match(entry.start(), entry.name(), entry.tags(), new LinkedHashSet<>(entry.exercises()));
+    }
+
+    boolean isLoaded() {
+        return isLoaded;
+    }
+
+    /**
+     * Returns whether the index has been written to its file before, so it can be read instead of built.
+     */
+    boolean hasFile() {
+        return Files.exists(file);
+    }
+
+    /**
+     * Reads the index file.
+     *
+     * @return {@code false} if there is no index file yet, so the index must be built with {@link #rebuild}
+     * @throws IOException if reading fails
+     */
+    boolean load() throws IOException {
+        isLoaded = true;
+        if (Files.notExists(file)) {
+            return false;
+        }
+        try (BufferedReader br = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                logLines++;
+                applyLine(line);
+            }
+        } catch (IOException e) {
+            unload();
+            throw e;
+        }
+        if (logLines > 2 * documents.size() + COMPACT_SLACK) {
+            rewrite();
+        }
+        return true;
+    }
+
+    private void applyLine(String line) {
+        String[] parts = line.split("\\|", -1);
+        try {
+            if (parts[0].equals("+") && parts.length == 5) {
+                putInMemory(new Match(LocalDateTime.parse(parts[1]), parts[2], splitList(parts[3]),
+                        splitList(parts[4])));
+            } else if (parts[0].equals("-") && parts.length == 2) {
+                removeInMemory(LocalDateTime.parse(parts[1]));
+            }
+        } catch (DateTimeParseException e) {
+            // a line torn by a crash; the next save of that month indexes the workout again
+        }
+    }
+
+    /**
+     * Forgets every document and change not yet written, so the index is read or built again.
+     */
+    void unload() {
+        documents.clear();
+        postings.clear();
+        unwritten.setLength(0);
+        logLines = 0;
+        isLoaded = false;
+    }
+
+    /**
+     * Replaces the whole index with the given documents and rewrites the file.
+     *
+     * @param matches every workout to index
+     * @throws IOException if writing fails
+     */
+    void rebuild(List<Match> matches) throws IOException {
+        documents.clear();
+        postings.clear();
+        for (Match m : matches) {
+            putInMemory(m);
+        }
+        isLoaded = true;
+        rewrite();
+    }
+
+    /**
+     * Adds or replaces the document of a workout.
+     *
+     * @param match the new document
+     */
+    void put(Match match) {
+        if (match.equals(documents.get(match.start()))) {
+            return;
+        }
+        putInMemory(match);
+        append(formatPut(match));
+    }
+
+    /**
+     * Adds an exercise name to the document of a workout, if it is indexed.
+     *
+     * @param start        the start time of the workout
+     * @param exerciseName the exercise that was added
+     */
+    void addExercise(LocalDateTime start, String exerciseName) {
+        Match old = documents.get(start);
+        if (old == null || old.exercises().contains(exerciseName)) {
+            return;
+        }
+        Set<String> exercises = new LinkedHashSet<>(old.exercises());
+        exercises.add(exerciseName);
+        put(new Match(start, old.name(), old.tags(), exercises));
+    }
+
+    /**
+     * Makes the documents of a month match the given ones, touching only those that changed.
+     *
+     * @param month   the month that was written
+     * @param matches the documents of every workout of that month; those without a start time are skipped
+     */
+    void replaceMonth(YearMonth month, List<Match> matches) {
+        Set<LocalDateTime> kept = new TreeSet<>();
+        for (Match m : matches) {
+            if (m.start() != null) {
+                kept.add(m.start());
+                put(m);
+            }
+        }
+        List<LocalDateTime> removed = new ArrayList<>();
+        for (LocalDateTime start : documents.subMap(month.atDay(1).atStartOfDay(), true,
+                month.plusMonths(1).atDay(1).atStartOfDay(), false).keySet()) {
+            if (!kept.contains(start)) {
+                removed.add(start);
+            }
+        }
+        for (LocalDateTime start : removed) {
+            removeInMemory(start);
+            append("-" + SEPARATOR + start);
+        }
+    }
+
+    /**
+     * Returns the workouts matching every word of a query, newest first.
+     *
+     * @param query words separated by spaces or punctuation; each matches words it is a prefix of
+     * @return the matching workouts, or an empty list if the query has no words
+     */
+    public List<Match> search(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        addWords(query, terms);
+        List<NavigableSet<LocalDateTime>> perTerm = new ArrayList<>();
+        for (String term : terms) {
+            NavigableSet<LocalDateTime> hits = new TreeSet<>();
+            for (NavigableSet<LocalDateTime> ids : postings.subMap(term, true, term + Character.MAX_VALUE, false)
+                    .values()) {
+                hits.addAll(ids);
+            }
+            if (hits.isEmpty()) {
+                return new ArrayList<>();
+            }
+            perTerm.add(hits);
+        }
+        List<Match> out = new ArrayList<>();
+        if (perTerm.isEmpty()) {
+            return out;
+        }
+        perTerm.sort((a, b) -> Integer.compare(a.size(), b.size()));
+        Iterator<LocalDateTime> candidates = perTerm.get(0).descendingIterator();
+        while (candidates.hasNext()) {
+            LocalDateTime id = candidates.next();
+            boolean isInAll = true;
+            for (int i = 1; i < perTerm.size() && isInAll; i++) {
+                isInAll = perTerm.get(i).contains(id);
+            }
+            if (isInAll) {
+                out.add(documents.get(id));
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Returns the number of indexed workouts.
+     */
+    public int size() {
+        return documents.size();
+    }
+
+    private void putInMemory(Match match) {
+        removeInMemory(match.start());
+        documents.put(match.start(), match);
+        for (String word : match.words()) {
+            postings.computeIfAbsent(word, w -> new TreeSet<>()).add(match.start());
+        }
+    }
+
+    private void removeInMemory(LocalDateTime start) {
+        Match old = documents.remove(start);
+        if (old == null) {
+            return;
+        }
+        for (String word : old.words()) {
+            NavigableSet<LocalDateTime> ids = postings.get(word);
+            if (ids != null && ids.remove(start) && ids.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Appends the changes made since the last call to the index file in a single write.
+     *
+     * @throws IOException if appending fails; the changes are kept for the next call
+     */
+    void writeAppended() throws IOException {
+        if (unwritten.length() == 0) {
+            return;
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        byte[] bytes = unwritten.toString().getBytes(StandardCharsets.UTF_8);
+        Files.write(file, bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        Metrics.addBytesWritten(bytes.length);
+        unwritten.setLength(0);
+    }
+
+    private void append(String line) {
+        logLines++;
+        unwritten.append(line).append(System.lineSeparator());
+    }
+
+    private void rewrite() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (Match m : documents.values()) {
+            sb.append(formatPut(m)).append(System.lineSeparator());
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        AtomicFiles.write(file, sb.toString().getBytes(StandardCharsets.UTF_8));
+        logLines = documents.size();
+        // the rewrite already holds every collected change
+        unwritten.setLength(0);
+    }
+
+    private static String formatPut(Match m) {
+        return String.join(SEPARATOR, "+", m.start().toString(), m.name(), joinList(m.tags()),
+                joinList(m.exercises()));
+    }
+
+    private static String joinList(Set<String> items) {
+        StringBuilder sb = new StringBuilder();
+        for (String item : items) {
+            sb.append(item).append(',');
+        }
+        return sb.toString();
+    }
+
+    private static Set<String> splitList(String raw) {
+        Set<String> out = new LinkedHashSet<>();
+        for (String part : raw.split(",")) {
+            if (!part.isBlank()) {
+                out.add(part);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Adds the lower-case words of some text, split at anything that is not a letter or digit.
+     */
+    private static void addWords(String text, Set<String> out) {
+        if (text == null) {
+            return;
+        }
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                out.add(word);
+            }
+        }
+    }
+
+    /**
+     * Returns the indexed documents keyed by start time, for tests.
+     */
+    Map<LocalDateTime, Match> documents() {
+        return documents;
+    }
+}
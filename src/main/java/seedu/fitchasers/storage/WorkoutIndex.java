@@ -0,0 +1,396 @@
+package seedu.fitchasers.storage;
+
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+//@@author Kart04
+/**
+ * Persistent summary of every workout across all month files, stored as {@code data/workouts/index.txt}.
+ * <p>
+ * Each row holds the start and end time, name, tags, exercise names, total volume (reps across all
+ * sets) and the byte offset of the workout's {@code WORKOUT} line in its month file, so date-range
+ * and tag queries never need to parse the month files themselves. Rows are grouped per month
+ * together with the {@link MonthCache.FileStamp} they were built from; {@link FileHandler}
+ * rebuilds a month's rows whenever it saves that month or finds its files changed.
+ * <p>
+ * File format:
+ * <pre>
+ *   MONTH|2025-10|snapshotModified|snapshotSize|journalModified|journalSize
+ *   ROW|start|end|name|tag,tag,|exercise,exercise,|volume|offset
+ * </pre>
+ */
+public class WorkoutIndex {
+    public static final long NO_OFFSET = -1;
+    private static final String SEPARATOR = "|";
+    /** Oldest first, the reverse of the order {@code /view_log} numbers workouts in. */
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparing(Entry::start, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(Entry::end, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()));
+
+    private final Path indexFile;
+    private final TreeMap<YearMonth, MonthRows> months = new TreeMap<>();
+    private boolean isLoaded = false;
+
+    /**
+     * One indexed workout.
+     *
+     * @param month     the month file holding the workout
+     * @param start     start time of the workout
+     * @param end       end time of the workout, or {@code null} if it has not ended
+     * @param name      the workout name
+     * @param tags      manual and automatic tags
+     * @param exercises names of the exercises, in workout order
+     * @param volume    total reps across all sets
+     * @param offset    byte offset of the workout in its month file, or {@link #NO_OFFSET} if it is
+     *                  still only recorded in the journal
+     */
+    public record Entry(YearMonth month, LocalDateTime start, LocalDateTime end, String name,
+                        Set<String> tags, List<String> exercises, int volume, long offset) {
+        /**
+         * Returns the duration in minutes, or 0 if the workout has not ended.
+         */
+        public int duration() {
+            if (start == null || end == null) {
+                return 0;
+            }
+            return (int) Duration.between(start, end).toMinutes();
+        }
+    }
+
+    /**
+     * Consecutive workouts of one month, newest first, as listed by {@code /view_log}.
+     *
+     * @param month   the month the workouts belong to
+     * @param entries the workouts on the page
+     * @param firstId display ID of the first workout on the page, where the newest workout of the month is 1
+     * @param total   number of workouts in the month
+     */
+    public record Page(YearMonth month, List<Entry> entries, int firstId, int total) {
+    }
+
+    private record MonthRows(MonthCache.FileStamp stamp, List<Entry> entries) {
+    }
+
+    /**
+     * Constructs an index backed by the given file. The file is read lazily on first use.
+     *
+     * @param indexFile where the index is persisted
+     */
+    public WorkoutIndex(Path indexFile) {
+        this.indexFile = indexFile;
+    }
+
+    /**
+     * Builds the index entry for a workout.
+     *
+     * @param month   the month file holding the workout
+     * @param workout the workout to summarise
+     * @param offset  byte offset of the workout in the month file, or {@link #NO_OFFSET}
+     * @return the index entry
+     */
+    public static Entry entryOf(YearMonth month, Workout workout, long offset) {
+        List<String> exerciseNames = new ArrayList<>();
+        int volume = 0;
+        for (Exercise e : workout.getExercises()) {
+            exerciseNames.add(e.getName());
+            volume += e.getSetLog().totalReps();
+        }
+        return new Entry(month, workout.getWorkoutStartDateTime(), workout.getWorkoutEndDateTime(),
+                workout.getWorkoutName(), workout.getAllTags(), exerciseNames, volume, offset);
+    }
+
+    /**
+     * Returns whether the rows of a month were built from files in a different state.
+     *
+     * @param month the month to check
+     * @param stamp the current state of the month's files
+     * @return {@code true} if the month is missing or out of date
+     * @throws IOException if the index file cannot be read
+     */
+    public boolean isStale(YearMonth month, MonthCache.FileStamp stamp) throws IOException {
+        ensureLoaded();
+        MonthRows rows = months.get(month);
+        return rows == null || !rows.stamp().equals(stamp);
+    }
+
+    /**
+     * Replaces all rows of a month and persists the index.
+     *
+     * @param month   the month being replaced
+     * @param stamp   the state of the files the rows were built from
+     * @param entries the new rows
+     * @throws IOException if the index cannot be written
+     */
+    public void replaceMonth(YearMonth month, MonthCache.FileStamp stamp, List<Entry> entries) throws IOException {
+        ensureLoaded();
+        List<Entry> sorted = new ArrayList<>(entries);
+        sorted.sort(ORDER);
+        months.put(month, new MonthRows(stamp, sorted));
+        save();
+    }
+
+    /**
+     * Drops months that no longer have a file on disk.
+     *
+     * @param existing the months that still exist
+     * @throws IOException if the index cannot be written
+     */
+    public void retainMonths(Set<YearMonth> existing) throws IOException {
+        ensureLoaded();
+        if (months.keySet().retainAll(existing)) {
+            save();
+        }
+    }
+
+    /**
+     * Returns every workout that starts on or between the given dates, oldest first.
+     *
+     * @param from the first day to include
+     * @param to   the last day to include
+     * @return the matching entries
+     * @throws IOException if the index file cannot be read
+     */
+    public List<Entry> findBetween(LocalDate from, LocalDate to) throws IOException {
+        return findByTagBetween(null, from, to);
+    }
+
+    /**
+     * Returns every workout with the given tag that starts on or between the given dates, oldest first.
+     *
+     * @param tag  the tag to match, case-insensitively; {@code null} matches every workout
+     * @param from the first day to include
+     * @param to   the last day to include
+     * @return the matching entries
+     * @throws IOException if the index file cannot be read
+     */
+    public List<Entry> findByTagBetween(String tag, LocalDate from, LocalDate to) throws IOException {
+        ensureLoaded();
+        List<Entry> out = new ArrayList<>();
+        if (from.isAfter(to)) {
+            return out;
+        }
+        for (MonthRows rows : months.subMap(YearMonth.from(from), true, YearMonth.from(to), true).values()) {
+            for (Entry e : rows.entries()) {
+                if (e.start() == null) {
+                    continue;
+                }
+                LocalDate day = e.start().toLocalDate();
+                if (day.isBefore(from) || day.isAfter(to)) {
+                    continue;
+                }
+                if (tag == null || containsIgnoreCase(e.tags(), tag)) {
+                    out.add(e);
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Returns the workouts of a month from a display ID on, newest first. Only the rows on the page
+     * are copied, since each month's rows are kept sorted.
+     *
+     * @param month   the month to list
+     * @param firstId display ID of the first workout to return, where the newest workout is 1
+     * @param size    the largest number of workouts to return
+     * @return the page, which is empty if the month has fewer than {@code firstId} workouts
+     * @throws IOException if the index file cannot be read
+     */
+    public Page pageOf(YearMonth month, int firstId, int size) throws IOException {
+        ensureLoaded();
+        MonthRows rows = months.get(month);
+        return slice(month, (rows == null) ? List.of() : rows.entries(), firstId - 1, size);
+    }
+
+    /**
+     * Returns the page after the given workout in {@code /view_log} order, i.e. the next older
+     * workouts of its month. After the oldest workout of a month this is the first page of the
+     * previous month that has workouts. The cursor does not need to be indexed any more, so
+     * workouts deleted meanwhile do not shift the page.
+     *
+     * @param cursor the last workout of the current page
+     * @param size   the largest number of workouts to return
+     * @return the next page, or {@code null} if there are no older workouts
+     * @throws IOException if the index file cannot be read
+     */
+    public Page pageOlderThan(Entry cursor, int size) throws IOException {
+        ensureLoaded();
+        MonthRows rows = months.get(cursor.month());
+        if (rows != null) {
+            int older = insertionPoint(rows.entries(), cursor, false);
+            if (older > 0) {
+                return slice(cursor.month(), rows.entries(), rows.entries().size() - older, size);
+            }
+        }
+        Map.Entry<YearMonth, MonthRows> month = months.lowerEntry(cursor.month());
+        while (month != null && month.getValue().entries().isEmpty()) {
+            month = months.lowerEntry(month.getKey());
+        }
+        return (month == null) ? null : slice(month.getKey(), month.getValue().entries(), 0, size);
+    }
+
+    /**
+     * Returns the page before the given workout in {@code /view_log} order, i.e. the next newer
+     * workouts of its month. Before the newest workout of a month this is the last page of the
+     * next month that has workouts.
+     *
+     * @param cursor the first workout of the current page
+     * @param size   the largest number of workouts to return
+     * @return the previous page, or {@code null} if there are no newer workouts
+     * @throws IOException if the index file cannot be read
+     */
+    public Page pageNewerThan(Entry cursor, int size) throws IOException {
+        ensureLoaded();
+        MonthRows rows = months.get(cursor.month());
+        if (rows != null) {
+            int newer = rows.entries().size() - insertionPoint(rows.entries(), cursor, true);
+            if (newer > 0) {
+                int from = Math.max(0, newer - size);
+                return slice(cursor.month(), rows.entries(), from, newer - from);
+            }
+        }
+        Map.Entry<YearMonth, MonthRows> month = months.higherEntry(cursor.month());
+        while (month != null && month.getValue().entries().isEmpty()) {
+            month = months.higherEntry(month.getKey());
+        }
+        if (month == null) {
+            return null;
+        }
+        int total = month.getValue().entries().size();
+        return slice(month.getKey(), month.getValue().entries(), (total - 1) / size * size, size);
+    }
+
+    /**
+     * Returns the index of the first row after the cursor, or at or after it if {@code isAfter} is false.
+     */
+    private static int insertionPoint(List<Entry> rows, Entry cursor, boolean isAfter) {
+        int i = Collections.binarySearch(rows, cursor, ORDER);
+        if (i < 0) {
+            return -i - 1;
+        }
+        return isAfter ? i + 1 : i;
+    }
+
+    /**
+     * Copies up to {@code size} rows newest first, starting {@code skip} rows below the newest one.
+     */
+    private static Page slice(YearMonth month, List<Entry> rows, int skip, int size) {
+        List<Entry> page = new ArrayList<>(Math.max(0, Math.min(size, rows.size() - skip)));
+        for (int i = rows.size() - 1 - skip; i >= 0 && page.size() < size; i--) {
+            page.add(rows.get(i));
+        }
+        return new Page(month, page, skip + 1, rows.size());
+    }
+
+    private static boolean containsIgnoreCase(Set<String> tags, String tag) {
+        for (String t : tags) {
+            if (t.equalsIgnoreCase(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void ensureLoaded() throws IOException {
+        if (isLoaded) {
+            return;
+        }
+        isLoaded = true;
+        if (Files.notExists(indexFile)) {
+            return;
+        }
+
+        YearMonth month = null;
+        MonthCache.FileStamp stamp = null;
+        List<Entry> rows = new ArrayList<>();
+        try (BufferedReader br = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                String[] parts = line.split("\\|", -1);
+                if (parts[0].equals("MONTH") && parts.length == 6) {
+                    if (month != null) {
+                        months.put(month, new MonthRows(stamp, rows));
+                    }
+                    month = YearMonth.parse(parts[1]);
+                    stamp = new MonthCache.FileStamp(Long.parseLong(parts[2]), Long.parseLong(parts[3]),
+                            Long.parseLong(parts[4]), Long.parseLong(parts[5]));
+                    rows = new ArrayList<>();
+                } else if (parts[0].equals("ROW") && parts.length == 8 && month != null) {
+                    rows.add(new Entry(month, parseTime(parts[1]), parseTime(parts[2]), parts[3],
+                            splitList(parts[4]), new ArrayList<>(splitList(parts[5])),
+                            Integer.parseInt(parts[6]), Long.parseLong(parts[7])));
+                }
+            }
+        } catch (DateTimeParseException | NumberFormatException e) {
+            // A damaged index is only a cache; drop it and let every month be rebuilt.
+            months.clear();
+            return;
+        }
+        if (month != null) {
+            months.put(month, new MonthRows(stamp, rows));
+        }
+    }
+
+    private void save() throws IOException {
+        StringWriter buffer = new StringWriter();
+        try (BufferedWriter bw = new BufferedWriter(buffer)) {
+            for (Map.Entry<YearMonth, MonthRows> m : months.entrySet()) {
+                MonthCache.FileStamp s = m.getValue().stamp();
+                bw.write(String.join(SEPARATOR, "MONTH", m.getKey().toString(),
+                        String.valueOf(s.snapshotModified()), String.valueOf(s.snapshotSize()),
+                        String.valueOf(s.journalModified()), String.valueOf(s.journalSize())));
+                bw.newLine();
+                for (Entry e : m.getValue().entries()) {
+                    bw.write(String.join(SEPARATOR, "ROW", String.valueOf(e.start()), String.valueOf(e.end()),
+                            e.name(), joinList(e.tags()), joinList(e.exercises()),
+                            String.valueOf(e.volume()), String.valueOf(e.offset())));
+                    bw.newLine();
+                }
+            }
+        }
+        AtomicFiles.write(indexFile, buffer.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static LocalDateTime parseTime(String raw) {
+        return raw.equals("null") ? null : LocalDateTime.parse(raw);
+    }
+
+    private static String joinList(Iterable<String> values) {
+        StringBuilder sb = new StringBuilder();
+        for (String v : values) {
+            sb.append(v).append(',');
+        }
+        return sb.toString();
+    }
+
+    private static Set<String> splitList(String raw) {
+        Set<String> out = new LinkedHashSet<>();
+        for (String part : raw.split(",")) {
+            if (!part.isBlank()) {
+                out.add(part);
+            }
+        }
+        return out;
+    }
+}
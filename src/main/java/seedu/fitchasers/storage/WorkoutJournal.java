@@ -0,0 +1,434 @@
+package seedu.fitchasers.storage;
+
+import seedu.fitchasers.metrics.Metrics;
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+//@@author Kart04
+/**
+ * Append-only log of workout mutations, kept next to each month snapshot as
+ * {@code workouts_YYYY-MM.journal}.
+ * <p>
+ * Every mutation is a single line whose first field is the record type and whose second
+ * field is the start time of the workout it applies to:
+ * <pre>
+ *   CREATE|2025-10-14T15:00|Leg Day|strength,legs,|
+ *   EXERCISE|2025-10-14T15:00|Squat|12
+ *   SET|2025-10-14T15:00|Squat|10
+ *   END|2025-10-14T15:00|2025-10-14T16:00|60
+ * </pre>
+ * Writes are forced to disk in groups of {@link #SYNC_GROUP_SIZE} records, and
+ * {@link FileHandler} folds the journal back into the snapshot once it reaches
+ * {@link #COMPACT_THRESHOLD} records.
+ */
+public class WorkoutJournal {
+    public static final String EXTENSION = ".journal";
+    static final int SYNC_GROUP_SIZE = 16;
+    static final int COMPACT_THRESHOLD = 256;
+    private static final String SEPARATOR = "|";
+
+    private final Path workoutDir;
+    private final Map<YearMonth, Integer> recordCounts = new ConcurrentHashMap<>();
+    private YearMonth openMonth = null;
+    private FileChannel channel = null;
+    private int unsynced = 0;
+
+    /**
+     * Constructs a journal that stores its files in the given workout directory.
+     *
+     * @param workoutDir the directory holding the month snapshots
+     */
+    public WorkoutJournal(Path workoutDir) {
+        this.workoutDir = workoutDir;
+    }
+
+    // ----------------- Record builders -----------------
+
+    /**
+     * Builds the record for a newly created workout.
+     *
+     * @param workout the workout that was created
+     * @return the encoded journal line
+     */
+    public static String workoutCreated(Workout workout) {
+        return "CREATE" + SEPARATOR + workout.getWorkoutStartDateTime()
+                + SEPARATOR + workout.getWorkoutName()
+                + SEPARATOR + joinTags(workout.getAutoTags())
+                + SEPARATOR + joinTags(workout.getManualTags());
+    }
+
+    /**
+     * Builds the record for an exercise added to a workout.
+     *
+     * @param workout  the workout the exercise belongs to
+     * @param exercise the exercise that was added, holding its first set
+     * @return the encoded journal line
+     */
+    public static String exerciseAdded(Workout workout, Exercise exercise) {
+        return "EXERCISE" + SEPARATOR + workout.getWorkoutStartDateTime()
+                + SEPARATOR + exercise.getName()
+                + SEPARATOR + exercise.getSetLog().getReps(0);
+    }
+
+    /**
+     * Builds the record for a set added to an existing exercise.
+     *
+     * @param workout  the workout the exercise belongs to
+     * @param exercise the exercise that received the set
+     * @param reps     the number of reps in the new set
+     * @return the encoded journal line
+     */
+    public static String setAdded(Workout workout, Exercise exercise, int reps) {
+        return "SET" + SEPARATOR + workout.getWorkoutStartDateTime()
+                + SEPARATOR + exercise.getName()
+                + SEPARATOR + reps;
+    }
+
+    /**
+     * Builds the record for a workout that has been ended.
+     *
+     * @param workout the workout that was ended
+     * @return the encoded journal line
+     */
+    public static String workoutEnded(Workout workout) {
+        return "END" + SEPARATOR + workout.getWorkoutStartDateTime()
+                + SEPARATOR + workout.getWorkoutEndDateTime()
+                + SEPARATOR + workout.getDuration();
+    }
+
+    private static String joinTags(Set<String> tags) {
+        StringBuilder sb = new StringBuilder();
+        for (String tag : tags) {
+            sb.append(tag).append(',');
+        }
+        return sb.toString();
+    }
+
+    // ----------------- File operations -----------------
+
+    /**
+     * Appends one record to the journal of the given month.
+     * The record is forced to disk once {@link #SYNC_GROUP_SIZE} records are pending.
+     *
+     * @param month  the month the mutation belongs to
+     * @param record the encoded journal line
+     * @return the number of records now held in that month's journal
+     * @throws IOException if writing fails
+     */
+    public int append(YearMonth month, String record) throws IOException {
+        assert record != null && !record.contains("\n") : "Journal records must be single lines";
+        int count = recordsIn(month) + 1;
+        FileChannel out = channelFor(month);
+        byte[] bytes = (record + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+        out.write(ByteBuffer.wrap(bytes));
+        Metrics.addBytesWritten(bytes.length);
+        unsynced++;
+        if (unsynced >= SYNC_GROUP_SIZE) {
+            out.force(false);
+            unsynced = 0;
+        }
+        recordCounts.put(month, count);
+        return count;
+    }
+
+    /**
+     * Forces any pending records to disk and closes the open journal file.
+     *
+     * @throws IOException if syncing fails
+     */
+    public void flush() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.force(false);
+        } finally {
+            channel.close();
+            channel = null;
+            openMonth = null;
+            unsynced = 0;
+        }
+    }
+
+    /**
+     * Deletes the journal of the given month, typically after its records were folded into the snapshot.
+     *
+     * @param month the month whose journal should be removed
+     * @throws IOException if deletion fails
+     */
+    public void discard(YearMonth month) throws IOException {
+        if (month.equals(openMonth)) {
+            flush();
+        }
+        Files.deleteIfExists(pathFor(month));
+        recordCounts.put(month, 0);
+    }
+
+    /**
+     * Applies every record of the given month's journal onto a loaded snapshot.
+     * Unreadable records, such as a line torn by a crash, are skipped.
+     *
+     * @param month    the month to replay
+     * @param workouts the workouts read from the snapshot, updated in place
+     * @return the number of records that could not be applied
+     * @throws IOException if reading fails
+     */
+    public int replay(YearMonth month, ArrayList<Workout> workouts) throws IOException {
+        return replayLines(month, line -> apply(line, workouts));
+    }
+
+    /**
+     * Adds every record of the given month's journal to a summary of its snapshot.
+     * Unreadable records are skipped.
+     *
+     * @param month   the month to replay
+     * @param summary the summary of the snapshot, updated in place
+     * @return the number of records that could not be applied
+     * @throws IOException if reading fails
+     */
+    int replay(YearMonth month, MonthSummary summary) throws IOException {
+        return replayLines(month, line -> summarize(line, summary));
+    }
+
+    private int replayLines(YearMonth month, Predicate<String> apply) throws IOException {
+        Path path = pathFor(month);
+        if (Files.notExists(path)) {
+            recordCounts.put(month, 0);
+            return 0;
+        }
+        if (month.equals(openMonth)) {
+            channel.force(false);
+        }
+
+        int applied = 0;
+        int skipped = 0;
+        Metrics.addBytesRead(Files.size(path));
+        try (BufferedReader br = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (apply.test(line)) {
+                    applied++;
+                } else {
+                    skipped++;
+                }
+            }
+        }
+        recordCounts.put(month, applied + skipped);
+        return skipped;
+    }
+
+    /**
+     * Applies records that have not been written to a journal file yet onto a list of workouts.
+     *
+     * @param records  the encoded journal lines, oldest first
+     * @param workouts the workouts to update in place
+     * @return the number of records that could not be applied
+     */
+    static int applyRecords(List<String> records, List<Workout> workouts) {
+        int skipped = 0;
+        for (String record : records) {
+            if (!apply(record, workouts)) {
+                skipped++;
+            }
+        }
+        return skipped;
+    }
+
+    private static boolean apply(String line, List<Workout> workouts) {
+        String[] parts = line.split("\\|", -1);
+        if (parts.length < 3) {
+            return false;
+        }
+        try {
+            LocalDateTime start = LocalDateTime.parse(parts[1]);
+            switch (parts[0]) {
+            case "CREATE": {
+                if (parts.length != 5) {
+                    return false;
+                }
+                Workout workout = new Workout(parts[2], start);
+                workout.setAutoTags(splitTags(parts[3]));
+                workout.setManualTags(splitTags(parts[4]));
+                workouts.add(workout);
+                return true;
+            }
+            case "EXERCISE": {
+                Workout workout = findByStart(workouts, start);
+                if (workout == null || parts.length != 4) {
+                    return false;
+                }
+                workout.addExercise(new Exercise(parts[2], Integer.parseInt(parts[3])));
+                return true;
+            }
+            case "SET": {
+                Workout workout = findByStart(workouts, start);
+                Exercise exercise = (workout == null) ? null : findExercise(workout, parts[2]);
+                if (exercise == null || parts.length != 4) {
+                    return false;
+                }
+                exercise.addSet(Integer.parseInt(parts[3]));
+                return true;
+            }
+            case "END": {
+                Workout workout = findByStart(workouts, start);
+                if (workout == null || parts.length != 4) {
+                    return false;
+                }
+                workout.setWorkoutEndDateTime(LocalDateTime.parse(parts[2]));
+                workout.setDuration(Integer.parseInt(parts[3]));
+                return true;
+            }
+            default:
+                return false;
+            }
+        } catch (DateTimeParseException | NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Adds the effect of one record to a month summary. Unlike {@link #apply}, the workout a record
+     * refers to is not looked up, since the summary holds totals only.
+     */
+    private static boolean summarize(String line, MonthSummary summary) {
+        String[] parts = line.split("\\|", -1);
+        if (parts.length < 3) {
+            return false;
+        }
+        try {
+            LocalDateTime.parse(parts[1]);
+            switch (parts[0]) {
+            case "CREATE": {
+                if (parts.length != 5) {
+                    return false;
+                }
+                Set<String> tags = splitTags(parts[3]);
+                tags.addAll(splitTags(parts[4]));
+                summary.addWorkout(tags, 0);
+                return true;
+            }
+            case "EXERCISE":
+            case "SET":
+                if (parts.length != 4) {
+                    return false;
+                }
+                summary.addReps(parts[2], Integer.parseInt(parts[3]));
+                return true;
+            case "END":
+                if (parts.length != 4) {
+                    return false;
+                }
+                LocalDateTime.parse(parts[2]);
+                summary.addMinutes(Integer.parseInt(parts[3]));
+                return true;
+            default:
+                return false;
+            }
+        } catch (DateTimeParseException | NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Adds the effect of one record to the search index. Only the records that change what a workout
+     * can be found by matter: its creation and each new exercise.
+     */
+    static void index(String record, SearchIndex index) {
+        String[] parts = record.split("\\|", -1);
+        try {
+            if (parts[0].equals("CREATE") && parts.length == 5) {
+                Set<String> tags = splitTags(parts[3]);
+                tags.addAll(splitTags(parts[4]));
+                index.put(new SearchIndex.Match(LocalDateTime.parse(parts[1]), parts[2], tags,
+                        new LinkedHashSet<>()));
+            } else if (parts[0].equals("EXERCISE") && parts.length == 4) {
+                index.addExercise(LocalDateTime.parse(parts[1]), parts[2]);
+            }
+        } catch (DateTimeParseException e) {
+            // left for the next save of the month, which re-indexes all of its workouts
+        }
+    }
+
+    private static Workout findByStart(List<Workout> workouts, LocalDateTime start) {
+        for (int i = workouts.size() - 1; i >= 0; i--) {
+            if (start.equals(workouts.get(i).getWorkoutStartDateTime())) {
+                return workouts.get(i);
+            }
+        }
+        return null;
+    }
+
+    private static Exercise findExercise(Workout workout, String name) {
+        List<Exercise> exercises = workout.getExercises();
+        for (int i = exercises.size() - 1; i >= 0; i--) {
+            if (exercises.get(i).getName().equalsIgnoreCase(name)) {
+                return exercises.get(i);
+            }
+        }
+        return null;
+    }
+
+    private static Set<String> splitTags(String raw) {
+        Set<String> out = new LinkedHashSet<>();
+        for (String part : raw.split(",")) {
+            if (!part.isBlank()) {
+                out.add(part.trim());
+            }
+        }
+        return out;
+    }
+
+    private FileChannel channelFor(YearMonth month) throws IOException {
+        if (month.equals(openMonth) && channel != null) {
+            return channel;
+        }
+        flush();
+        channel = FileChannel.open(pathFor(month), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        openMonth = month;
+        return channel;
+    }
+
+    private int recordsIn(YearMonth month) throws IOException {
+        Integer cached = recordCounts.get(month);
+        if (cached != null) {
+            return cached;
+        }
+        Path path = pathFor(month);
+        int count = 0;
+        if (Files.exists(path)) {
+            try (BufferedReader br = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                while (br.readLine() != null) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    Path pathFor(YearMonth month) {
+        return workoutDir.resolve("workouts_" + month + EXTENSION);
+    }
+}
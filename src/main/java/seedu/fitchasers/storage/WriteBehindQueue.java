@@ -0,0 +1,402 @@
+package seedu.fitchasers.storage;
+
+import seedu.fitchasers.metrics.Metrics;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.YearMonth;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+
+//@@author Kart04
+/**
+ * Month writes waiting to be performed by a background writer thread, so that saving a month
+ * never makes the command loop wait for the disk.
+ * <p>
+ * Each dirty month holds at most one snapshot of its workouts followed by the journal records
+ * added after it. A new snapshot replaces both, so any number of saves of a month before the
+ * writer gets to it cost a single write. At most {@link #CAPACITY} months can be dirty at once;
+ * beyond that a caller waits for the writer to catch up.
+ * <p>
+ * The writer holds the given disk lock for the whole of each write, so a reader holding the same
+ * lock sees every change either on disk or in {@link #pending}, never in neither.
+ * {@link #flush()} must not be called while holding the disk lock.
+ * <p>
+ * A failed write stays queued and is retried on the next submission or flush; its error is
+ * reported by that call.
+ * <p>
+ * While the queue is {@linkplain #hold() held}, as during a batch of scripted commands, the writer
+ * only writes when asked to flush, and records are folded into a queued snapshot of their month.
+ * Each month changed by the batch is then written once, as a snapshot without a journal.
+ * <p>
+ * Other work that needs the disk lock but should not hold up the command loop, such as building
+ * the search index, can be {@linkplain #submitTask submitted} too. It runs once no month is waiting
+ * to be written, and {@link #flush()} waits for it as well.
+ */
+final class WriteBehindQueue {
+    static final int CAPACITY = 64;
+
+    /**
+     * Performs the writes of one month.
+     */
+    interface MonthWriter {
+        /**
+         * Replaces a month file with the given workouts.
+         *
+         * @param month    the month to write
+         * @param snapshot the workouts of the month
+         * @throws IOException if writing fails
+         */
+        void writeSnapshot(YearMonth month, ArrayList<Workout> snapshot) throws IOException;
+
+        /**
+         * Appends one record to a month's journal.
+         *
+         * @param month  the month the record belongs to
+         * @param record the encoded journal line
+         * @throws IOException if writing fails
+         */
+        void appendRecord(YearMonth month, String record) throws IOException;
+
+        /**
+         * Called after the snapshot and records of a month have been written, to write anything
+         * collected while writing them in one go.
+         *
+         * @param month the month that was written
+         * @throws IOException if writing fails; the month is retried like a failed write
+         */
+        void finishMonth(YearMonth month) throws IOException;
+    }
+
+    /**
+     * Copy of what is waiting to be written for a month.
+     *
+     * @param snapshot copies of the workouts of the pending snapshot, or {@code null} if there is none
+     * @param records  the journal records to apply after the snapshot, oldest first
+     */
+    record Pending(ArrayList<Workout> snapshot, List<String> records) {
+    }
+
+    private static final class Entry {
+        private ArrayList<Workout> snapshot = null;
+        private final ArrayDeque<String> records = new ArrayDeque<>();
+    }
+
+    private final MonthWriter writer;
+    private final Lock diskLock;
+    private final String threadName;
+    private final LinkedHashMap<YearMonth, Entry> queued = new LinkedHashMap<>();
+    private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+    private boolean isTaskRunning = false;
+    private YearMonth inFlightMonth = null;
+    private Entry inFlight = null;
+    private IOException failure = null;
+    private boolean isRetryAllowed = true;
+    private boolean isHeld = false;
+    private int flushers = 0;
+    private Thread thread = null;
+
+    /**
+     * Constructs a queue whose writer thread is started on the first submission.
+     *
+     * @param writer     performs the writes
+     * @param diskLock   held by the writer thread around each write
+     * @param threadName the name of the writer thread
+     */
+    WriteBehindQueue(MonthWriter writer, Lock diskLock, String threadName) {
+        this.writer = writer;
+        this.diskLock = diskLock;
+        this.threadName = threadName;
+    }
+
+    /**
+     * Queues a full snapshot of a month, replacing anything already queued for it.
+     *
+     * @param month    the month to save
+     * @param snapshot the workouts to save; the caller must not change them afterwards
+     * @throws IOException if an earlier write failed; this snapshot is still queued
+     */
+    synchronized void submitSnapshot(YearMonth month, ArrayList<Workout> snapshot) throws IOException {
+        Entry entry = entryForSubmit(month);
+        entry.snapshot = snapshot;
+        entry.records.clear();
+        afterSubmit();
+    }
+
+    /**
+     * Queues one journal record for a month, after anything already queued for it.
+     *
+     * @param month  the month the record belongs to
+     * @param record the encoded journal line
+     * @throws IOException if an earlier write failed; this record is still queued
+     */
+    synchronized void submitRecord(YearMonth month, String record) throws IOException {
+        entryForSubmit(month).records.add(record);
+        afterSubmit();
+    }
+
+    /**
+     * Queues work for the writer thread, which runs it holding the disk lock once no month is waiting
+     * to be written. The task must not touch the console; it reports what it finds through state
+     * that the caller reads after {@link #flush()}.
+     *
+     * @param task the work to run
+     * @throws IOException if an earlier write failed; the task is still queued
+     */
+    synchronized void submitTask(Runnable task) throws IOException {
+        tasks.add(task);
+        afterSubmit();
+    }
+
+    /**
+     * Applies a record to the queued snapshot of its month instead of queuing it, if the queue is
+     * held and the month has a snapshot queued with no records after it.
+     *
+     * @param month  the month the record belongs to
+     * @param record the encoded journal line
+     * @return {@code true} if the record was folded into the snapshot
+     */
+    synchronized boolean foldRecord(YearMonth month, String record) {
+        Entry entry = queued.get(month);
+        if (!isHeld || entry == null || entry.snapshot == null || !entry.records.isEmpty()) {
+            return false;
+        }
+        // a record that does not apply would be skipped when replayed from the journal, too
+        WorkoutJournal.applyRecords(List.of(record), entry.snapshot);
+        return true;
+    }
+
+    /**
+     * Stops the writer from writing until the next {@link #flush()} or {@link #release()}, and lifts
+     * the limit on dirty months meanwhile.
+     */
+    synchronized void hold() {
+        isHeld = true;
+    }
+
+    /**
+     * Lets the writer write queued months on its own again.
+     */
+    synchronized void release() {
+        isHeld = false;
+        notifyAll();
+    }
+
+    private Entry entryForSubmit(YearMonth month) throws InterruptedIOException {
+        while (!isHeld && queued.size() >= CAPACITY && !queued.containsKey(month)) {
+            awaitChange();
+        }
+        return queued.computeIfAbsent(month, m -> new Entry());
+    }
+
+    private void afterSubmit() throws IOException {
+        isRetryAllowed = true;
+        if (thread == null) {
+            thread = new Thread(() -> {
+                Metrics.markBackgroundThread();
+                runWriter();
+            }, threadName);
+            // the shutdown hook and /exit flush; a daemon thread never keeps the JVM alive on its own
+            thread.setDaemon(true);
+            thread.start();
+        }
+        notifyAll();
+        rethrowFailure();
+    }
+
+    /**
+     * Returns whether anything is queued or being written for a month.
+     *
+     * @param month the month to check
+     * @return {@code true} if the month has unwritten changes
+     */
+    synchronized boolean isPending(YearMonth month) {
+        return queued.containsKey(month) || month.equals(inFlightMonth);
+    }
+
+    /**
+     * Returns a copy of what is waiting to be written for a month.
+     * The caller must hold the disk lock, so that no write of the month is in progress.
+     *
+     * @param month the month to look up
+     * @return the pending changes, or {@code null} if the month has none
+     */
+    synchronized Pending pending(YearMonth month) {
+        assert inFlight == null : "The disk lock must be held while reading pending changes";
+        Entry entry = queued.get(month);
+        if (entry == null) {
+            return null;
+        }
+        ArrayList<Workout> snapshot = (entry.snapshot == null) ? null : copyOf(entry.snapshot);
+        return new Pending(snapshot, new ArrayList<>(entry.records));
+    }
+
+    private static ArrayList<Workout> copyOf(List<Workout> workouts) {
+        ArrayList<Workout> copy = new ArrayList<>(workouts.size());
+        for (Workout w : workouts) {
+            copy.add(w.copy());
+        }
+        return copy;
+    }
+
+    /**
+     * Waits until every queued month has been written and every submitted task has run.
+     *
+     * @throws IOException if a write failed; the failed month stays queued
+     */
+    synchronized void flush() throws IOException {
+        isRetryAllowed = true;
+        flushers++;
+        notifyAll();
+        try {
+            while ((!queued.isEmpty() || inFlight != null || !tasks.isEmpty() || isTaskRunning)
+                    && failure == null) {
+                awaitChange();
+            }
+        } finally {
+            flushers--;
+        }
+        rethrowFailure();
+    }
+
+    private void rethrowFailure() throws IOException {
+        if (failure != null) {
+            IOException error = failure;
+            failure = null;
+            throw new IOException("Could not save your workouts: " + error.getMessage(), error);
+        }
+    }
+
+    private void awaitChange() throws InterruptedIOException {
+        try {
+            wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for workouts to be saved");
+        }
+    }
+
+    private void runWriter() {
+        while (true) {
+            synchronized (this) {
+                while ((queued.isEmpty() && tasks.isEmpty()) || !isRetryAllowed || (isHeld && flushers == 0)) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }
+            diskLock.lock();
+            try {
+                if (!writeOldest()) {
+                    runTask();
+                }
+            } finally {
+                diskLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Writes the month that has waited longest.
+     *
+     * @return {@code false} if no month was waiting
+     */
+    private boolean writeOldest() {
+        YearMonth month;
+        Entry entry;
+        synchronized (this) {
+            Iterator<Map.Entry<YearMonth, Entry>> oldest = queued.entrySet().iterator();
+            if (!oldest.hasNext()) {
+                return false;
+            }
+            Map.Entry<YearMonth, Entry> next = oldest.next();
+            oldest.remove();
+            month = next.getKey();
+            entry = next.getValue();
+            inFlightMonth = month;
+            inFlight = entry;
+        }
+
+        IOException error = null;
+        try {
+            if (entry.snapshot != null) {
+                writer.writeSnapshot(month, entry.snapshot);
+                synchronized (this) {
+                    entry.snapshot = null;
+                }
+            }
+            while (!entry.records.isEmpty()) {
+                writer.appendRecord(month, entry.records.peek());
+                synchronized (this) {
+                    // a record is dropped only once written, so a retry never appends it twice
+                    entry.records.poll();
+                }
+            }
+            writer.finishMonth(month);
+        } catch (IOException e) {
+            error = e;
+        } catch (RuntimeException e) {
+            error = new IOException(e.toString(), e);
+        }
+
+        synchronized (this) {
+            inFlightMonth = null;
+            inFlight = null;
+            if (error != null) {
+                requeue(month, entry);
+                failure = error;
+                isRetryAllowed = false;
+            }
+            notifyAll();
+        }
+        return true;
+    }
+
+    private void runTask() {
+        Runnable task;
+        synchronized (this) {
+            task = tasks.poll();
+            if (task == null) {
+                return;
+            }
+            isTaskRunning = true;
+        }
+
+        IOException error = null;
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            error = new IOException(e.toString(), e);
+        }
+
+        synchronized (this) {
+            isTaskRunning = false;
+            if (error != null) {
+                failure = error;
+                isRetryAllowed = false;
+            }
+            notifyAll();
+        }
+    }
+
+    private void requeue(YearMonth month, Entry failed) {
+        Entry newer = queued.get(month);
+        if (newer == null) {
+            queued.put(month, failed);
+        } else if (newer.snapshot == null) {
+            // the newer records were made after the failed ones, so they go last
+            failed.records.addAll(newer.records);
+            newer.snapshot = failed.snapshot;
+            newer.records.clear();
+            newer.records.addAll(failed.records);
+        }
+    }
+}
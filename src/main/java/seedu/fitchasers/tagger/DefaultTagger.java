@@ -1,9 +1,14 @@
 package seedu.fitchasers.tagger;
 
+import seedu.fitchasers.workouts.Exercise;
 import seedu.fitchasers.workouts.Workout;
 
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 //@@author Kart04
@@ -15,8 +20,10 @@ import java.util.Set;
  * keyword mappings organized by modality and muscle group enums.
  * </p>
  * <p>
- * Keywords are matched case-insensitively against the workout name. Multiple tags can be
- * suggested for a single workout if multiple keywords match.
+ * Keywords are matched case-insensitively against the workout name and the names of its
+ * exercises. Multiple tags can be suggested for a single workout if multiple keywords match.
+ * All keywords are compiled into one {@link KeywordAutomaton}, so each name is scanned once
+ * regardless of how many keywords exist; the automaton is rebuilt lazily after keywords are added.
  * </p>
  *
  * @see Tagger
@@ -26,6 +33,7 @@ import java.util.Set;
 public class DefaultTagger implements Tagger {
     private final EnumMap<Modality, Set<String>> modalityKeywords = new EnumMap<>(Modality.class);
     private final EnumMap<MuscleGroup, Set<String>> muscleKeywords = new EnumMap<>(MuscleGroup.class);
+    private KeywordAutomaton automaton = null;
 
     public DefaultTagger() {
         // Modality keywords
@@ -53,11 +61,11 @@ public class DefaultTagger implements Tagger {
     }
 
     /**
-     * Suggests workout tags based on keywords found in the workout name.
+     * Suggests workout tags based on keywords found in the workout name and its exercise names.
      * <p>
-     * Analyzes the workout name (case-insensitive) against predefined modality and
+     * Analyzes the names (case-insensitive) against predefined modality and
      * muscle group keywords. Returns a set of matching tags in standardized lowercase
-     * format. Muscle group tags have underscores replaced with hyphens.
+     * format, modalities first. Muscle group tags have underscores replaced with hyphens.
      *
      * @param w the Workout to analyze for tag suggestions
      * @return a Set of suggested tag strings in lowercase; empty if no keywords match
@@ -66,34 +74,47 @@ public class DefaultTagger implements Tagger {
      */
     @Override
     public Set<String> suggest(Workout w) {
+        KeywordAutomaton matcher = getAutomaton();
         String workoutName = w.getWorkoutName();
-        String text;
+        long found = 0;
         if (workoutName != null && !workoutName.trim().isEmpty()) {
-            text = workoutName.toLowerCase();
-        } else {
-            text = "";
+            found = matcher.match(workoutName.toLowerCase());
         }
-        Set<String> tags = new LinkedHashSet<>();
+        for (Exercise exercise : w.getExercises()) {
+            found |= matcher.match(exercise.getName().toLowerCase());
+        }
+        return matcher.tagsOf(found);
+    }
 
-        // Modality
+    // Synchronized so bulk re-tagging can call suggest from several threads.
+    private synchronized KeywordAutomaton getAutomaton() {
+        if (automaton != null) {
+            return automaton;
+        }
+        // Bit i of a keyword's mask stands for tagNames.get(i): modalities first, then muscle groups.
+        List<String> tagNames = new ArrayList<>();
+        Map<String, Long> keywordMasks = new HashMap<>();
         for (var entry : modalityKeywords.entrySet()) {
-            for (String keyword : entry.getValue()) {
-                if (text.contains(keyword)) {
-                    tags.add(entry.getKey().name().toLowerCase());
-                }
-            }
+            addTag(entry.getKey().name().toLowerCase(), entry.getValue(), tagNames, keywordMasks);
         }
-
-        // Muscle groups (can add multiple)
         for (var entry : muscleKeywords.entrySet()) {
-            for (String keyword : entry.getValue()) {
-                if (text.contains(keyword)) {
-                    tags.add(entry.getKey().name().toLowerCase().replace('_', '-'));
-                }
-            }
+            addTag(entry.getKey().name().toLowerCase().replace('_', '-'), entry.getValue(), tagNames, keywordMasks);
         }
+        automaton = new KeywordAutomaton(tagNames, keywordMasks);
+        return automaton;
+    }
 
-        return tags;
+    private static void addTag(String tag, Set<String> keywords, List<String> tagNames,
+                               Map<String, Long> keywordMasks) {
+        int bit = tagNames.indexOf(tag);
+        if (bit < 0) {
+            bit = tagNames.size();
+            tagNames.add(tag);
+        }
+        long mask = 1L << bit;
+        for (String keyword : keywords) {
+            keywordMasks.merge(keyword, mask, (a, b) -> a | b);
+        }
     }
 
     /**
@@ -106,7 +127,10 @@ public class DefaultTagger implements Tagger {
      * @param keyword The keyword describing the modality.
      */
     public void addModalityKeyword(Modality modality, String keyword) {
-        modalityKeywords.computeIfAbsent(modality, k -> new LinkedHashSet<>()).add(keyword.toLowerCase());
+        synchronized (this) {
+            modalityKeywords.computeIfAbsent(modality, k -> new LinkedHashSet<>()).add(keyword.toLowerCase());
+            automaton = null;
+        }
     }
 
     /**
@@ -119,6 +143,9 @@ public class DefaultTagger implements Tagger {
      * @param keyword The keyword describing the muscle group.
      */
     public void addMuscleKeyword(MuscleGroup muscle, String keyword) {
-        muscleKeywords.computeIfAbsent(muscle, k -> new LinkedHashSet<>()).add(keyword.toLowerCase());
+        synchronized (this) {
+            muscleKeywords.computeIfAbsent(muscle, k -> new LinkedHashSet<>()).add(keyword.toLowerCase());
+            automaton = null;
+        }
     }
 }
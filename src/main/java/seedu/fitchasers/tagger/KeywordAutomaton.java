@@ -0,0 +1,142 @@
+package seedu.fitchasers.tagger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+//@@author Kart04
+/**
+ * Aho-Corasick automaton that finds every keyword occurring in a text in a single pass.
+ * <p>
+ * Each keyword carries a bit mask of the tags it implies, and {@link #match} returns the union of
+ * the masks of all keywords found, so a text is scanned once no matter how many keywords there are.
+ * The automaton is immutable; {@link DefaultTagger} builds a new one when its keywords change.
+ */
+final class KeywordAutomaton {
+    private static final int ROOT = 0;
+
+    private final List<String> tags;
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] fail;
+    private final long[] outputs;
+
+    /**
+     * Builds the automaton.
+     *
+     * @param tags         the tag names; bit {@code i} of a mask stands for {@code tags.get(i)}
+     * @param keywordMasks each keyword, already lowercased, mapped to the mask of tags it implies
+     */
+    KeywordAutomaton(List<String> tags, Map<String, Long> keywordMasks) {
+        assert tags.size() <= Long.SIZE : "Too many tags for a 64-bit mask";
+        this.tags = List.copyOf(tags);
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Long> masks = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        masks.add(0L);
+
+        for (Map.Entry<String, Long> entry : keywordMasks.entrySet()) {
+            int node = ROOT;
+            for (char c : entry.getKey().toCharArray()) {
+                Integer child = trie.get(node).get(c);
+                if (child == null) {
+                    child = trie.size();
+                    trie.add(new TreeMap<>());
+                    masks.add(0L);
+                    trie.get(node).put(c, child);
+                }
+                node = child;
+            }
+            masks.set(node, masks.get(node) | entry.getValue());
+        }
+
+        int size = trie.size();
+        edgeChars = new char[size][];
+        edgeTargets = new int[size][];
+        outputs = new long[size];
+        for (int i = 0; i < size; i++) {
+            TreeMap<Character, Integer> edges = trie.get(i);
+            edgeChars[i] = new char[edges.size()];
+            edgeTargets[i] = new int[edges.size()];
+            int e = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[i][e] = edge.getKey();
+                edgeTargets[i][e] = edge.getValue();
+                e++;
+            }
+            outputs[i] = masks.get(i);
+        }
+
+        // Breadth-first so every fail link points at a node whose own links are already final,
+        // and each node inherits the outputs of the keywords that end at its fail link.
+        fail = new int[size];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[ROOT]) {
+            fail[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int e = 0; e < edgeChars[node].length; e++) {
+                char c = edgeChars[node][e];
+                int child = edgeTargets[node][e];
+                int f = fail[node];
+                while (f != ROOT && step(f, c) < 0) {
+                    f = fail[f];
+                }
+                int target = step(f, c);
+                fail[child] = (target < 0 || target == child) ? ROOT : target;
+                outputs[child] |= outputs[fail[child]];
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Returns the union of the tag masks of every keyword occurring in the text.
+     *
+     * @param text the lowercased text to scan
+     * @return the combined tag mask, or 0 if no keyword occurs
+     */
+    long match(String text) {
+        long found = outputs[ROOT];
+        int node = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int next = step(node, c);
+            while (next < 0 && node != ROOT) {
+                node = fail[node];
+                next = step(node, c);
+            }
+            node = (next < 0) ? ROOT : next;
+            found |= outputs[node];
+        }
+        return found;
+    }
+
+    /**
+     * Returns the names of the tags in a mask, in tag order.
+     *
+     * @param mask a mask returned by {@link #match}
+     * @return the tag names
+     */
+    Set<String> tagsOf(long mask) {
+        Set<String> out = new LinkedHashSet<>();
+        for (int i = 0; i < tags.size(); i++) {
+            if ((mask & (1L << i)) != 0) {
+                out.add(tags.get(i));
+            }
+        }
+        return out;
+    }
+
+    private int step(int node, char c) {
+        int e = Arrays.binarySearch(edgeChars[node], c);
+        return (e < 0) ? -1 : edgeTargets[node][e];
+    }
+}
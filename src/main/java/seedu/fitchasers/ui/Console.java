@@ -0,0 +1,132 @@
+package seedu.fitchasers.ui;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.Reader;
+
+//@@author Exceptional-Khoi
+/**
+ * Reads every line of input and writes every line of output of the app.
+ * <p>
+ * There is one shared console, reached through {@link #shared()}, so all {@link UI} instances read
+ * from the same buffered reader instead of each wrapping standard input in its own scanner, which
+ * would read ahead and take lines meant for the others. Output is collected in a buffer and written
+ * in one go when input is read or {@link #flush()} is called. While output is held by {@link #hold()},
+ * as it is during a command, a command's output is written once, when it finishes.
+ */
+public class Console {
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+    private static Console shared;
+
+    private final InputStream stdin;
+    private final PrintStream out;
+    private BufferedReader in;
+    private final StringBuilder pending = new StringBuilder();
+    private boolean isHeld = false;
+
+    /**
+     * Constructs a console that reads {@code in} and writes {@code out}.
+     *
+     * @param in  the input stream to read lines from
+     * @param out the stream to write output to
+     */
+    public Console(InputStream in, PrintStream out) {
+        this.stdin = in;
+        this.out = out;
+        this.in = new BufferedReader(new InputStreamReader(in));
+    }
+
+    /**
+     * Returns the console over standard input and output.
+     * <p>
+     * A new one is made only if {@code System.in} or {@code System.out} was replaced since the last
+     * call, as tests do, after writing out what the old one still held.
+     */
+    public static synchronized Console shared() {
+        if (shared == null || shared.stdin != System.in || shared.out != System.out) {
+            if (shared != null) {
+                shared.flush();
+            }
+            shared = new Console(System.in, System.out);
+        }
+        return shared;
+    }
+
+    /**
+     * Reads lines from {@code source} from now on instead of the input stream, as batch mode does.
+     *
+     * @param source the lines to read
+     */
+    public void readFrom(Reader source) {
+        in = (source instanceof BufferedReader reader) ? reader : new BufferedReader(source);
+    }
+
+    /**
+     * Writes out any held output, then reads the next line of input.
+     *
+     * @return the line without its line terminator, or {@code null} at the end of the input
+     * @throws IOException if the input cannot be read
+     */
+    public String readLine() throws IOException {
+        flush();
+        return in.readLine();
+    }
+
+    /**
+     * Writes {@code text} followed by a line separator.
+     */
+    public void println(CharSequence text) {
+        pending.append(text).append(System.lineSeparator());
+        afterWrite();
+    }
+
+    /**
+     * Writes a line separator.
+     */
+    public void println() {
+        println("");
+    }
+
+    /**
+     * Writes {@code text} as it is.
+     */
+    public void print(CharSequence text) {
+        pending.append(text);
+        afterWrite();
+    }
+
+    /**
+     * Keeps output in the buffer until {@link #release()}, input is read, or the buffer grows large.
+     */
+    public void hold() {
+        isHeld = true;
+    }
+
+    /**
+     * Stops holding output and writes out everything held.
+     */
+    public void release() {
+        isHeld = false;
+        flush();
+    }
+
+    /**
+     * Writes out the buffered output.
+     */
+    public void flush() {
+        if (!pending.isEmpty()) {
+            out.append(pending);
+            pending.setLength(0);
+        }
+        out.flush();
+    }
+
+    private void afterWrite() {
+        if (!isHeld || pending.length() >= FLUSH_THRESHOLD) {
+            flush();
+        }
+    }
+}
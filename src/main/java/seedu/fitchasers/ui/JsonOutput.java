@@ -0,0 +1,167 @@
+package seedu.fitchasers.ui;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+//@@author Exceptional-Khoi
+/**
+ * Collects what a command shows and writes it as one line of JSON, for scripts that drive FitChasers.
+ * <p>
+ * Each command produces a record such as
+ * <pre>
+ * {"type": "result", "command": "/view_weight", "status": "ok", "ms": 1.25, "messages": [], "errors": [],
+ *  "data": {"weights": [{"date": "2025-10-01", "weight": 72.0}], ...}}
+ * </pre>
+ * where {@code status} is {@code error} if the command failed, as shown with {@link UI#showFailure}, and
+ * {@code ok} otherwise, even if it showed errors it carried on after. {@code ms} is how long it took,
+ * and {@code data} holds structured results such as workouts or weights. A {@code prompt} record is
+ * written when a command asks for input, and a {@code notice} record for messages shown outside a
+ * command, such as at startup.
+ */
+public class JsonOutput {
+    private final List<String> messages = new ArrayList<>();
+    private final List<String> errors = new ArrayList<>();
+    private final Map<String, Object> data = new LinkedHashMap<>();
+    private final StringBuilder line = new StringBuilder();
+    private String command = null;
+    private long startNanos;
+
+    /**
+     * Returns a JSON object of the given keys and values, in order, for {@link UI#showData}.
+     *
+     * @param keysAndValues alternating keys and values
+     */
+    public static Map<String, Object> object(Object... keysAndValues) {
+        Map<String, Object> object = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < keysAndValues.length; i += 2) {
+            object.put((String) keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return object;
+    }
+
+    void begin(String commandLine) {
+        writeNotice();
+        command = commandLine;
+        startNanos = System.nanoTime();
+    }
+
+    void message(String text) {
+        messages.add(text);
+    }
+
+    void error(String text) {
+        errors.add(text);
+    }
+
+    void data(String key, Object value) {
+        data.put(key, value);
+    }
+
+    /**
+     * Writes the result of the command that started with {@link #begin}.
+     *
+     * @param isFailed whether the command failed
+     */
+    void end(boolean isFailed) {
+        if (command == null) {
+            return;
+        }
+        double millis = Math.round((System.nanoTime() - startNanos) / 1_000.0) / 1_000.0;
+        Map<String, Object> record = object("type", "result", "command", command,
+                "status", isFailed ? "error" : "ok", "ms", millis);
+        write(record);
+        command = null;
+    }
+
+    /**
+     * Writes a prompt record carrying what the command has shown so far, before reading an answer.
+     */
+    void prompt(String prompt) {
+        write(object("type", "prompt", "command", command, "prompt", prompt.trim()));
+    }
+
+    /**
+     * Writes a notice record for messages shown outside a command, if there are any.
+     */
+    void writeNotice() {
+        if (command == null && (!messages.isEmpty() || !errors.isEmpty() || !data.isEmpty())) {
+            write(object("type", "notice"));
+        }
+    }
+
+    private void write(Map<String, Object> record) {
+        record.put("messages", messages);
+        record.put("errors", errors);
+        if (!data.isEmpty()) {
+            record.put("data", data);
+        }
+        line.setLength(0);
+        appendValue(line, record);
+        Console.shared().println(line);
+        messages.clear();
+        errors.clear();
+        data.clear();
+    }
+
+    /**
+     * Appends {@code value} as JSON: maps as objects, collections as arrays, numbers and booleans as
+     * they are, {@code null} and numbers that are not finite as {@code null}, and anything else as a string.
+     */
+    static void appendValue(StringBuilder out, Object value) {
+        if (value == null) {
+            out.append("null");
+        } else if (value instanceof Map<?, ?> map) {
+            out.append('{');
+            String separator = "";
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                out.append(separator);
+                appendString(out, String.valueOf(entry.getKey()));
+                out.append(": ");
+                appendValue(out, entry.getValue());
+                separator = ", ";
+            }
+            out.append('}');
+        } else if (value instanceof Collection<?> items) {
+            out.append('[');
+            String separator = "";
+            for (Object item : items) {
+                out.append(separator);
+                appendValue(out, item);
+                separator = ", ";
+            }
+            out.append(']');
+        } else if (value instanceof Double d && !Double.isFinite(d)
+                || value instanceof Float f && !Float.isFinite(f)) {
+            out.append("null");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            out.append(value);
+        } else {
+            appendString(out, value.toString());
+        }
+    }
+
+    private static void appendString(StringBuilder out, String text) {
+        out.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+            case '"' -> out.append("\\\"");
+            case '\\' -> out.append("\\\\");
+            case '\n' -> out.append("\\n");
+            case '\r' -> out.append("\\r");
+            case '\t' -> out.append("\\t");
+            default -> {
+                if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+                    out.append(String.format("\\u%04x", (int) c));
+                } else {
+                    out.append(c);
+                }
+            }
+            }
+        }
+        out.append('"');
+    }
+}
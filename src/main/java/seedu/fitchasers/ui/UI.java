@@ -1,13 +1,18 @@
 package seedu.fitchasers.ui;
 
 import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.SetLog;
 import seedu.fitchasers.workouts.Workout;
 import seedu.fitchasers.user.WeightManager;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Scanner;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 //@@author Exceptional-Khoi
 /**
@@ -25,20 +30,158 @@ public class UI {
     private static final String BOLD_BRIGHT_PURPLE = "\u001B[1;38;5;183m";
     private static final int PADDING = 2;
     private static final int FRAME_OVERHEAD = 6;
-    private final Scanner scanner;
+    private static final String GREETING = """
+            Your virtual gym buddy's clocked in and ready to make you strong!
+            Type /help or h to explore all available commands!
+            Let's crush your fitness goals together!""";
+    private static final char[] DASHES = "-".repeat(CONSOLE_WIDTH).toCharArray();
+    private static final char[] SPACES = " ".repeat(CONSOLE_WIDTH).toCharArray();
+    private static final int RIGHT_INNER_WIDTH = Math.max(1, (int) (CONSOLE_WIDTH * 3.0 / 5) - FRAME_OVERHEAD);
+    private static final String RIGHT_PAD = " ".repeat(Math.max(0, CONSOLE_WIDTH - RIGHT_INNER_WIDTH - 6));
+    private static final String RIGHT_HEADER = RIGHT_PAD + LIGHT_YELLOW + "(You)" + RESET;
+    private static final String RIGHT_BORDER = RIGHT_PAD + BOLD_BRIGHT_PURPLE + "+"
+            + "-".repeat(RIGHT_INNER_WIDTH) + "+" + RESET;
+    private static final String RIGHT_PREFIX = RIGHT_PAD + BOLD_BRIGHT_PURPLE + "|" + RESET
+            + BOLD_BRIGHT_PURPLE + " ".repeat(PADDING) + RESET + BOLD_BRIGHT_PURPLE;
+    // "+---+" for each inner width of the left bubble, made when first used
+    private static final String[] LEFT_BORDERS = new String[CONSOLE_WIDTH + 1];
+    // the message without colour codes, its lines as start and end offsets, and the bubble drawn from them,
+    // kept between messages so that drawing a bubble only allocates when a message is the longest yet
+    private static final StringBuilder TEXT = new StringBuilder();
+    private static final StringBuilder FRAME = new StringBuilder();
+    private static int[] lineBounds = new int[64];
+    private static boolean isBatchMode = false;
+    private static boolean isPlainOutput = false;
+    private static JsonOutput jsonOutput = null;
+    private static boolean isCommandFailed = false;
+    private static int failedCommandCount = 0;
+    private final Console console;
 
     /**
-     * Constructs a {@code UI} instance and initializes the input scanner.
+     * Constructs a {@code UI} instance that reads and writes through the shared {@link Console}.
      */
     public UI() {
-        this.scanner = new Scanner(System.in);
+        this(null);
+    }
+
+    /**
+     * Constructs a {@code UI} instance that reads and writes through the given console.
+     *
+     * @param console the console to use, or {@code null} for the shared one
+     */
+    public UI(Console console) {
+        this.console = console;
+    }
+
+    /**
+     * Returns the console this {@code UI} reads and writes through.
+     */
+    public Console console() {
+        return (console != null) ? console : Console.shared();
+    }
+
+    /**
+     * Switches every {@code UI} to batch mode, used to run a script of commands.
+     * <p>
+     * In batch mode, commands and other input are read from the given source instead of the console,
+     * every Y/N confirmation is answered yes without reading input, and messages are printed as plain
+     * lines instead of chat bubbles. The greeting and quick-start tutorial are not shown.
+     *
+     * @param source the script, one command or answer per line
+     */
+    public static void startBatchMode(Reader source) {
+        Console.shared().readFrom(source);
+        isBatchMode = true;
+        failedCommandCount = 0;
+    }
+
+    /**
+     * Returns whether input is read from a script instead of the console.
+     */
+    public static boolean isBatchMode() {
+        return isBatchMode;
+    }
+
+    /**
+     * Prints messages as plain lines without chat bubbles or colours, as batch mode does, while still
+     * reading input from the console. Used when the output is not a terminal.
+     *
+     * @param isPlain whether to print plain lines
+     */
+    public static void setPlainOutput(boolean isPlain) {
+        isPlainOutput = isPlain;
+    }
+
+    /**
+     * Switches every {@code UI} to JSON output: instead of printing messages, each command writes one
+     * line of JSON with its messages, errors, structured data and timing, as described in
+     * {@link JsonOutput}. Nothing else is printed.
+     */
+    public static void startJsonOutput() {
+        jsonOutput = new JsonOutput();
+    }
+
+    /**
+     * Returns whether output is written as lines of JSON.
+     */
+    public static boolean isJsonOutput() {
+        return jsonOutput != null;
+    }
+
+    /**
+     * Marks the start of a command, so that what it shows is reported together in JSON output and
+     * whether it fails is counted.
+     *
+     * @param commandLine the command as entered
+     */
+    public static void beginCommand(String commandLine) {
+        isCommandFailed = false;
+        if (jsonOutput != null) {
+            jsonOutput.begin(commandLine);
+        }
+    }
+
+    /**
+     * Marks the end of the command started by {@link #beginCommand}, writing its record in JSON output.
+     */
+    public static void endCommand() {
+        if (isCommandFailed) {
+            failedCommandCount++;
+        }
+        if (jsonOutput != null) {
+            jsonOutput.end(isCommandFailed);
+        }
+    }
+
+    /**
+     * Writes out anything still held, including messages shown after the last command in JSON output.
+     */
+    public static void finishOutput() {
+        if (jsonOutput != null) {
+            jsonOutput.writeNotice();
+        }
+        Console.shared().flush();
+    }
+
+    private static boolean isPlain() {
+        return isBatchMode || isPlainOutput || jsonOutput != null;
+    }
+
+    /**
+     * Returns the number of commands that failed since batch mode started, as shown with {@link #showFailure}.
+     */
+    public static int getFailedCommandCount() {
+        return failedCommandCount;
     }
 
     /**
      * Prints the header of the left chat bubble.
      */
     public void printLeftHeader() {
-        System.out.println(LIGHT_YELLOW + BOT_HEADER + RESET);
+        if (isPlain()) {
+            return;
+        }
+        console().println(LIGHT_YELLOW + BOT_HEADER + RESET);
     }
 
     /**
@@ -47,6 +190,10 @@ public class UI {
      * @return the command entered by the user
      */
     public String readCommand() {
+        if (jsonOutput != null) {
+            jsonOutput.writeNotice();
+            return readPlainLine();
+        }
         return readInsideRightBubble("Enter command > ");
     }
 
@@ -133,7 +280,15 @@ public class UI {
      */
     public void showMessage(String message) {
         assert message != null : "Message cannot be null";
-        System.out.println(leftBubble(message));
+        if (jsonOutput != null) {
+            jsonOutput.message(stripAnsi(message));
+            return;
+        }
+        if (isPlain()) {
+            console().println(stripAnsi(message));
+            return;
+        }
+        printLeftBubble(message);
     }
 
     /**
@@ -143,13 +298,65 @@ public class UI {
      */
     public void showError(String error) {
         assert error != null : "Error message cannot be null";
-        System.out.println(leftBubble("[Oops!] " + error));
+        if (jsonOutput != null) {
+            jsonOutput.error(stripAnsi(error));
+            return;
+        }
+        if (isPlain()) {
+            console().println("[Oops!] " + stripAnsi(error));
+            return;
+        }
+        printLeftBubble("[Oops!] " + error);
+    }
+
+    /**
+     * Displays the error that made the current command fail, such as invalid arguments or a failed save,
+     * so that a script with failed commands ends with an error status. Problems the command carries on
+     * after, such as a damaged file that was skipped, are shown with {@link #showError} instead.
+     *
+     * @param error the error text to display
+     */
+    public void showFailure(String error) {
+        isCommandFailed = true;
+        showError(error);
+    }
+
+    /**
+     * Reports structured data for the current command in JSON output, such as the workouts on a page.
+     * The value is only computed in JSON output, so callers can build it freely.
+     *
+     * @param key   the name of the data in the record
+     * @param value supplies maps, lists, strings, numbers, booleans or {@code null}
+     */
+    public void showData(String key, Supplier<?> value) {
+        if (jsonOutput != null) {
+            jsonOutput.data(key, value.get());
+        }
+    }
+
+    /**
+     * Prints text as it is, without a bubble, such as a table or graph. In JSON output it is reported
+     * as a message unless it is blank.
+     *
+     * @param text the text to print, including its line breaks
+     */
+    public void showRaw(String text) {
+        if (jsonOutput != null) {
+            if (!text.isBlank()) {
+                jsonOutput.message(stripAnsi(text).stripTrailing());
+            }
+            return;
+        }
+        console().print(text);
     }
 
     /**
      * Displays the startup greeting and introduction message.
      */
     public void showGreeting() {
+        if (isBatchMode || jsonOutput != null) {
+            return;
+        }
         String[] purpleShades = {
             "\u001B[38;5;93m",
             "\u001B[38;5;129m",
@@ -157,21 +364,23 @@ public class UI {
             "\u001B[38;5;141m",
             "\u001B[38;5;147m"
         };
-        System.out.println(purpleShades[0] +
+        if (isPlainOutput) {
+            showMessage(GREETING);
+            return;
+        }
+        Console out = console();
+        out.println(purpleShades[0] +
                 " ▄▄▄▄▄▄   ▀      ▄      ▄▄▄  █                                       " + RESET);
-        System.out.println(purpleShades[1] +
+        out.println(purpleShades[1] +
                 " █      ▄▄▄    ▄▄█▄▄  ▄▀   ▀ █ ▄▄    ▄▄▄    ▄▄▄    ▄▄▄    ▄ ▄▄   ▄▄▄ " + RESET);
-        System.out.println(purpleShades[2] +
+        out.println(purpleShades[2] +
                 " █▄▄▄▄▄   █      █    █      █▀  █  ▀   █  █   ▀  █▀  █   █▀  ▀ █   ▀" + RESET);
-        System.out.println(purpleShades[3] +
+        out.println(purpleShades[3] +
                 " █        █      █    █      █   █  ▄▀▀▀█   ▀▀▀▄  █▀▀▀▀   █      ▀▀▀▄" + RESET);
-        System.out.println(purpleShades[4] +
+        out.println(purpleShades[4] +
                 " █      ▄▄█▄▄    ▀▄▄   ▀▄▄▄▀ █   █  ▀▄▄▀█  ▀▄▄▄▀  ▀█▄▄▀   █     ▀▄▄▄▀\n" + RESET);
 
-        showMessage("""
-                Your virtual gym buddy's clocked in and ready to make you strong!
-                Type /help or h to explore all available commands!
-                Let's crush your fitness goals together!""");
+        showMessage(GREETING);
     }
 
     /**
@@ -179,6 +388,9 @@ public class UI {
      * Guides the user to create a workout, add an exercise, end it, and view the log.
      */
     public void showQuickStartTutorial() {
+        if (isBatchMode || jsonOutput != null) {
+            return;
+        }
         showMessage("""
                 ====================  FITCHASERS • QUICK START  ====================
                 
@@ -265,6 +477,9 @@ public class UI {
                 [OPTIONAL TAGS FOR /view_log]:
                 vl pg/[Number]                             - Select page number of workout
                                                            e.g vl pg/2
+               \s
+                vl next/ or vl prev/                       - Older or newer page than the last one shown,
+                                                           continuing into the previous or next month
                \s
                 vl detailed/                               - Show page in detail [No argument needed]                 \s
                                                            e.g. vl detailed/
@@ -284,6 +499,18 @@ public class UI {
                 /delete_workout (dw) id/<INDEX> ym/<MM>/<YY>
                                                            e.g. /del_workout id/1 m/10
                                                            e.g. /del_workout id/2 ym/02/26
+               \s
+                /progress (pr) [n/EXERCISE | y/YEAR]       - View totals, personal bests and weekly/monthly volume
+                                                           e.g. /progress
+                                                           e.g. /progress n/Squat
+                                                           e.g. /progress y/2025 (month-by-month overview)
+               \s
+                /search (se) KEYWORDS                      - Find workouts by name, exercise or tag in every month
+                                                           e.g. /search squat
+                                                           e.g. /search dead leg (workouts matching both words)
+                /search (se) [KEYWORDS] [from/DD/MM/YY] [to/DD/MM/YY] [tag/TAG]
+                                                           - Only workouts in that range or with that tag
+                                                           e.g. /search tag/legs from/01/09/25 to/31/10/25
                \s
                 ~~~ TAGGING SYSTEM ~~~
                 /add_modality_tag (amot) m/MODALITY k/KEYWORD
@@ -295,6 +522,7 @@ public class UI {
                 /override_workout_tag (owt) id/INDEX newTag/TAG_NAME
                                                            - Manually override a workout’s tag
                                                            e.g. /override_workout_tag id/1 newTag/strength
+                /retag (rt)                               - Re-apply auto tags to every saved workout
                \s
                 ~~~ GYM FINDER ~~~
                 /gym_where (gw) n/EXERCISE                - Suggest NUS gyms with equipment for the exercise
@@ -304,6 +532,13 @@ public class UI {
                                                            e.g. /gym_page p/SRC Gym
                \s
                 ~~~ SYSTEM ~~~
+                /import (imp) workouts|weights f/FILE     - Add workouts or weights from a .csv or .json file
+                                                           e.g. /import workouts f/strong_export.csv
+                /export (exp) workouts|weights f/FILE     - Save your workouts or weights to a .csv or .json file
+                                                           e.g. /export weights f/weights.json
+                /convert_month (cm) ym/<MM>/<YY> f/bin|txt - Keep a month in the binary format, or go back to text
+                                                           e.g. /convert_month ym/10/25 f/bin
+                /stats (st)                               - See how long each command took and what it read
                 /exit (e)                                 - Save all progress and exit the app
                \s""");
     }
@@ -332,6 +567,10 @@ public class UI {
     }
 
     private Boolean confirmLoop(boolean allowCancel) {
+        if (isBatchMode) {
+            // a script cannot answer prompts, so it gets the answer that carries out its command
+            return true;
+        }
         String prompt = allowCancel
                 ? "Confirm (Y/N, /help or /cancel) > "
                 : "Confirm (Y/N or /help) > ";
@@ -380,6 +619,10 @@ public class UI {
             showError("No workout found to display.");
             return;
         }
+        if (jsonOutput != null) {
+            showData("workout", () -> workoutData(workout));
+            return;
+        }
         StringBuilder sb = new StringBuilder();
         sb.append("Here you go bestie! These are the workout details!\n\n");
         sb.append(String.format("Name       : %s%n", workout.getWorkoutName()));
@@ -415,11 +658,18 @@ public class UI {
             for (Exercise e : exercises) {
                 sb.append(String.format("  %d. %s%n", i++, e.toString()));
 
-                // Detailed per-set reps:
-                ArrayList<Integer> sets = e.getSets();
-                if (sets != null && !sets.isEmpty()) {
+                // Detailed per-set reps, with weight and RPE when recorded:
+                SetLog sets = e.getSetLog();
+                if (sets.size() > 0) {
                     for (int s = 0; s < sets.size(); s++) {
-                        sb.append(String.format("       - Set %d: %d reps%n", s + 1, sets.get(s)));
+                        sb.append(String.format("       - Set %d: %d reps", s + 1, sets.getReps(s)));
+                        if (!Float.isNaN(sets.getWeight(s))) {
+                            sb.append(" @ ").append(SetLog.formatValue(sets.getWeight(s)));
+                        }
+                        if (!Float.isNaN(sets.getRpe(s))) {
+                            sb.append(" (RPE ").append(SetLog.formatValue(sets.getRpe(s))).append(')');
+                        }
+                        sb.append(System.lineSeparator());
                     }
                 } else {
                     sb.append("       - No sets recorded\n");
@@ -429,6 +679,32 @@ public class UI {
         showMessage(sb.toString().trim());
     }
 
+    /**
+     * Returns a workout with its exercises and sets as JSON data. Weights and RPEs that were not
+     * recorded are left out.
+     */
+    private static Map<String, Object> workoutData(Workout workout) {
+        List<Object> exercises = new ArrayList<>();
+        for (Exercise exercise : workout.getExercises()) {
+            SetLog log = exercise.getSetLog();
+            List<Object> sets = new ArrayList<>(log.size());
+            for (int i = 0; i < log.size(); i++) {
+                Map<String, Object> set = JsonOutput.object("reps", log.getReps(i));
+                if (!Float.isNaN(log.getWeight(i))) {
+                    set.put("weight", log.getWeight(i));
+                }
+                if (!Float.isNaN(log.getRpe(i))) {
+                    set.put("rpe", log.getRpe(i));
+                }
+                sets.add(set);
+            }
+            exercises.add(JsonOutput.object("name", exercise.getName(), "sets", sets));
+        }
+        return JsonOutput.object("name", workout.getWorkoutName(),
+                "start", workout.getWorkoutStartDateTime(), "end", workout.getWorkoutEndDateTime(),
+                "durationMinutes", workout.getDuration(), "tags", workout.getAllTags(), "exercises", exercises);
+    }
+
     /**
      * Returns the ordinal suffix for a given day.
      *
@@ -448,8 +724,77 @@ public class UI {
         };
     }
 
+    private String readPlainLine() {
+        try {
+            String line = console().readLine();
+            return (line == null) ? null : line.trim();
+        } catch (IOException e) {
+            System.err.println("Could not read the input: " + e.getMessage());
+            return null;
+        }
+    }
+
     private static String stripAnsi(String input) {
-        return input == null ? "" : input.replaceAll("\u001B\\[[;\\d]*m", "");
+        if (input == null) {
+            return "";
+        }
+        if (input.indexOf('\u001B') < 0) {
+            return input;
+        }
+        StringBuilder sb = new StringBuilder(input.length());
+        appendWithoutAnsi(input, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Appends {@code input} without its colour codes, which are ESC [ followed by digits and
+     * semicolons and ending in m.
+     */
+    private static void appendWithoutAnsi(String input, StringBuilder out) {
+        int n = input.length();
+        int i = 0;
+        while (i < n) {
+            char c = input.charAt(i);
+            if (c == '\u001B' && i + 1 < n && input.charAt(i + 1) == '[') {
+                int j = i + 2;
+                while (j < n && (isAsciiDigit(input.charAt(j)) || input.charAt(j) == ';')) {
+                    j++;
+                }
+                if (j < n && input.charAt(j) == 'm') {
+                    i = j + 1;
+                    continue;
+                }
+            }
+            out.append(c);
+            i++;
+        }
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLineBreak(char c) {
+        return c == '\n' || c == '\r' || c == '\u000B' || c == '\f'
+                || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * Returns where the line starting at {@code start} and running to {@code end} should break so
+     * that it is at most {@code maxWidth} long: after the last space that fits, or at
+     * {@code maxWidth} if no space does.
+     */
+    private static int wrapPoint(CharSequence s, int start, int end, int maxWidth) {
+        if (end - start <= maxWidth) {
+            return end;
+        }
+        int limit = start + maxWidth;
+        for (int i = limit; i > start; i--) {
+            if (s.charAt(i) == ' ') {
+                return i;
+            }
+        }
+        return limit;
     }
 
     private static List<String> wrapLine(String s, int maxWidth) {
@@ -457,18 +802,15 @@ public class UI {
         if (s == null) {
             s = "";
         }
-        if (maxWidth <= 0) {
+        if (maxWidth <= 0 || s.isEmpty()) {
             out.add(s);
             return out;
         }
         int i = 0;
         while (i < s.length()) {
-            int end = Math.min(i + maxWidth, s.length());
+            int end = wrapPoint(s, i, s.length(), maxWidth);
             out.add(s.substring(i, end));
-            i = end;
-        }
-        if (s.isEmpty()) {
-            out.add("");
+            i = (end < s.length() && s.charAt(end) == ' ') ? end + 1 : end;
         }
         return out;
     }
@@ -477,32 +819,84 @@ public class UI {
         return Math.max(0, v);
     }
 
-    private String leftBubble(String message) {
-        String[] rawLines = stripAnsi(message).split("\\R", -1);
-        List<String> lines = new ArrayList<>();
-        int contentMax = Math.max(1, CONSOLE_WIDTH - FRAME_OVERHEAD - PADDING * 2);
-        for (String raw : rawLines) {
-            lines.addAll(wrapLine(raw, contentMax));
+    private static String leftBorder(int innerWidth) {
+        String border = LEFT_BORDERS[innerWidth];
+        if (border == null) {
+            border = "+" + "-".repeat(innerWidth) + "+";
+            LEFT_BORDERS[innerWidth] = border;
         }
-        int innerWidth = 0;
-        for (String l : lines) {
-            innerWidth = Math.max(innerWidth, l.length() + PADDING * 2);
+        return border;
+    }
+
+    /**
+     * Draws {@code message} in a left chat bubble into {@link #FRAME}, without a final line break.
+     * <p>
+     * The message is copied once without its colour codes, split into lines at line breaks and then
+     * between words so each fits the console, and drawn with borders cached per width.
+     */
+    private static void drawLeftBubble(String message) {
+        TEXT.setLength(0);
+        appendWithoutAnsi(message, TEXT);
+        int contentMax = Math.max(1, CONSOLE_WIDTH - FRAME_OVERHEAD - PADDING * 2);
+
+        int lineCount = 0;
+        int longest = 0;
+        int start = 0;
+        int length = TEXT.length();
+        while (true) {
+            int lineEnd = start;
+            while (lineEnd < length && !isLineBreak(TEXT.charAt(lineEnd))) {
+                lineEnd++;
+            }
+            int i = start;
+            do {
+                int end = wrapPoint(TEXT, i, lineEnd, contentMax);
+                if (lineCount * 2 + 2 > lineBounds.length) {
+                    lineBounds = Arrays.copyOf(lineBounds, lineBounds.length * 2);
+                }
+                lineBounds[lineCount * 2] = i;
+                lineBounds[lineCount * 2 + 1] = end;
+                lineCount++;
+                longest = Math.max(longest, end - i);
+                i = (end < lineEnd && TEXT.charAt(end) == ' ') ? end + 1 : end;
+            } while (i < lineEnd);
+            if (lineEnd == length) {
+                break;
+            }
+            boolean isCrLf = TEXT.charAt(lineEnd) == '\r' && lineEnd + 1 < length
+                    && TEXT.charAt(lineEnd + 1) == '\n';
+            start = lineEnd + (isCrLf ? 2 : 1);
         }
-        innerWidth = Math.min(innerWidth, Math.max(1, CONSOLE_WIDTH - FRAME_OVERHEAD));
-        String top = "+" + "-".repeat(clampNonNeg(innerWidth)) + "+";
-        String bottom = "+" + "-".repeat(clampNonNeg(innerWidth)) + "+";
-        StringBuilder sb = new StringBuilder();
-        sb.append(top).append("\n");
-        for (String l : lines) {
-            int spaces = clampNonNeg(innerWidth - l.length() - PADDING);
-            sb.append("|")
-                    .append(" ".repeat(PADDING))
-                    .append(BOLD_WHITE).append(l).append(BOLD_RESET)
-                    .append(" ".repeat(spaces))
+
+        int innerWidth = Math.min(longest + PADDING * 2, Math.max(1, CONSOLE_WIDTH - FRAME_OVERHEAD));
+        String border = leftBorder(innerWidth);
+        FRAME.setLength(0);
+        FRAME.append(border).append('\n');
+        for (int line = 0; line < lineCount; line++) {
+            int from = lineBounds[line * 2];
+            int to = lineBounds[line * 2 + 1];
+            int spaces = clampNonNeg(innerWidth - (to - from) - PADDING);
+            FRAME.append('|')
+                    .append(SPACES, 0, PADDING)
+                    .append(BOLD_WHITE).append(TEXT, from, to).append(BOLD_RESET)
+                    .append(SPACES, 0, Math.min(spaces, SPACES.length))
                     .append("|\n");
         }
-        sb.append(bottom);
-        return sb.toString();
+        FRAME.append(border);
+    }
+
+    private void printLeftBubble(String message) {
+        synchronized (FRAME) {
+            drawLeftBubble(message);
+            console().println(FRAME);
+        }
+    }
+
+    private String leftBubble(String message) {
+        synchronized (FRAME) {
+            drawLeftBubble(message);
+            return FRAME.toString();
+        }
     }
 
     /**
@@ -510,31 +904,45 @@ public class UI {
      * <p>
      * This method prints a stylized text bubble labeled "(You)" to represent user prompts,
      * waits for user input, and then returns the trimmed response. If no input is available,
-     * it gracefully handles the end of input stream.
+     * it gracefully handles the end of input stream. In batch mode the next line of the script is
+     * returned instead, without a bubble.
      *
      * @param prompt The message or question to display inside the right-side bubble.
      * @return The trimmed user input string, or {@code null} if no input was provided.
      */
     public String readInsideRightBubble(String prompt) {
-        int innerWidth = Math.max(1, (int) (CONSOLE_WIDTH * 3.0 / 5) - FRAME_OVERHEAD);
-        int pad = clampNonNeg(CONSOLE_WIDTH - innerWidth - 6);
-
-        String top = BOLD_BRIGHT_PURPLE + "+" + "-".repeat(innerWidth) + "+" + RESET;
-        String bottom = BOLD_BRIGHT_PURPLE + "+" + "-".repeat(innerWidth) + "+" + RESET;
-        String leftPrefix = " ".repeat(pad) + BOLD_BRIGHT_PURPLE +
-                "|" + RESET + BOLD_BRIGHT_PURPLE + " ".repeat(PADDING) + RESET;
-        System.out.println(" ".repeat(pad) + LIGHT_YELLOW + "(You)" + RESET);
-        System.out.println(" ".repeat(pad) + top);
-        System.out.print(leftPrefix + BOLD_BRIGHT_PURPLE + prompt + BOLD_RESET);
-        System.out.flush();
-        if (!scanner.hasNextLine()) {
-            System.out.println();
-            System.out.println(" ".repeat(pad) + bottom);
+        if (isBatchMode) {
+            return readPlainLine();
+        }
+        Console out = console();
+        if (jsonOutput != null) {
+            jsonOutput.prompt(prompt);
+            return readPlainLine();
+        }
+        if (isPlainOutput) {
+            out.print(prompt);
+            String input = readPlainLine();
+            out.println();
+            return input;
+        }
+        out.println(RIGHT_HEADER);
+        out.println(RIGHT_BORDER);
+        out.print(RIGHT_PREFIX);
+        out.print(prompt);
+        out.print(BOLD_RESET);
+        String input;
+        try {
+            input = out.readLine();
+        } catch (IOException e) {
+            input = null;
+        }
+        if (input == null) {
+            out.println();
+            out.println(RIGHT_BORDER);
             return null;
         }
-        String input = scanner.nextLine();
         String trimmed = input.trim();
-        System.out.println(" ".repeat(pad) + bottom);
+        out.println(RIGHT_BORDER);
         printLeftHeader();
         return trimmed;
     }
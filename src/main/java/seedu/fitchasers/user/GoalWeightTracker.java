@@ -48,37 +48,14 @@ public class GoalWeightTracker {
     }
 
     /**
-     * Handles user input for setting a new goal weight.
+     * Sets a new goal weight, saves it and displays confirmation.
      * <p>
      * Example command: {@code /set_goal w/60}
      * </p>
-     * <ul>
-     *     <li>Validates that the input starts with {@code w/}.</li>
-     *     <li>Ensures the weight is a positive number.</li>
-     *     <li>Saves the goal and displays confirmation.</li>
-     * </ul>
      *
-     * @param input the user's raw input string (e.g., {@code "w/60"})
+     * @param target the goal weight in kg, a positive number
      */
-    public void handleSetGoal(String input) {
-        if (input == null || !input.startsWith("w/")) {
-            ui.showMessage("Usage: /set_goal w/TARGET_WEIGHT (e.g., /set_goal w/60)");
-            return;
-        }
-
-        String weightStr = input.substring(2).trim();
-        double target;
-        try {
-            target = Double.parseDouble(weightStr);
-            if (target <= 0) {
-                ui.showMessage("Goal weight must be a positive number.");
-                return;
-            }
-        } catch (NumberFormatException e) {
-            ui.showMessage("Invalid weight. Please enter a number (e.g., 60 or 60.5).");
-            return;
-        }
-
+    public void handleSetGoal(double target) {
         this.goalWeight = target;
         this.setDate = LocalDate.now();
         ui.showMessage(String.format(
@@ -134,7 +111,7 @@ public class GoalWeightTracker {
             FileHandler fh = new FileHandler();
             fh.saveGoal(goalWeight, setDate);
         } catch (IOException e) {
-            ui.showMessage("Failed to save goal weight: " + e.getMessage());
+            ui.showFailure("Failed to save goal weight: " + e.getMessage());
         }
     }
 
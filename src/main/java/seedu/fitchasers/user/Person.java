@@ -1,5 +1,7 @@
 package seedu.fitchasers.user;
 
+import seedu.fitchasers.ui.Console;
+import seedu.fitchasers.ui.JsonOutput;
 import seedu.fitchasers.ui.UI;
 
 import java.time.LocalDate;
@@ -7,8 +9,8 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 //@@author bennyy117
@@ -21,7 +23,7 @@ public class Person {
 
     private final UI ui = new UI();
     private String name;
-    private final ArrayList<WeightRecord> weightHistory = new ArrayList<>();
+    private WeightSeries weightHistory = new WeightSeries();
 
     /**
      * Constructs a new Person with the given name.
@@ -58,37 +60,34 @@ public class Person {
 
     /**
      * Adds a weight record to the person's weight history, maintaining chronological order.
+     * A record for a date that already has one replaces it.
      *
      * @param record The WeightRecord to add
      * @throws NullPointerException if record is null
      */
     public void addWeightRecord(WeightRecord record) {
         Objects.requireNonNull(record, "WeightRecord cannot be null.");
-        insertSorted(record);
+        weightHistory.put(record.getDate(), record.getWeight());
     }
 
     /**
-     * Inserts a WeightRecord into the sorted weightHistory list.
-     * Maintains chronological order (earliest to latest).
+     * Returns an unmodifiable copy of the weight history.
      *
-     * @param record The record to insert
+     * @return A List of WeightRecord objects
      */
-    private void insertSorted(WeightRecord record) {
-        int index = 0;
-        while (index < weightHistory.size() &&
-                weightHistory.get(index).getDate().isBefore(record.getDate())) {
-            index++;
-        }
-        weightHistory.add(index, record);
+    public List<WeightRecord> getWeightHistory() {
+        return Collections.unmodifiableList(weightHistory.toList());
     }
 
     /**
-     * Returns an unmodifiable copy of the weight history.
+     * Returns the average weight over the given number of days ending on the given date.
      *
-     * @return A List of WeightRecord objects
+     * @param end  The last day of the window
+     * @param days The length of the window in days
+     * @return The average weight, or NaN if no weight was recorded in the window
      */
-    public List<WeightRecord> getWeightHistory() {
-        return List.copyOf(weightHistory);
+    public double getMovingAverage(LocalDate end, int days) {
+        return weightHistory.movingAverage(end, days);
     }
 
     /**
@@ -100,18 +99,32 @@ public class Person {
             ui.showMessage(name + " has no weight records yet.");
             return;
         }
+        LocalDate latest = weightHistory.dateAt(weightHistory.size() - 1);
+        if (UI.isJsonOutput()) {
+            ui.showData("weights", () -> weightData(latest));
+            return;
+        }
 
         StringBuilder sb = new StringBuilder();
         sb.append("Here's your weight, you've been killing it lately!\n");
-        for (int i = 0; i < weightHistory.size(); i++) {
-            sb.append("  ").append(weightHistory.get(i));
-            if (i < weightHistory.size() - 1) {
-                sb.append("\n");
-            }
+        for (WeightRecord record : weightHistory.toList()) {
+            sb.append("  ").append(record).append("\n");
         }
+        sb.append(String.format("Average over the 7 days to %s: %.1f kg | over 30 days: %.1f kg",
+                latest.format(DateTimeFormatter.ofPattern("dd/MM/yy")),
+                getMovingAverage(latest, 7), getMovingAverage(latest, 30)));
         ui.showMessage(sb.toString());
     }
 
+    private Map<String, Object> weightData(LocalDate latest) {
+        List<Object> records = new ArrayList<>(weightHistory.size());
+        for (WeightRecord record : weightHistory.toList()) {
+            records.add(JsonOutput.object("date", record.getDate(), "weight", record.getWeight()));
+        }
+        return JsonOutput.object("records", records, "average7Days", getMovingAverage(latest, 7),
+                "average30Days", getMovingAverage(latest, 30));
+    }
+
     /**
      * Returns the most recent weight recorded for the person.
      * Since the list is sorted, the last element is the latest.
@@ -119,7 +132,7 @@ public class Person {
      * @return The latest weight, or -1 if no records exist
      */
     public double getLatestWeight() {
-        return weightHistory.isEmpty() ? -1 : weightHistory.get(weightHistory.size() - 1).getWeight();
+        return weightHistory.isEmpty() ? -1 : weightHistory.weightAt(weightHistory.size() - 1);
     }
 
     /**
@@ -140,28 +153,24 @@ public class Person {
         if (weightHistory.isEmpty()) {
             return false;
         }
-        weightHistory.remove(weightHistory.size() - 1);
-        return true;
+        return weightHistory.remove(weightHistory.dateAt(weightHistory.size() - 1));
     }
 
     /**
      * Displays a line graph of weight progression with dates.
-     * Uses the sorted weightHistory directly.
+     * Reads only the records it draws, picking them by rank from the weight history.
      */
     public void displayWeightGraphWithDates() {
+        if (UI.isJsonOutput()) {
+            // the weights are already reported as data by displayWeightHistory
+            return;
+        }
         if (weightHistory.isEmpty()) {
             ui.showMessage("No weight records to display.");
             return;
         }
 
-        List<Double> weights = weightHistory.stream()
-                .map(WeightRecord::getWeight)
-                .toList();
-
-        List<String> dates = weightHistory.stream()
-                .map(r -> r.getDate().format(DateTimeFormatter.ofPattern("dd/MM")))
-                .toList();
-
+        DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("dd/MM");
         int height = 10;
         int spacing = 12;
         int maxWidthColumns = 12;
@@ -169,16 +178,13 @@ public class Person {
         List<Double> displayWeights = new ArrayList<>();
         List<String> displayDates = new ArrayList<>();
 
-        if (weights.size() > maxWidthColumns) {
-            double step = (double) (weights.size() - 1) / (maxWidthColumns - 1);
-            for (int i = 0; i < maxWidthColumns; i++) {
-                int idx = (int) Math.round(i * step);
-                displayWeights.add(weights.get(idx));
-                displayDates.add(dates.get(idx));
-            }
-        } else {
-            displayWeights.addAll(weights);
-            displayDates.addAll(dates);
+        int recordCount = weightHistory.size();
+        int columns = Math.min(recordCount, maxWidthColumns);
+        double step = (columns > 1) ? (double) (recordCount - 1) / (columns - 1) : 0;
+        for (int i = 0; i < columns; i++) {
+            int idx = (int) Math.round(i * step);
+            displayWeights.add(weightHistory.weightAt(idx));
+            displayDates.add(weightHistory.dateAt(idx).format(dateFormat));
         }
 
         double min = Collections.min(displayWeights);
@@ -231,64 +237,75 @@ public class Person {
         final String orange = "\u001B[1m\u001B[38;5;208m";
 
         ui.showMessage("Weight Progress Graph for " + name + ":");
+        Console out = ui.console();
 
         if (displayWeights.size() == 1) {
             double w = displayWeights.get(0);
-            System.out.printf("%6.1f | %sO%s\n", w, orange, reset);
-            System.out.print("        ");
+            out.print(String.format("%6.1f | %sO%s\n", w, orange, reset));
+            out.print("        ");
             for (int j = 0; j < displayDates.get(0).length(); j++) {
-                System.out.print('_');
+                out.print("_");
             }
-            System.out.println();
-            System.out.print("        ");
-            System.out.println(displayDates.get(0));
+            out.println();
+            out.print("        ");
+            out.println(displayDates.get(0));
             return;
         }
 
         for (int i = 0; i < height; i++) {
             double label = max - (max - min) * i / (height - 1);
-            System.out.printf("%6.1f | ", label);
-            System.out.print(" ");
+            out.print(String.format("%6.1f | ", label));
+            out.print(" ");
             for (int j = 0; j < width; j++) {
                 if (isWeightPoint[i][j]) {
-                    System.out.print(orange + "O" + reset);
+                    out.print(orange + "O" + reset);
                 } else {
-                    System.out.print(grid[i][j]);
+                    out.print(String.valueOf(grid[i][j]));
                 }
             }
-            System.out.println();
+            out.println();
         }
 
-        System.out.print("        ");
+        out.print("        ");
         for (int j = 0; j < width + 4; j++) {
-            System.out.print('_');
+            out.print("_");
         }
-        System.out.println();
+        out.println();
 
-        System.out.print("        ");
+        out.print("        ");
         for (int i = 0; i < displayDates.size(); i++) {
             int x = i * spacing;
             if (x < width) {
-                System.out.print(displayDates.get(i));
+                out.print(displayDates.get(i));
                 int extra = spacing - displayDates.get(i).length();
                 for (int k = 0; k < extra && x + k + displayDates.get(i).length() < width; k++) {
-                    System.out.print(' ');
+                    out.print(" ");
                 }
             }
         }
-        System.out.println("\n");
+        out.println("\n");
     }
 
     /**
      * Replaces the current weight history with a new list, sorted chronologically.
+     * If the list has several records for a date, the last one is kept.
      *
      * @param history The new list of weight records
      */
     public void setWeightHistory(List<WeightRecord> history) {
         this.weightHistory.clear();
-        List<WeightRecord> sorted = new ArrayList<>(history);
-        sorted.sort(Comparator.comparing(WeightRecord::getDate));
-        this.weightHistory.addAll(sorted);
+        for (WeightRecord record : history) {
+            this.weightHistory.put(record.getDate(), record.getWeight());
+        }
+    }
+
+    /**
+     * Replaces the current weight history with the given series, which the person then owns.
+     *
+     * @param series The new weight history
+     */
+    public void setWeightSeries(WeightSeries series) {
+        this.weightHistory = Objects.requireNonNull(series, "WeightSeries cannot be null.");
     }
 
     /**
@@ -298,36 +315,18 @@ public class Person {
      * @return true if a record exists for that date, false otherwise
      */
     public boolean hasWeightRecordOn(LocalDate date) {
-        return weightHistory.stream().anyMatch(r -> r.getDate().equals(date));
+        return weightHistory.contains(date);
     }
 
     /**
      * Updates the weight record for the given date if it exists.
-     * If multiple records exist for the same date, only the first is kept,
-     * the rest are removed. The updated record is re-inserted to maintain order.
      *
      * @param date      the date to update
      * @param newWeight the new weight value
      */
     public void updateWeightRecord(LocalDate date, double newWeight) {
-        WeightRecord mainRecord = null;
-        List<WeightRecord> duplicates = new ArrayList<>();
-
-        for (WeightRecord record : weightHistory) {
-            if (record.getDate().equals(date)) {
-                if (mainRecord == null) {
-                    mainRecord = record;
-                    mainRecord.setWeight(newWeight);
-                } else {
-                    duplicates.add(record);
-                }
-            }
-        }
-
-        if (mainRecord != null) {
-            weightHistory.removeAll(duplicates);
-            weightHistory.remove(mainRecord);
-            insertSorted(mainRecord);
+        if (weightHistory.contains(date)) {
+            weightHistory.put(date, newWeight);
         }
     }
 }
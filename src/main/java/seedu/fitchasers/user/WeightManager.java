@@ -1,5 +1,8 @@
 package seedu.fitchasers.user;
 
+import seedu.fitchasers.exceptions.InvalidArgumentInput;
+import seedu.fitchasers.parser.addweight.AddWeightArguments;
+import seedu.fitchasers.parser.addweight.AddWeightParser;
 import seedu.fitchasers.storage.FileHandler;
 import seedu.fitchasers.ui.UI;
 
@@ -14,7 +17,7 @@ import java.time.format.DateTimeParseException;
  */
 public class WeightManager {
 
-    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yy");
+    private static final DateTimeFormatter DATE_FORMAT = AddWeightParser.DATE_FORMAT;
 
     private final Person currentUser;
     private final UI ui = new UI();
@@ -24,77 +27,25 @@ public class WeightManager {
     }
 
     /**
-     * Adds a new weight entry.
+     * Adds a new weight entry, asking for the date if it was not given.
      * Command examples:
      * /add_weight w/65
      * /add_weight w/65 d/25/10/25
      *
-     * @param command full command string containing weight and optionally a date
+     * @param arguments the weight and optionally the date
      */
-    public void addWeight(String command) {
-        if (command == null || command.trim().isEmpty()) {
-            ui.showMessage("Please enter a valid command: /add_weight w/WEIGHT [d/DATE]");
-            return;
-        }
-
-        String weightString = extractBetween(command);
-        String dateString = extractAfter(command);
-
-        if (weightString.isEmpty()) {
-            ui.showMessage("Missing weight value. Example: /add_weight w/65 d/10/10/25");
-            return;
-        }
-
-        double weightValue;
-        try {
-            weightValue = Double.parseDouble(weightString.trim());
-            if (!isValidWeight(weightValue)) {
+    public void addWeight(AddWeightArguments arguments) {
+        double weightValue = arguments.weight();
+        LocalDate entryDate = arguments.date();
+        if (entryDate == null) {
+            entryDate = askForDate();
+            if (entryDate == null) {
                 return;
             }
-        } catch (NumberFormatException e) {
-            ui.showMessage("Invalid weight. Please enter a number (e.g., 65 or 65.5).");
-            return;
-        }
-
-        if (dateString.isEmpty()) {
-            String todayStr = LocalDate.now().format(DATE_FORMAT);
-            ui.showMessage("Looks like you missed the date. Use current date (" + todayStr + ")? " +
-                    "(Y/N, or type /cancel to abort)");
-
-            Boolean confirmed = ui.confirmationMessageWithCancel();
-            if (confirmed == null) {
-                return;
-            } else if (confirmed) {
-                dateString = todayStr;
-            } else {
-                while (true) {
-                    ui.showMessage("Please provide a date in format dd/MM/yy or type /cancel to abort.");
-                    String inputDate = ui.readInsideRightBubble("Enter date > ");
-                    if (inputDate == null || inputDate.equalsIgnoreCase("/cancel")) {
-                        ui.showMessage("Weight entry canceled.");
-                        return;
-                    }
-                    try {
-                        LocalDate.parse(inputDate.trim(), DATE_FORMAT);
-                        dateString = inputDate.trim();
-                        break;
-                    } catch (DateTimeParseException e) {
-                        ui.showError("Invalid date format. Use dd/MM/yy (e.g., 28/10/25) or type /cancel to abort.");
-                    }
-                }
-            }
-        }
-
-        LocalDate entryDate;
-        try {
-            entryDate = LocalDate.parse(dateString.trim(), DATE_FORMAT);
-        } catch (DateTimeParseException e) {
-            ui.showMessage("Invalid date format. Use dd/MM/yy (e.g., 28/10/25).");
-            return;
         }
 
         if (entryDate.isAfter(LocalDate.now())) {
-            ui.showMessage("The date you entered (" + entryDate.format(DATE_FORMAT)
+            ui.showFailure("The date you entered (" + entryDate.format(DATE_FORMAT)
                     + ") is in the future. Please use a valid date.");
             return;
         }
@@ -115,7 +66,7 @@ public class WeightManager {
             FileHandler fileHandler = new FileHandler();
             fileHandler.saveWeightList(currentUser);
         } catch (IOException e) {
-            ui.showMessage("Failed to save weight data: " + e.getMessage());
+            ui.showFailure("Failed to save weight data: " + e.getMessage());
         }
     }
 
@@ -128,24 +79,35 @@ public class WeightManager {
 
     // ----------------- Helper methods -----------------
 
-    private String extractBetween(String text) {
-        int startIndex = text.indexOf("w/");
-        int endIndex = text.indexOf("d/");
-        if (startIndex == -1) {
-            return "";
-        }
-        if (endIndex == -1 || endIndex < startIndex) {
-            return text.substring(startIndex + "w/".length()).trim();
+    /**
+     * Offers today's date, or asks for another one until a valid date is entered.
+     *
+     * @return the date, or {@code null} if the user cancelled
+     */
+    private LocalDate askForDate() {
+        String todayStr = LocalDate.now().format(DATE_FORMAT);
+        ui.showMessage("Looks like you missed the date. Use current date (" + todayStr + ")? " +
+                "(Y/N, or type /cancel to abort)");
+
+        Boolean confirmed = ui.confirmationMessageWithCancel();
+        if (confirmed == null) {
+            return null;
+        } else if (confirmed) {
+            return LocalDate.now();
         }
-        return text.substring(startIndex + "w/".length(), endIndex).trim();
-    }
-
-    private String extractAfter(String text) {
-        int startIndex = text.indexOf("d/");
-        if (startIndex == -1) {
-            return "";
+        while (true) {
+            ui.showMessage("Please provide a date in format dd/MM/yy or type /cancel to abort.");
+            String inputDate = ui.readInsideRightBubble("Enter date > ");
+            if (inputDate == null || inputDate.equalsIgnoreCase("/cancel")) {
+                ui.showMessage("Weight entry canceled.");
+                return null;
+            }
+            try {
+                return LocalDate.parse(inputDate.trim(), DATE_FORMAT);
+            } catch (DateTimeParseException e) {
+                ui.showError("Invalid date format. Use dd/MM/yy (e.g., 28/10/25) or type /cancel to abort.");
+            }
         }
-        return text.substring(startIndex + "d/".length()).trim();
     }
 
     /**
@@ -155,15 +117,12 @@ public class WeightManager {
      * @return true if valid, false otherwise (also prints error messages)
      */
     public boolean isValidWeight(double weight) {
-        if (weight <= 0) {
-            ui.showMessage("Weight must be a positive number.");
-            return false;
-        }
-
-        if (weight < 20 || weight > 500) {
-            ui.showMessage("Weight must be between 20 kg and 500 kg.");
+        try {
+            AddWeightParser.checkWeight(weight);
+            return true;
+        } catch (InvalidArgumentInput e) {
+            ui.showFailure(e.getMessage());
             return false;
         }
-        return true;
     }
 }
@@ -0,0 +1,293 @@
+package seedu.fitchasers.user;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+//@@author bennyy117
+/**
+ * Stores at most one weight per day, keyed by epoch day, in primitive arrays.
+ * <p>
+ * Each day between {@code base} and {@code base + capacity - 1} has a slot, which is {@code NaN} when no
+ * weight was recorded that day. Two Fenwick trees over the slots hold the sum of the weights and the number
+ * of recorded days, so adding, updating or removing a day takes O(log n), and so does the sum, count or
+ * average over any range of days, or finding the k-th recorded day. The slots grow by doubling when a date
+ * falls outside them.
+ */
+public class WeightSeries {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long base;
+    private double[] weights = new double[0];
+    private double[] sumTree = new double[1];
+    private int[] countTree = new int[1];
+    private int size = 0;
+
+    /**
+     * Records the weight for a date, replacing any weight already recorded that day.
+     *
+     * @param date   The date of the weight.
+     * @param weight The weight in kilograms.
+     * @return {@code true} if the date had no weight before.
+     */
+    public boolean put(LocalDate date, double weight) {
+        if (Double.isNaN(weight)) {
+            throw new IllegalArgumentException("Weight must be a number.");
+        }
+        long day = date.toEpochDay();
+        ensureSlot(day);
+        int slot = (int) (day - base);
+        double old = weights[slot];
+        weights[slot] = weight;
+        if (Double.isNaN(old)) {
+            addToTrees(slot, weight, 1);
+            size++;
+            return true;
+        }
+        addToTrees(slot, weight - old, 0);
+        return false;
+    }
+
+    /**
+     * Removes the weight recorded for a date.
+     *
+     * @param date The date to remove.
+     * @return {@code true} if the date had a weight.
+     */
+    public boolean remove(LocalDate date) {
+        int slot = slotOf(date.toEpochDay());
+        if (slot < 0 || Double.isNaN(weights[slot])) {
+            return false;
+        }
+        addToTrees(slot, -weights[slot], -1);
+        weights[slot] = Double.NaN;
+        size--;
+        return true;
+    }
+
+    /**
+     * Returns whether a weight is recorded for a date.
+     */
+    public boolean contains(LocalDate date) {
+        return !Double.isNaN(get(date));
+    }
+
+    /**
+     * Returns the weight recorded for a date, or {@code NaN} if there is none.
+     */
+    public double get(LocalDate date) {
+        int slot = slotOf(date.toEpochDay());
+        return (slot < 0) ? Double.NaN : weights[slot];
+    }
+
+    /**
+     * Returns the number of days with a recorded weight.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every weight.
+     */
+    public void clear() {
+        weights = new double[0];
+        sumTree = new double[1];
+        countTree = new int[1];
+        size = 0;
+    }
+
+    /**
+     * Returns the date of the {@code rank}-th recorded day, counting from 0 for the earliest.
+     *
+     * @throws IndexOutOfBoundsException If {@code rank} is not below {@link #size()}.
+     */
+    public LocalDate dateAt(int rank) {
+        return LocalDate.ofEpochDay(base + select(rank));
+    }
+
+    /**
+     * Returns the weight of the {@code rank}-th recorded day, counting from 0 for the earliest.
+     *
+     * @throws IndexOutOfBoundsException If {@code rank} is not below {@link #size()}.
+     */
+    public double weightAt(int rank) {
+        return weights[select(rank)];
+    }
+
+    /**
+     * Returns the number of recorded days from {@code from} to {@code to}, both inclusive.
+     */
+    public int count(LocalDate from, LocalDate to) {
+        long first = Math.max(from.toEpochDay(), base);
+        long last = Math.min(to.toEpochDay(), base + weights.length - 1);
+        if (first > last) {
+            return 0;
+        }
+        return countPrefix((int) (last - base) + 1) - countPrefix((int) (first - base));
+    }
+
+    /**
+     * Returns the sum of the weights from {@code from} to {@code to}, both inclusive.
+     */
+    public double sum(LocalDate from, LocalDate to) {
+        long first = Math.max(from.toEpochDay(), base);
+        long last = Math.min(to.toEpochDay(), base + weights.length - 1);
+        if (first > last) {
+            return 0;
+        }
+        return sumPrefix((int) (last - base) + 1) - sumPrefix((int) (first - base));
+    }
+
+    /**
+     * Returns the average weight from {@code from} to {@code to}, both inclusive, or {@code NaN} if no
+     * weight was recorded in that range.
+     */
+    public double average(LocalDate from, LocalDate to) {
+        int count = count(from, to);
+        return (count == 0) ? Double.NaN : sum(from, to) / count;
+    }
+
+    /**
+     * Returns the average weight over the {@code days} days ending on {@code end}, or {@code NaN} if no
+     * weight was recorded in them.
+     */
+    public double movingAverage(LocalDate end, int days) {
+        if (days <= 0) {
+            throw new IllegalArgumentException("The window must be at least one day.");
+        }
+        return average(end.minusDays(days - 1), end);
+    }
+
+    /**
+     * Returns the recorded weights from the earliest to the latest.
+     */
+    public List<WeightRecord> toList() {
+        List<WeightRecord> records = new ArrayList<>(size);
+        if (size == 0) {
+            return records;
+        }
+        int last = select(size - 1);
+        for (int slot = select(0); slot <= last; slot++) {
+            if (!Double.isNaN(weights[slot])) {
+                records.add(new WeightRecord(weights[slot], LocalDate.ofEpochDay(base + slot)));
+            }
+        }
+        return records;
+    }
+
+    private int slotOf(long day) {
+        long slot = day - base;
+        return (slot < 0 || slot >= weights.length) ? -1 : (int) slot;
+    }
+
+    /**
+     * Grows the slots so that {@code day} has one, leaving room to grow further in the same direction.
+     */
+    private void ensureSlot(long day) {
+        if (weights.length == 0) {
+            base = day - INITIAL_CAPACITY / 2;
+            weights = new double[INITIAL_CAPACITY];
+            Arrays.fill(weights, Double.NaN);
+            sumTree = new double[INITIAL_CAPACITY + 1];
+            countTree = new int[INITIAL_CAPACITY + 1];
+            return;
+        }
+        if (slotOf(day) >= 0) {
+            return;
+        }
+        long low = Math.min(base, day);
+        long high = Math.max(base + weights.length - 1, day);
+        long needed = high - low + 1;
+        long capacity = weights.length * 2L;
+        while (capacity < needed) {
+            capacity *= 2;
+        }
+        if (capacity > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Dates are too far apart: " + LocalDate.ofEpochDay(day));
+        }
+        long newBase = (day < base) ? high - capacity + 1 : low;
+
+        double[] grown = new double[(int) capacity];
+        Arrays.fill(grown, Double.NaN);
+        System.arraycopy(weights, 0, grown, (int) (base - newBase), weights.length);
+        base = newBase;
+        weights = grown;
+        rebuildTrees();
+    }
+
+    /**
+     * Rebuilds both trees from the slots in O(capacity).
+     */
+    private void rebuildTrees() {
+        int n = weights.length;
+        sumTree = new double[n + 1];
+        countTree = new int[n + 1];
+        for (int i = 1; i <= n; i++) {
+            double weight = weights[i - 1];
+            if (!Double.isNaN(weight)) {
+                sumTree[i] += weight;
+                countTree[i]++;
+            }
+            int parent = i + (i & -i);
+            if (parent <= n) {
+                sumTree[parent] += sumTree[i];
+                countTree[parent] += countTree[i];
+            }
+        }
+    }
+
+    private void addToTrees(int slot, double weightDelta, int countDelta) {
+        for (int i = slot + 1; i < sumTree.length; i += i & -i) {
+            sumTree[i] += weightDelta;
+            countTree[i] += countDelta;
+        }
+    }
+
+    /**
+     * Returns the sum of the first {@code slots} slots.
+     */
+    private double sumPrefix(int slots) {
+        double sum = 0;
+        for (int i = slots; i > 0; i -= i & -i) {
+            sum += sumTree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the number of recorded days in the first {@code slots} slots.
+     */
+    private int countPrefix(int slots) {
+        int count = 0;
+        for (int i = slots; i > 0; i -= i & -i) {
+            count += countTree[i];
+        }
+        return count;
+    }
+
+    /**
+     * Returns the slot of the {@code rank}-th recorded day by descending the count tree.
+     */
+    private int select(int rank) {
+        if (rank < 0 || rank >= size) {
+            throw new IndexOutOfBoundsException("Rank " + rank + " is outside 0 to " + (size - 1));
+        }
+        int remaining = rank + 1;
+        int position = 0;
+        // the capacity is always a power of two, so the descent starts at the root
+        for (int step = weights.length; step > 0; step >>= 1) {
+            int next = position + step;
+            if (next <= weights.length && countTree[next] < remaining) {
+                position = next;
+                remaining -= countTree[next];
+            }
+        }
+        return position;
+    }
+}
@@ -1,8 +1,6 @@
 package seedu.fitchasers.workouts;
 
 import seedu.fitchasers.exceptions.FileNonexistent;
-import seedu.fitchasers.exceptions.InvalidArgumentInput;
-import seedu.fitchasers.parser.deleteworkout.DeleteParser;
 import seedu.fitchasers.parser.deleteworkout.DeleteWorkoutArguments;
 import seedu.fitchasers.storage.FileHandler;
 import seedu.fitchasers.ui.UI;
@@ -42,25 +40,20 @@ public class DeleteWorkout {
     /**
      * Executes the {@code /delete_workout} command.
      * <p>
-     * Parses the user's input, loads workouts for the specified month,
+     * Loads workouts for the specified month,
      * displays details of the selected workout, requests confirmation,
      * performs deletion, saves the updated list, and refreshes in-memory data.
      *
-     * @param args The raw command arguments provided by the user.
-     * @throws InvalidArgumentInput If the arguments are invalid or incorrectly formatted.
+     * @param parsedArgumentsForDelete The workout to delete and its month.
      * @throws IOException If an I/O error occurs while accessing workout files.
      * @throws FileNonexistent If the workout file for the specified month does not exist.
      */
-    public void execute(String args) throws InvalidArgumentInput, IOException, FileNonexistent {
-        //format and package the Arguments nicely into DeleteWorkoutArguments
-        DeleteWorkoutArguments parsedArgumentsForDelete =
-                new DeleteParser().parse(args, workoutManager.getCurrentLoadedMonth());
-
+    public void execute(DeleteWorkoutArguments parsedArgumentsForDelete) throws IOException, FileNonexistent {
         ArrayList<Workout> monthWorkouts =
                 new ArrayList<>(fileHandler.loadMonthList(parsedArgumentsForDelete.yearMonth()));
 
         if (monthWorkouts.isEmpty()) {
-            ui.showMessage("No workouts found for " + parsedArgumentsForDelete.yearMonth() + ".");
+            ui.showFailure("No workouts found for " + parsedArgumentsForDelete.yearMonth() + ".");
             ui.showMessage("Use /view_log to check available months.");
             return;
         }
@@ -78,7 +71,7 @@ public class DeleteWorkout {
 
         int displayIndex = parsedArgumentsForDelete.indexToDelete();
         if (displayIndex < 1 || displayIndex > monthWorkouts.size()) {
-            ui.showMessage("Invalid workout ID: " + displayIndex);
+            ui.showFailure("Invalid workout ID: " + displayIndex);
             ui.showMessage("Please use a valid ID between 1 and " + monthWorkouts.size());
             ui.showMessage("Tip: /view_log m/" + parsedArgumentsForDelete.yearMonth().getMonthValue()
                     + " to see the list.");
@@ -98,6 +91,7 @@ public class DeleteWorkout {
 
         String deletedName = toDelete.getWorkoutName();
         monthWorkouts.remove(displayIndex - 1);
+        workoutManager.recordWorkoutDeleted(toDelete);
 
         // Save back (persist the same ordering you used)
         fileHandler.saveMonthList(parsedArgumentsForDelete.yearMonth(), monthWorkouts);
@@ -105,6 +99,8 @@ public class DeleteWorkout {
         // Update in-memory if this month is the active one
         if (parsedArgumentsForDelete.yearMonth().equals(currentLoadedMonth)) {
             workoutManager.setWorkouts(monthWorkouts, parsedArgumentsForDelete.yearMonth());
+        } else {
+            workoutManager.forgetScheduledMonth(parsedArgumentsForDelete.yearMonth());
         }
 
         ui.showMessage("✓ Deleted workout: " + deletedName);
@@ -1,14 +1,15 @@
 package seedu.fitchasers.workouts;
 
-import java.util.ArrayList;
+import java.util.List;
 
 //@@author nitin19011
 /**
- * Represents an exercise with a name and multiple sets, each having a number of reps.
+ * Represents an exercise with a name and multiple sets, each having a number of reps
+ * and optionally a weight and an RPE.
  */
 public class Exercise {
     private final String name;
-    private final ArrayList<Integer> sets; // each element = reps for one set
+    private final SetLog sets;
 
     /**
      * Constructs an Exercise with one initial set.
@@ -18,8 +19,34 @@ public class Exercise {
      */
     public Exercise(String name, int reps) {
         this.name = name;
-        this.sets = new ArrayList<>();
-        this.sets.add(reps);
+        this.sets = new SetLog();
+        sets.add(reps, SetLog.NONE, SetLog.NONE);
+    }
+
+    /**
+     * Constructs an Exercise with one initial set that records a weight and an RPE.
+     *
+     * @param name   The name of the exercise.
+     * @param reps   The number of reps for the first set.
+     * @param weight The weight lifted, or {@link SetLog#NONE} if not recorded.
+     * @param rpe    The rate of perceived exertion, or {@link SetLog#NONE} if not recorded.
+     */
+    public Exercise(String name, int reps, float weight, float rpe) {
+        this.name = name;
+        this.sets = new SetLog();
+        sets.add(reps, weight, rpe);
+    }
+
+    private Exercise(String name, SetLog sets) {
+        this.name = name;
+        this.sets = sets;
+    }
+
+    /**
+     * Returns a copy of this exercise whose sets can be changed independently.
+     */
+    public Exercise copy() {
+        return new Exercise(name, sets.copy());
     }
 
     /**
@@ -28,7 +55,18 @@ public class Exercise {
      * @param reps The number of reps for the new set.
      */
     public void addSet(int reps) {
-        sets.add(reps);
+        sets.add(reps, SetLog.NONE, SetLog.NONE);
+    }
+
+    /**
+     * Adds a new set with a weight and an RPE to this exercise.
+     *
+     * @param reps   The number of reps for the new set.
+     * @param weight The weight lifted, or {@link SetLog#NONE} if not recorded.
+     * @param rpe    The rate of perceived exertion, or {@link SetLog#NONE} if not recorded.
+     */
+    public void addSet(int reps, float weight, float rpe) {
+        sets.add(reps, weight, rpe);
     }
 
     /**
@@ -46,12 +84,19 @@ public class Exercise {
     }
 
     /**
-     * Returns the list of reps for each set.
+     * Returns a read-only view of the sets backed by primitive arrays.
      */
-    public ArrayList<Integer> getSets() {
+    public SetLog getSetLog() {
         return sets;
     }
 
+    /**
+     * Returns a read-only list of reps for each set. Prefer {@link #getSetLog()}, which does not box.
+     */
+    public List<Integer> getSets() {
+        return sets.asRepsList();
+    }
+
     /**
      * Returns a detailed multi-line description of this exercise.
      */
@@ -59,7 +104,15 @@ public class Exercise {
         StringBuilder sb = new StringBuilder();
         sb.append(name).append(":\n");
         for (int i = 0; i < sets.size(); i++) {
-            sb.append("Set ").append(i + 1).append(" -> Reps: ").append(sets.get(i));
+            sb.append("Set ").append(i + 1).append(" -> Reps: ").append(sets.getReps(i));
+            float weight = sets.getWeight(i);
+            if (!Float.isNaN(weight)) {
+                sb.append(", Weight: ").append(SetLog.formatValue(weight));
+            }
+            float rpe = sets.getRpe(i);
+            if (!Float.isNaN(rpe)) {
+                sb.append(", RPE: ").append(SetLog.formatValue(rpe));
+            }
             if (i < sets.size() - 1) {
                 sb.append("\n");
             }
@@ -0,0 +1,27 @@
+package seedu.fitchasers.workouts;
+
+import java.util.List;
+
+//@@author Exceptional-Khoi
+/**
+ * Supplies the exercises of a {@link Workout} that were left unparsed when the workout was loaded.
+ * <p>
+ * List views only need a workout's header, so the storage layer may attach a loader instead of
+ * building every exercise up front. The workout calls {@link #load()} once, the first time its
+ * exercises are accessed.
+ */
+public interface ExerciseLoader {
+    /**
+     * Parses and returns the exercises, in the order they should be added to the workout.
+     *
+     * @return the exercises of the workout
+     */
+    List<Exercise> load();
+
+    /**
+     * Returns the size of the unparsed data, used to estimate memory use before loading.
+     *
+     * @return the number of bytes still to be parsed
+     */
+    int sizeHint();
+}
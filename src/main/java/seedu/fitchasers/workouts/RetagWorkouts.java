@@ -0,0 +1,162 @@
+package seedu.fitchasers.workouts;
+
+import seedu.fitchasers.exceptions.FileNonexistent;
+import seedu.fitchasers.storage.FileHandler;
+import seedu.fitchasers.storage.LoadWarnings;
+import seedu.fitchasers.tagger.Tagger;
+import seedu.fitchasers.ui.UI;
+
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+
+//@@author Kart04
+/**
+ * Handles the {@code /retag} command, which re-runs the tagger over every saved month.
+ * <p>
+ * Months are read and re-tagged in parallel on a fork-join pool, while the calling thread saves
+ * each month as soon as its result is ready, so reading never waits for writing.
+ * Only the auto tags of workouts whose suggestion changed are replaced; manual tags are left alone,
+ * and months with no changes are not rewritten. The loaded month is re-tagged in memory so that
+ * an active workout stays attached to the {@code WorkoutManager}.
+ */
+public class RetagWorkouts {
+    private static final int PROGRESS_STEPS = 10;
+
+    private final UI ui;
+    private final FileHandler fileHandler;
+    private final WorkoutManager workoutManager;
+    private final Tagger tagger;
+
+    /**
+     * Constructs a {@code RetagWorkouts} instance with the specified dependencies.
+     *
+     * @param ui             The user interface for progress and summary messages.
+     * @param fileHandler    The file handler used to read and save month files.
+     * @param workoutManager The workout manager holding the loaded month.
+     * @param tagger         The tagger whose suggestions replace the auto tags.
+     */
+    public RetagWorkouts(UI ui, FileHandler fileHandler, WorkoutManager workoutManager, Tagger tagger) {
+        this.ui = ui;
+        this.fileHandler = fileHandler;
+        this.workoutManager = workoutManager;
+        this.tagger = tagger;
+    }
+
+    private record MonthResult(YearMonth month, ArrayList<Workout> workouts, int scanned, int changed,
+                               LoadWarnings warnings) {
+    }
+
+    /**
+     * Executes the {@code /retag} command.
+     *
+     * @throws IOException If reading or saving a month file fails.
+     */
+    public void execute() throws IOException {
+        long startNanos = System.nanoTime();
+        // Journaled mutations must be on disk before other threads replay them.
+        fileHandler.flushJournal();
+
+        YearMonth loadedMonth = workoutManager.getCurrentLoadedMonth();
+        List<YearMonth> months = fileHandler.listSavedMonths();
+        if (months.isEmpty()) {
+            ui.showMessage("No saved workouts to retag.");
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool();
+        ui.showMessage("Retagging " + months.size() + " month file(s) using "
+                + pool.getParallelism() + " worker thread(s)...");
+
+        int scanned = 0;
+        int changed = 0;
+        int filesTouched = 0;
+        int done = 0;
+        int nextReport = 1;
+        try {
+            CompletionService<MonthResult> results = new ExecutorCompletionService<>(pool);
+            int submitted = 0;
+            for (YearMonth month : months) {
+                if (month.equals(loadedMonth)) {
+                    continue;
+                }
+                results.submit(() -> {
+                    // workers must not touch the console, so problems with the file are reported below
+                    LoadWarnings warnings = new LoadWarnings();
+                    return retagMonth(month, fileHandler.readMonthUncached(month, warnings), warnings);
+                });
+                submitted++;
+            }
+
+            if (months.contains(loadedMonth)) {
+                MonthResult result = retagMonth(loadedMonth, workoutManager.getWorkouts(), new LoadWarnings());
+                scanned += result.scanned();
+                changed += result.changed();
+                if (result.changed() > 0) {
+                    fileHandler.saveMonthList(loadedMonth, result.workouts());
+                    filesTouched++;
+                }
+                done++;
+            }
+
+            for (int i = 0; i < submitted; i++) {
+                MonthResult result = takeResult(results);
+                result.warnings().report(ui);
+                scanned += result.scanned();
+                changed += result.changed();
+                if (result.changed() > 0) {
+                    fileHandler.saveMonthList(result.month(), result.workouts());
+                    workoutManager.forgetScheduledMonth(result.month());
+                    filesTouched++;
+                }
+                done++;
+                if (done * PROGRESS_STEPS >= nextReport * months.size() && done < months.size()) {
+                    ui.showMessage("Retag progress: " + done + "/" + months.size() + " months");
+                    nextReport = done * PROGRESS_STEPS / months.size() + 1;
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+        ui.showMessage("Retag complete: " + changed + " of " + scanned + " workouts got new auto tags, "
+                + filesTouched + " of " + months.size() + " month file(s) rewritten.\n"
+                + "Took " + elapsedMillis + " ms (" + (scanned * 1000L / elapsedMillis) + " workouts/s).");
+    }
+
+    private MonthResult retagMonth(YearMonth month, ArrayList<Workout> workouts, LoadWarnings warnings) {
+        int changed = 0;
+        for (Workout w : workouts) {
+            Set<String> suggested = tagger.suggest(w);
+            if (!suggested.equals(w.getAutoTags())) {
+                w.setAutoTags(suggested);
+                changed++;
+            }
+        }
+        return new MonthResult(month, workouts, workouts.size(), changed, warnings);
+    }
+
+    private static MonthResult takeResult(CompletionService<MonthResult> results) throws IOException {
+        try {
+            return results.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Retag was interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof FileNonexistent) {
+                throw new IOException(cause.getMessage(), cause);
+            }
+            throw new IOException("Retag failed: " + cause, cause);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package seedu.fitchasers.workouts;
+
+import seedu.fitchasers.parser.search.SearchArguments;
+import seedu.fitchasers.storage.FileHandler;
+import seedu.fitchasers.storage.SearchIndex;
+import seedu.fitchasers.storage.WorkoutIndex;
+import seedu.fitchasers.ui.JsonOutput;
+import seedu.fitchasers.ui.UI;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+//@@author Kart04
+/**
+ * Handles the {@code /search} command, which finds saved workouts by the words in their name,
+ * exercises and tags across every month.
+ * <p>
+ * Each word of the query matches the words it is a prefix of, and a workout must match every
+ * word, so {@code /search dead leg} lists the leg workouts with deadlifts. Results come from the
+ * search index kept by {@link FileHandler} and are listed newest first.
+ * <p>
+ * A date range or tag narrows the results. Without any words, every workout in the range with
+ * that tag is listed from the workout index instead.
+ */
+public class SearchWorkouts {
+    static final int MAX_RESULTS = 20;
+    private static final DateTimeFormatter START_FMT = DateTimeFormatter.ofPattern("dd/MM/yy HH:mm");
+    private static final DateTimeFormatter DATE_FMT = DateTimeFormatter.ofPattern("dd/MM/yy");
+
+    private final UI ui;
+    private final FileHandler fileHandler;
+
+    /**
+     * Constructs a {@code SearchWorkouts} instance with the specified dependencies.
+     *
+     * @param ui          The user interface to show the results on.
+     * @param fileHandler The file handler that keeps the search index.
+     */
+    public SearchWorkouts(UI ui, FileHandler fileHandler) {
+        this.ui = ui;
+        this.fileHandler = fileHandler;
+    }
+
+    /**
+     * Executes the {@code /search} command.
+     *
+     * @param args The words to look for and the filters to apply.
+     * @throws IOException If the search index has to be built from the saved months and that fails.
+     */
+    public void execute(SearchArguments args) throws IOException {
+        List<SearchIndex.Match> matches = find(args);
+        if (UI.isJsonOutput()) {
+            ui.showData("search", () -> searchData(args, matches));
+            return;
+        }
+        ui.showMessage(render(describe(args), matches));
+    }
+
+    private List<SearchIndex.Match> find(SearchArguments args) throws IOException {
+        if (args.query().isEmpty()) {
+            List<WorkoutIndex.Entry> entries = (args.tag() == null)
+                    ? fileHandler.findWorkoutsBetween(args.from(), args.to())
+                    : fileHandler.findWorkoutsByTag(args.tag(), args.from(), args.to());
+            List<SearchIndex.Match> matches = new ArrayList<>(entries.size());
+            for (WorkoutIndex.Entry e : entries) {
+                matches.add(SearchIndex.matchOf(e));
+            }
+            // the workout index lists oldest first
+            Collections.reverse(matches);
+            return matches;
+        }
+        List<SearchIndex.Match> matches = new ArrayList<>();
+        for (SearchIndex.Match m : fileHandler.searchWorkouts(args.query())) {
+            LocalDate day = m.start().toLocalDate();
+            if (!day.isBefore(args.from()) && !day.isAfter(args.to())
+                    && (args.tag() == null || hasTag(m, args.tag()))) {
+                matches.add(m);
+            }
+        }
+        return matches;
+    }
+
+    private static boolean hasTag(SearchIndex.Match m, String tag) {
+        for (String t : m.tags()) {
+            if (t.equalsIgnoreCase(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Describes the search for the heading of the results, e.g. {@code "squat" tagged legs from 01/09/25}.
+     */
+    private static String describe(SearchArguments args) {
+        StringBuilder buf = new StringBuilder();
+        if (!args.query().isEmpty()) {
+            buf.append('"').append(args.query()).append('"');
+        }
+        if (args.tag() != null) {
+            buf.append(buf.isEmpty() ? "" : " ").append("tagged ").append(args.tag());
+        }
+        if (!args.from().equals(SearchArguments.EARLIEST)) {
+            buf.append(buf.isEmpty() ? "" : " ").append("from ").append(args.from().format(DATE_FMT));
+        }
+        if (!args.to().equals(SearchArguments.LATEST)) {
+            buf.append(buf.isEmpty() ? "" : " ").append("to ").append(args.to().format(DATE_FMT));
+        }
+        return buf.toString();
+    }
+
+    private static Map<String, Object> searchData(SearchArguments args, List<SearchIndex.Match> matches) {
+        List<Object> workouts = new ArrayList<>(matches.size());
+        for (SearchIndex.Match m : matches) {
+            workouts.add(JsonOutput.object("start", m.start(), "name", m.name(), "tags", m.tags(),
+                    "exercises", m.exercises()));
+        }
+        return JsonOutput.object("query", args.query(), "from", args.from(), "to", args.to(), "tag", args.tag(),
+                "total", matches.size(), "workouts", workouts);
+    }
+
+    static String render(String description, List<SearchIndex.Match> matches) {
+        if (matches.isEmpty()) {
+            return "No workouts match " + description + ".";
+        }
+        StringBuilder buf = new StringBuilder();
+        buf.append(String.format("%d workout(s) match %s", matches.size(), description));
+        if (matches.size() > MAX_RESULTS) {
+            buf.append(", showing the latest ").append(MAX_RESULTS);
+        }
+        buf.append(System.lineSeparator());
+        buf.append(String.format("%-15s %-24s %s%n", "Started", "Workout", "Tags"));
+        for (SearchIndex.Match m : matches.subList(0, Math.min(MAX_RESULTS, matches.size()))) {
+            buf.append(String.format("%-15s %-24s %s%n", m.start().format(START_FMT), m.name(),
+                    m.tags().isEmpty() ? "-" : String.join(", ", m.tags())));
+        }
+        buf.append("Tip: /view_log ym/MM/YY lists a month, then /open id/INDEX shows a workout.");
+        return buf.toString();
+    }
+}
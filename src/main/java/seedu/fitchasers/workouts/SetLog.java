@@ -0,0 +1,177 @@
+package seedu.fitchasers.workouts;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+//@@author nitin19011
+/**
+ * Stores the sets of an {@link Exercise} in primitive arrays.
+ * <p>
+ * Reps are kept in an {@code int[]} that grows by half its size when full, so recording a set does
+ * not allocate an {@code Integer}. Weight and RPE are optional parallel {@code float[]} columns that
+ * are only allocated once a set records them; a set without a value reads as {@link #NONE}.
+ * Outside this package the log is a read-only view: only {@link Exercise} adds sets.
+ */
+public final class SetLog {
+    /** Value of a weight or RPE that was not recorded. */
+    public static final float NONE = Float.NaN;
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] reps = new int[INITIAL_CAPACITY];
+    private float[] weights = null;
+    private float[] rpes = null;
+    private int size = 0;
+
+    SetLog() {
+    }
+
+    void add(int setReps, float weight, float rpe) {
+        if (size == reps.length) {
+            grow();
+        }
+        reps[size] = setReps;
+        if (!Float.isNaN(weight) && weights == null) {
+            weights = newColumn(reps.length);
+        }
+        if (weights != null) {
+            weights[size] = weight;
+        }
+        if (!Float.isNaN(rpe) && rpes == null) {
+            rpes = newColumn(reps.length);
+        }
+        if (rpes != null) {
+            rpes[size] = rpe;
+        }
+        size++;
+    }
+
+    SetLog copy() {
+        SetLog copy = new SetLog();
+        copy.reps = Arrays.copyOf(reps, Math.max(size, INITIAL_CAPACITY));
+        copy.weights = (weights == null) ? null : Arrays.copyOf(weights, copy.reps.length);
+        copy.rpes = (rpes == null) ? null : Arrays.copyOf(rpes, copy.reps.length);
+        copy.size = size;
+        return copy;
+    }
+
+    private void grow() {
+        int capacity = reps.length + (reps.length >> 1) + 1;
+        reps = Arrays.copyOf(reps, capacity);
+        if (weights != null) {
+            weights = Arrays.copyOf(weights, capacity);
+        }
+        if (rpes != null) {
+            rpes = Arrays.copyOf(rpes, capacity);
+        }
+    }
+
+    private static float[] newColumn(int capacity) {
+        float[] column = new float[capacity];
+        Arrays.fill(column, NONE);
+        return column;
+    }
+
+    /**
+     * Returns the number of sets.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the reps of a set.
+     *
+     * @param index The zero-based set index.
+     * @return The number of reps.
+     */
+    public int getReps(int index) {
+        return reps[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * Returns the weight of a set.
+     *
+     * @param index The zero-based set index.
+     * @return The weight, or {@link #NONE} if the set has none.
+     */
+    public float getWeight(int index) {
+        Objects.checkIndex(index, size);
+        return (weights == null) ? NONE : weights[index];
+    }
+
+    /**
+     * Returns the RPE (rate of perceived exertion) of a set.
+     *
+     * @param index The zero-based set index.
+     * @return The RPE, or {@link #NONE} if the set has none.
+     */
+    public float getRpe(int index) {
+        Objects.checkIndex(index, size);
+        return (rpes == null) ? NONE : rpes[index];
+    }
+
+    /**
+     * Returns whether any set records a weight.
+     */
+    public boolean hasWeights() {
+        return weights != null;
+    }
+
+    /**
+     * Returns whether any set records an RPE.
+     */
+    public boolean hasRpe() {
+        return rpes != null;
+    }
+
+    /**
+     * Returns the sum of the reps of all sets.
+     */
+    public int totalReps() {
+        int total = 0;
+        for (int i = 0; i < size; i++) {
+            total += reps[i];
+        }
+        return total;
+    }
+
+    /**
+     * Returns a copy of the reps of all sets.
+     */
+    public int[] toRepsArray() {
+        return Arrays.copyOf(reps, size);
+    }
+
+    /**
+     * Returns an unmodifiable list view of the reps. Each element is boxed on access.
+     */
+    public List<Integer> asRepsList() {
+        return new AbstractList<>() {
+            @Override
+            public Integer get(int index) {
+                return getReps(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Formats a weight or RPE without a trailing {@code .0} for whole numbers.
+     *
+     * @param value The value to format; must not be {@link #NONE}.
+     * @return The formatted value, e.g. {@code "60"} or {@code "62.5"}.
+     */
+    public static String formatValue(float value) {
+        assert !Float.isNaN(value) : "Missing values have no text form";
+        if (value == Math.rint(value) && Math.abs(value) < 1e7f) {
+            return Integer.toString((int) value);
+        }
+        return Float.toString(value);
+    }
+}
@@ -0,0 +1,131 @@
+package seedu.fitchasers.workouts;
+
+import seedu.fitchasers.parser.transfer.TransferArguments;
+import seedu.fitchasers.storage.DataTransfer;
+import seedu.fitchasers.storage.FileHandler;
+import seedu.fitchasers.tagger.Tagger;
+import seedu.fitchasers.ui.UI;
+import seedu.fitchasers.user.Person;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+//@@author Kart04
+/**
+ * Handles the {@code /import} and {@code /export} commands, which move workouts or weights between
+ * the saved data and a CSV or JSON file, such as one exported by another tracker.
+ * <p>
+ * The format is chosen by the file extension. Workouts are exchanged one set per record, as described
+ * in {@link DataTransfer}, and weights one day per record.
+ */
+public class TransferData {
+    private final UI ui;
+    private final FileHandler fileHandler;
+    private final WorkoutManager workoutManager;
+    private final Person person;
+    private final Tagger tagger;
+
+    /**
+     * Constructs a {@code TransferData} instance with the specified dependencies.
+     *
+     * @param ui             The user interface for the summary messages.
+     * @param fileHandler    The file handler that saves the imported data.
+     * @param workoutManager The workout manager holding the loaded month.
+     * @param person         The user whose weights are imported and exported.
+     * @param tagger         The tagger that tags workouts imported without auto tags.
+     */
+    public TransferData(UI ui, FileHandler fileHandler, WorkoutManager workoutManager, Person person,
+                        Tagger tagger) {
+        this.ui = ui;
+        this.fileHandler = fileHandler;
+        this.workoutManager = workoutManager;
+        this.person = person;
+        this.tagger = tagger;
+    }
+
+    /**
+     * Executes the {@code /import} command.
+     *
+     * @param request The kind of data and the file, e.g. {@code workouts f/history.csv}.
+     * @throws IOException If the file cannot be read or is malformed, or saving fails.
+     */
+    public void executeImport(TransferArguments request) throws IOException {
+        if (!Files.isRegularFile(request.file())) {
+            ui.showFailure("Cannot find the file " + request.file() + ".");
+            return;
+        }
+        if (request.isWorkouts() && workoutManager.hasActiveWorkout()) {
+            ui.showFailure("Please end your active workout with /end_workout before importing workouts.");
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        DataTransfer transfer = new DataTransfer(fileHandler);
+        DataTransfer.Report report;
+        String what;
+        if (request.isWorkouts()) {
+            report = transfer.importWorkouts(request.file(), request.format(), tagger);
+            workoutManager.reloadAfterImport(report.months());
+            what = report.added() + " workout(s) into " + report.months().size() + " month(s)";
+        } else {
+            report = transfer.importWeights(request.file(), request.format(), person);
+            what = report.added() + " weight record(s)";
+        }
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        report.warnings().report(ui);
+
+        StringBuilder summary = new StringBuilder("Imported " + what + " from " + request.file()
+                + " in " + elapsedMillis + " ms.");
+        if (report.duplicates() > 0) {
+            summary.append("\nSkipped ").append(report.duplicates()).append(request.isWorkouts()
+                    ? " workout(s) already saved with the same start time."
+                    : " weight record(s) for dates that already have one.");
+        }
+        if (report.rejected() > 0) {
+            summary.append("\nSkipped ").append(report.rejected()).append(request.isWorkouts()
+                    ? " workout(s) with invalid records." : " invalid weight record(s).");
+        }
+        if (report.errorCount() > 0) {
+            summary.append("\nProblems found:");
+            for (String error : report.errors()) {
+                summary.append("\n  ").append(error);
+            }
+            int hidden = report.errorCount() - report.errors().size();
+            if (hidden > 0) {
+                summary.append("\n  ...and ").append(hidden).append(" more");
+            }
+        }
+        ui.showMessage(summary.toString());
+    }
+
+    /**
+     * Executes the {@code /export} command.
+     *
+     * @param request The kind of data and the file, e.g. {@code weights f/weights.json}.
+     * @throws IOException If reading the saved data or writing the file fails.
+     */
+    public void executeExport(TransferArguments request) throws IOException {
+        if (Files.exists(request.file())) {
+            ui.showMessage(request.file() + " already exists. Replace it? (Y/N)");
+            if (!ui.confirmationMessage()) {
+                ui.showMessage("Export cancelled.");
+                return;
+            }
+        }
+
+        DataTransfer transfer = new DataTransfer(fileHandler);
+        if (request.isWorkouts()) {
+            DataTransfer.ExportReport report = transfer.exportWorkouts(request.file(), request.format());
+            report.warnings().report(ui);
+            String summary = "Exported " + report.workouts() + " workout(s) as " + report.records()
+                    + " record(s) to " + request.file() + ".";
+            if (report.unended() > 0) {
+                summary += "\nLeft out " + report.unended() + " workout(s) that have not ended yet.";
+            }
+            ui.showMessage(summary);
+        } else {
+            int count = transfer.exportWeights(request.file(), request.format(), person);
+            ui.showMessage("Exported " + count + " weight record(s) to " + request.file() + ".");
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package seedu.fitchasers.workouts;
 
 import seedu.fitchasers.parser.openworkout.deleteworkout.OpenWorkoutArguments;
-import seedu.fitchasers.parser.openworkout.deleteworkout.OpenWorkoutParser;
+import seedu.fitchasers.parser.viewlog.ViewLogArguments;
+import seedu.fitchasers.parser.viewlog.ViewLogArguments.Navigation;
 import seedu.fitchasers.storage.FileHandler;
+import seedu.fitchasers.storage.WorkoutIndex;
 import seedu.fitchasers.exceptions.FileNonexistent;
 import seedu.fitchasers.exceptions.InvalidArgumentInput;
+import seedu.fitchasers.ui.JsonOutput;
 import seedu.fitchasers.ui.UI;
 
 import java.io.IOException;
@@ -12,41 +15,31 @@ import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.format.TextStyle;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.Objects;
 
 //@@author ZhongBaode
 /**
  * Handles the display and navigation of the user's workout logs.
  * <p>
- * This class is responsible for loading, filtering, sorting, and paginating
- * workout data for display. It also maintains the most recently rendered list
- * to support features like reopening or viewing specific workouts by index.
+ * Pages are read from the workout index kept by {@link FileHandler}, whose rows are already sorted,
+ * so rendering a page copies only the workouts on it and never loads the month itself. The last
+ * page shown is remembered as a cursor: {@code next/} and {@code prev/} continue from its last or
+ * first workout, rolling into the previous or next month at either end of a month.
  */
 public class ViewLog {
     public static final int MINIMUM_PAGE_SIZE = 1;
     public static final int ARRAY_INDEX_OFFSET = 1;
-    private static final Pattern INT = Pattern.compile("^-?\\d+$");
     private static UI ui = new UI();                         // your existing UI class
     private static final int NAME_MAX = 22;
     private final WorkoutManager workoutManager;
     private final int pageSize = 10;
     private final FileHandler fileHandler;
 
-    // Keeps the last full, filtered & sorted list so `/open <n>` can work after rendering.
-    private List<Workout> lastFilteredListofWorkout = List.of();
-
-    private static class DisplayWorkout {
-        Workout workout;
-        int originalIndex;  // Original index in the main workouts list (1-based for display)
-
-        DisplayWorkout(Workout w, int idx) {
-            this.workout = w;
-            this.originalIndex = idx;  // idx should be 1-based already
-        }
-    }
+    // The page rendered last, which next/ and prev/ continue from.
+    private WorkoutIndex.Page lastPage = null;
 
     /**
      * Constructs a ViewLog instance with required dependencies.
@@ -68,131 +61,161 @@ public class ViewLog {
      * <p>
      * Supported forms:
      * <ul>
-     *   <li>/view_log m/ &lt;month 1..12&gt; [extractedArg]</li>
-     *   <li>/view_log -ym &lt;year&gt; &lt;month 1..12&gt; [extractedArg]</li>
-     *   <li>Optional: -d (detailed view)</li>
+     *   <li>/view_log m/&lt;MM&gt; [page]</li>
+     *   <li>/view_log ym/&lt;MM&gt;/&lt;YY&gt; [page]</li>
+     *   <li>/view_log pg/&lt;N&gt;</li>
+     *   <li>/view_log next/ or prev/ (older or newer page than the last one shown)</li>
+     *   <li>Optional: detailed/ (detailed view)</li>
      * </ul>
      * <p>
      * Examples:
      * <pre>
-     *   /view_log -m 10          // Oct (current year), extractedArg 1
-     *   /view_log -m 10 2        // Oct (current year), extractedArg 2
-     *   /view_log -ym 2024 10    // Oct 2024, extractedArg 1
-     *   /view_log -ym 2024 10 2  // Oct 2024, extractedArg 2
-     *   /view_log -m 10 -d       // Oct, detailed extractedArg 1
+     *   /view_log m/10          // Oct (current year), page 1
+     *   /view_log m/10 2        // Oct (current year), page 2
+     *   /view_log ym/10/24 2    // Oct 2024, page 2
+     *   /view_log next/         // the page after the last one shown, possibly in September
+     *   /view_log m/10 detailed/
      * </pre>
      *
-     * @param args raw argument string after the command name
-     * @throws InvalidArgumentInput if flags or numbers are invalid
+     * @param p the parsed arguments
      */
-    public void render(String args) throws InvalidArgumentInput, FileNonexistent, IOException {
-        Parsed p = parseArgs(args);
-
-        ArrayList<Workout> sorted = loadAndSortList(p.ym);
+    public void render(ViewLogArguments p) throws FileNonexistent, IOException {
+        WorkoutIndex.Page page;
+        if (p.navigation() == Navigation.NONE || lastPage == null || lastPage.entries().isEmpty()) {
+            page = pageOf(p.ym(), p.extractedArg());
+        } else if (p.navigation() == Navigation.NEXT) {
+            List<WorkoutIndex.Entry> shown = lastPage.entries();
+            page = fileHandler.findWorkoutsOlderThan(shown.get(shown.size() - 1), pageSize);
+            if (page == null) {
+                ui.showMessage("That was your oldest workout! Use /view_log prev/ to go back.");
+                return;
+            }
+        } else {
+            page = fileHandler.findWorkoutsNewerThan(lastPage.entries().get(0), pageSize);
+            if (page == null) {
+                ui.showMessage("That was your newest workout! Use /view_log next/ to see older ones.");
+                return;
+            }
+        }
+        lastPage = page;
+        if (UI.isJsonOutput()) {
+            WorkoutIndex.Page shown = page;
+            ui.showData("page", () -> pageData(shown));
+            return;
+        }
+        ui.showMessage(renderPage(page, p.detailed()));
+    }
 
-        ArrayList<DisplayWorkout> displayList = new ArrayList<>();
-        for (int i = 0; i < sorted.size(); i++) {
-            displayList.add(new DisplayWorkout(sorted.get(i), i + 1));  // IDs 1, 2, 3, 4, 5 in order
+    private Map<String, Object> pageData(WorkoutIndex.Page page) {
+        List<Object> workouts = new ArrayList<>(page.entries().size());
+        int id = page.firstId();
+        for (WorkoutIndex.Entry e : page.entries()) {
+            workouts.add(JsonOutput.object("id", id++, "name", e.name(), "start", e.start(), "end", e.end(),
+                    "durationMinutes", e.duration(), "tags", e.tags(), "exercises", e.exercises(),
+                    "totalReps", e.volume()));
         }
+        return JsonOutput.object("month", page.month(), "page", (page.firstId() - 1) / pageSize + 1,
+                "pages", Math.max(1, computeTotalPages(page.total(), pageSize)), "total", page.total(),
+                "workouts", workouts);
+    }
 
-        int totalPages = computeTotalPages(displayList.size(), pageSize);
-        int current = ensureValidPage(p.extractedArg);
+    /**
+     * Returns a page of a month by page number, falling back to the first or last page if it is out of range.
+     */
+    WorkoutIndex.Page pageOf(YearMonth month, int pageNumber) throws IOException {
+        WorkoutIndex.Page page = fileHandler.findWorkoutPage(month, firstIdOf(pageNumber), pageSize);
+        int valid = ensureValidPage(pageNumber, page.total());
+        if (valid != pageNumber) {
+            page = fileHandler.findWorkoutPage(month, firstIdOf(valid), pageSize);
+        }
+        return page;
+    }
 
-        int start = (current - 1) * pageSize;
-        int end = Math.min(start + pageSize, displayList.size());
+    private int firstIdOf(int pageNumber) {
+        long firstId = (Math.max(MINIMUM_PAGE_SIZE, pageNumber) - 1L) * pageSize + 1;
+        return (int) Math.min(Integer.MAX_VALUE, firstId);
+    }
 
+    private String renderPage(WorkoutIndex.Page page, boolean detailed) {
         StringBuilder buf = new StringBuilder();
         buf.append(String.format("Workouts for %s (%d total) — Page %d/%d%n",
-                p.ym, displayList.size(), current, Math.max(1, totalPages)));
+                page.month(), page.total(), (page.firstId() - 1) / pageSize + 1,
+                Math.max(1, computeTotalPages(page.total(), pageSize))));
 
-        if (displayList.isEmpty()) {
+        if (page.entries().isEmpty()) {
             buf.append("No workouts this month.");
-            ui.showMessage(buf.toString());
-            return;
+            return buf.toString();
         }
 
-        if (!p.detailed) {
+        if (!detailed) {
             buf.append(String.format("%-4s %-20s %-20s %-22s %-10s%n",
                     "ID","Start Date", "End Date", "Name", "Duration"));
         }
 
-        for (int i = start; i < end; i++) {
-            DisplayWorkout dw = displayList.get(i);
-            if (p.detailed) {
-                buf.append(renderDetailedRow(dw.originalIndex, dw.workout));
+        int id = page.firstId();
+        for (WorkoutIndex.Entry e : page.entries()) {
+            if (detailed) {
+                buf.append(renderDetailedRow(id, e));
             } else {
-                buf.append(renderCompactRow(dw.originalIndex, dw.workout));
+                buf.append(renderCompactRow(id, e));
             }
+            id++;
         }
 
-        buf.append("Tip: /view_log pg/2 (next pg of Current Month), /view_log m/10 (view October), /open id/<ID>.");
-        ui.showMessage(buf.toString());
+        buf.append("Tip: /view_log next/ or prev/ (older or newer page), /view_log m/10 (view October), "
+                + "/open id/<ID>.");
+        return buf.toString();
     }
 
     /**
-     * Loads workouts for a specific month and sorts them by date (newest first).
-     * <p>
-     * Fetches workouts from the file handler and sorts them by end time, then start time,
-     * with null values placed last. The sorted list is cached internally for quick access
-     * via subsequent operations.
+     * Returns the workout with the given display ID in a month, as numbered by {@code /view_log}.
+     * Only the index row of that workout is looked up before the month is loaded to return it.
      *
-     * @param p the YearMonth to load workouts for
-     * @return a new ArrayList of workouts for the month, sorted newest first
-     * @throws IOException     if an error occurs reading from disk
-     * @throws FileNonexistent if no workout file exists for the specified month
-     * @see FileHandler#loadMonthList(YearMonth)
+     * @param displayId the 1-based ID shown by {@code /view_log}
+     * @param month     the month the ID refers to
+     * @return the workout, or {@code null} if the month has no workout with that ID
+     * @throws IOException     if reading fails
+     * @throws FileNonexistent if the month has no save file
      */
-    public ArrayList<Workout> loadAndSortList(YearMonth p) throws IOException, FileNonexistent {
-        // Fetch month list (lazy-load), then sort newest first by end time (nulls last)
-        ArrayList<Workout> monthList = fileHandler.loadMonthList(p);
-        ArrayList<Workout> sorted = new ArrayList<>(monthList);
-        sorted.sort(
-                Comparator.comparing(
-                        Workout::getWorkoutStartDateTime,
-                        Comparator.nullsLast(Comparator.reverseOrder())   // start: desc, nulls last
-                ).thenComparing(
-                        Workout::getWorkoutEndDateTime,
-                        Comparator.nullsLast(Comparator.reverseOrder())   // end: desc, nulls last
-                )
-        );
-
-        this.lastFilteredListofWorkout = sorted;  // Store the sorted list
-        return sorted;
-    }
-
     public Workout getWorkoutByDisplayId(int displayId, YearMonth month) throws FileNonexistent, IOException {
-        // Fetch and sort on demand if needed
-        if (lastFilteredListofWorkout.isEmpty()) {
-            loadAndSortList(month);
+        if (displayId <= 0) {
+            return null;
         }
-
-        if (displayId <= 0 || displayId > lastFilteredListofWorkout.size()) {
+        WorkoutIndex.Page page = fileHandler.findWorkoutPage(month, displayId, 1);
+        if (page.entries().isEmpty()) {
             return null;
         }
-        return lastFilteredListofWorkout.get(displayId - 1);
+        WorkoutIndex.Entry row = page.entries().get(0);
+        for (Workout w : fileHandler.loadMonthList(month)) {
+            if (Objects.equals(w.getWorkoutStartDateTime(), row.start())
+                    && Objects.equals(w.getWorkoutEndDateTime(), row.end())) {
+                return w;
+            }
+        }
+        return null;
     }
 
-    private String renderCompactRow(int id, Workout w) {
-        String startDate = formatDayMon(w.getWorkoutStartDateTime());
-        String endDate = formatDayMon(w.getWorkoutEndDateTime());
-        String name = truncate(safe(w.getWorkoutName()));
-        String dur  = formatDuration(w.getDuration());
+    private String renderCompactRow(int id, WorkoutIndex.Entry w) {
+        String startDate = formatDayMon(w.start());
+        String endDate = formatDayMon(w.end());
+        String name = truncate(safe(w.name()));
+        String dur  = formatDuration(w.duration());
         return String.format("%-4d %-20s %-20s %-22s %-10s%n",
                 id, safe(startDate), safe(endDate), safe(name), safe(dur));
     }
 
 
-    private String renderDetailedRow(int id, Workout workout) {
-        String startDateLong = formatLong(workout.getWorkoutStartDateTime());
-        String endDateLong = formatLong(workout.getWorkoutEndDateTime());
-        String dur = formatDuration(workout.getDuration());
+    private String renderDetailedRow(int id, WorkoutIndex.Entry workout) {
+        String startDateLong = formatLong(workout.start());
+        String endDateLong = formatLong(workout.end());
+        String dur = formatDuration(workout.duration());
         StringBuilder sb = new StringBuilder();
         sb.append("—".repeat(60)).append('\n');
-        sb.append(String.format("#%d  %s%n", id, safe(workout.getWorkoutName())));
+        sb.append(String.format("#%d  %s%n", id, safe(workout.name())));
         sb.append("Start Date     : ").append(startDateLong).append('\n');
         sb.append("End Date     : ").append(endDateLong).append('\n');
         sb.append("Duration : ").append(dur).append('\n');
-        String tags = workout.getAllTags().toString();
+        String tags = workout.tags().toString();
         sb.append("Tags     : ").append((tags.isBlank() ? "-" : tags)).append('\n');
         return sb.toString();
     }
@@ -200,24 +223,19 @@ public class ViewLog {
     /**
      * Opens and displays detailed information for a workout by its display index.
      * <p>
-     * Retrieves the workout from the cached rendered list and delegates to the UI
-     * for display. The index must correspond to a previously rendered workout list.
+     * The index is looked up in the month's workout index, in the same order as {@code /view_log},
+     * and the workout is then shown by the UI.
      *
-     * @param argument the 1-based display index of the workout to open
-     * @throws InvalidArgumentInput if the index is out of bounds or invalid
-     * @see #lastFilteredListofWorkout
+     * @param parsed the 1-based display index of the workout to open and its month
+     * @throws InvalidArgumentInput if the index is out of bounds
      */
-    public void openByIndex(String argument) throws InvalidArgumentInput, FileNonexistent, IOException {
-        OpenWorkoutArguments parsed =
-                new OpenWorkoutParser().parse(argument, workoutManager.getCurrentLoadedMonth());
-        YearMonth ym = parsed.yearMonth();
-        loadAndSortList(ym);
-        int i = parsed.indexToOpen() - ARRAY_INDEX_OFFSET;  // Convert to 0-based
-        if (i < 0 || i >= workoutManager.getWorkoutSize()) {
+    public void openByIndex(OpenWorkoutArguments parsed) throws InvalidArgumentInput, FileNonexistent, IOException {
+        Workout workout = getWorkoutByDisplayId(parsed.indexToOpen(), parsed.yearMonth());
+        if (workout == null) {
             throw new InvalidArgumentInput("The number you requested is out of bounds! " +
                     "\nPlease check view_log to see total number of open workouts.");
         }
-        ui.displayDetailsOfWorkout(lastFilteredListofWorkout.get(i));
+        ui.displayDetailsOfWorkout(workout);
     }
 
     /* ------------------------------ Helpers/Util ----------------------------- */
@@ -235,8 +253,8 @@ public class ViewLog {
         return (int) Math.ceil(Math.max(0, size) / (double) Math.max(1, pageSize));
     }
 
-    private int ensureValidPage(int page) {
-        int totalPages = computeTotalPages(this.workoutManager.getWorkoutSize(), pageSize);
+    private int ensureValidPage(int page, int workoutCount) {
+        int totalPages = Math.max(MINIMUM_PAGE_SIZE, computeTotalPages(workoutCount, pageSize));
         if (page < MINIMUM_PAGE_SIZE) {
             ui.showMessage("Hey that page is too small! I will default to the first page okay!");
             return MINIMUM_PAGE_SIZE;
@@ -293,164 +311,4 @@ public class ViewLog {
         String ampm = hr < 12 ? "AM" : "PM";
         return String.format("%s %d%s of %s, %d:%02d %s", dow, d, suffix, mon, hr12, min, ampm);
     }
-
-    /**
-     * Represents the parsed result of a command or user input.
-     * <p>
-     * This record encapsulates a {@code YearMonth}, an extracted integer argument,
-     * and a boolean flag indicating whether detailed output was requested.
-     *
-     * @param ym The {@code YearMonth} extracted from the input.
-     * @param extractedArg The numeric argument parsed from the input.
-     * @param detailed {@code true} if detailed output is requested; {@code false} otherwise.
-     */
-    public record Parsed(YearMonth ym, int extractedArg, boolean detailed) {
-    }
-
-    //@@author nitin19011
-    /**
-     * Parses raw user input to extract date, page, and detail parameters.
-     * <p>
-     * Supports arguments in the following formats:
-     * <ul>
-     *   <li>{@code m/<MM>} — Specifies the month of the current year.</li>
-     *   <li>{@code ym/<MM>/<YY>} — Specifies a particular year and month.</li>
-     *   <li>{@code pg/<N>} — Specifies the page number for paginated display.</li>
-     *   <li>{@code detailed/} — Requests detailed output mode.</li>
-     * </ul>
-     * The method validates argument consistency (e.g., {@code m/} cannot be combined with {@code ym/})
-     * and ensures numeric values are positive.
-     *
-     * @param raw The raw user input string containing command arguments.
-     * @return A {@code Parsed} record containing the parsed {@code YearMonth}, page number, and detail flag.
-     * @throws InvalidArgumentInput If the arguments are invalid, conflicting, or improperly formatted.
-     */
-    public Parsed parseArgs(String raw) throws InvalidArgumentInput {
-        YearMonth now = YearMonth.now();
-        YearMonth target = now;
-        int page = 1;
-        boolean detailed = false;
-
-        if (raw == null || raw.isBlank()) {
-            return new Parsed(target, page, false);
-        }
-
-        String[] arguments = raw.trim().split("\\s+");
-        boolean seenM = false;
-        boolean seenYM = false;
-        boolean seenPg = false;
-
-        for (int i = 0; i < arguments.length; i++) {
-            String t = arguments[i];
-
-            if ("detailed/".equals(t)) {
-                detailed = true;
-                continue;
-            }
-
-            if (t.startsWith("m/")) {
-                if (seenYM) {
-                    throw new InvalidArgumentInput("Cannot combine m/<MM> with ym/<A>/<B>.");
-                }
-                seenM = true;
-                int month = readPositiveInt(t.substring(2), "Month after m/ must be an integer.");
-                validateMonth(month);
-                target = YearMonth.of(now.getYear(), month);
-
-                // optional trailing page
-                if (i + 1 < arguments.length && isInt(arguments[i + 1])) {
-                    page = readPositiveInt(arguments[++i], "Page must be a positive integer.");
-                }
-                continue;
-            }
-
-            if (t.startsWith("ym/")) {
-                if (seenM) {
-                    throw new InvalidArgumentInput("Cannot combine ym/<A>/<B> with m/<MM>.");
-                }
-                seenYM = true;
-                target = parseYearMonthToken(t.substring(3));
-                // optional trailing page
-                if (i + 1 < arguments.length && isInt(arguments[i + 1])) {
-                    page = readPositiveInt(arguments[++i], "Page must be a positive integer.");
-                }
-                continue;
-            }
-
-            if (t.startsWith("pg/")) {
-                if (seenPg) {
-                    throw new InvalidArgumentInput("Page specified more than once. Use a single pg/<N>.");
-                }
-                seenPg = true;
-                page = readPositiveInt(t.substring(3), "Page after pg/ must be above 1!" +
-                        " Also remember no space after pg/ :) e.g pg/2 ");
-                continue;
-            }
-
-            if (t.contains("/")) {
-                throw new InvalidArgumentInput("Unknown flag: " + t + ". Use /help to see how to use view log :)");
-            } else {
-                throw new InvalidArgumentInput("Unexpected Argument: " + t +
-                        " . Use /help to see how to use view log :)");
-            }
-        }
-
-        return new Parsed(target, page, detailed);
-    }
-
-    private static boolean isInt(String s) {
-        return s != null && INT.matcher(s).matches();
-    }
-
-    private static int readPositiveInt(String s, String err) throws InvalidArgumentInput {
-        try {
-            int v = Integer.parseInt(s);
-            if (v <= 0) {
-                throw new NumberFormatException();
-            }
-            return v;
-        } catch (NumberFormatException nfe) {
-            throw new InvalidArgumentInput(err);
-        }
-    }
-
-    private static void validateMonth(int month) throws InvalidArgumentInput {
-        if (month < 1 || month > 12) {
-            throw new InvalidArgumentInput("Month must be between 1 and 12.");
-        }
-    }
-
-    private static void validateYear(int year) throws InvalidArgumentInput {
-        if (year < 2025 || year > 2099) {
-            throw new InvalidArgumentInput("Month must be between 1 and 12.");
-        }
-    }
-
-    private YearMonth parseYearMonthToken(String token) throws InvalidArgumentInput {
-        String[] parts = token.split("/");
-        if (parts.length != 2) {
-            throw new InvalidArgumentInput("Use ym/<MM>/<YY>, e.g., ym/10/25.");
-        }
-        String mmStr = parts[0].trim();
-        String yyStr = parts[1].trim();
-
-        if (!isInt(mmStr) || !isInt(yyStr)) {
-            throw new InvalidArgumentInput("Use digits only: ym/<MM>/<YY>, e.g., ym/10/25.");
-        }
-
-        int mm = Integer.parseInt(mmStr);
-        int yy = Integer.parseInt(yyStr);
-
-
-        if (yy < 0 || yy > 99) {
-            throw new InvalidArgumentInput("Year must be 00..99 (two digits).");
-        }
-
-        int yyyy = 2000 + yy; // Simple rule: map 00..99 → 2000..2099
-        validateYear(yyyy);    // your existing guard (e.g., 1970..2100)
-        validateMonth(mm);
-        return YearMonth.of(yyyy, mm);
-    }
-
 }
-
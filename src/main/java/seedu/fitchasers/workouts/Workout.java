@@ -22,6 +22,7 @@ import java.util.Set;
 public class Workout {
     private static final UI ui = new UI();
     private final ArrayList<Exercise> exercises = new ArrayList<>();
+    private ExerciseLoader exerciseLoader = null;
     private String workoutName;
     private int duration = 0;
     private LocalDateTime workoutStartDateTime = null;
@@ -185,16 +186,18 @@ public class Workout {
      * @param exercise The exercise to add.
      */
     public void addExercise(Exercise exercise) {
+        loadExercises();
         exercises.add(exercise);
         currentExercise = exercise;
     }
 
     /**
-     * Returns the list of exercises in this workout.
+     * Returns the list of exercises in this workout, parsing them first if they were loaded lazily.
      *
      * @return List of exercises.
      */
     public ArrayList<Exercise> getExercises() {
+        loadExercises();
         return exercises;
     }
 
@@ -204,9 +207,73 @@ public class Workout {
      * @return The current exercise, or null if none exists.
      */
     public Exercise getCurrentExercise() {
+        loadExercises();
         return currentExercise;
     }
 
+    /**
+     * Returns a deep copy of this workout that can be changed independently.
+     * Exercises that have not been parsed yet stay unparsed in the copy.
+     *
+     * @return The copy.
+     */
+    public Workout copy() {
+        Workout copy = new Workout(workoutName, workoutStartDateTime, workoutEndDateTime);
+        copy.duration = duration;
+        copy.manualTags = new LinkedHashSet<>(manualTags);
+        copy.autoTags = new LinkedHashSet<>(autoTags);
+        copy.exerciseLoader = exerciseLoader;
+        for (Exercise exercise : exercises) {
+            Exercise exerciseCopy = exercise.copy();
+            copy.exercises.add(exerciseCopy);
+            if (exercise == currentExercise) {
+                copy.currentExercise = exerciseCopy;
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Defers parsing of this workout's exercises until they are first accessed.
+     * Must be called before any exercise is added.
+     *
+     * @param loader The loader that parses the exercises on demand.
+     */
+    public void setExerciseLoader(ExerciseLoader loader) {
+        assert exercises.isEmpty() : "Exercises must not be added before a lazy loader is attached";
+        this.exerciseLoader = loader;
+    }
+
+    /**
+     * Returns whether the exercises have been parsed, i.e. no lazy loader is pending.
+     *
+     * @return {@code true} if {@link #getExercises()} will not trigger parsing.
+     */
+    public boolean isExercisesLoaded() {
+        return exerciseLoader == null;
+    }
+
+    /**
+     * Returns the size of the exercise data still waiting to be parsed.
+     *
+     * @return The number of unparsed bytes, or 0 if the exercises are loaded.
+     */
+    public int getPendingExerciseBytes() {
+        return (exerciseLoader == null) ? 0 : exerciseLoader.sizeHint();
+    }
+
+    private void loadExercises() {
+        if (exerciseLoader == null) {
+            return;
+        }
+        ExerciseLoader loader = exerciseLoader;
+        exerciseLoader = null;
+        for (Exercise exercise : loader.load()) {
+            exercises.add(exercise);
+            currentExercise = exercise;
+        }
+    }
+
     /**
      * Returns the start date and time of this workout.
      *
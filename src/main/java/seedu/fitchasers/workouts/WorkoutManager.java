@@ -1,16 +1,25 @@
 package seedu.fitchasers.workouts;
 
+import seedu.fitchasers.analytics.WorkoutAnalytics;
 import seedu.fitchasers.storage.FileHandler;
+import seedu.fitchasers.storage.WorkoutJournal;
 import seedu.fitchasers.exceptions.FileNonexistent;
 import seedu.fitchasers.exceptions.InvalidArgumentInput;
+import seedu.fitchasers.parser.CommandRegistry;
+import seedu.fitchasers.parser.WorkoutFields;
+import seedu.fitchasers.parser.addexercise.AddExerciseArguments;
+import seedu.fitchasers.parser.createworkout.CreateWorkoutArguments;
+import seedu.fitchasers.parser.deleteworkout.DeleteWorkoutArguments;
+import seedu.fitchasers.parser.endworkout.EndWorkoutArguments;
+import seedu.fitchasers.parser.endworkout.EndWorkoutParser;
 import seedu.fitchasers.tagger.Modality;
 import seedu.fitchasers.tagger.Tagger;
 import seedu.fitchasers.ui.UI;
 
 import java.io.IOException;
 import java.time.YearMonth;
-import java.time.format.ResolverStyle;
 import java.util.LinkedHashSet;
+import java.util.NavigableSet;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
@@ -18,8 +27,6 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 //@@author ZhongBaode
 /**
@@ -29,32 +36,18 @@ import java.util.regex.Pattern;
  * as well as adding exercises and sets within each workout.
  */
 public class WorkoutManager {
-    private static final int MAX_EXERCISE_NAME_LEN = 32;
-    private static final int MAX_REPS = 1000;
-    private static final Pattern NAME_ALLOWED = Pattern.compile("[A-Za-z0-9 _-]+");
-    private static final Pattern NAME_ILLEGAL_FINDER = Pattern.compile("[^A-Za-z0-9 _-]");
-    private static final Pattern BOUND_PREFIX = Pattern.compile("(^|\\s)([A-Za-z])/");
-    private static final Pattern NEXT_PREFIX = Pattern.compile("\\s+[A-Za-z]/");
-    private static final Pattern REPS_TOKEN = Pattern.compile("^\\d{1,4}$");
-    private static final DateTimeFormatter DATE_FMT =
-            DateTimeFormatter.ofPattern("dd/MM/yy").withResolverStyle(ResolverStyle.SMART);
-    private static final DateTimeFormatter TIME_FMT =
-            DateTimeFormatter.ofPattern("HHmm").withResolverStyle(ResolverStyle.SMART);
+    private static final DateTimeFormatter DATE_FMT = WorkoutFields.DATE_FMT;
+    private static final DateTimeFormatter TIME_FMT = WorkoutFields.TIME_FMT;
     protected YearMonth creationDate;
 
     private ArrayList<Workout> workouts = new ArrayList<>();
+    private final WorkoutSchedule schedule = new WorkoutSchedule();
+    private WorkoutAnalytics analytics = null; // built on first use, then updated by every mutation
     private Workout currentWorkout = null;
     private final UI ui = new UI();
     private final Tagger tagger;
-    private LocalDateTime workoutDateTime;
-    private String workoutName;
     private YearMonth currentLoadedMonth;
     private final FileHandler fileHandler;
-    private int afterNameIndex = 2;
-    private LocalDate date = null;
-    private LocalTime time = null;
-    private final DateTimeFormatter timeFmt = DateTimeFormatter.ofPattern("HHmm")
-            .withResolverStyle(ResolverStyle.SMART);
 
     /**
      * Constructs a {@code WorkoutManager} with the specified tagger and file handler.
@@ -85,11 +78,26 @@ public class WorkoutManager {
                         
                          Else: Enter '/end_workout d/<DD/MM/YY> t/<HHMM>' e.g. ew d/03/11/25 t/1200""");
                 currentWorkout = workout;
-                endWorkout(ui.readCommand());
+                try {
+                    endWorkout(new EndWorkoutParser().parse(endWorkoutArguments(ui.readCommand()), creationDate));
+                } catch (InvalidArgumentInput e) {
+                    ui.showFailure(e.getMessage());
+                }
             }
         }
     }
 
+    /**
+     * Returns the arguments of an entered end of a workout, which may or may not start with the command word.
+     */
+    private static String endWorkoutArguments(String line) {
+        if (line == null) {
+            return "";
+        }
+        String word = CommandRegistry.commandWord(line.trim());
+        return (word.equals("/end_workout") || word.equals("ew")) ? CommandRegistry.arguments(line.trim()) : line;
+    }
+
     /**
      * Initializes workouts by checking for any sessions that were not properly ended.
      * <p>
@@ -98,6 +106,7 @@ public class WorkoutManager {
      */
     public void setWorkouts(ArrayList<Workout> workouts) {
         this.workouts = workouts;
+        schedule.replaceMonth(currentLoadedMonth, workouts);
     }
 
     /**
@@ -109,42 +118,72 @@ public class WorkoutManager {
     public void setWorkouts(ArrayList<Workout> workouts, YearMonth monthOfArrayList) {
         this.workouts = workouts;
         currentLoadedMonth = monthOfArrayList;
+        schedule.replaceMonth(monthOfArrayList, workouts);
     }
 
     /**
-     * Adds a new workout session from the user's command input.
-     * <p>
-     * Parses the command to extract the workout name, date, and time, then creates
-     * a new Workout object. If the workout belongs to a different month, the method
-     * loads that month's data first. It also generates suggested tags and saves
-     * the workout to file.
+     * Drops a month from the overlap schedule so it is reloaded from file the next time it is needed.
+     * Used when a month other than the loaded one is changed on disk.
+     *
+     * @param month the month that was changed
+     */
+    public void forgetScheduledMonth(YearMonth month) {
+        schedule.removeMonth(month);
+    }
+
+    /**
+     * Makes sure the workouts of the given month are in the overlap schedule.
+     * The loaded month is taken from memory; other months are read through the file handler's cache.
+     */
+    private void ensureScheduled(YearMonth month) throws IOException {
+        if (schedule.containsMonth(month)) {
+            return;
+        }
+        if (month.equals(currentLoadedMonth)) {
+            schedule.replaceMonth(month, workouts);
+            return;
+        }
+        try {
+            schedule.replaceMonth(month, fileHandler.loadMonthList(month));
+        } catch (FileNonexistent e) {
+            schedule.replaceMonth(month, new ArrayList<>());
+        }
+    }
+
+    /**
+     * Adds a new workout session.
      * <p>
-     * Displays messages to the user and handles invalid or missing input safely.
+     * Asks for the date and time if they were not given, and confirms dates in the future and a start
+     * shared with another workout. If the workout belongs to a different month, the method loads that
+     * month's data first. It also generates suggested tags and saves the workout to file.
      *
-     * @param command The full user command, for example "/create_workout n/PushDay d/20/10/25 t/1900".
+     * @param arguments The name of the workout, and its date and time if given.
      */
-    public void addWorkout(String command) throws FileNonexistent, IOException {
+    public void addWorkout(CreateWorkoutArguments arguments) throws IOException {
 
         // ensure workouts is not null before adding
         if (workouts == null) {
             workouts = new ArrayList<>();
         }
 
-        workoutName = "";
+        if (currentWorkout != null) {
+            ui.showFailure("You currently have an active workout: '" + currentWorkout.getWorkoutName() + "'.");
+            ui.showMessage("Please end the active workout first with: /end_workout d/DD/MM/YY t/HHmm" +
+                    "\n Alternatively you may just enter 'ew' or 'ew t/HHmm' (Will prompt current date)");
+            return;
+        }
+
+        LocalDateTime start;
         try {
-            if (command.contains("d/") || command.contains("t/")) {
-                formatInputForWorkoutStrict(command);
-            } else {
-                formatInputForWorkout(command);
-            }
+            start = confirmStart(arguments.date(), arguments.time());
         } catch (InvalidArgumentInput e) {
             return;
         }
-        YearMonth monthOfWorkout = YearMonth.from(workoutDateTime);
+        YearMonth monthOfWorkout = YearMonth.from(start);
         if (!currentLoadedMonth.equals(monthOfWorkout)) {
             // Check if workout month is before the month app was first started
             if (monthOfWorkout.isBefore(creationDate)) {
-                ui.showMessage("FitChasers was first booted on "
+                ui.showFailure("FitChasers was first booted on "
                         + creationDate.getMonth().name().toLowerCase().substring(0, 1).toUpperCase()
                         + creationDate.getMonth().name().toLowerCase().substring(1)
                         + " of " + creationDate.getYear() + ".");
@@ -152,176 +191,84 @@ public class WorkoutManager {
                 return; // stop creating workout
             }
 
-            // Only load if valid
-            setWorkouts(fileHandler.loadMonthList(monthOfWorkout), monthOfWorkout);
+            // Only load if valid; a past month without a save file simply has no workouts yet
+            ArrayList<Workout> monthWorkouts;
+            try {
+                monthWorkouts = fileHandler.loadMonthList(monthOfWorkout);
+            } catch (FileNonexistent e) {
+                monthWorkouts = new ArrayList<>();
+            }
+            setWorkouts(monthWorkouts, monthOfWorkout);
         }
 
-        // Reject if the new start time falls inside any existing workout on the same day
-        Workout conflict = findOverlappingWorkout(workoutDateTime);
+        // Reject if the new start time falls inside any existing workout, including sessions
+        // that started the day or month before
+        Workout conflict = findOverlappingWorkout(start);
         if (conflict != null) {
             LocalDateTime s = conflict.getWorkoutStartDateTime();
             LocalDateTime e = conflict.getWorkoutEndDateTime();
             String startStr = s.toLocalTime().format(TIME_FMT);
             String endStr = (e == null) ? "ongoing" : e.toLocalTime().format(TIME_FMT);
-            ui.showMessage("[Error] Cannot create overlapping workout. "
+            ui.showFailure("Cannot create overlapping workout. "
                     + "Conflicts with \"" + conflict.getWorkoutName() + "\" (" + startStr + "–" + endStr + ").");
             return;
         }
 
         try {
-            Workout newWorkout = new Workout(workoutName, workoutDateTime);
+            Workout newWorkout = new Workout(arguments.name(), start);
 
             // merge auto-tags if you have a tagger
             Set<String> suggestedTags = tagger.suggest(newWorkout);
             newWorkout.setAutoTags(suggestedTags);
             workouts.add(newWorkout);
+            schedule.add(currentLoadedMonth, newWorkout);
             currentWorkout = newWorkout;
             ui.showMessage("New workout sesh incoming!");
             ui.showMessage("Tags generated for workout: " + (suggestedTags == null || suggestedTags.isEmpty()
                     ? "none"
                     : String.join(", ", suggestedTags)) + "\n"
-                    + "Added workout: " + workoutName);
-            fileHandler.saveMonthList(currentLoadedMonth, workouts);
+                    + "Added workout: " + arguments.name());
+            fileHandler.appendMutation(currentLoadedMonth, WorkoutJournal.workoutCreated(newWorkout));
 
         } catch (Exception e) {
-            ui.showMessage("Something went wrong creating the workout. Please try again.");
+            ui.showFailure("Something went wrong creating the workout. Please try again.");
         }
     }
 
     /**
-     * Strict parser for /create_workout that enforces:
-     * - exactly one n/, one d/, one t/
-     * - order n/ then d/ then t/
-     * - name character policy identical to addExercise
-     * - no spaces immediately after d/ or t/
-     * - no extra garbage after time
-     * - no unsupported flags
+     * Asks for the date and time of a new workout if either is missing, then confirms dates in the
+     * future and a start that another workout of the loaded month already has.
+     *
+     * @throws InvalidArgumentInput if the user declines, after telling them what to do instead.
      */
-    private void formatInputForWorkoutStrict(String command) throws InvalidArgumentInput, IOException {
+    private LocalDateTime confirmStart(LocalDate date, LocalTime time) throws InvalidArgumentInput, IOException {
         assert workouts != null : "workouts list should be initialized";
-
-        if (currentWorkout != null) {
-            ui.showMessage("You currently have an active workout: '" + currentWorkout.getWorkoutName() + "'.");
-            ui.showMessage("Please end the active workout first with: /end_workout d/DD/MM/YY t/HHmm" +
-                    "\n Alternatively you may just enter 'ew' or 'ew t/HHmm' (Will prompt current date)");
-            throw new InvalidArgumentInput("");
-        }
-
-        if (command == null || command.isBlank()) {
-            ui.showMessage("Missing information. Use: /create_workout n/NAME d/DD/MM/YY t/HHmm");
-            throw new InvalidArgumentInput("");
-        }
-
-        final String s = command.trim();
-
-        // Must have exactly one n/, one d/, one t/
-        if (countToken(s, "n/") != 1 || countToken(s, "d/") != 1 || countToken(s, "t/") != 1) {
-            ui.showMessage("Please provide exactly one n/, one d/, and one t/ in this order: n/NAME d/DATE t/TIME");
-            throw new InvalidArgumentInput("");
-        }
-
-        // Enforce order n/ ... d/ ... t/
-        final int nIdx = s.indexOf("n/");
-        final int dIdx = s.indexOf("d/");
-        final int tIdx = s.indexOf("t/");
-        if (nIdx < 0 || dIdx < 0 || tIdx < 0 || !(nIdx < dIdx && dIdx < tIdx)) {
-            ui.showMessage("Order must be n/ then d/ then t/. Example: /create_workout n/Push Day d/20/10/25 t/1900");
-            throw new InvalidArgumentInput("");
-        }
-
-        // ---- Extract and validate name (exactly like addExercise) ----
-        Slice nameSlice = extractSlice(s, nIdx);
-        String name = nameSlice.valueTrimmed;
-
-        if (name.isEmpty()) {
-            ui.showMessage("Workout name is missing after n/. Example: n/Leg Day");
-            throw new InvalidArgumentInput("");
-        }
-        if (isInvalidName(name)) {
-            Character bad = findFirstIllegalNameChar(name);
-            if (bad != null) {
-                String shown = (bad == '\\') ? "\\\\" : String.valueOf(bad);
-                ui.showMessage("'" + shown + "' is not allowed in the workout name.");
-            } else {
-                ui.showMessage("Name too long or invalid.");
+        if (date == null) {
+            String todayStr = LocalDate.now().format(DATE_FMT);
+            ui.showMessage("Looks like you missed the date. Use current date (" + todayStr + ")? (Y/N)");
+            if (!ui.confirmationMessage()) {
+                ui.showMessage("Please provide a date in format d/DD/MM/YY.");
+                throw new InvalidArgumentInput("");
             }
-            ui.showMessage("Allowed characters: letters, digits, spaces, hyphen (-), underscore (_). Max 32 chars.");
-            throw new InvalidArgumentInput("");
-        }
-
-        // ---- Extract and validate date ----
-        Slice dateSlice = extractSlice(s, dIdx);
-
-        if (!dateSlice.valueRaw.isEmpty() && Character.isWhitespace(dateSlice.valueRaw.charAt(0))) {
-            ui.showMessage("Remove spaces between d/ and the date. Example: d/23/10/25 (not d/ 23/10/25)");
-            throw new InvalidArgumentInput("");
+            date = LocalDate.now();
         }
-
-        LocalDate parsedDate;
-        try {
-            parsedDate = LocalDate.parse(dateSlice.valueTrimmed, DATE_FMT);
-        } catch (Exception ex) {
-            ui.showMessage("Invalid date. Use d/DD/MM/YY (e.g., d/23/10/25).");
-            throw new InvalidArgumentInput("");
-        }
-
-        // ---- Extract and validate time ----
-        Slice timeSlice = extractSlice(s, tIdx);
-
-        if (!timeSlice.valueRaw.isEmpty() && Character.isWhitespace(timeSlice.valueRaw.charAt(0))) {
-            ui.showMessage("Remove spaces between t/ and the time. Example: t/1905 (not t/ 1905)");
-            throw new InvalidArgumentInput("");
-        }
-
-        LocalTime parsedTime;
-        try {
-            parsedTime = LocalTime.parse(timeSlice.valueTrimmed, TIME_FMT);
-        } catch (Exception ex) {
-            ui.showMessage("Invalid time. Use t/HHmm (e.g., t/1905).");
-            throw new InvalidArgumentInput("");
-        }
-
-        // No extra junk after time
-        if (hasNonWhitespaceAfter(s, timeSlice.endIndex)) {
-            ui.showMessage("Unexpected text after time. Use exactly: /create_workout n/NAME d/DD/MM/YY t/HHmm");
-            throw new InvalidArgumentInput("");
-        }
-
-        // Reject stray unsupported flags outside parsed regions
-        Matcher stray = BOUND_PREFIX.matcher(s);
-        while (stray.find()) {
-            int pos = stray.start(2);
-            char p = stray.group(2).charAt(0);
-
-            boolean inName = pos >= nIdx && pos < nameSlice.endIndex;
-            boolean inDate = pos >= dIdx && pos < dateSlice.endIndex;
-            boolean inTime = pos >= tIdx && pos < timeSlice.endIndex;
-
-            if (!inName && !inDate && !inTime) {
-                if (p != 'n' && p != 'd' && p != 't') {
-                    ui.showMessage("Unsupported flag \"" + p + "/\" found. Only n/, d/, and t/ are allowed.");
-                    throw new InvalidArgumentInput("");
-                }
+        if (time == null) {
+            String nowStr = LocalTime.now().format(TIME_FMT);
+            ui.showMessage("Looks like you missed the time. Use current time (" + nowStr + ")? (Y/N)");
+            if (!ui.confirmationMessage()) {
+                ui.showMessage("Please provide a time in format t/HHmm.");
+                throw new InvalidArgumentInput("");
             }
+            time = LocalTime.now();
         }
+        checkPastFutureDate(date, time);
 
-        // Finalize fields
-        this.workoutName = name;
-        this.date = parsedDate;
-        this.time = parsedTime;
-        this.workoutDateTime = LocalDateTime.of(parsedDate, parsedTime);
-
-        // Future/past confirmations + month file bootstrap (reuse your existing logic)
-        checkPastFutureDate(parsedDate, parsedTime);
-
-        // Duplicate date/time check (unchanged from your version)
         for (Workout w : workouts) {
             LocalDateTime existingStart = w.getWorkoutStartDateTime();
             if (existingStart == null) {
                 continue;
             }
-            if (existingStart.toLocalDate().equals(parsedDate)
-                    && existingStart.toLocalTime().equals(parsedTime)) {
+            if (existingStart.toLocalDate().equals(date) && existingStart.toLocalTime().equals(time)) {
                 ui.showMessage("A workout already exists at this date and time ("
                         + existingStart.toLocalDate().format(DATE_FMT) + " "
                         + existingStart.toLocalTime().format(TIME_FMT) + "). Continue anyway? (Y/N)");
@@ -332,195 +279,7 @@ public class WorkoutManager {
                 break;
             }
         }
-    }
-
-    /**
-     * Parses and validates the user's workout creation command.
-     * <p>
-     * Extracts the workout name, date, and time from the command string.
-     * Prompts the user if date or time is missing, confirms if inputs are in the future,
-     * and checks for duplicate workouts at the same date and time.
-     * <p>
-     * Updates internal fields with validated data and throws an exception if
-     * the command format or values are invalid.
-     *
-     * @param command The full user command, e.g. "/create_workout n/PushDay d/20/10/25 t/1900".
-     * @throws InvalidArgumentInput if the input format or values are invalid.
-     */
-    private void formatInputForWorkout(String command) throws InvalidArgumentInput, IOException {
-        assert workouts != null : "workouts list should be initialized";
-        if (currentWorkout != null) {
-            ui.showMessage("You currently have an active workout: '"
-                    + currentWorkout.getWorkoutName() + "'.");
-            ui.showMessage("Please end the active workout first with: /end_workout d/DD/MM/YY t/HHmm" +
-                    "\n Alternatively you may just enter 'ew' or 'ew t/HHmm' (Will prompt current date)");
-            throw new InvalidArgumentInput("");
-        }
-
-        if (command == null || !command.contains("n/")) {
-            ui.showMessage("Invalid format. Use: /create_workout n/WorkoutName d/DD/MM/YY t/HHmm");
-            throw new InvalidArgumentInput("");
-        }
-
-        int nameIndex = command.indexOf("n/");
-        afterNameIndex += nameIndex;
-
-        // Find first marker after n/
-        int dIndex = command.indexOf("d/", afterNameIndex);
-        int tIndex = command.indexOf("t/", afterNameIndex);
-        // pick the nearest positive marker after n/
-        workoutName = extractWorkoutNameFromRaw(command, dIndex, tIndex);
-        date = extractDateFromRaw(command, dIndex);
-        time = extractTimeFromRaw(command, tIndex);
-        promptIfDateOrTimeMissing();
-        workoutDateTime = LocalDateTime.of(date, time);
-        checkPastFutureDate(date, time);
-
-        // Check if any existing workout already has the same date/time
-        for (Workout w : workouts) {
-            LocalDateTime existingStart = w.getWorkoutStartDateTime();
-            if (existingStart != null) {
-                LocalDate existingDate = existingStart.toLocalDate();
-                LocalTime existingTime = existingStart.toLocalTime();
-
-                if (existingDate.equals(date) && existingTime.equals(time)) {
-                    ui.showMessage("A workout already exists at this date and time ("
-                            + existingDate.format(DATE_FMT) + " " + existingTime.format(TIME_FMT) + "). " +
-                            "Continue anyway? (Y/N)");
-                    if (!ui.confirmationMessage()) {
-                        ui.showMessage("Workout creation cancelled. Please pick a different time or date.");
-                        throw new InvalidArgumentInput("");
-                    }
-                    break;
-                }
-            }
-        }
-        workoutDateTime = LocalDateTime.of(date, time);
-    }
-
-    /**
-     * Extracts the workout name from a raw command string based on the positions of date and time flags.
-     * <p>
-     * The method determines where the name segment ends by checking for {@code d/} or {@code t/} markers.
-     * If no markers are present, the remainder of the command after {@code n/} is treated as the name.
-     *
-     * @param command The full command string entered by the user.
-     * @param dIndex The index of the {@code d/} flag in the command, or -1 if absent.
-     * @param tIndex The index of the {@code t/} flag in the command, or -1 if absent.
-     * @return The extracted workout name.
-     * @throws InvalidArgumentInput If the extracted name is empty or invalid.
-     */
-    public String extractWorkoutNameFromRaw(String command, int dIndex, int tIndex) throws InvalidArgumentInput {
-        String workoutName;
-        int nextMarker = -1;
-        if (dIndex != -1 && tIndex != -1) {
-            nextMarker = Math.min(dIndex, tIndex);
-        } else if (dIndex != -1) {
-            nextMarker = dIndex;
-        } else if (tIndex != -1) {
-            nextMarker = tIndex;
-        }
-
-        if (nextMarker != -1) {
-            workoutName = command.substring(afterNameIndex, nextMarker).trim();
-        } else {
-            workoutName = command.substring(afterNameIndex).trim();
-        }
-
-        if (workoutName.isEmpty()) {
-            ui.showMessage("Workout name cannot be empty. Use: /create_workout n/WorkoutName d/DD/MM/YY t/HHmm");
-            throw new InvalidArgumentInput("");
-        }
-        return workoutName;
-    }
-
-    /**
-     * Extracts and parses a time value from the raw command string.
-     * <p>
-     * The method searches for the {@code t/} flag and attempts to parse the following token
-     * as a time in {@code HHmm} format. If parsing fails, an error message is displayed.
-     *
-     * @param command The full command string entered by the user.
-     * @param tIndex The index of the {@code t/} flag in the command, or -1 if absent.
-     * @return The parsed {@code LocalTime}, or {@code null} if no valid time was provided.
-     * @throws InvalidArgumentInput If the time format is invalid.
-     */
-    public LocalTime extractTimeFromRaw(String command, int tIndex) throws InvalidArgumentInput {
-        String timeStr = "";
-        LocalTime time = null;
-        if (tIndex != -1) {
-            String tail = command.substring(tIndex + 2).trim();
-            String[] toks = tail.split("\\s+");
-            if (toks.length > 0) {
-                timeStr = toks[0];
-            }
-        }
-        if (!timeStr.isEmpty()) {
-            try {
-                time = LocalTime.parse(timeStr, timeFmt);
-            } catch (Exception ex) {
-                ui.showMessage("Invalid time. Use t/HHmm (e.g., t/1905).");
-                throw new InvalidArgumentInput("");
-            }
-        }
-        return time;
-    }
-
-    /**
-     * Extracts and parses a date value from the raw command string.
-     * <p>
-     * The method searches for the {@code d/} flag and attempts to parse the following token
-     * as a date in {@code dd/MM/yy} format. If parsing fails, an error message is displayed.
-     *
-     * @param command The full command string entered by the user.
-     * @param dIndex The index of the {@code d/} flag in the command, or -1 if absent.
-     * @return The parsed {@code LocalDate}, or {@code null} if no valid date was provided.
-     * @throws InvalidArgumentInput If the date format is invalid.
-     */
-    public LocalDate extractDateFromRaw(String command, int dIndex) throws InvalidArgumentInput {
-        String dateStr = "";
-        LocalDate date = null;
-        if (dIndex != -1) {
-            String tail = command.substring(dIndex + 2).trim();
-            String[] token = tail.split("\\s+");
-            if (token.length > 0) {
-                dateStr = token[0];
-            }
-        }
-
-        if (!dateStr.isEmpty()) {
-            try {
-                date = LocalDate.parse(dateStr, DATE_FMT);
-            } catch (Exception ex) {
-                ui.showMessage("Invalid date. Use d/DD/MM/YY (e.g., d/23/10/25).");
-                throw new InvalidArgumentInput("");
-            }
-        }
-        return date;
-    }
-
-    private void promptIfDateOrTimeMissing() throws InvalidArgumentInput {
-        if (date == null) {
-            String todayStr = LocalDate.now().format(DATE_FMT);
-            ui.showMessage("Looks like you missed the date. Use current date (" + todayStr + ")? (Y/N)");
-            if (ui.confirmationMessage()) {
-                date = LocalDate.now();
-            } else {
-                ui.showMessage("Please provide a date in format d/DD/MM/YY.");
-                throw new InvalidArgumentInput("");
-            }
-        }
-
-        if (time == null) {
-            String nowStr = LocalTime.now().format(TIME_FMT);
-            ui.showMessage("Looks like you missed the time. Use current time (" + nowStr + ")? (Y/N)");
-            if (ui.confirmationMessage()) {
-                time = LocalTime.now();
-            } else {
-                ui.showMessage("Please provide a time in format t/HHmm.");
-                throw new InvalidArgumentInput("");
-            }
-        }
+        return LocalDateTime.of(date, time);
     }
 
     private void checkPastFutureDate(LocalDate date, LocalTime time)
@@ -567,177 +326,58 @@ public class WorkoutManager {
 
     /**
      * Adds an exercise to the current workout.
-     * <p>
-     * Expected format: /add_exercise n/NAME r/REPS
      *
-     * @param args the user command arguments
+     * @param arguments the exercise name and the reps of its first set
      */
-    public void addExercise(String args) throws IOException {
+    public void addExercise(AddExerciseArguments arguments) throws IOException {
         if (currentWorkout == null) {
-            ui.showMessage("No active workout. Use /create_workout first.");
+            ui.showFailure("No active workout. Use /create_workout first.");
             return;
         }
 
-        if (args == null || args.trim().isEmpty()) {
-            ui.showMessage("Missing information. Use: /add_exercise n/NAME r/REPS (e.g., /add_exercise n/PushUp r/12)");
-            return;
-        }
-
-        String s = args.trim();
-
-        // Must have exactly one n/ and one r/
-        if (countToken(s, "n/") != 1 || countToken(s, "r/") != 1) {
-            ui.showMessage("Please provide exactly one n/ and one r/ in this order: n/NAME r/REPS");
-            return;
-        }
-
-        // Enforce order n/ ... r/
-        int nIdx = s.indexOf("n/");
-        int rIdx = s.indexOf("r/");
-        if (nIdx == -1 || rIdx == -1 || rIdx < nIdx) {
-            ui.showMessage("Order must be n/ then r/. Example: /add_exercise n/Bench Press r/12");
-            return;
-        }
-
-        // Extract name slice (raw + trimmed), then validate name BEFORE scanning for other prefixes
-        Slice nameSlice = extractSlice(s, nIdx);
-        String name = nameSlice.valueTrimmed;
-
-        // Specific, user-friendly name errors
-        if (name.trim().isEmpty()) {
-            ui.showMessage("Exercise name is missing after n/. Example: n/Bench Press");
-            return;
-        }
-        if (isInvalidName(name)) {
-            Character bad = findFirstIllegalNameChar(name);
-            if (bad != null) {
-                String shown = (bad == '\\') ? "\\\\" : String.valueOf(bad);
-                ui.showMessage("'" + shown + "' is not allowed in the exercise name.");
-            } else {
-                ui.showMessage("Name too long or invalid.");
-            }
-            ui.showMessage("Allowed characters: letters, digits, spaces, hyphen (-), underscore (_). Max 32 chars.");
-            return;
-        }
-
-        // Now extract reps slice
-        Slice repsSlice = extractSlice(s, rIdx);
-
-        // If there are spaces immediately after r/, guide them explicitly
-        if (!repsSlice.valueRaw.isEmpty() && Character.isWhitespace(repsSlice.valueRaw.charAt(0))) {
-            ui.showMessage("Remove spaces between r/ and the number. Example: r/12 (not r/ 12)");
-            return;
-        }
-
-        String repsStr = repsSlice.valueTrimmed;
-        Integer reps = parseRepsSafe(repsStr);
-        if (reps == null) {
-            ui.showMessage("Invalid reps. Use a whole number between 1 and 1000. Example: r/12");
-            return;
-        }
-
-        // No extra junk after reps
-        if (hasNonWhitespaceAfter(s, repsSlice.endIndex)) {
-            ui.showMessage("Unexpected text after reps. Use exactly: /add_exercise n/NAME r/REPS");
-            return;
-        }
-
-        // Also check there are no stray flag-like prefixes OUTSIDE the parsed ranges
-        // (ignore n/.. inside [nIdx, nameSlice.endIndex) and r/.. inside [rIdx, repsSlice.endIndex))
-        Matcher stray = BOUND_PREFIX.matcher(s);
-        while (stray.find()) {
-            int pos = stray.start(2);
-            char p = stray.group(2).charAt(0);
-
-            boolean insideName = pos >= nIdx && pos < nameSlice.endIndex;
-            boolean insideReps = pos >= rIdx && pos < repsSlice.endIndex;
-
-            if (!insideName && !insideReps) {
-                if (p != 'n' && p != 'r') {
-                    ui.showMessage("Unsupported flag \"" + p + "/\" found. Only n/ and r/ are allowed.");
-                    return;
-                }
-            }
-        }
-
+        String name = arguments.name();
+        int reps = arguments.reps();
         Exercise exercise = new Exercise(name, reps);
         currentWorkout.addExercise(exercise);
-        fileHandler.saveMonthList(currentLoadedMonth, workouts);
+        if (analytics != null) {
+            analytics.recordSet(currentWorkout, name, reps, SetLog.NONE);
+        }
+        fileHandler.appendMutation(currentLoadedMonth, WorkoutJournal.exerciseAdded(currentWorkout, exercise));
         ui.showMessage("Adding that spicy new exercise!");
         ui.showMessage("Added exercise:\n" + exercise.toDetailedString());
     }
 
     /**
      * Adds a new set to the current exercise.
-     * <p>
-     * Expected format: /add_set r/REPS
      *
-     * @param args the user command arguments
+     * @param reps the reps of the set, between 1 and 1000
      */
-    public void addSet(String args) {
+    public void addSet(int reps) {
         if (currentWorkout == null) {
-            ui.showMessage("No active workout. Use /create_workout first.");
+            ui.showFailure("No active workout. Use /create_workout first.");
             return;
         }
 
         Exercise currentExercise = currentWorkout.getCurrentExercise();
         if (currentExercise == null) {
-            ui.showMessage("No exercises yet. Add an exercise first with /add_exercise n/NAME r/REPS");
+            ui.showFailure("No exercises yet. Add an exercise first with /add_exercise n/NAME r/REPS");
             return;
         }
 
         assert !(currentWorkout.getExercises().isEmpty())
                 : "Invariant violated: empty list but currentExercise not null";
 
-        if (args == null || args.trim().isEmpty()) {
-            ui.showMessage("Missing information. Use: /add_set r/REPS");
-            ui.showMessage("REPS: 1–1000");
-            return;
-        }
-
-        String s = args.trim();
-
-        // Exactly one r/ and NO other flags at token boundaries
-        if (countToken(s, "r/") != 1) {
-            ui.showMessage("Provide exactly one r/. Usage: /add_set r/REPS");
-            return;
-        }
-
-        // Reject any other boundary flags like n/, x/, etc.
-        java.util.regex.Matcher stray = BOUND_PREFIX.matcher(s);
-        while (stray.find()) {
-            char p = stray.group(2).charAt(0); // letter before '/'
-            if (p != 'r') {
-                ui.showMessage("Only r/ is allowed for this command. Usage: /add_set r/REPS");
-                return;
-            }
-        }
-
-        // Extract reps
-        int rIdx = s.indexOf("r/");
-        Slice repsSlice = extractSlice(s, rIdx);
-
-        // If user typed spaces right after r/, treat as a generic invalid reps format (no niche msg)
-        if (!repsSlice.valueRaw.isEmpty() && Character.isWhitespace(repsSlice.valueRaw.charAt(0))) {
-            ui.showMessage("Invalid reps. Use a whole number between 1 and 1000. Example: /add_set r/15");
-            return;
-        }
-
-        String repsStr = repsSlice.valueTrimmed;
-        Integer reps = parseRepsSafe(repsStr);
-        if (reps == null) {
-            ui.showMessage("Invalid reps. Use a whole number between 1 and 1000. Example: /add_set r/15");
-            return;
+        currentExercise.addSet(reps);
+        if (analytics != null) {
+            analytics.recordSet(currentWorkout, currentExercise.getName(), reps, SetLog.NONE);
         }
-
-        // No extra junk after reps (e.g., "r/ 1 2", "r/12 extra")
-        if (hasNonWhitespaceAfter(s, repsSlice.endIndex)) {
-            ui.showMessage("Unexpected text after reps. Use exactly: /add_set r/REPS");
-            return;
+        try {
+            fileHandler.appendMutation(currentLoadedMonth,
+                    WorkoutJournal.setAdded(currentWorkout, currentExercise, reps));
+        } catch (IOException ioe) {
+            ui.showFailure("Failed to save the new set: " + ioe.getMessage());
         }
 
-        currentExercise.addSet(reps);
-
         ui.showMessage("Adding a new set to your exercise!");
         ui.showMessage("Added set to exercise:\n" + currentExercise.toDetailedString());
     }
@@ -818,107 +458,22 @@ public class WorkoutManager {
     //@@author nitin19011
     /**
      * Ends the current workout session by recording the end time and calculating duration.
-     * Usage: /end_workout d/DD/MM/YY t/HHmm
-     * - Allows at most one d/ and one t/ (order: d/ then t/ if both present)
      * - Prompts for missing date/time (defaults to now with confirmation)
      * - Validates end > start
      * - Rejects if the end time would overlap another workout that starts on the same day:
      * otherStart in [current.start, proposedEnd]
+     *
+     * @param arguments the end date and time, each {@code null} if it is to be asked for
      */
-    public void endWorkout(String initialArgs) {
+    public void endWorkout(EndWorkoutArguments arguments) {
         if (currentWorkout == null) {
-            ui.showMessage("No active workout.");
-            return;
-        }
-
-        final String usage = "Please enter: /end_workout d/DD/MM/YY t/HHmm" +
-                "\n Alternatively you may just enter 'ew' or 'ew t/HHmm' (Will prompt current date)";
-        final String args = (initialArgs == null) ? "" : initialArgs.trim();
-
-        // allow 0 or 1 of each; reject duplicates
-        int dCount = countToken(args, "d/");
-        int tCount = countToken(args, "t/");
-        if (dCount > 1 || tCount > 1) {
-            ui.showMessage("Too many date/time flags. Use at most one d/ and one t/.");
-            ui.showMessage("Usage: /end_workout d/DD/MM/YY t/HHmm");
-            return;
-        }
-
-        int dIdx = args.indexOf("d/");
-        int tIdx = args.indexOf("t/");
-        // enforce order only if both provided
-        if (dIdx != -1 && tIdx != -1 && tIdx < dIdx) {
-            ui.showMessage("Order must be d/ then t/. Example: /end_workout d/29/10/25 t/1800");
-            return;
-        }
-
-        // reject any other flags like n/, r/, x/, etc.
-        Matcher stray = BOUND_PREFIX.matcher(args);
-        while (stray.find()) {
-            char p = stray.group(2).charAt(0);
-            if (p != 'd' && p != 't') {
-                ui.showMessage("Only d/ and t/ are allowed. Usage: /end_workout d/DD/MM/YY t/HHmm");
-                return;
-            }
-        }
-
-        // extract slices if present
-        Slice dateSlice = null;
-        Slice timeSlice = null;
-        String dateStr = "";
-        String timeStr = "";
-
-        if (dIdx != -1) {
-            dateSlice = extractSlice(args, dIdx);
-            if (!dateSlice.valueRaw.isEmpty() && Character.isWhitespace(dateSlice.valueRaw.charAt(0))) {
-                ui.showMessage("[Error] Invalid date. Use d/DD/MM/YY (e.g., d/23/10/25)." +
-                        " \n Tip: Single digit date needs a 0 infront! e.g 02/11/26");
-                ui.showMessage(usage);
-                return;
-            }
-            dateStr = dateSlice.valueTrimmed;
-        }
-
-        if (tIdx != -1) {
-            timeSlice = extractSlice(args, tIdx);
-            if (!timeSlice.valueRaw.isEmpty() && Character.isWhitespace(timeSlice.valueRaw.charAt(0))) {
-                ui.showMessage("[Error] Invalid time. Use t/HHmm (e.g., t/1905).");
-                ui.showMessage(usage);
-                return;
-            }
-            timeStr = timeSlice.valueTrimmed;
-        }
-
-        // trailing junk after the last provided token
-        int lastEnd = (timeSlice != null) ? timeSlice.endIndex : (dateSlice != null ? dateSlice.endIndex : -1);
-        if (lastEnd != -1 && hasNonWhitespaceAfter(args, lastEnd)) {
-            ui.showMessage("Unexpected text after time/date. Use exactly: /end_workout d/DD/MM/YY t/HHmm");
+            ui.showFailure("No active workout.");
             return;
         }
 
-        // parse provided parts
-        LocalDate date = null;
-        LocalTime time = null;
-
-        if (!dateStr.isEmpty()) {
-            try {
-                date = LocalDate.parse(dateStr, DATE_FMT);
-            } catch (Exception ex) {
-                ui.showMessage("[Error] Invalid date. Use d/DD/MM/YY (e.g., d/23/10/25)." +
-                        " \nTip: Single digit date needs a 0 infront! e.g 02/11/26");
-                ui.showMessage(usage);
-                return;
-            }
-        }
-        if (!timeStr.isEmpty()) {
-            try {
-                time = LocalTime.parse(timeStr, TIME_FMT);
-            } catch (Exception ex) {
-                ui.showMessage("[Error] Invalid time. Use t/HHmm (e.g., t/1905).");
-                ui.showMessage(usage);
-                return;
-            }
-        }
+        final String usage = EndWorkoutParser.USAGE;
+        LocalDate date = arguments.date();
+        LocalTime time = arguments.time();
 
         // prompt ONLY for missing pieces
         if (date == null) {
@@ -947,50 +502,52 @@ public class WorkoutManager {
         LocalDateTime startTime = currentWorkout.getWorkoutStartDateTime().truncatedTo(ChronoUnit.MINUTES);
 
         if (!proposedEnd.isAfter(startTime)) {
-            ui.showMessage("End time must be after the start time of the workout!");
+            ui.showFailure("End time must be after the start time of the workout!");
             ui.showMessage(usage);
             return;
         }
 
-        // --- Overlap guard against later workouts on the SAME DAY ---
-        for (Workout w : workouts) {
-            if (w == currentWorkout) {
-                continue;
-            }
-            LocalDateTime otherStart = w.getWorkoutStartDateTime();
-            if (otherStart == null) {
-                continue;
-            }
-            if (!otherStart.toLocalDate().equals(startTime.toLocalDate())) {
-                continue;
-            }
-
-            // conflict if another workout starts at/after our start and before our proposed end
-            if (!otherStart.isBefore(startTime) && otherStart.isBefore(proposedEnd)) {
-                String startStr = otherStart.toLocalTime().format(TIME_FMT);
-                LocalDateTime otherEndDT = w.getWorkoutEndDateTime();
-                String endStr = (otherEndDT == null)
-                        ? "ongoing"
-                        : otherEndDT.toLocalTime().format(TIME_FMT);
-
-                ui.showMessage("[Error] End time overlaps another workout: \""
-                        + w.getWorkoutName() + "\" (" + startStr + "–" + endStr + ").");
-                ui.showMessage("Please enter a valid date and time");
-                return;
+        // --- Overlap guard against any other workout inside [start, proposedEnd) ---
+        YearMonth monthToSave = YearMonth.from(startTime);
+        try {
+            // a session that runs past midnight at the end of a month also meets the next month's workouts
+            for (YearMonth month = monthToSave; !month.isAfter(YearMonth.from(proposedEnd));
+                    month = month.plusMonths(1)) {
+                ensureScheduled(month);
             }
+        } catch (IOException ioe) {
+            ui.showMessage("[Oops] Failed to load workouts to check for overlaps: " + ioe.getMessage());
+        }
+        schedule.remove(currentWorkout);
+        Workout overlapping = schedule.findOverlapping(startTime, proposedEnd);
+        if (overlapping != null) {
+            schedule.add(monthToSave, currentWorkout);
+            String startStr = overlapping.getWorkoutStartDateTime().toLocalTime().format(TIME_FMT);
+            LocalDateTime otherEndDT = overlapping.getWorkoutEndDateTime();
+            String endStr = (otherEndDT == null)
+                    ? "ongoing"
+                    : otherEndDT.toLocalTime().format(TIME_FMT);
+
+            ui.showFailure("End time overlaps another workout: \""
+                    + overlapping.getWorkoutName() + "\" (" + startStr + "–" + endStr + ").");
+            ui.showMessage("Please enter a valid date and time");
+            return;
         }
 
         // persist
         currentWorkout.setWorkoutEndDateTime(proposedEnd);
         int duration = currentWorkout.calculateDuration();
         currentWorkout.setDuration(duration);
+        schedule.add(monthToSave, currentWorkout);
+        if (analytics != null) {
+            analytics.recordWorkoutEnded(currentWorkout);
+        }
 
         try {
-            YearMonth monthToSave = YearMonth.from(startTime);
-            fileHandler.saveMonthList(monthToSave, workouts);
+            fileHandler.appendMutation(monthToSave, WorkoutJournal.workoutEnded(currentWorkout));
             currentLoadedMonth = monthToSave;
         } catch (IOException ioe) {
-            ui.showMessage("[Oops] Failed to save updated workout: " + ioe.getMessage());
+            ui.showFailure("Failed to save updated workout: " + ioe.getMessage());
         }
 
         ui.showMessage("Workout wrapped! Time to refuel!");
@@ -1000,6 +557,13 @@ public class WorkoutManager {
         currentWorkout = null;
     }
 
+    /**
+     * Returns the month FitChasers was first used, before which no workouts can be logged.
+     */
+    public YearMonth getCreationDate() {
+        return creationDate;
+    }
+
     /**
      * Returns the currently loaded month of workout data.
      *
@@ -1010,148 +574,118 @@ public class WorkoutManager {
     }
 
     /**
-     * Executes the delete workout command by invoking the {@code DeleteWorkout} handler.
+     * Returns the analytics over every saved workout.
      * <p>
-     * This method parses the user's input, deletes the specified workout if valid,
-     * and handles any exceptions that occur during the process by displaying
-     * appropriate error messages.
+     * The first call reads every saved month once; afterwards the analytics are updated in place by
+     * each added set, ended workout and deleted workout, so later calls read no files.
      *
-     * @param argumentStr The raw user input string containing delete command arguments.
+     * @return The up-to-date analytics.
+     * @throws IOException If reading a saved month fails.
      */
-    public void deleteParser(String argumentStr) {
-        try {
-            new DeleteWorkout(ui, fileHandler, this).execute(argumentStr);
-        } catch (InvalidArgumentInput | FileNonexistent e) {
-            ui.showError(e.getMessage());
-        } catch (IOException e) {
-            ui.showError("Failed to save changes: " + e.getMessage());
+    public WorkoutAnalytics getAnalytics() throws IOException {
+        if (analytics != null) {
+            return analytics;
         }
-    }
-
-    private static final class Slice {
-        final String valueTrimmed;
-        final int endIndex;       // end position in original string (exclusive)
-        final String valueRaw;    // substring between token and next prefix/end (untrimmed)
-
-        Slice(String valueTrimmed, String valueRaw, int endIndex) {
-            this.valueTrimmed = valueTrimmed;
-            this.valueRaw = valueRaw;
-            this.endIndex = endIndex;
+        WorkoutAnalytics built = new WorkoutAnalytics();
+        for (YearMonth month : fileHandler.listSavedMonths()) {
+            if (month.equals(currentLoadedMonth)) {
+                continue;
+            }
+            try {
+                for (Workout workout : fileHandler.loadMonthList(month)) {
+                    built.addWorkout(workout);
+                }
+            } catch (FileNonexistent e) {
+                // the month was listed but has no file any more, so it has no workouts to count
+            }
         }
+        for (Workout workout : workouts) {
+            built.addWorkout(workout);
+        }
+        analytics = built;
+        return analytics;
     }
 
-    // Count occurrences of a token like "n/" or "r/"
-    private static int countToken(String s, String token) {
-        int count = 0;
-        int idx = 0;
-        while ((idx = s.indexOf(token, idx)) != -1) {
-            count++;
-            idx += token.length();
-        }
-        return count;
+    /**
+     * Returns whether a workout has been created but not yet ended.
+     */
+    public boolean hasActiveWorkout() {
+        return currentWorkout != null;
     }
 
-    // Extract the slice for a token (e.g., starting at index of 'n' in "n/..."),
-    // capturing the raw substring and where it ends in the original string.
-    private static Slice extractSlice(String s, int tokenStart) {
-        int valueStart = tokenStart + 2; // skip "x/"
-        if (valueStart > s.length()) {
-            return new Slice("", "", valueStart);
+    /**
+     * Brings the in-memory state up to date after workouts were imported into the given months.
+     * <p>
+     * The loaded month is read again, the changed months are dropped from the overlap schedule, and
+     * the analytics are rebuilt on next use. If the import reaches back before the creation month, the
+     * creation month moves back too, so that the imported months can be viewed and added to.
+     *
+     * @param months the months that workouts were added to
+     * @throws IOException If reading the loaded month or saving the creation month fails.
+     */
+    public void reloadAfterImport(NavigableSet<YearMonth> months) throws IOException {
+        if (months.isEmpty()) {
+            return;
         }
-
-        Matcher m = NEXT_PREFIX.matcher(s);
-        int next = -1;
-        while (m.find()) {
-            int boundaryStart = m.start(); // includes the whitespace before the next token
-            if (boundaryStart > valueStart) { // ensure it's after our value actually begins
-                next = boundaryStart;
-                break;
+        for (YearMonth month : months) {
+            schedule.removeMonth(month);
+        }
+        if (months.contains(currentLoadedMonth)) {
+            try {
+                setWorkouts(fileHandler.loadMonthList(currentLoadedMonth), currentLoadedMonth);
+            } catch (FileNonexistent e) {
+                // the month was just saved, so its file exists
             }
         }
-
-        String raw = (next == -1) ? s.substring(valueStart) : s.substring(valueStart, next);
-        return new Slice(raw.trim(), raw, (next == -1 ? s.length() : next));
-    }
-
-    private static boolean isValidName(String name) {
-        if (name == null) {
-            return false;
+        if (months.first().isBefore(creationDate)) {
+            creationDate = months.first();
+            fileHandler.saveCreationMonth(creationDate);
         }
-        String t = name.trim();
-        if (t.isEmpty() || t.length() > MAX_EXERCISE_NAME_LEN) {
-            return false;
-        }
-        return NAME_ALLOWED.matcher(t).matches();
-    }
-
-    private static Character findFirstIllegalNameChar(String name) {
-        Matcher m = NAME_ILLEGAL_FINDER.matcher(name);
-        return m.find() ? name.charAt(m.start()) : null;
+        analytics = null;
     }
 
-    // Safe parse reps: only digits, length<=4, range 1-MAX_REPS
-    private static Integer parseRepsSafe(String repsStr) {
-        String t = repsStr.trim();
-        if (!REPS_TOKEN.matcher(t).matches()) {
-            return null;
-        }
-        int val = Integer.parseInt(t);
-        if (val < 1 || val > MAX_REPS) {
-            return null;
+    /**
+     * Removes a deleted workout from the analytics, if they have been built.
+     *
+     * @param workout The workout that was deleted.
+     */
+    void recordWorkoutDeleted(Workout workout) {
+        if (analytics != null) {
+            analytics.removeWorkout(workout);
         }
-        return val;
     }
 
-    private static boolean onlyWhitespaceAfter(String s, int endIndex) {
-        for (int i = endIndex; i < s.length(); i++) {
-            if (!Character.isWhitespace(s.charAt(i))) {
-                return false;
-            }
+    /**
+     * Executes the delete workout command by invoking the {@code DeleteWorkout} handler.
+     * <p>
+     * This method deletes the specified workout if valid, and handles any exceptions that
+     * occur during the process by displaying appropriate error messages.
+     *
+     * @param arguments The workout to delete and its month.
+     */
+    public void deleteWorkout(DeleteWorkoutArguments arguments) {
+        try {
+            new DeleteWorkout(ui, fileHandler, this).execute(arguments);
+        } catch (FileNonexistent e) {
+            ui.showFailure(e.getMessage());
+        } catch (IOException e) {
+            ui.showFailure("Failed to save changes: " + e.getMessage());
         }
-        return true;
     }
 
     /**
      * Finds an existing workout that the given start time would overlap with.
-     * Overlap rule: same calendar day AND existingStart <= newStart < existingEnd.
-     * If an existing workout has no end time, treat it as ongoing (i.e., overlap if newStart >= existingStart).
+     * Overlap rule: existingStart <= newStart < existingEnd, checked against the loaded month and the
+     * month before it so sessions running past midnight or into a new month are caught.
+     * If an existing workout has no end time, it is treated as ongoing until the end of its start day.
      *
      * @param newStart proposed start time for the new workout
      * @return the conflicting workout, or null if none
      */
-    private Workout findOverlappingWorkout(LocalDateTime newStart) {
-        for (Workout w : workouts) {
-            LocalDateTime s = w.getWorkoutStartDateTime();
-            if (s == null) {
-                continue;
-            }
-            if (!s.toLocalDate().equals(newStart.toLocalDate())) {
-                continue; // only compare within the same day
-            }
-
-            LocalDateTime e = w.getWorkoutEndDateTime();
-            if (e == null) {
-                // treat as ongoing session from s onwards
-                if (!newStart.isBefore(s)) {
-                    return w;
-                }
-            } else {
-                // overlap if s <= newStart < e
-                boolean startsDuring = !newStart.isBefore(s) && newStart.isBefore(e);
-                if (startsDuring) {
-                    return w;
-                }
-            }
-        }
-        return null;
+    private Workout findOverlappingWorkout(LocalDateTime newStart) throws IOException {
+        YearMonth month = YearMonth.from(newStart);
+        ensureScheduled(month);
+        ensureScheduled(month.minusMonths(1));
+        return schedule.findContaining(newStart);
     }
-
-    private static boolean isInvalidName(String name) {
-        return !isValidName(name);
-    }
-
-    private static boolean hasNonWhitespaceAfter(String s, int endIndex) {
-        return !onlyWhitespaceAfter(s, endIndex);
-    }
-
 }
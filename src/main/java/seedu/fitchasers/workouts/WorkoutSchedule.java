@@ -0,0 +1,278 @@
+package seedu.fitchasers.workouts;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+//@@author ZhongBaode
+/**
+ * Interval tree over the workouts of every loaded month, used to detect overlapping sessions.
+ * <p>
+ * Each workout is stored as the half-open interval {@code [start, end)} in epoch minutes, so a
+ * session that runs past midnight or into the next month still blocks the times it covers.
+ * A workout that has not ended yet is treated as lasting until the end of the day it started.
+ * <p>
+ * The tree is a treap ordered by start time, with every node tracking the latest end time in its
+ * subtree. Insertion, removal and overlap queries take expected O(log n) time.
+ */
+public class WorkoutSchedule {
+    private static final long SECONDS_PER_MINUTE = 60;
+
+    private final Random priorities = new Random(0x5EED);
+    private final Map<Workout, Node> nodes = new IdentityHashMap<>();
+    private final Map<YearMonth, Set<Workout>> months = new HashMap<>();
+    private Node root = null;
+    private long nextSequence = 0;
+
+    private static final class Node {
+        final Workout workout;
+        final YearMonth month;
+        final long start;
+        final long end;
+        final long sequence;
+        final int priority;
+        long maxEnd;
+        Node left;
+        Node right;
+
+        Node(Workout workout, YearMonth month, long start, long end, long sequence, int priority) {
+            this.workout = workout;
+            this.month = month;
+            this.start = start;
+            this.end = end;
+            this.sequence = sequence;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+
+        int compareTo(Node other) {
+            if (start != other.start) {
+                return Long.compare(start, other.start);
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /**
+     * Returns whether the workouts of the given month are in the schedule.
+     *
+     * @param month the month to check
+     * @return {@code true} if the month has been added with {@link #replaceMonth}
+     */
+    public boolean containsMonth(YearMonth month) {
+        return months.containsKey(month);
+    }
+
+    /**
+     * Replaces every scheduled workout of a month with the given workouts.
+     *
+     * @param month    the month the workouts were loaded from
+     * @param workouts the workouts of that month
+     */
+    public void replaceMonth(YearMonth month, List<Workout> workouts) {
+        removeMonth(month);
+        months.put(month, Collections.newSetFromMap(new IdentityHashMap<>()));
+        for (Workout w : workouts) {
+            add(month, w);
+        }
+    }
+
+    /**
+     * Drops every scheduled workout of a month, e.g. after that month was changed on disk.
+     *
+     * @param month the month to drop
+     */
+    public void removeMonth(YearMonth month) {
+        Set<Workout> scheduled = months.remove(month);
+        if (scheduled == null) {
+            return;
+        }
+        for (Workout w : scheduled) {
+            Node node = nodes.remove(w);
+            root = delete(root, node);
+        }
+    }
+
+    /**
+     * Adds a workout to the schedule, replacing its previous interval if it was already scheduled.
+     * Workouts without a start time are ignored.
+     *
+     * @param month   the month file the workout belongs to
+     * @param workout the workout to add
+     */
+    public void add(YearMonth month, Workout workout) {
+        remove(workout);
+        LocalDateTime start = workout.getWorkoutStartDateTime();
+        if (start == null) {
+            return;
+        }
+        long startMinute = toEpochMinutes(start);
+        long endMinute = toEpochMinutes(effectiveEnd(workout));
+        Node node = new Node(workout, month, startMinute, Math.max(endMinute, startMinute + 1),
+                nextSequence++, priorities.nextInt());
+        nodes.put(workout, node);
+        months.computeIfAbsent(month, m -> Collections.newSetFromMap(new IdentityHashMap<>())).add(workout);
+        root = insert(root, node);
+    }
+
+    /**
+     * Removes a workout from the schedule. Does nothing if it is not scheduled.
+     *
+     * @param workout the workout to remove
+     */
+    public void remove(Workout workout) {
+        Node node = nodes.remove(workout);
+        if (node == null) {
+            return;
+        }
+        Set<Workout> scheduled = months.get(node.month);
+        if (scheduled != null) {
+            scheduled.remove(workout);
+        }
+        root = delete(root, node);
+    }
+
+    /**
+     * Returns a scheduled workout whose interval contains the given time.
+     *
+     * @param time the time to check
+     * @return a workout running at that time, or {@code null} if there is none
+     */
+    public Workout findContaining(LocalDateTime time) {
+        long minute = toEpochMinutes(time);
+        return findOverlap(minute, minute + 1);
+    }
+
+    /**
+     * Returns a scheduled workout that overlaps the half-open range {@code [from, to)}.
+     *
+     * @param from start of the range
+     * @param to   end of the range, exclusive
+     * @return an overlapping workout, or {@code null} if there is none
+     */
+    public Workout findOverlapping(LocalDateTime from, LocalDateTime to) {
+        return findOverlap(toEpochMinutes(from), toEpochMinutes(to));
+    }
+
+    /**
+     * Returns the number of scheduled workouts.
+     *
+     * @return the number of workouts in the tree
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    private Workout findOverlap(long from, long to) {
+        Node n = root;
+        while (n != null) {
+            if (n.start < to && n.end > from) {
+                return n.workout;
+            }
+            // If the left subtree reaches past `from` but holds no overlap, every interval there
+            // starts at or after `to`, and so does every interval to the right.
+            n = (n.left != null && n.left.maxEnd > from) ? n.left : n.right;
+        }
+        return null;
+    }
+
+    private static LocalDateTime effectiveEnd(Workout workout) {
+        LocalDateTime end = workout.getWorkoutEndDateTime();
+        if (end != null) {
+            return end;
+        }
+        return workout.getWorkoutStartDateTime().toLocalDate().plusDays(1).atStartOfDay();
+    }
+
+    private static long toEpochMinutes(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / SECONDS_PER_MINUTE;
+    }
+
+    private static Node insert(Node root, Node node) {
+        if (root == null) {
+            return node;
+        }
+        if (node.compareTo(root) < 0) {
+            root.left = insert(root.left, node);
+            if (root.left.priority > root.priority) {
+                root = rotateRight(root);
+            }
+        } else {
+            root.right = insert(root.right, node);
+            if (root.right.priority > root.priority) {
+                root = rotateLeft(root);
+            }
+        }
+        update(root);
+        return root;
+    }
+
+    private static Node delete(Node root, Node node) {
+        if (root == null) {
+            return null;
+        }
+        int cmp = node.compareTo(root);
+        if (cmp < 0) {
+            root.left = delete(root.left, node);
+        } else if (cmp > 0) {
+            root.right = delete(root.right, node);
+        } else {
+            return merge(root.left, root.right);
+        }
+        update(root);
+        return root;
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(Node node) {
+        long max = node.end;
+        if (node.left != null) {
+            max = Math.max(max, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            max = Math.max(max, node.right.maxEnd);
+        }
+        node.maxEnd = max;
+    }
+}
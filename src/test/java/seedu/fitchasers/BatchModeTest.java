@@ -0,0 +1,82 @@
+package seedu.fitchasers;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author nitin19011
+/**
+ * Runs FitChasers in a separate JVM on a script, to check what {@code --batch} prints and its exit status.
+ */
+class BatchModeTest {
+    /** The name and starting weight asked for on the first run. */
+    private static final String NEW_USER = "Sam\n70\n";
+
+    @TempDir
+    Path workingDir;
+
+    private record Run(int exitStatus, String output) {
+    }
+
+    private Run runScript(String script, String... options) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(List.of(Path.of(System.getProperty("java.home"), "bin", "java")
+                .toString(), "-cp", System.getProperty("java.class.path"), FitChasers.class.getName()));
+        command.addAll(List.of(options));
+        command.add("--batch");
+        Process process = new ProcessBuilder(command).directory(workingDir.toFile()).redirectErrorStream(true)
+                .start();
+        try (OutputStream in = process.getOutputStream()) {
+            in.write(script.getBytes(StandardCharsets.UTF_8));
+        }
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertTrue(process.waitFor(60, TimeUnit.SECONDS), "FitChasers did not finish: " + output);
+        return new Run(process.exitValue(), output);
+    }
+
+    @Test
+    void batch_rejectedArgument_exitsWithStatusOne() throws Exception {
+        Run run = runScript(NEW_USER + "/add_weight w/abc\n/view_weight\n");
+
+        assertEquals(1, run.exitStatus(), run.output());
+        assertTrue(run.output().contains("Ran 2 command(s) with 1 error(s)."), run.output());
+    }
+
+    @Test
+    void batch_everyCommandAccepted_exitsWithStatusZero() throws Exception {
+        Run run = runScript(NEW_USER + "/view_weight\n");
+
+        assertEquals(0, run.exitStatus(), run.output());
+        assertTrue(run.output().contains("Ran 1 command(s) with 0 error(s)."), run.output());
+    }
+
+    @Test
+    void batch_argumentToCommandWithoutArguments_rejected() throws Exception {
+        Run run = runScript(NEW_USER + "/stats junk\n/exit junk\n");
+
+        assertEquals(1, run.exitStatus(), run.output());
+        assertTrue(run.output().contains("The /stats command doesn't take any arguments."), run.output());
+        assertTrue(run.output().contains("Ran 2 command(s) with 2 error(s)."), run.output());
+    }
+
+    @Test
+    void batchJson_rejectedArgument_resultStatusError() throws Exception {
+        Run run = runScript(NEW_USER + "/add_weight w/abc\n", "--json");
+
+        String result = run.output().lines().filter(l -> l.contains("\"command\": \"/add_weight w/abc\""))
+                .findFirst().orElseThrow(() -> new AssertionError(run.output()));
+        assertTrue(result.contains("\"status\": \"error\""), result);
+        assertTrue(result.contains("\"errors\": [\"Invalid weight. Please enter a number (e.g., 65 or 65.5).\"]"),
+                result);
+        assertEquals(1, run.exitStatus(), run.output());
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.fitchasers;
+
+import org.junit.jupiter.api.Test;
+import seedu.fitchasers.ui.Console;
+import seedu.fitchasers.ui.UI;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Exceptional-Khoi
+/**
+ * Unit tests for the {@link Console} class.
+ */
+class ConsoleTest {
+    private final ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+
+    private Console console(String input) {
+        return new Console(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+                new PrintStream(outContent, false, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void hold_outputWrittenOnlyOnRelease() {
+        Console console = console("");
+        console.hold();
+        console.println("first");
+        console.print("second");
+        assertEquals(0, outContent.size());
+
+        console.release();
+        assertEquals("first" + System.lineSeparator() + "second", outContent.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void readLine_heldPrompt_writtenBeforeReading() throws IOException {
+        Console console = console("yes\n");
+        console.hold();
+        console.print("Confirm > ");
+
+        assertEquals("yes", console.readLine());
+        assertEquals("Confirm > ", outContent.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void readInsideRightBubble_twoUisOnOneConsole_readConsecutiveLines() {
+        Console console = console("first\nsecond\n");
+        UI one = new UI(console);
+        UI other = new UI(console);
+
+        assertEquals("first", one.readInsideRightBubble("> "));
+        assertEquals("second", other.readInsideRightBubble("> "));
+        assertTrue(outContent.toString(StandardCharsets.UTF_8).contains("(You)"));
+    }
+}
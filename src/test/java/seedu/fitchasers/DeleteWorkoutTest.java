@@ -3,6 +3,7 @@ package seedu.fitchasers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import seedu.fitchasers.exceptions.InvalidArgumentInput;
+import seedu.fitchasers.parser.deleteworkout.DeleteParser;
 import seedu.fitchasers.storage.FileHandler;
 import seedu.fitchasers.ui.UI;
 import seedu.fitchasers.workouts.DeleteWorkout;
@@ -148,6 +149,11 @@ class DeleteWorkoutTest {
         return w;
     }
 
+    /** Parses the arguments as /delete_workout does, then deletes. */
+    private void delete(String arguments) throws Exception {
+        sut.execute(new DeleteParser().parse(arguments, fakeWorkoutManager.getCurrentLoadedMonth()));
+    }
+
     /* ---------------- Tests ---------------- */
 
     @Test
@@ -163,7 +169,7 @@ class DeleteWorkoutTest {
         fakeUI.nextConfirm = true;
 
         // Delete display index 2 (after ascending sort by end/start, that points to "B")
-        sut.execute("id/2");
+        delete("id/2");
 
         // Saved once with list missing "B"
         assertEquals(2, fh.lastSave.getSize());
@@ -190,7 +196,7 @@ class DeleteWorkoutTest {
 
         //Cancel deletion
         fakeUI.nextConfirm = false;
-        sut.execute("id/1 m/11");
+        delete("id/1 m/11");
         assertNull(fakeWorkoutManager.lastSetMonth, "Should have been canceled so no lastSetMonth");
         // No save, no in-memory update
         assertEquals("OnlyOne" , fh.store.get(ym).get(0).getWorkoutName());
@@ -204,7 +210,7 @@ class DeleteWorkoutTest {
         )));
         fakeUI.nextConfirm = true; // shouldn’t be asked, but harmless
 
-        sut.execute("id/3 m/10");
+        delete("id/3 m/10");
 
         // No save
         assertNull(fh.lastSave);
@@ -219,7 +225,7 @@ class DeleteWorkoutTest {
     void execute_emptyMonth_noSave() throws Exception {
         YearMonth ym = YearMonth.of(2025, 10);
         // No data added -> empty
-        sut.execute("id/1 m/10");
+        delete("id/1 m/10");
 
         assertTrue(fakeUI.messages.stream().anyMatch(s -> s.equals("No workouts found for 2025-10.")));
         assertNull(fh.lastSave);
@@ -235,7 +241,7 @@ class DeleteWorkoutTest {
         )));
         fakeUI.nextConfirm = true;
 
-        sut.execute("id/1 ym/10/26");
+        delete("id/1 ym/10/26");
 
         // Saved in 2026-10
         assertNotNull(fh.lastSave);
@@ -248,10 +254,10 @@ class DeleteWorkoutTest {
     @Test
     void execute_badArgs_throwInvalidArgumentInput() {
         // Missing id
-        assertThrows(InvalidArgumentInput.class, () -> sut.execute("m/10"));
+        assertThrows(InvalidArgumentInput.class, () -> delete("m/10"));
 
         // Malformed ym (you said delete expects ym/MM/YY, so this is invalid)
-        assertThrows(InvalidArgumentInput.class, () -> sut.execute("id/1 ym/2024/10"));
+        assertThrows(InvalidArgumentInput.class, () -> delete("id/1 ym/2024/10"));
     }
 
 }
@@ -2,8 +2,11 @@ package seedu.fitchasers;
 
 import org.junit.jupiter.api.Test;
 import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.SetLog;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 //@@author nitin19011
@@ -42,4 +45,22 @@ class ExerciseTest {
         assertTrue(output.contains("Set 2 -> Reps: 10"));
     }
 
+    @Test
+    void addSet_weightOnLaterSet_earlierSetsHaveNoWeight() {
+        Exercise ex = new Exercise("Bench", 10);
+        for (int i = 0; i < 20; i++) {
+            ex.addSet(8);
+        }
+        ex.addSet(5, 62.5f, SetLog.NONE);
+
+        SetLog sets = ex.getSetLog();
+        assertEquals(22, sets.size());
+        assertEquals(175, sets.totalReps());
+        assertTrue(Float.isNaN(sets.getWeight(20)));
+        assertEquals(62.5f, sets.getWeight(21));
+        assertFalse(sets.hasRpe());
+        assertTrue(ex.toDetailedString().endsWith("Set 22 -> Reps: 5, Weight: 62.5"));
+        assertThrows(UnsupportedOperationException.class, () -> ex.getSets().add(1));
+    }
+
 }
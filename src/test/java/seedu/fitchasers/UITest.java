@@ -1,5 +1,6 @@
 package seedu.fitchasers;
 
+import seedu.fitchasers.ui.Console;
 import seedu.fitchasers.ui.UI;
 import seedu.fitchasers.user.Person;
 import seedu.fitchasers.user.WeightManager;
@@ -373,4 +374,44 @@ class UITest {
         assertEquals(0, clamp.invoke(ui, -5));
         assertEquals(10, clamp.invoke(ui, 10));
     }
+
+    @Test
+    void leftBubble_longSentence_wrapsBetweenWords() throws Exception {
+        var method = UI.class.getDeclaredMethod("leftBubble", String.class);
+        method.setAccessible(true);
+        String sentence = "Squat five sets of five, then lunges to finish. ".repeat(6).trim();
+
+        String plain = stripAnsi((String) method.invoke(new UI(), sentence));
+
+        List<String> contents = plain.lines().filter(l -> l.startsWith("|"))
+                .map(l -> l.substring(1, l.lastIndexOf('|')).trim()).toList();
+        assertEquals(3, contents.size());
+        assertEquals(sentence, String.join(" ", contents));
+    }
+
+    @Test
+    void stripAnsi_incompleteEscape_keptAsText() throws Exception {
+        var strip = UI.class.getDeclaredMethod("stripAnsi", String.class);
+        strip.setAccessible(true);
+
+        assertEquals("a\u001B[12b c", strip.invoke(null, "a\u001B[12b\u001B[1;97m c"));
+        assertEquals("no codes", strip.invoke(null, "no codes"));
+    }
+
+    @Test
+    void getFailedCommandCount_errorShownByCommandThatCarriesOn_notCounted() {
+        UI ui = new UI();
+        int before = UI.getFailedCommandCount();
+
+        UI.beginCommand("/view_log ym/09/26");
+        ui.showError("workouts_2026-09.txt does not match its checksum.");
+        UI.endCommand();
+        UI.beginCommand("/bogus");
+        ui.showFailure("That's not a thing, bestie.");
+        UI.endCommand();
+        Console.shared().flush();
+
+        assertEquals(before + 1, UI.getFailedCommandCount());
+        assertTrue(outPlain().contains("[Oops!] That's not a thing, bestie."));
+    }
 }
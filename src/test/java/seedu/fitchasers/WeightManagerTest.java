@@ -10,6 +10,8 @@ import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import seedu.fitchasers.parser.CommandRegistry;
+import seedu.fitchasers.parser.addweight.AddWeightParser;
 import seedu.fitchasers.user.Person;
 import seedu.fitchasers.user.WeightManager;
 import seedu.fitchasers.user.WeightRecord;
@@ -32,13 +34,12 @@ class WeightManagerTest {
             super(person);
         }
 
-        @Override
+        // Parses the command line as FitChasers does before adding the weight
         public void addWeight(String command) {
             try {
-                // Temporarily replace UI and FileHandler logic
-                super.addWeight(command);
+                super.addWeight(new AddWeightParser().parse(CommandRegistry.arguments(command.trim()), null));
             } catch (Exception ignored) {
-                // Prevent any real IO
+                // Rejected input adds nothing
             }
         }
     }
@@ -0,0 +1,84 @@
+package seedu.fitchasers.analytics;
+
+import org.junit.jupiter.api.Test;
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.SetLog;
+import seedu.fitchasers.workouts.Workout;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author ZhongBaode
+class WorkoutAnalyticsTest {
+    private static Workout workout(LocalDateTime start, Exercise... exercises) {
+        Workout w = new Workout("Legs", start, start.plusMinutes(45));
+        for (Exercise e : exercises) {
+            w.addExercise(e);
+        }
+        return w;
+    }
+
+    @Test
+    void addWorkout_setsAcrossWorkouts_totalsAndBestsPerExercise() {
+        WorkoutAnalytics analytics = new WorkoutAnalytics();
+        Exercise heavy = new Exercise("Squat", 5, 100f, SetLog.NONE);
+        heavy.addSet(8);
+        analytics.addWorkout(workout(LocalDateTime.of(2025, 10, 1, 8, 0), heavy));
+        analytics.addWorkout(workout(LocalDateTime.of(2025, 10, 9, 8, 0), new Exercise("squat", 12)));
+
+        ExerciseStats squat = analytics.getExercise("SQUAT");
+        assertEquals("Squat", squat.getName());
+        assertEquals(3, squat.getSetCount());
+        assertEquals(25, squat.getTotalReps());
+        assertEquals(12, squat.getBestReps());
+        assertEquals(100f, squat.getBestWeight());
+        assertEquals(500.0, squat.getTotalLoad());
+
+        PeriodStats october = analytics.getMonths().get(YearMonth.of(2025, 10));
+        assertEquals(2, october.getSessions());
+        assertEquals(90, october.getMinutes());
+        assertEquals(25, october.getReps());
+        assertEquals(2, analytics.getWeeks().size());
+        assertEquals(1, analytics.getWeeks().get(LocalDate.of(2025, 9, 29)).getSessions());
+    }
+
+    @Test
+    void removeWorkout_bestSetDeleted_bestFallsBackToNextBest() {
+        WorkoutAnalytics analytics = new WorkoutAnalytics();
+        Workout easy = workout(LocalDateTime.of(2025, 10, 1, 8, 0), new Exercise("Squat", 5));
+        Workout hard = workout(LocalDateTime.of(2025, 11, 3, 8, 0), new Exercise("Squat", 20));
+        analytics.addWorkout(easy);
+        analytics.addWorkout(hard);
+
+        analytics.removeWorkout(hard);
+
+        assertEquals(5, analytics.getExercise("Squat").getBestReps());
+        assertEquals(1, analytics.getExercise("Squat").getSetCount());
+        assertNull(analytics.getMonths().get(YearMonth.of(2025, 11)));
+        analytics.removeWorkout(easy);
+        assertNull(analytics.getExercise("Squat"));
+        assertTrue(analytics.getWeeks().isEmpty());
+    }
+
+    @Test
+    void recordSet_ongoingWorkout_countsVolumeButNotSessionUntilEnded() {
+        WorkoutAnalytics analytics = new WorkoutAnalytics();
+        Workout ongoing = new Workout("Run", LocalDateTime.of(2025, 10, 6, 7, 0));
+
+        analytics.recordSet(ongoing, "Sprint", 10, SetLog.NONE);
+        PeriodStats week = analytics.getWeeks().get(LocalDate.of(2025, 10, 6));
+        assertEquals(0, week.getSessions());
+        assertEquals(1, week.getSets());
+
+        ongoing.setWorkoutEndDateTime(LocalDateTime.of(2025, 10, 6, 7, 30));
+        ongoing.setDuration(ongoing.calculateDuration());
+        analytics.recordWorkoutEnded(ongoing);
+        assertEquals(1, week.getSessions());
+        assertEquals(30, week.getMinutes());
+    }
+}
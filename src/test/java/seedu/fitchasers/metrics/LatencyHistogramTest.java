@@ -0,0 +1,57 @@
+package seedu.fitchasers.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author nitin19011
+class LatencyHistogramTest {
+
+    @Test
+    void bucketOf_everyBucket_coversTheValuesBetweenItsBounds() {
+        long expectedLowest = 0;
+        for (int bucket = 0; bucket < LatencyHistogram.bucketOf(Long.MAX_VALUE); bucket++) {
+            long lowest = LatencyHistogram.lowestValueIn(bucket);
+            long highest = LatencyHistogram.highestValueIn(bucket);
+
+            assertEquals(expectedLowest, lowest);
+            assertEquals(bucket, LatencyHistogram.bucketOf(lowest));
+            assertEquals(bucket, LatencyHistogram.bucketOf(highest));
+            assertTrue(highest - lowest <= Math.max(1, lowest / 16));
+            expectedLowest = highest + 1;
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.highestValueIn(LatencyHistogram.bucketOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    void getValueAtPercentile_uniformValues_withinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000, histogram.getMin());
+        assertEquals(1_000_000, histogram.getMax());
+        assertEquals(500_500.0, histogram.getMean());
+        long median = histogram.getValueAtPercentile(50);
+        assertTrue(median >= 500_000 && median <= 500_000 * 17 / 16, "p50 was " + median);
+        long p95 = histogram.getValueAtPercentile(95);
+        assertTrue(p95 >= 950_000 && p95 <= 950_000 * 17 / 16, "p95 was " + p95);
+        assertEquals(1_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void getValueAtPercentile_emptyOrNegative_reportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getMin());
+        assertEquals(0.0, histogram.getMean());
+
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.fitchasers.metrics;
+
+import org.junit.jupiter.api.Test;
+import seedu.fitchasers.storage.MonthCache;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author nitin19011
+class StatsReportTest {
+    private static final MonthCache.Stats CACHE = new MonthCache.Stats(7, 3, 1, 2, 1536);
+
+    @Test
+    void format_noCommandsRun_showsTotalsAndMonthCache() {
+        String report = StatsReport.format(List.of(new CommandStats("/view_log")), CACHE);
+
+        assertTrue(report.contains("No commands have run yet."), report);
+        assertTrue(report.contains("Month cache: 7 hit(s), 3 miss(es), 1 eviction(s), 2 month(s) held in 1.5 KB."),
+                report);
+    }
+
+    @Test
+    void format_backgroundWork_ownRowNotChargedToCommand() {
+        String report = StatsReport.format(List.of(new CommandStats("/view_log")), CACHE,
+                new Metrics.Background(0, 2048, 1));
+
+        assertTrue(report.contains("(background writer)"), report);
+        assertTrue(report.contains("2.0 KB"), report);
+    }
+
+    @Test
+    void sample_bytesWrittenOnBackgroundThread_leftOut() throws InterruptedException {
+        Metrics.Sample before = Metrics.sample();
+        long writtenBefore = Metrics.background().written();
+        Thread writer = new Thread(() -> {
+            Metrics.markBackgroundThread();
+            Metrics.addBytesWritten(100);
+        });
+        writer.start();
+        writer.join();
+
+        assertEquals(before.written(), Metrics.sample().written());
+        assertEquals(writtenBefore + 100, Metrics.background().written());
+    }
+
+    @Test
+    void data_monthCache_reportedWithEveryCounter() {
+        Map<String, Object> data = StatsReport.data(List.of(), CACHE);
+
+        assertEquals(Map.of("hits", 7L, "misses", 3L, "evictions", 1L, "entries", 2, "bytes", 1536L),
+                data.get("monthCache"));
+    }
+}
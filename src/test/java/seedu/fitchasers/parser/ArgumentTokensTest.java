@@ -0,0 +1,59 @@
+package seedu.fitchasers.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Exceptional-Khoi
+class ArgumentTokensTest {
+
+    @Test
+    void slice_valuesWithSpaces_endBeforeNextFlag() {
+        ArgumentTokens tokens = ArgumentTokens.of("  n/Leg Day d/20/10/25 t/1900 ");
+
+        assertEquals("Leg Day", tokens.slice('n').value());
+        assertEquals("20/10/25", tokens.slice('d').value());
+        assertEquals("1900", tokens.slice('t').value());
+        assertEquals(tokens.text().length(), tokens.slice('t').end());
+        assertNull(tokens.slice('r'));
+    }
+
+    @Test
+    void count_flagInsideWord_countedButNotBoundary() {
+        ArgumentTokens tokens = ArgumentTokens.of("n/Push/d/ r/5");
+
+        assertEquals(1, tokens.count('d'));
+        assertEquals(7, tokens.indexOf('d'));
+        assertEquals("Push/d/", tokens.slice('n').value());
+        assertEquals(0, tokens.strayFlag("nr"));
+    }
+
+    @Test
+    void slice_spaceAfterFlag_keptInRawValue() {
+        ArgumentTokens tokens = ArgumentTokens.of("d/ 20/10/25 t/1900");
+
+        assertTrue(tokens.slice('d').startsWithSpace());
+        assertEquals("20/10/25", tokens.slice('d').value());
+    }
+
+    @Test
+    void strayFlag_outsideParsedValues_returnsLetter() {
+        ArgumentTokens tokens = ArgumentTokens.of("n/Squat x/2 r/10");
+
+        assertEquals('x', tokens.strayFlag("nr", tokens.slice('n'), tokens.slice('r')));
+        assertEquals(0, tokens.strayFlag("nrx"));
+    }
+
+    @Test
+    void words_prefixedWords_returnedInOrder() {
+        ArgumentTokens tokens = ArgumentTokens.of("m/legs k/lunge\tm/arms k/");
+
+        assertEquals(List.of("legs", "arms"), tokens.words("m/"));
+        assertEquals("", tokens.lastWord("k/"));
+        assertNull(tokens.lastWord("id/"));
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.fitchasers.parser;
+
+import org.junit.jupiter.api.Test;
+import seedu.fitchasers.exceptions.InvalidArgumentInput;
+import seedu.fitchasers.metrics.CommandStats;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Exceptional-Khoi
+class CommandRegistryTest {
+    private static final YearMonth CREATED = YearMonth.of(2025, 1);
+
+    @Test
+    void dispatch_alias_runsHandlerWithParsedArguments() throws Exception {
+        CommandRegistry registry = new CommandRegistry();
+        List<Integer> received = new ArrayList<>();
+        registry.register((raw, creationDate) -> Integer.parseInt(raw), received::add, "/double", "d");
+
+        String line = "D   21";
+        assertTrue(registry.dispatch(CommandRegistry.commandWord(line), CommandRegistry.arguments(line), CREATED));
+        assertTrue(registry.dispatch("/double", "4", CREATED));
+
+        assertEquals(List.of(21, 4), received);
+        CommandStats stats = registry.stats().get(0);
+        assertEquals("/double", stats.getName());
+        assertEquals(2, stats.getRuns());
+        assertTrue(stats.getWallNanos().getMax() <= stats.getWallNanos().getTotal());
+    }
+
+    @Test
+    void dispatch_unknownCommand_returnsFalse() throws Exception {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(CommandRegistry.RAW, arguments -> { }, "/exit", "e");
+
+        assertFalse(registry.dispatch("/exi", "", CREATED));
+        assertEquals(0, registry.stats().get(0).getRuns());
+    }
+
+    @Test
+    void dispatch_parserRejectsArguments_countedAndRethrown() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register((raw, creationDate) -> {
+            CommandParser.guard(raw.isEmpty(), "No arguments.");
+            return raw;
+        }, arguments -> { }, "/help");
+
+        assertThrows(InvalidArgumentInput.class, () -> registry.dispatch("/help", "x", CREATED));
+        assertEquals(1, registry.stats().get(0).getRuns());
+    }
+
+    @Test
+    void register_nameTaken_throws() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(CommandRegistry.RAW, arguments -> { }, "/open", "o");
+
+        assertThrows(IllegalArgumentException.class,
+            () -> registry.register(CommandRegistry.RAW, arguments -> { }, "/other", "o"));
+    }
+}
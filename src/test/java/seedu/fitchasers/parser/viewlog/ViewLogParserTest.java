@@ -1,11 +1,8 @@
-package seedu.fitchasers.workouts;
+package seedu.fitchasers.parser.viewlog;
 
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import seedu.fitchasers.storage.FileHandlerTest;
 import seedu.fitchasers.exceptions.InvalidArgumentInput;
-import seedu.fitchasers.ui.UI;
-import java.io.IOException;
+
 import java.time.YearMonth;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -14,20 +11,16 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 //@@author Kart04
-public class ViewLogTest {
-
-    private ViewLog viewLog;
+public class ViewLogParserTest {
+    private final ViewLogParser parser = new ViewLogParser();
 
-    @BeforeEach
-    public void setUp() throws IOException {
-        FileHandlerTest fileHandlerStub = new FileHandlerTest();
-        WorkoutManager workoutManager = new WorkoutManager(null, fileHandlerStub);
-        viewLog = new ViewLog(new UI(), workoutManager, fileHandlerStub);
+    private ViewLogArguments parseArgs(String raw) throws InvalidArgumentInput {
+        return parser.parse(raw, null);
     }
 
     @Test
     public void testParseArgs_emptyInput_defaultsToCurrentMonthAndPageOne() throws InvalidArgumentInput {
-        ViewLog.Parsed parsed = viewLog.parseArgs("");
+        ViewLogArguments parsed = parseArgs("");
         YearMonth now = YearMonth.now();
         assertEquals(now, parsed.ym());
         assertEquals(1, parsed.extractedArg());
@@ -36,7 +29,7 @@ public class ViewLogTest {
 
     @Test
     public void testParseArgs_monthFlag_onlyMonthParsed() throws InvalidArgumentInput {
-        ViewLog.Parsed parsed = viewLog.parseArgs("m/10");
+        ViewLogArguments parsed = parseArgs("m/10");
         YearMonth now = YearMonth.now();
         assertEquals(YearMonth.of(now.getYear(), 10), parsed.ym());
         assertEquals(1, parsed.extractedArg());
@@ -44,7 +37,7 @@ public class ViewLogTest {
 
     @Test
     public void testParseArgs_monthFlagWithPage_correctlyParsesBoth() throws InvalidArgumentInput {
-        ViewLog.Parsed parsed = viewLog.parseArgs("m/10 2");
+        ViewLogArguments parsed = parseArgs("m/10 2");
         YearMonth now = YearMonth.now();
         assertEquals(YearMonth.of(now.getYear(), 10), parsed.ym());
         assertEquals(2, parsed.extractedArg());
@@ -52,47 +45,61 @@ public class ViewLogTest {
 
     @Test
     public void testParseArgs_yearMonthFlag_valid() throws InvalidArgumentInput {
-        ViewLog.Parsed parsed = viewLog.parseArgs("ym/10/25");
+        ViewLogArguments parsed = parseArgs("ym/10/25");
         assertEquals(YearMonth.of(2025, 10), parsed.ym());
     }
 
     @Test
     public void testParseArgs_yearMonthFlagWithPage_valid() throws InvalidArgumentInput {
-        ViewLog.Parsed parsed = viewLog.parseArgs("ym/10/25 4");
+        ViewLogArguments parsed = parseArgs("ym/10/25 4");
         assertEquals(YearMonth.of(2025, 10), parsed.ym());
         assertEquals(4, parsed.extractedArg());
     }
 
     @Test
     public void testParseArgs_detailedFlag_setsTrue() throws InvalidArgumentInput {
-        ViewLog.Parsed parsed = viewLog.parseArgs("detailed/");
+        ViewLogArguments parsed = parseArgs("detailed/");
         assertTrue(parsed.detailed());
     }
 
     @Test
     public void testParseArgs_pageFlag_validPage() throws InvalidArgumentInput {
-        ViewLog.Parsed parsed = viewLog.parseArgs("pg/3");
+        ViewLogArguments parsed = parseArgs("pg/3");
         assertEquals(3, parsed.extractedArg());
     }
 
     @Test
     public void testParseArgs_combineMonthAndYearMonth_throws() {
         assertThrows(InvalidArgumentInput.class, () -> {
-            viewLog.parseArgs("m/10 ym/10/25");
+            parseArgs("m/10 ym/10/25");
         });
     }
 
     @Test
     public void testParseArgs_invalidMonth_throws() {
         assertThrows(InvalidArgumentInput.class, () -> {
-            viewLog.parseArgs("m/13");
+            parseArgs("m/13");
         });
     }
 
     @Test
     public void testParseArgs_invalidTokens_throws() {
         assertThrows(InvalidArgumentInput.class, () -> {
-            viewLog.parseArgs("invalid-input");
+            parseArgs("invalid-input");
+        });
+    }
+
+    @Test
+    public void testParseArgs_nextFlag_setsNavigation() throws InvalidArgumentInput {
+        ViewLogArguments parsed = parseArgs("next/ detailed/");
+        assertEquals(ViewLogArguments.Navigation.NEXT, parsed.navigation());
+        assertTrue(parsed.detailed());
+    }
+
+    @Test
+    public void testParseArgs_navigationWithPage_throws() {
+        assertThrows(InvalidArgumentInput.class, () -> {
+            parseArgs("prev/ pg/2");
         });
     }
 }
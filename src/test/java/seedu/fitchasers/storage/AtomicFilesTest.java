@@ -0,0 +1,60 @@
+package seedu.fitchasers.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Kart04
+class AtomicFilesTest {
+    private static final String TEXT = "WORKOUT" + System.lineSeparator() + "Name: Run" + System.lineSeparator();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void writeChecked_roundTrip_returnsTextAsValid() throws IOException {
+        Path file = dir.resolve("workouts_2025-10.txt");
+        Files.writeString(file, "old content");
+
+        AtomicFiles.writeChecked(file, TEXT);
+        AtomicFiles.Checked checked = AtomicFiles.readChecked(file);
+
+        assertEquals(TEXT, checked.text());
+        assertEquals(AtomicFiles.Integrity.VALID, checked.integrity());
+        assertTrue(Files.readString(file).contains(AtomicFiles.FOOTER_PREFIX));
+        assertFalse(Files.exists(dir.resolve("workouts_2025-10.txt.tmp")));
+    }
+
+    @Test
+    void readChecked_contentEdited_reportsDamaged() throws IOException {
+        Path file = dir.resolve("weight.txt");
+        AtomicFiles.writeChecked(file, TEXT);
+        Files.writeString(file, Files.readString(file).replace("Run", "Swim"));
+
+        AtomicFiles.Checked checked = AtomicFiles.readChecked(file);
+
+        assertEquals(AtomicFiles.Integrity.DAMAGED, checked.integrity());
+        assertTrue(checked.text().contains("Swim"));
+    }
+
+    @Test
+    void readChecked_noFooter_returnsWholeFileUnchecked() throws IOException {
+        Path file = dir.resolve("goal.txt");
+        Files.writeString(file, TEXT);
+
+        AtomicFiles.Checked checked = AtomicFiles.readChecked(file);
+
+        assertEquals(TEXT, checked.text());
+        assertEquals(AtomicFiles.Integrity.UNCHECKED, checked.integrity());
+        byte[] bytes = TEXT.getBytes(StandardCharsets.UTF_8);
+        assertEquals(bytes.length, AtomicFiles.contentLength(bytes));
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.fitchasers.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.fitchasers.tagger.Tagger;
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.SetLog;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Kart04
+class DataTransferTest {
+    private static final YearMonth OCT = YearMonth.of(2025, 10);
+    private static final String HEADER = "start,end,workout,exercise,reps,weight,rpe,tags\n";
+    private static final Tagger TAGGER = w -> Set.of("tagged");
+
+    private static DataTransfer.MonthImport merge(ArrayList<Workout> saved, String csv) throws IOException {
+        try (RecordFormat.RecordReader records = RecordFormat.CSV.reader(new StringReader(HEADER + csv))) {
+            return DataTransfer.mergeMonth(OCT, saved, records, TAGGER);
+        }
+    }
+
+    @Test
+    void mergeMonth_setsOfOneWorkout_groupedIntoExercises() throws IOException {
+        DataTransfer.MonthImport result = merge(new ArrayList<>(), """
+                2025-10-03 07:00,2025-10-03 08:00,Leg Day,Squat,5,100,8,strength;Legs
+                2025-10-03 07:00,2025-10-03 08:00,Leg Day,Squat,5,102.5,,strength;Legs
+                2025-10-03 07:00,2025-10-03 08:00,Leg Day,Lunge,12,,,strength;Legs
+                2025-10-05T18:00,2025-10-05T18:30,Stretch,,,,,
+                """);
+
+        assertEquals(2, result.added());
+        Workout legs = result.workouts().get(0);
+        assertEquals(60, legs.getDuration());
+        assertEquals(Set.of("strength", "legs"), legs.getManualTags());
+        assertEquals(Set.of("tagged"), legs.getAutoTags());
+        List<Exercise> exercises = legs.getExercises();
+        assertEquals(List.of("Squat", "Lunge"), List.of(exercises.get(0).getName(), exercises.get(1).getName()));
+        SetLog squats = exercises.get(0).getSetLog();
+        assertEquals(2, squats.size());
+        assertEquals(102.5f, squats.getWeight(1));
+        assertTrue(Float.isNaN(squats.getRpe(1)));
+        assertTrue(result.workouts().get(1).getExercises().isEmpty());
+    }
+
+    @Test
+    void mergeMonth_invalidRecord_skipsWholeWorkoutAndReportsLine() throws IOException {
+        DataTransfer.MonthImport result = merge(new ArrayList<>(), """
+                2025-10-03T07:00,2025-10-03T08:00,Leg Day,Squat,5,,,
+                2025-10-03T07:00,2025-10-03T08:00,Leg Day,Squat,0,,,
+                2025-10-04T07:00,,Run,,,,,
+                2025-10-06T07:00,2025-10-06T08:00,Push Day,Bench,8,,,
+                """);
+
+        assertEquals(1, result.added());
+        assertEquals(2, result.rejected());
+        assertEquals("Push Day", result.workouts().get(0).getWorkoutName());
+        assertEquals(List.of("Line 3: reps must be a whole number between 1 and 1000",
+                "Line 4: end is missing; only finished workouts can be imported"), result.problems().first());
+    }
+
+    @Test
+    void mergeMonth_startAlreadySaved_skippedAsDuplicate() throws IOException {
+        ArrayList<Workout> saved = new ArrayList<>();
+        saved.add(new Workout("Leg Day", LocalDateTime.of(2025, 10, 3, 7, 0), LocalDateTime.of(2025, 10, 3, 8, 0)));
+
+        DataTransfer.MonthImport result = merge(saved, """
+                2025-10-03T07:00,2025-10-03T08:00,Leg Day,Squat,5,,,
+                2025-10-09T07:00,2025-10-09T08:00,Pull Day,Row,10,,,
+                """);
+
+        assertEquals(1, result.added());
+        assertEquals(1, result.duplicates());
+        assertEquals(2, result.workouts().size());
+        assertTrue(result.workouts().get(0).getExercises().isEmpty());
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.fitchasers.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.SetLog;
+import seedu.fitchasers.workouts.Workout;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Kart04
+class ExerciseSectionTest {
+    private static final String BLOCK = "WORKOUT\nName: Legs\nEXERCISES:\n"
+            + "- squat | 10\n  - Bench | 8\r\n- Squat | 6\n# comment\n- Bench|\nEND_WORKOUT\n";
+
+    private static ExerciseSection sectionOf(byte[] data) {
+        String text = new String(data, StandardCharsets.UTF_8);
+        int from = text.indexOf("EXERCISES:\n") + "EXERCISES:\n".length();
+        return new ExerciseSection(data, from, text.indexOf("END_WORKOUT"));
+    }
+
+    @Test
+    void load_repeatedNames_collapsesSetsSortedByName() {
+        List<Exercise> exercises = sectionOf(BLOCK.getBytes(StandardCharsets.UTF_8)).load();
+
+        assertEquals(2, exercises.size());
+        assertEquals("Bench", exercises.get(0).getName());
+        assertEquals(List.of(8, 0), exercises.get(0).getSets());
+        assertEquals("squat", exercises.get(1).getName());
+        assertEquals(List.of(10, 6), exercises.get(1).getSets());
+    }
+
+    @Test
+    void setExerciseLoader_exercisesAccessed_parsesOnlyOnce() {
+        ExerciseSection section = sectionOf(BLOCK.getBytes(StandardCharsets.UTF_8));
+        Workout w = new Workout("Legs", LocalDateTime.of(2025, 10, 3, 8, 0));
+        w.setExerciseLoader(section);
+
+        assertFalse(w.isExercisesLoaded());
+        assertEquals(section.sizeHint(), w.getPendingExerciseBytes());
+
+        assertEquals("squat", w.getCurrentExercise().getName());
+        assertTrue(w.isExercisesLoaded());
+        assertEquals(0, w.getPendingExerciseBytes());
+        w.addExercise(new Exercise("Lunge", 12));
+        assertEquals(3, w.getExercises().size());
+    }
+
+    @Test
+    void load_weightAndRpeColumns_parsedIntoSetLog() {
+        byte[] data = "EXERCISES:\n- Squat | 5 | 100 | 8.5\n- Squat | 5 |  | 9\n- Squat | 3\nEND_WORKOUT\n"
+                .getBytes(StandardCharsets.UTF_8);
+
+        SetLog sets = sectionOf(data).load().get(0).getSetLog();
+
+        assertEquals(3, sets.size());
+        assertEquals(100f, sets.getWeight(0));
+        assertEquals(8.5f, sets.getRpe(0));
+        assertTrue(Float.isNaN(sets.getWeight(1)));
+        assertEquals(9f, sets.getRpe(1));
+        assertTrue(Float.isNaN(sets.getRpe(2)));
+    }
+
+    @Test
+    void isValidSetLine_repTokens_matchesIntegerParsing() {
+        String[] valid = {"- Squat | 10", "- Squat", "- Squat |", "- Squat | -3", "- Run | 2147483647", "-|5",
+            "- Squat | 5 | 60.5 | 8", "- Squat | 5 | | 8"};
+        String[] invalid = {"- Squat | ten", "- Squat | 2147483648", "- Squat | -", "- Squat | 1 2",
+            "- Squat | 5 | heavy", "- Squat | 5 | 1 | 2 | 3"};
+        for (String line : valid) {
+            byte[] data = line.getBytes(StandardCharsets.UTF_8);
+            assertTrue(ExerciseSection.isValidSetLine(data, 0, data.length), line);
+        }
+        for (String line : invalid) {
+            byte[] data = line.getBytes(StandardCharsets.UTF_8);
+            assertFalse(ExerciseSection.isValidSetLine(data, 0, data.length), line);
+        }
+    }
+}
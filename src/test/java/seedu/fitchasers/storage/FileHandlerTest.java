@@ -1,6 +1,8 @@
 package seedu.fitchasers.storage;
 
 import seedu.fitchasers.workouts.Workout;
+
+import java.nio.file.Path;
 import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -12,6 +14,13 @@ import java.util.Map;
  */
 public class FileHandlerTest extends FileHandler {
 
+    /**
+     * Constructs a stub that keeps the files it still writes, such as the creation month, in the given directory.
+     */
+    public FileHandlerTest(Path dataDir) {
+        super(dataDir);
+    }
+
     @Override
     public Map<YearMonth, ArrayList<Workout>> getArrayByMonth() {
         return new HashMap<>();
@@ -0,0 +1,132 @@
+package seedu.fitchasers.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.fitchasers.exceptions.CorruptedFileError;
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.SetLog;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Kart04
+class MonthBinaryCodecTest {
+
+    private static final YearMonth OCT = YearMonth.of(2025, 10);
+
+    @TempDir
+    Path tempDir;
+
+    private FileHandler fileHandler = null;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (fileHandler != null) {
+            fileHandler.flushJournal();
+        }
+    }
+
+    private static List<String> describe(List<Workout> workouts) {
+        List<String> out = new ArrayList<>();
+        for (Workout w : workouts) {
+            StringBuilder sb = new StringBuilder(w.getWorkoutName()).append('|').append(w.getWorkoutStartDateTime())
+                    .append('|').append(w.getWorkoutEndDateTime()).append('|').append(w.getAllTags());
+            for (Exercise e : w.getExercises()) {
+                sb.append('|').append(e.getName()).append(e.getSets());
+            }
+            out.add(sb.toString());
+        }
+        return out;
+    }
+
+    @Test
+    void writeThenRead_mixedWorkouts_roundTripsAllFields() throws Exception {
+        Workout legDay = new Workout("Leg Day", LocalDateTime.of(2025, 10, 14, 15, 0),
+                LocalDateTime.of(2025, 10, 14, 16, 5));
+        legDay.setAutoTags(Set.of("legs"));
+        legDay.setManualTags(Set.of("heavy"));
+        Exercise squat = new Exercise("Squat", 12, 100f, SetLog.NONE);
+        squat.addSet(10, 110f, 8.5f);
+        squat.addSet(8);
+        legDay.addExercise(squat);
+        legDay.addExercise(new Exercise("Lunges", 20));
+
+        Workout ongoing = new Workout("Run", LocalDateTime.of(2025, 10, 15, 7, 30));
+
+        Path bin = tempDir.resolve("workouts_2025-10.bin");
+        MonthBinaryCodec.write(bin, List.of(legDay, ongoing));
+        ArrayList<Workout> loaded = MonthBinaryCodec.read(bin);
+
+        assertEquals(2, loaded.size());
+        Workout first = loaded.get(0);
+        assertEquals("Leg Day", first.getWorkoutName());
+        assertEquals(legDay.getWorkoutStartDateTime(), first.getWorkoutStartDateTime());
+        assertEquals(legDay.getWorkoutEndDateTime(), first.getWorkoutEndDateTime());
+        assertEquals(65, first.getDuration());
+        assertEquals(Set.of("legs"), first.getAutoTags());
+        assertEquals(Set.of("heavy"), first.getManualTags());
+        assertEquals(2, first.getExercises().size());
+        SetLog squatSets = first.getExercises().get(0).getSetLog();
+        assertEquals(List.of(12, 10, 8), first.getExercises().get(0).getSets());
+        assertEquals(110f, squatSets.getWeight(1));
+        assertEquals(8.5f, squatSets.getRpe(1));
+        assertTrue(Float.isNaN(squatSets.getRpe(0)));
+        assertFalse(first.getExercises().get(1).getSetLog().hasWeights());
+        assertEquals("Lunges", first.getExercises().get(1).getName());
+
+        assertNull(loaded.get(1).getWorkoutEndDateTime());
+        assertEquals(0, loaded.get(1).getExercises().size());
+    }
+
+    @Test
+    void read_wrongMagic_throwsCorruptedFileError() throws IOException {
+        Path bin = tempDir.resolve("workouts_2025-11.bin");
+        Files.writeString(bin, "WORKOUT\nName: not binary\nEND_WORKOUT\n");
+        assertThrows(CorruptedFileError.class, () -> MonthBinaryCodec.read(bin));
+    }
+
+    @Test
+    void convertMonth_textToBinaryAndBack_keepsWorkoutsAndJournal() throws Exception {
+        fileHandler = new FileHandler(tempDir);
+        Workout legDay = new Workout("Leg Day", LocalDateTime.of(2025, 10, 14, 15, 0),
+                LocalDateTime.of(2025, 10, 14, 16, 5));
+        legDay.setManualTags(Set.of("heavy"));
+        Exercise squat = new Exercise("Squat", 12);
+        squat.addSet(10);
+        legDay.addExercise(squat);
+        fileHandler.saveMonthList(OCT, new ArrayList<>(List.of(legDay,
+                new Workout("Run", LocalDateTime.of(2025, 10, 20, 18, 0)))));
+        fileHandler.flushJournal();
+        Path bin = tempDir.resolve("workouts").resolve("workouts_2025-10.bin");
+
+        fileHandler.convertMonthToBinary(OCT);
+        assertTrue(Files.exists(bin));
+        // a journaled change is not in the binary copy until the month is saved again
+        fileHandler.appendMutation(OCT, "EXERCISE|2025-10-20T18:00|Bench Press|8");
+        fileHandler.flushJournal();
+        List<String> expected = describe(new FileHandler(tempDir).loadMonthList(OCT));
+        assertEquals(2, expected.size());
+        assertTrue(expected.get(1).contains("Bench Press[8]"), expected.get(1));
+        assertEquals(describe(MonthBinaryCodec.read(bin)).get(0), expected.get(0));
+
+        fileHandler.convertMonthToText(OCT);
+        fileHandler.flushJournal();
+
+        assertFalse(Files.exists(bin));
+        assertEquals(expected, describe(new FileHandler(tempDir).loadMonthList(OCT)));
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.fitchasers.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.fitchasers.workouts.Workout;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+//@@author Kart04
+class MonthCacheTest {
+    private static final MonthCache.FileStamp STAMP = new MonthCache.FileStamp(1000, 50, -1, -1);
+
+    private static ArrayList<Workout> monthOf(String name) {
+        return new ArrayList<>(List.of(new Workout(name, LocalDateTime.of(2025, 10, 1, 9, 0))));
+    }
+
+    @Test
+    void get_sameStamp_hitReturnsCopy() {
+        MonthCache cache = new MonthCache(4, 1 << 20);
+        cache.put(YearMonth.of(2025, 10), STAMP, monthOf("Run"));
+
+        ArrayList<Workout> first = cache.get(YearMonth.of(2025, 10), STAMP);
+        first.clear();
+        ArrayList<Workout> second = cache.get(YearMonth.of(2025, 10), STAMP);
+
+        assertEquals(1, second.size());
+        assertEquals(2, cache.getStats().hits());
+        assertEquals(0, cache.getStats().misses());
+    }
+
+    @Test
+    void get_changedStamp_missAndDropsEntry() {
+        MonthCache cache = new MonthCache(4, 1 << 20);
+        cache.put(YearMonth.of(2025, 10), STAMP, monthOf("Run"));
+
+        assertNull(cache.get(YearMonth.of(2025, 10), new MonthCache.FileStamp(2000, 50, -1, -1)));
+        assertEquals(1, cache.getStats().misses());
+        assertEquals(0, cache.getStats().entries());
+    }
+
+    @Test
+    void put_beyondEntryLimit_evictsLeastRecentlyUsed() {
+        MonthCache cache = new MonthCache(2, 1 << 20);
+        cache.put(YearMonth.of(2025, 8), STAMP, monthOf("A"));
+        cache.put(YearMonth.of(2025, 9), STAMP, monthOf("B"));
+        cache.get(YearMonth.of(2025, 8), STAMP); // August becomes most recently used
+        cache.put(YearMonth.of(2025, 10), STAMP, monthOf("C"));
+
+        assertNotNull(cache.get(YearMonth.of(2025, 8), STAMP));
+        assertNull(cache.get(YearMonth.of(2025, 9), STAMP));
+        assertEquals(1, cache.getStats().evictions());
+    }
+
+    @Test
+    void invalidate_cachedMonth_nextLookupMisses() {
+        MonthCache cache = new MonthCache(2, 1 << 20);
+        cache.put(YearMonth.of(2025, 10), STAMP, monthOf("Run"));
+        cache.invalidate(YearMonth.of(2025, 10));
+
+        assertNull(cache.get(YearMonth.of(2025, 10), STAMP));
+        assertEquals(0, cache.getStats().bytes());
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.fitchasers.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+//@@author Kart04
+class MonthSummaryTest {
+    private static final YearMonth OCT = YearMonth.of(2025, 10);
+
+    @TempDir
+    Path dir;
+
+    private static MonthSummary legDay() {
+        Workout w = new Workout("Leg day", LocalDateTime.of(2025, 10, 3, 8, 0), LocalDateTime.of(2025, 10, 3, 9, 0));
+        w.setAutoTags(Set.of("legs"));
+        Exercise squat = new Exercise("Squat", 10);
+        squat.addSet(8);
+        w.addExercise(squat);
+        MonthSummary summary = new MonthSummary(OCT);
+        summary.add(w);
+        return summary;
+    }
+
+    @Test
+    void read_sameSnapshotStamp_returnsWrittenTotals() throws IOException {
+        Path path = dir.resolve("workouts_2025-10" + MonthSummary.EXTENSION);
+        legDay().write(path, 1000L, 42L);
+
+        MonthSummary read = MonthSummary.read(path, OCT, 1000L, 42L);
+
+        assertEquals(1, read.getWorkoutCount());
+        assertEquals(60, read.getTotalMinutes());
+        assertEquals(Map.of("legs", 1), read.getTagCounts());
+        assertEquals(18L, read.getExerciseReps().get("squat"));
+    }
+
+    @Test
+    void read_monthFileChanged_returnsNull() throws IOException {
+        Path path = dir.resolve("workouts_2025-10" + MonthSummary.EXTENSION);
+        legDay().write(path, 1000L, 42L);
+
+        assertNull(MonthSummary.read(path, OCT, 1000L, 43L));
+        assertNull(MonthSummary.read(dir.resolve("missing.summary"), OCT, 1000L, 42L));
+    }
+
+    @Test
+    void replay_journalRecords_addedOnTopOfSnapshot() throws IOException {
+        WorkoutJournal journal = new WorkoutJournal(dir);
+        Workout run = new Workout("Run", LocalDateTime.of(2025, 10, 5, 7, 0));
+        run.setManualTags(Set.of("legs"));
+        Exercise sprint = new Exercise("Sprint", 4);
+        run.addExercise(sprint);
+        journal.append(OCT, WorkoutJournal.workoutCreated(run));
+        journal.append(OCT, WorkoutJournal.exerciseAdded(run, sprint));
+        journal.append(OCT, WorkoutJournal.setAdded(run, sprint, 6));
+        run.setWorkoutEndDateTime(LocalDateTime.of(2025, 10, 5, 7, 30));
+        run.setDuration(30);
+        journal.append(OCT, WorkoutJournal.workoutEnded(run));
+        journal.append(OCT, "SET|torn");
+        MonthSummary summary = legDay();
+
+        assertEquals(1, journal.replay(OCT, summary));
+
+        assertEquals(2, summary.getWorkoutCount());
+        assertEquals(90, summary.getTotalMinutes());
+        assertEquals(2, summary.getTagCounts().get("legs"));
+        assertEquals(10L, summary.getExerciseReps().get("Sprint"));
+    }
+}
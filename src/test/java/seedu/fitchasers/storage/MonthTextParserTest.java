@@ -0,0 +1,71 @@
+package seedu.fitchasers.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.fitchasers.workouts.Workout;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Kart04
+class MonthTextParserTest {
+    private static final String MONTH = "# saved by FitChasers\r\n"
+            + "WORKOUT\r\n  Name:  Leg day \r\nStart: 2025-10-03T08:00\r\nEnd: 2025-10-03T09:00\r\n"
+            + "DurationMin: 60\r\nAutoTags: legs, ,strength,\r\nManualTags:\r\nEXERCISES:\r\n"
+            + "  - Squat | 5 | 100\r\n  - Squat | 5\r\nEND_WORKOUT\r\n\r\n"
+            + "WORKOUT\nName: Broken\nStart: yesterday\nEXERCISES:\n- Run | 1\nEND_WORKOUT\n"
+            + "WORKOUT\nName: Bad reps\nStart: 2025-10-04T08:00\nEXERCISES:\n- Run | lots\nEND_WORKOUT\n"
+            + "WORKOUT\nName: Open\nStart: 2025-10-05T07:30\nEnd: Unended\nDurationMin: +0\n"
+            + "ManualTags: morning\nEND_WORKOUT\n";
+
+    @Test
+    void parse_mixedBlocks_skipsCorruptedAndKeepsOthers() {
+        byte[] data = MONTH.getBytes(StandardCharsets.UTF_8);
+
+        LoadWarnings warnings = new LoadWarnings();
+        List<Workout> workouts = MonthTextParser.parse(data, data.length, warnings);
+
+        assertEquals(2, workouts.size());
+        Workout legs = workouts.get(0);
+        assertEquals("Leg day", legs.getWorkoutName());
+        assertEquals(LocalDateTime.of(2025, 10, 3, 9, 0), legs.getWorkoutEndDateTime());
+        assertEquals(Set.of("legs", "strength"), legs.getAutoTags());
+        assertFalse(legs.isExercisesLoaded());
+        assertEquals(List.of(5, 5), legs.getExercises().get(0).getSets());
+
+        Workout open = workouts.get(1);
+        assertEquals("Open", open.getWorkoutName());
+        assertNull(open.getWorkoutEndDateTime());
+        assertEquals(Set.of("morning"), open.getManualTags());
+        assertEquals(0, open.getExercises().size());
+        assertEquals(List.of("Invalid Start date/time found in file. Skipping workout \"Broken\"",
+                "Invalid set found in file. Skipping workout \"Bad reps\""), warnings.texts());
+    }
+
+    @Test
+    void parse_badDuration_warningNamesDuration() {
+        byte[] data = "WORKOUT\nName: Run\nStart: 2025-10-03T08:00\nDurationMin: ten\nEND_WORKOUT\n"
+                .getBytes(StandardCharsets.UTF_8);
+        LoadWarnings warnings = new LoadWarnings();
+
+        assertTrue(MonthTextParser.parse(data, data.length, warnings).isEmpty());
+        assertEquals(List.of("Invalid DurationMin found in file. Skipping workout \"Run\""), warnings.texts());
+    }
+
+    @Test
+    void parse_lengthBeforeEnd_ignoresRest() {
+        String text = "WORKOUT\nName: Run\nStart: 2025-10-03T08:00\nEND_WORKOUT\n";
+        byte[] data = (text + "WORKOUT\nName: Swim\nEND_WORKOUT\n").getBytes(StandardCharsets.UTF_8);
+
+        List<Workout> workouts = MonthTextParser.parse(data, text.length(), new LoadWarnings());
+
+        assertEquals(1, workouts.size());
+        assertEquals("Run", workouts.get(0).getWorkoutName());
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.fitchasers.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Kart04
+class RecordFormatTest {
+    private static final List<String> COLUMNS = List.of("name", "reps", "note");
+
+    private static List<Map<String, String>> readAll(RecordFormat format, String text) throws IOException {
+        List<Map<String, String>> records = new ArrayList<>();
+        try (RecordFormat.RecordReader reader = format.reader(new StringReader(text))) {
+            Map<String, String> record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    private static String writeAll(RecordFormat format, List<List<?>> rows) throws IOException {
+        StringWriter out = new StringWriter();
+        try (RecordFormat.RecordWriter writer = format.writer(out, COLUMNS)) {
+            for (List<?> row : rows) {
+                writer.write(row);
+            }
+        }
+        return out.toString();
+    }
+
+    @Test
+    void of_extension_choosesFormat() {
+        assertEquals(RecordFormat.CSV, RecordFormat.of(Path.of("export.CSV")));
+        assertEquals(RecordFormat.JSON, RecordFormat.of(Path.of("data", "weights.json")));
+        assertNull(RecordFormat.of(Path.of("notes.txt")));
+    }
+
+    @Test
+    void writeThenRead_awkwardText_roundTripsInBothFormats() throws IOException {
+        List<List<?>> rows = List.of(
+                Arrays.asList("Bench, \"paused\"", 5, "line one\nline two"),
+                Arrays.asList(" padded ", new BigDecimal("82.5"), null));
+
+        for (RecordFormat format : RecordFormat.values()) {
+            List<Map<String, String>> records = readAll(format, writeAll(format, rows));
+
+            assertEquals(2, records.size(), format.name());
+            assertEquals(Map.of("name", "Bench, \"paused\"", "reps", "5", "note", "line one\nline two"),
+                    records.get(0), format.name());
+            // values are trimmed, and empty values are left out
+            assertEquals(Map.of("name", "padded", "reps", "82.5"), records.get(1), format.name());
+        }
+    }
+
+    @Test
+    void read_csvWithBlankLinesAndMissingColumns_skipsThemAndTracksLines() throws IOException {
+        try (RecordFormat.RecordReader reader = RecordFormat.CSV.reader(new StringReader(
+                "\uFEFFName,Reps\r\n\r\nSquat,5\r\n\"Row\nPendlay\",8\r\nPlank\r\n"))) {
+            assertEquals(Map.of("name", "Squat", "reps", "5"), reader.next());
+            assertEquals(3, reader.line());
+            assertEquals(Map.of("name", "Row\nPendlay", "reps", "8"), reader.next());
+            assertEquals(Map.of("name", "Plank"), reader.next());
+            assertEquals(6, reader.line());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void read_jsonLinesWithEscapes_readsEachObject() throws IOException {
+        List<Map<String, String>> records = readAll(RecordFormat.JSON, "{\"Name\": \"Caf\\u00e9 \\\"run\\\"\", "
+                + "\"reps\": 12, \"note\": null}\n{\"name\": \"Row\", \"ok\": true}");
+
+        assertEquals(List.of(Map.of("name", "Café \"run\"", "reps", "12"), Map.of("name", "Row", "ok", "true")),
+                records);
+    }
+
+    @Test
+    void read_malformedInput_reportsLine() {
+        IOException unclosed = assertThrows(IOException.class,
+                () -> readAll(RecordFormat.CSV, "name\n\"Squat\n"));
+        IOException nested = assertThrows(IOException.class,
+                () -> readAll(RecordFormat.JSON, "[\n{\"name\": \"a\"},\n{\"sets\": [1, 2]}]"));
+        IOException tooMany = assertThrows(IOException.class,
+                () -> readAll(RecordFormat.CSV, "name\nSquat,5\n"));
+
+        assertTrue(unclosed.getMessage().startsWith("Line 2:"), unclosed.getMessage());
+        assertTrue(nested.getMessage().startsWith("Line 3:"), nested.getMessage());
+        assertTrue(tooMany.getMessage().startsWith("Line 2:"), tooMany.getMessage());
+    }
+}
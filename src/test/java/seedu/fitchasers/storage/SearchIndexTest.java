@@ -0,0 +1,129 @@
+package seedu.fitchasers.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Kart04
+class SearchIndexTest {
+    private static final YearMonth OCT = YearMonth.of(2025, 10);
+
+    @TempDir
+    Path dir;
+
+    private FileHandler fileHandler = null;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (fileHandler != null) {
+            fileHandler.flushJournal();
+        }
+    }
+
+    private static Workout workout(String name, int day, String tag, String... exercises) {
+        Workout w = new Workout(name, LocalDateTime.of(2025, 10, day, 8, 0), LocalDateTime.of(2025, 10, day, 9, 0));
+        w.setAutoTags(Set.of(tag));
+        for (String e : exercises) {
+            w.addExercise(new Exercise(e, 10));
+        }
+        return w;
+    }
+
+    private static SearchIndex.Match match(String name, int day, String tag, String... exercises) {
+        return SearchIndex.matchOf(WorkoutIndex.entryOf(OCT, workout(name, day, tag, exercises), 0));
+    }
+
+    private static List<String> names(List<SearchIndex.Match> matches) {
+        List<String> out = new ArrayList<>();
+        for (SearchIndex.Match m : matches) {
+            out.add(m.name());
+        }
+        return out;
+    }
+
+    private SearchIndex octoberIndex() throws IOException {
+        SearchIndex index = new SearchIndex(dir.resolve(SearchIndex.FILE_NAME));
+        index.load();
+        index.replaceMonth(OCT, List.of(
+                match("Leg Day", 3, "legs", "Squat", "Romanian Deadlift"),
+                match("Pull Day", 5, "back", "Deadlift", "Row"),
+                match("Morning Run", 7, "cardio")));
+        return index;
+    }
+
+    @Test
+    void search_prefixOfAnyWord_matchesNewestFirst() throws IOException {
+        SearchIndex index = octoberIndex();
+
+        assertEquals(List.of("Pull Day", "Leg Day"), names(index.search("dead")));
+        assertEquals(List.of("Morning Run"), names(index.search("CARD")));
+    }
+
+    @Test
+    void search_severalWords_requiresAll() throws IOException {
+        SearchIndex index = octoberIndex();
+
+        assertEquals(List.of("Leg Day"), names(index.search("deadlift legs")));
+        assertTrue(index.search("deadlift cardio").isEmpty());
+        assertTrue(index.search(" , ").isEmpty());
+    }
+
+    @Test
+    void replaceMonth_workoutDeleted_removedFromResults() throws IOException {
+        SearchIndex index = octoberIndex();
+
+        index.replaceMonth(OCT, List.of(match("Leg Day", 3, "legs", "Squat")));
+
+        assertEquals(1, index.size());
+        assertTrue(index.search("deadlift").isEmpty());
+        assertFalse(index.search("squat").isEmpty());
+    }
+
+    @Test
+    void load_appendedChanges_replayedFromFile() throws IOException {
+        SearchIndex index = octoberIndex();
+        index.replaceMonth(OCT, List.of(match("Leg Day", 3, "legs", "Squat")));
+        WorkoutJournal.index("CREATE|2025-10-20T18:00|Push Day|chest,|", index);
+        WorkoutJournal.index("EXERCISE|2025-10-20T18:00|Bench Press|8", index);
+        index.writeAppended();
+
+        SearchIndex reloaded = new SearchIndex(dir.resolve(SearchIndex.FILE_NAME));
+
+        assertTrue(reloaded.load());
+        assertEquals(index.documents(), reloaded.documents());
+        assertEquals(List.of("Push Day"), names(reloaded.search("bench ch")));
+    }
+
+    @Test
+    void searchWorkouts_noIndexFile_builtOnFirstSearchThenKeptUpToDateByWriter() throws IOException {
+        fileHandler = new FileHandler(dir);
+        fileHandler.saveMonthList(OCT, new ArrayList<>(List.of(workout("Leg Day", 3, "legs", "Squat"))));
+        fileHandler.flushJournal();
+        assertFalse(Files.exists(dir.resolve(SearchIndex.FILE_NAME)));
+
+        assertEquals(List.of("Leg Day"), names(fileHandler.searchWorkouts("squat")));
+        fileHandler.appendMutation(OCT, "CREATE|2025-10-20T18:00|Push Day|chest,|");
+        fileHandler.appendMutation(OCT, "EXERCISE|2025-10-20T18:00|Bench Press|8");
+
+        assertEquals(List.of("Push Day"), names(fileHandler.searchWorkouts("bench")));
+        SearchIndex reloaded = new SearchIndex(dir.resolve(SearchIndex.FILE_NAME));
+        assertTrue(reloaded.load());
+        assertEquals(List.of("Push Day"), names(reloaded.search("bench")));
+        assertEquals(2, reloaded.size());
+    }
+}
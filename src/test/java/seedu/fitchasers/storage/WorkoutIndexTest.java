@@ -0,0 +1,204 @@
+package seedu.fitchasers.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Kart04
+class WorkoutIndexTest {
+    private static final MonthCache.FileStamp STAMP = new MonthCache.FileStamp(1, 2, -1, -1);
+
+    @TempDir
+    Path tempDir;
+
+    private FileHandler fileHandler = null;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (fileHandler != null) {
+            fileHandler.flushJournal();
+        }
+    }
+
+    private static List<String> names(List<WorkoutIndex.Entry> entries) {
+        List<String> out = new ArrayList<>();
+        for (WorkoutIndex.Entry e : entries) {
+            out.add(e.name());
+        }
+        return out;
+    }
+
+    /**
+     * Saves workouts in September, October and November 2025 through a new file handler, without flushing.
+     */
+    private void saveThreeMonths() throws IOException {
+        fileHandler = new FileHandler(tempDir);
+        fileHandler.saveMonthList(YearMonth.of(2025, 9), new ArrayList<>(List.of(
+                workout("Sep Legs", LocalDateTime.of(2025, 9, 2, 8, 0), "legs"),
+                workout("Sep Arms", LocalDateTime.of(2025, 9, 30, 23, 30), "arms"))));
+        fileHandler.saveMonthList(YearMonth.of(2025, 10), new ArrayList<>(List.of(
+                workout("Oct Legs", LocalDateTime.of(2025, 10, 1, 0, 15), "Legs"),
+                workout("Oct Arms", LocalDateTime.of(2025, 10, 20, 8, 0), "arms"))));
+        fileHandler.saveMonthList(YearMonth.of(2025, 11), new ArrayList<>(List.of(
+                workout("Nov Legs", LocalDateTime.of(2025, 11, 1, 8, 0), "legs"))));
+    }
+
+    private static Workout workout(String name, LocalDateTime start, String tag) {
+        Workout w = new Workout(name, start);
+        w.setManualTags(Set.of(tag));
+        Exercise squat = new Exercise("Squat", 10);
+        squat.addSet(8);
+        w.addExercise(squat);
+        return w;
+    }
+
+    @Test
+    void findBetween_acrossMonths_returnsOnlyWorkoutsInRange() throws IOException {
+        WorkoutIndex index = new WorkoutIndex(tempDir.resolve("index.txt"));
+        YearMonth sep = YearMonth.of(2025, 9);
+        YearMonth oct = YearMonth.of(2025, 10);
+        index.replaceMonth(sep, STAMP, List.of(
+                WorkoutIndex.entryOf(sep, workout("Early", LocalDateTime.of(2025, 9, 2, 8, 0), "legs"), 0),
+                WorkoutIndex.entryOf(sep, workout("Late", LocalDateTime.of(2025, 9, 29, 8, 0), "arms"), 120)));
+        index.replaceMonth(oct, STAMP, List.of(
+                WorkoutIndex.entryOf(oct, workout("Legs", LocalDateTime.of(2025, 10, 3, 8, 0), "legs"), 0)));
+
+        List<WorkoutIndex.Entry> found = index.findBetween(LocalDate.of(2025, 9, 15), LocalDate.of(2025, 10, 31));
+
+        assertEquals(2, found.size());
+        assertEquals("Late", found.get(0).name());
+        assertEquals("Legs", found.get(1).name());
+        assertEquals(18, found.get(1).volume());
+    }
+
+    @Test
+    void findByTagBetween_reloadedFromDisk_matchesTagIgnoringCase() throws IOException {
+        Path file = tempDir.resolve("index.txt");
+        YearMonth oct = YearMonth.of(2025, 10);
+        new WorkoutIndex(file).replaceMonth(oct, STAMP, List.of(
+                WorkoutIndex.entryOf(oct, workout("Legs", LocalDateTime.of(2025, 10, 3, 8, 0), "legs"), 42),
+                WorkoutIndex.entryOf(oct, workout("Arms", LocalDateTime.of(2025, 10, 4, 8, 0), "arms"), 300)));
+
+        WorkoutIndex reloaded = new WorkoutIndex(file);
+        List<WorkoutIndex.Entry> found = reloaded.findByTagBetween("LEGS",
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31));
+
+        assertEquals(1, found.size());
+        assertEquals(42, found.get(0).offset());
+        assertEquals(List.of("Squat"), found.get(0).exercises());
+        assertFalse(reloaded.isStale(oct, STAMP));
+        assertTrue(reloaded.isStale(oct, new MonthCache.FileStamp(1, 3, -1, -1)));
+    }
+
+    @Test
+    void isStale_corruptedIndexFile_treatsEveryMonthAsStale() throws IOException {
+        Path file = tempDir.resolve("index.txt");
+        Files.writeString(file, "MONTH|2025-10|x|2|-1|-1\n");
+
+        assertTrue(new WorkoutIndex(file).isStale(YearMonth.of(2025, 10), STAMP));
+    }
+
+    private static WorkoutIndex monthOfDays(Path file, YearMonth month, int days) throws IOException {
+        WorkoutIndex index = new WorkoutIndex(file);
+        List<WorkoutIndex.Entry> rows = new ArrayList<>();
+        for (int day = 1; day <= days; day++) {
+            rows.add(WorkoutIndex.entryOf(month, workout("Day " + day, month.atDay(day).atTime(8, 0), "legs"), 0));
+        }
+        index.replaceMonth(month, STAMP, rows);
+        return index;
+    }
+
+    @Test
+    void pageOf_secondPage_newestFirstWithDisplayIds() throws IOException {
+        YearMonth oct = YearMonth.of(2025, 10);
+        WorkoutIndex index = monthOfDays(tempDir.resolve("index.txt"), oct, 25);
+
+        WorkoutIndex.Page page = index.pageOf(oct, 11, 10);
+
+        assertEquals(25, page.total());
+        assertEquals(11, page.firstId());
+        assertEquals("Day 15", page.entries().get(0).name());
+        assertEquals("Day 6", page.entries().get(9).name());
+        assertTrue(index.pageOf(oct, 26, 10).entries().isEmpty());
+    }
+
+    @Test
+    void pageOlderThan_endOfMonth_rollsIntoPreviousMonth() throws IOException {
+        YearMonth aug = YearMonth.of(2025, 8);
+        YearMonth oct = YearMonth.of(2025, 10);
+        WorkoutIndex index = monthOfDays(tempDir.resolve("index.txt"), oct, 12);
+        index.replaceMonth(YearMonth.of(2025, 9), STAMP, List.of());
+        index.replaceMonth(aug, STAMP, List.of(
+                WorkoutIndex.entryOf(aug, workout("Aug", LocalDateTime.of(2025, 8, 9, 8, 0), "legs"), 0)));
+
+        WorkoutIndex.Page second = index.pageOlderThan(index.pageOf(oct, 1, 10).entries().get(9), 10);
+        WorkoutIndex.Page third = index.pageOlderThan(second.entries().get(1), 10);
+
+        assertEquals(11, second.firstId());
+        assertEquals("Day 2", second.entries().get(0).name());
+        assertEquals(2, second.entries().size());
+        assertEquals(aug, third.month());
+        assertEquals(1, third.firstId());
+        assertNull(index.pageOlderThan(third.entries().get(0), 10));
+
+        WorkoutIndex.Page back = index.pageNewerThan(third.entries().get(0), 10);
+        assertEquals(oct, back.month());
+        assertEquals(11, back.firstId());
+        assertEquals(1, index.pageNewerThan(second.entries().get(0), 10).firstId());
+    }
+
+    @Test
+    void findWorkoutsBetween_rangeAcrossMonths_includesBothEndDaysOldestFirst() throws IOException {
+        saveThreeMonths();
+
+        List<WorkoutIndex.Entry> found = fileHandler.findWorkoutsBetween(LocalDate.of(2025, 9, 30),
+                LocalDate.of(2025, 11, 1));
+
+        assertEquals(List.of("Sep Arms", "Oct Legs", "Oct Arms", "Nov Legs"), names(found));
+        assertEquals(YearMonth.of(2025, 9), found.get(0).month());
+        assertTrue(fileHandler.findWorkoutsBetween(LocalDate.of(2025, 10, 2), LocalDate.of(2025, 10, 19)).isEmpty());
+        assertTrue(fileHandler.findWorkoutsBetween(LocalDate.of(2025, 11, 1), LocalDate.of(2025, 9, 1)).isEmpty());
+    }
+
+    @Test
+    void findWorkoutsByTag_rangeAcrossMonths_matchesTagIgnoringCase() throws IOException {
+        saveThreeMonths();
+
+        assertEquals(List.of("Sep Legs", "Oct Legs", "Nov Legs"), names(fileHandler.findWorkoutsByTag("LEGS",
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31))));
+        assertEquals(List.of("Oct Legs"), names(fileHandler.findWorkoutsByTag("legs",
+                LocalDate.of(2025, 9, 3), LocalDate.of(2025, 10, 31))));
+        assertTrue(fileHandler.findWorkoutsByTag("cardio", LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 12, 31)).isEmpty());
+    }
+
+    @Test
+    void findWorkoutsBetween_monthChangedByJournal_reindexedBeforeLookup() throws IOException {
+        saveThreeMonths();
+        fileHandler.findWorkoutsBetween(LocalDate.of(2025, 9, 1), LocalDate.of(2025, 11, 30));
+
+        fileHandler.appendMutation(YearMonth.of(2025, 10), "CREATE|2025-10-31T18:00|Oct Run|cardio,|");
+
+        assertEquals(List.of("Oct Arms", "Oct Run", "Nov Legs"), names(fileHandler.findWorkoutsBetween(
+                LocalDate.of(2025, 10, 2), LocalDate.of(2025, 11, 30))));
+        assertEquals(List.of("Oct Run"), names(new FileHandler(tempDir).findWorkoutsByTag("cardio",
+                LocalDate.of(2025, 10, 1), LocalDate.of(2025, 10, 31))));
+    }
+}
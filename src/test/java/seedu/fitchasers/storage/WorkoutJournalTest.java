@@ -0,0 +1,82 @@
+package seedu.fitchasers.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Kart04
+class WorkoutJournalTest {
+    private static final YearMonth MONTH = YearMonth.of(2025, 10);
+
+    @TempDir
+    Path tempDir;
+
+    private WorkoutJournal journal;
+
+    @BeforeEach
+    void setUp() {
+        journal = new WorkoutJournal(tempDir);
+    }
+
+    @Test
+    void replay_createExerciseSetEnd_rebuildsWorkout() throws IOException {
+        Workout workout = new Workout("Leg Day", LocalDateTime.of(2025, 10, 14, 15, 0));
+        Exercise squat = new Exercise("Squat", 12);
+        journal.append(MONTH, WorkoutJournal.workoutCreated(workout));
+        journal.append(MONTH, WorkoutJournal.exerciseAdded(workout, squat));
+        journal.append(MONTH, WorkoutJournal.setAdded(workout, squat, 10));
+        workout.setWorkoutEndDateTime(LocalDateTime.of(2025, 10, 14, 16, 0));
+        workout.setDuration(60);
+        journal.append(MONTH, WorkoutJournal.workoutEnded(workout));
+        journal.flush();
+
+        ArrayList<Workout> loaded = new ArrayList<>();
+        int skipped = journal.replay(MONTH, loaded);
+
+        assertEquals(0, skipped);
+        assertEquals(1, loaded.size());
+        Workout replayed = loaded.get(0);
+        assertEquals("Leg Day", replayed.getWorkoutName());
+        assertEquals(60, replayed.getDuration());
+        assertEquals(1, replayed.getExercises().size());
+        assertEquals(2, replayed.getExercises().get(0).getNumSets());
+    }
+
+    @Test
+    void replay_tornLastLine_skipsOnlyBrokenRecord() throws IOException {
+        Workout workout = new Workout("Run", LocalDateTime.of(2025, 10, 1, 7, 0));
+        journal.append(MONTH, WorkoutJournal.workoutCreated(workout));
+        journal.append(MONTH, "EXERCISE|2025-10-01T07");
+        journal.flush();
+
+        ArrayList<Workout> loaded = new ArrayList<>();
+        assertEquals(1, journal.replay(MONTH, loaded));
+        assertEquals(1, loaded.size());
+    }
+
+    @Test
+    void discard_existingJournal_removesFile() throws IOException {
+        journal.append(MONTH, WorkoutJournal.workoutCreated(new Workout("Swim", LocalDateTime.of(2025, 10, 2, 9, 0))));
+        Path file = tempDir.resolve("workouts_2025-10" + WorkoutJournal.EXTENSION);
+        assertTrue(Files.exists(file));
+
+        journal.discard(MONTH);
+
+        assertFalse(Files.exists(file));
+        assertEquals(1, journal.append(MONTH, WorkoutJournal.workoutCreated(new Workout("Swim",
+                LocalDateTime.of(2025, 10, 3, 9, 0)))));
+    }
+}
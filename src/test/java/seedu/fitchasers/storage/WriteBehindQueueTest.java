@@ -0,0 +1,155 @@
+package seedu.fitchasers.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Kart04
+class WriteBehindQueueTest {
+    private static final YearMonth OCT = YearMonth.of(2025, 10);
+
+    /**
+     * Records every write, optionally failing the first one.
+     */
+    private static final class RecordingWriter implements WriteBehindQueue.MonthWriter {
+        private final List<String> writes = Collections.synchronizedList(new ArrayList<>());
+        private boolean isFailingNext = false;
+
+        @Override
+        public void writeSnapshot(YearMonth month, ArrayList<Workout> snapshot) throws IOException {
+            fail();
+            writes.add(month + " snapshot " + snapshot.size());
+        }
+
+        @Override
+        public void appendRecord(YearMonth month, String record) throws IOException {
+            fail();
+            writes.add(month + " record " + record);
+        }
+
+        @Override
+        public void finishMonth(YearMonth month) {
+            writes.add(month + " finished");
+        }
+
+        private synchronized void fail() throws IOException {
+            if (isFailingNext) {
+                isFailingNext = false;
+                throw new IOException("disk full");
+            }
+        }
+    }
+
+    private static ArrayList<Workout> workouts(int count) {
+        ArrayList<Workout> list = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            list.add(new Workout("Run " + i, LocalDateTime.of(2025, 10, 1 + i, 7, 0)));
+        }
+        return list;
+    }
+
+    @Test
+    void flush_savesQueuedWhileWriterBusy_mergesIntoLatestSnapshotAndLaterRecords() throws IOException {
+        RecordingWriter writer = new RecordingWriter();
+        ReentrantLock diskLock = new ReentrantLock();
+        WriteBehindQueue queue = new WriteBehindQueue(writer, diskLock, "test-writer");
+
+        diskLock.lock();
+        try {
+            queue.submitSnapshot(OCT, workouts(1));
+            queue.submitRecord(OCT, "first");
+            queue.submitSnapshot(OCT, workouts(2));
+            queue.submitRecord(OCT, "second");
+        } finally {
+            diskLock.unlock();
+        }
+        queue.flush();
+
+        assertEquals(List.of("2025-10 snapshot 2", "2025-10 record second", "2025-10 finished"), writer.writes);
+    }
+
+    @Test
+    void pending_beforeWrite_returnsCopiesOfSnapshot() throws IOException {
+        RecordingWriter writer = new RecordingWriter();
+        ReentrantLock diskLock = new ReentrantLock();
+        WriteBehindQueue queue = new WriteBehindQueue(writer, diskLock, "test-writer");
+        ArrayList<Workout> saved = workouts(2);
+
+        diskLock.lock();
+        try {
+            queue.submitSnapshot(OCT, saved);
+            queue.submitRecord(OCT, "later");
+            WriteBehindQueue.Pending pending = queue.pending(OCT);
+
+            assertEquals(2, pending.snapshot().size());
+            assertNotSame(saved.get(0), pending.snapshot().get(0));
+            assertEquals("Run 0", pending.snapshot().get(0).getWorkoutName());
+            assertEquals(List.of("later"), pending.records());
+            assertNull(queue.pending(OCT.plusMonths(1)));
+        } finally {
+            diskLock.unlock();
+        }
+        queue.flush();
+    }
+
+    @Test
+    void flush_writeFails_reportsErrorAndRetriesOnNextFlush() throws IOException {
+        RecordingWriter writer = new RecordingWriter();
+        writer.isFailingNext = true;
+        WriteBehindQueue queue = new WriteBehindQueue(writer, new ReentrantLock(), "test-writer");
+
+        queue.submitSnapshot(OCT, workouts(3));
+        assertThrows(IOException.class, queue::flush);
+        queue.flush();
+
+        assertEquals(List.of("2025-10 snapshot 3", "2025-10 finished"), writer.writes);
+    }
+
+    @Test
+    void hold_recordsAfterSnapshot_foldedAndWrittenOnceOnFlush() throws IOException {
+        RecordingWriter writer = new RecordingWriter();
+        WriteBehindQueue queue = new WriteBehindQueue(writer, new ReentrantLock(), "test-writer");
+        queue.hold();
+
+        queue.submitSnapshot(OCT, workouts(1));
+        assertTrue(queue.foldRecord(OCT, "CREATE|2025-10-20T18:00|Push Day|chest,|"));
+        assertFalse(queue.foldRecord(OCT.plusMonths(1), "CREATE|2025-11-02T18:00|Run|cardio,|"));
+        assertTrue(writer.writes.isEmpty());
+        queue.flush();
+        queue.release();
+
+        assertEquals(List.of("2025-10 snapshot 2", "2025-10 finished"), writer.writes);
+    }
+
+    @Test
+    void flush_taskSubmittedBeforeRecord_runsOnceMonthIsWritten() throws IOException {
+        RecordingWriter writer = new RecordingWriter();
+        ReentrantLock diskLock = new ReentrantLock();
+        WriteBehindQueue queue = new WriteBehindQueue(writer, diskLock, "test-writer");
+
+        diskLock.lock();
+        try {
+            queue.submitTask(() -> writer.writes.add("task on " + Thread.currentThread().getName()));
+            queue.submitRecord(OCT, "first");
+        } finally {
+            diskLock.unlock();
+        }
+        queue.flush();
+
+        assertEquals(List.of("2025-10 record first", "2025-10 finished", "task on test-writer"), writer.writes);
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.fitchasers.tagger;
+
+import org.junit.jupiter.api.Test;
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.Workout;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Kart04
+class DefaultTaggerTest {
+    private static Workout workout(String name) {
+        return new Workout(name, LocalDateTime.of(2025, 10, 14, 15, 0));
+    }
+
+    @Test
+    void suggest_sharedKeyword_returnsModalitiesBeforeMuscles() {
+        Set<String> tags = new DefaultTagger().suggest(workout("Heavy SQUAT and Bench"));
+
+        assertEquals(List.of("strength", "legs", "chest"), List.copyOf(tags));
+    }
+
+    @Test
+    void suggest_addedKeyword_rebuildsMatcher() {
+        DefaultTagger tagger = new DefaultTagger();
+        assertTrue(tagger.suggest(workout("hiit circuit")).isEmpty());
+
+        tagger.addMuscleKeyword(MuscleGroup.CORE, "HIIT");
+        tagger.addModalityKeyword(Modality.CARDIO, "circuit");
+
+        assertEquals(Set.of("cardio", "core"), tagger.suggest(workout("hiit circuit")));
+    }
+
+    @Test
+    void suggest_exerciseNames_areMatchedToo() {
+        Workout w = workout("Morning session");
+        w.addExercise(new Exercise("Romanian Deadlift", 8));
+
+        // "deadlift" also contains "lift", which is a back keyword
+        assertEquals(Set.of("strength", "posterior-chain", "back"), new DefaultTagger().suggest(w));
+    }
+
+    @Test
+    void match_overlappingKeywords_findsEverySuffixMatch() {
+        KeywordAutomaton automaton = new KeywordAutomaton(List.of("a", "b", "c", "d"),
+                Map.of("he", 1L, "she", 2L, "his", 4L, "hers", 8L));
+
+        assertEquals(1L | 2L | 8L, automaton.match("ushers"));
+        assertEquals(4L, automaton.match("this"));
+        assertEquals(0L, automaton.match("xyz"));
+        assertEquals(Set.of("a", "b", "d"), automaton.tagsOf(automaton.match("ushers")));
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.fitchasers.ui;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Exceptional-Khoi
+/**
+ * Unit tests for the {@link JsonOutput} class.
+ */
+class JsonOutputTest {
+    private final PrintStream realOut = System.out;
+
+    @AfterEach
+    void tearDown() {
+        Console.shared().flush();
+        System.setOut(realOut);
+    }
+
+    private static String json(Object value) {
+        StringBuilder out = new StringBuilder();
+        JsonOutput.appendValue(out, value);
+        return out.toString();
+    }
+
+    @Test
+    void appendValue_nestedValues_writtenInOrder() {
+        Object value = JsonOutput.object("name", "Leg day", "sets", List.of(10, 8.5), "done", true,
+                "rpe", null, "average", Double.NaN);
+
+        assertEquals("{\"name\": \"Leg day\", \"sets\": [10, 8.5], \"done\": true, \"rpe\": null, \"average\": null}",
+                json(value));
+    }
+
+    @Test
+    void appendValue_specialCharacters_escaped() {
+        assertEquals("\"say \\\"hi\\\"\\n\\\\ \\u001b[0m \\u2028\"", json("say \"hi\"\n\\ \u001B[0m \u2028"));
+    }
+
+    @Test
+    void end_commandWithError_writesOneResultLine() {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent, true, StandardCharsets.UTF_8));
+        JsonOutput output = new JsonOutput();
+
+        output.message("Before");
+        output.begin("/bogus");
+        output.error("Unknown command");
+        output.end(true);
+        output.end(true);
+        Console.shared().flush();
+
+        String[] lines = outContent.toString(StandardCharsets.UTF_8).split(System.lineSeparator());
+        assertEquals(2, lines.length);
+        assertEquals("{\"type\": \"notice\", \"messages\": [\"Before\"], \"errors\": []}", lines[0]);
+        assertTrue(lines[1].startsWith("{\"type\": \"result\", \"command\": \"/bogus\", \"status\": \"error\""));
+        assertTrue(lines[1].endsWith("\"messages\": [], \"errors\": [\"Unknown command\"]}"));
+    }
+
+    @Test
+    void end_commandShowedErrorButDidNotFail_statusOk() {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent, true, StandardCharsets.UTF_8));
+        JsonOutput output = new JsonOutput();
+
+        output.begin("/view_log ym/09/26");
+        output.error("workouts_2026-09.txt does not match its checksum.");
+        output.end(false);
+        Console.shared().flush();
+
+        String line = outContent.toString(StandardCharsets.UTF_8).trim();
+        assertTrue(line.startsWith("{\"type\": \"result\", \"command\": \"/view_log ym/09/26\", \"status\": \"ok\""));
+        assertTrue(line.endsWith("\"errors\": [\"workouts_2026-09.txt does not match its checksum.\"]}"));
+    }
+}
@@ -3,6 +3,9 @@ package seedu.fitchasers.user;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.AfterEach;
+import seedu.fitchasers.exceptions.InvalidArgumentInput;
+import seedu.fitchasers.parser.setgoal.SetGoalParser;
+import seedu.fitchasers.ui.UI;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
@@ -36,6 +39,17 @@ public class GoalWeightTrackerTest {
         System.setOut(originalOut);
     }
 
+    /**
+     * Runs /set_goal with the given arguments, showing why they were rejected as FitChasers does.
+     */
+    private void setGoal(String arguments) {
+        try {
+            tracker.handleSetGoal(new SetGoalParser().parse(arguments, null));
+        } catch (InvalidArgumentInput e) {
+            new UI().showFailure(e.getMessage());
+        }
+    }
+
     /**
      * Helper method to get goalWeight from private field using reflection.
      */
@@ -56,7 +70,7 @@ public class GoalWeightTrackerTest {
 
     @Test
     public void testHandleSetGoal_validInput_setsGoalWeight() throws NoSuchFieldException, IllegalAccessException {
-        tracker.handleSetGoal("w/60");
+        setGoal("w/60");
 
         assertNotNull(getGoalWeight());
         assertEquals(60.0, getGoalWeight());
@@ -66,28 +80,28 @@ public class GoalWeightTrackerTest {
 
     @Test
     public void testHandleSetGoal_decimalWeight_setsGoalWeight() throws NoSuchFieldException, IllegalAccessException {
-        tracker.handleSetGoal("w/65.5");
+        setGoal("w/65.5");
 
         assertEquals(65.5, getGoalWeight());
     }
 
     @Test
     public void testHandleSetGoal_largeWeight_setsGoalWeight() throws NoSuchFieldException, IllegalAccessException {
-        tracker.handleSetGoal("w/150.8");
+        setGoal("w/150.8");
 
         assertEquals(150.8, getGoalWeight());
     }
 
     @Test
     public void testHandleSetGoal_smallWeight_setsGoalWeight() throws NoSuchFieldException, IllegalAccessException {
-        tracker.handleSetGoal("w/0.1");
+        setGoal("w/0.1");
 
         assertEquals(0.1, getGoalWeight());
     }
 
     @Test
     public void testHandleSetGoal_nullInput_showsUsageMessage() {
-        tracker.handleSetGoal(null);
+        setGoal(null);
 
         String output = outputStream.toString();
         assertTrue(output.contains("Usage"));
@@ -95,7 +109,7 @@ public class GoalWeightTrackerTest {
 
     @Test
     public void testHandleSetGoal_invalidPrefix_showsUsageMessage() {
-        tracker.handleSetGoal("weight/60");
+        setGoal("weight/60");
 
         String output = outputStream.toString();
         assertTrue(output.contains("Usage"));
@@ -103,7 +117,7 @@ public class GoalWeightTrackerTest {
 
     @Test
     public void testHandleSetGoal_emptyInput_showsUsageMessage() {
-        tracker.handleSetGoal("");
+        setGoal("");
 
         String output = outputStream.toString();
         assertTrue(output.contains("Usage"));
@@ -111,7 +125,7 @@ public class GoalWeightTrackerTest {
 
     @Test
     public void testHandleSetGoal_zeroWeight_showsErrorMessage() {
-        tracker.handleSetGoal("w/0");
+        setGoal("w/0");
 
         String output = outputStream.toString();
         assertTrue(output.contains("positive"));
@@ -119,7 +133,7 @@ public class GoalWeightTrackerTest {
 
     @Test
     public void testHandleSetGoal_negativeWeight_showsErrorMessage() {
-        tracker.handleSetGoal("w/-50");
+        setGoal("w/-50");
 
         String output = outputStream.toString();
         assertTrue(output.contains("positive"));
@@ -127,7 +141,7 @@ public class GoalWeightTrackerTest {
 
     @Test
     public void testHandleSetGoal_invalidFormat_showsErrorMessage() {
-        tracker.handleSetGoal("w/abc");
+        setGoal("w/abc");
 
         String output = outputStream.toString();
         assertTrue(output.contains("Invalid") || output.contains("number"));
@@ -135,14 +149,14 @@ public class GoalWeightTrackerTest {
 
     @Test
     public void testHandleSetGoal_withSpaces_setsGoalWeight() throws NoSuchFieldException, IllegalAccessException {
-        tracker.handleSetGoal("w/   70.5   ");
+        setGoal("w/   70.5   ");
 
         assertEquals(70.5, getGoalWeight());
     }
 
     @Test
     public void testHandleSetGoal_successMessage_displaysGoalAndDate() {
-        tracker.handleSetGoal("w/60");
+        setGoal("w/60");
 
         String output = outputStream.toString();
         assertTrue(output.contains("60"));
@@ -152,7 +166,7 @@ public class GoalWeightTrackerTest {
     @Test
     public void testHandleViewGoal_currentWeightAboveGoal_showsAboveMessage() throws NoSuchFieldException,
             IllegalAccessException {
-        tracker.handleSetGoal("w/60");
+        setGoal("w/60");
         outputStream.reset();
 
         tracker.handleViewGoal(65.0);
@@ -164,7 +178,7 @@ public class GoalWeightTrackerTest {
     @Test
     public void testHandleViewGoal_currentWeightBelowGoal_showsBelowMessage() throws NoSuchFieldException,
             IllegalAccessException {
-        tracker.handleSetGoal("w/60");
+        setGoal("w/60");
         outputStream.reset();
 
         tracker.handleViewGoal(55.0);
@@ -176,7 +190,7 @@ public class GoalWeightTrackerTest {
     @Test
     public void testHandleViewGoal_currentWeightEqualGoal_showsCongrats() throws NoSuchFieldException,
             IllegalAccessException {
-        tracker.handleSetGoal("w/60");
+        setGoal("w/60");
         outputStream.reset();
 
         tracker.handleViewGoal(60.0);
@@ -188,7 +202,7 @@ public class GoalWeightTrackerTest {
     @Test
     public void testHandleViewGoal_displayFormat_showsAllRequiredInfo() throws NoSuchFieldException,
             IllegalAccessException {
-        tracker.handleSetGoal("w/60");
+        setGoal("w/60");
         outputStream.reset();
 
         tracker.handleViewGoal(65.0);
@@ -201,7 +215,7 @@ public class GoalWeightTrackerTest {
     @Test
     public void testHandleViewGoal_decimalDifference_calculatesCorrectly() throws NoSuchFieldException,
             IllegalAccessException {
-        tracker.handleSetGoal("w/60.5");
+        setGoal("w/60.5");
         outputStream.reset();
 
         tracker.handleViewGoal(65.3);
@@ -213,7 +227,7 @@ public class GoalWeightTrackerTest {
     @Test
     public void testHandleViewGoal_noWeightRecords_showsGoalOnly() throws NoSuchFieldException,
             IllegalAccessException {
-        tracker.handleSetGoal("w/60");
+        setGoal("w/60");
         outputStream.reset();
 
         tracker.handleViewGoal(null);
@@ -226,7 +240,7 @@ public class GoalWeightTrackerTest {
     @Test
     public void testHandleViewGoal_negativeCurrentWeight_showsNoRecordsMessage() throws NoSuchFieldException,
             IllegalAccessException {
-        tracker.handleSetGoal("w/60");
+        setGoal("w/60");
         outputStream.reset();
 
         tracker.handleViewGoal(-5.0);
@@ -237,19 +251,19 @@ public class GoalWeightTrackerTest {
 
     @Test
     public void testHandleSetGoal_multipleUpdates_usesLatestGoal() throws NoSuchFieldException, IllegalAccessException {
-        tracker.handleSetGoal("w/60");
+        setGoal("w/60");
         assertEquals(60.0, getGoalWeight());
 
-        tracker.handleSetGoal("w/70");
+        setGoal("w/70");
         assertEquals(70.0, getGoalWeight());
     }
 
     @Test
     public void testHandleSetGoal_updateDate_updatesCurrentDate() throws NoSuchFieldException, IllegalAccessException {
-        tracker.handleSetGoal("w/60");
+        setGoal("w/60");
         LocalDate firstDate = getSetDate();
 
-        tracker.handleSetGoal("w/70");
+        setGoal("w/70");
         LocalDate secondDate = getSetDate();
 
         assertEquals(firstDate, secondDate);
@@ -257,20 +271,20 @@ public class GoalWeightTrackerTest {
 
     @Test
     public void testHandleSetGoal_verySmallWeight_setsGoalWeight() throws NoSuchFieldException, IllegalAccessException {
-        tracker.handleSetGoal("w/0.01");
+        setGoal("w/0.01");
         assertEquals(0.01, getGoalWeight());
     }
 
     @Test
     public void testHandleSetGoal_veryLargeWeight_setsGoalWeight() throws NoSuchFieldException, IllegalAccessException {
-        tracker.handleSetGoal("w/500");
+        setGoal("w/500");
         assertEquals(500.0, getGoalWeight());
     }
 
     @Test
     public void testHandleViewGoal_verySmallDifference_calculatesCorrectly() throws NoSuchFieldException,
             IllegalAccessException {
-        tracker.handleSetGoal("w/60.0");
+        setGoal("w/60.0");
         outputStream.reset();
 
         tracker.handleViewGoal(60.01);
@@ -281,7 +295,7 @@ public class GoalWeightTrackerTest {
 
     @Test
     public void testHandleSetGoal_onlyPrefix_showsError() {
-        tracker.handleSetGoal("w/");
+        setGoal("w/");
 
         String output = outputStream.toString();
         assertTrue(output.contains("Invalid") || output.contains("number"));
@@ -290,7 +304,7 @@ public class GoalWeightTrackerTest {
     @Test
     public void testHandleSetGoal_scientificNotation_parsesCorrectly() throws NoSuchFieldException,
             IllegalAccessException {
-        tracker.handleSetGoal("w/1e2");
+        setGoal("w/1e2");
 
         // Java's Double.parseDouble supports scientific notation
         assertTrue(getGoalWeight() == null || getGoalWeight() > 0);
@@ -299,7 +313,7 @@ public class GoalWeightTrackerTest {
     @Test
     public void testHandleViewGoal_zeroCurrentWeight_showsComparison() throws NoSuchFieldException,
             IllegalAccessException {
-        tracker.handleSetGoal("w/60");
+        setGoal("w/60");
         outputStream.reset();
 
         tracker.handleViewGoal(0.0);
@@ -312,7 +326,7 @@ public class GoalWeightTrackerTest {
     @Test
     public void testGoalTrackerState_afterMultipleOperations_remainsConsistent() throws NoSuchFieldException,
             IllegalAccessException {
-        tracker.handleSetGoal("w/60");
+        setGoal("w/60");
         Double firstGoal = getGoalWeight();
         LocalDate firstDate = getSetDate();
 
@@ -0,0 +1,79 @@
+package seedu.fitchasers.user;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author bennyy117
+class WeightSeriesTest {
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    @Test
+    void put_sameDateTwice_replacesWeight() {
+        WeightSeries series = new WeightSeries();
+
+        assertTrue(series.put(START, 70.0));
+        assertFalse(series.put(START, 71.5));
+
+        assertEquals(1, series.size());
+        assertEquals(71.5, series.get(START));
+        assertEquals(71.5, series.sum(START, START));
+    }
+
+    @Test
+    void put_datesFarOnBothSides_growsAndKeepsOrder() {
+        WeightSeries series = new WeightSeries();
+        series.put(START, 70.0);
+        series.put(START.minusYears(3), 80.0);
+        series.put(START.plusYears(2), 65.0);
+        series.put(START.minusDays(1), 71.0);
+
+        assertEquals(List.of(START.minusYears(3), START.minusDays(1), START, START.plusYears(2)),
+                series.toList().stream().map(WeightRecord::getDate).toList());
+        assertEquals(80.0, series.weightAt(0));
+        assertEquals(START.plusYears(2), series.dateAt(3));
+        assertTrue(Double.isNaN(series.get(START.plusDays(1))));
+    }
+
+    @Test
+    void average_rangesAfterChanges_matchScan() {
+        WeightSeries series = new WeightSeries();
+        TreeMap<LocalDate, Double> expected = new TreeMap<>();
+        for (int i = 0; i < 400; i += 3) {
+            double weight = 60 + (i * 7 % 23) / 2.0;
+            series.put(START.plusDays(i), weight);
+            expected.put(START.plusDays(i), weight);
+        }
+        for (int i = 0; i < 400; i += 9) {
+            series.remove(START.plusDays(i));
+            expected.remove(START.plusDays(i));
+        }
+
+        for (int from = -10; from < 410; from += 37) {
+            for (int days = 1; days < 120; days += 29) {
+                LocalDate first = START.plusDays(from);
+                LocalDate last = first.plusDays(days - 1);
+                Collection<Double> window = expected.subMap(first, true, last, true).values();
+                assertEquals(window.size(), series.count(first, last));
+                double average = window.stream().mapToDouble(Double::doubleValue).average().orElse(Double.NaN);
+                assertEquals(average, series.movingAverage(last, days), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void dateAt_rankOutOfRange_throws() {
+        WeightSeries series = new WeightSeries();
+        assertThrows(IndexOutOfBoundsException.class, () -> series.dateAt(0));
+        series.put(START, 70.0);
+        assertThrows(IndexOutOfBoundsException.class, () -> series.weightAt(1));
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.fitchasers.workouts;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.fitchasers.exceptions.FileNonexistent;
+import seedu.fitchasers.storage.FileHandler;
+import seedu.fitchasers.tagger.DefaultTagger;
+import seedu.fitchasers.tagger.MuscleGroup;
+import seedu.fitchasers.ui.UI;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Kart04
+class RetagWorkoutsTest {
+    private static final UI QUIET_UI = new UI() {
+        @Override
+        public void showMessage(String message) {
+            // keep test output clean
+        }
+    };
+
+    @TempDir
+    Path tempDir;
+
+    private FileHandler fileHandler;
+
+    @BeforeEach
+    void setUp() {
+        fileHandler = new FileHandler(tempDir);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        fileHandler.flushJournal();
+    }
+
+    @Test
+    void execute_newKeyword_updatesAutoTagsInOlderMonthsOnly() throws IOException, FileNonexistent {
+        YearMonth current = YearMonth.now();
+        YearMonth older = current.minusMonths(13);
+
+        Workout oldHiit = new Workout("hiit blast", older.atDay(3).atTime(7, 0), older.atDay(3).atTime(8, 0));
+        oldHiit.setManualTags(Set.of("morning"));
+        Workout oldRun = new Workout("easy run", older.atDay(4).atTime(7, 0), older.atDay(4).atTime(8, 0));
+        oldRun.setAutoTags(Set.of("cardio"));
+        fileHandler.saveMonthList(older, new ArrayList<>(List.of(oldHiit, oldRun)));
+        fileHandler.saveMonthList(current, new ArrayList<>());
+
+        DefaultTagger tagger = new DefaultTagger();
+        tagger.addMuscleKeyword(MuscleGroup.CORE, "hiit");
+        WorkoutManager manager = new WorkoutManager(tagger, fileHandler);
+        manager.setWorkouts(fileHandler.loadMonthList(current), current);
+
+        new RetagWorkouts(QUIET_UI, fileHandler, manager, tagger).execute();
+        fileHandler.flushJournal();
+
+        ArrayList<Workout> reloaded = new FileHandler(tempDir).loadMonthList(older);
+        Workout hiit = reloaded.stream().filter(w -> w.getWorkoutName().equals("hiit blast")).findFirst().get();
+        Workout run = reloaded.stream().filter(w -> w.getWorkoutName().equals("easy run")).findFirst().get();
+        assertEquals(Set.of("core"), hiit.getAutoTags());
+        assertEquals(Set.of("morning"), hiit.getManualTags());
+        assertEquals(Set.of("cardio"), run.getAutoTags());
+        assertTrue(manager.getWorkouts().isEmpty());
+    }
+
+    @Test
+    void execute_damagedMonthFile_warningShownOnCallingThread() throws IOException, FileNonexistent {
+        YearMonth older = YearMonth.now().minusMonths(2);
+        Workout run = new Workout("easy run", older.atDay(4).atTime(7, 0), older.atDay(4).atTime(8, 0));
+        fileHandler.saveMonthList(older, new ArrayList<>(List.of(run)));
+        fileHandler.flushJournal();
+        Path txt = tempDir.resolve("workouts").resolve("workouts_" + older + ".txt");
+        Files.writeString(txt, Files.readString(txt, StandardCharsets.UTF_8).replace("easy run", "easy jog"),
+                StandardCharsets.UTF_8);
+
+        Map<String, String> errorThreads = new ConcurrentHashMap<>();
+        UI recordingUi = new UI() {
+            @Override
+            public void showMessage(String message) {
+                // keep test output clean
+            }
+
+            @Override
+            public void showError(String error) {
+                errorThreads.put(error, Thread.currentThread().getName());
+            }
+        };
+        DefaultTagger tagger = new DefaultTagger();
+        WorkoutManager manager = new WorkoutManager(tagger, fileHandler);
+        new RetagWorkouts(recordingUi, fileHandler, manager, tagger).execute();
+
+        assertEquals(1, errorThreads.size());
+        String error = errorThreads.keySet().iterator().next();
+        assertTrue(error.contains("does not match its checksum"), error);
+        assertEquals(Thread.currentThread().getName(), errorThreads.get(error));
+    }
+}
@@ -1,8 +1,18 @@
 package seedu.fitchasers.workouts;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import seedu.fitchasers.exceptions.FileNonexistent;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.fitchasers.exceptions.InvalidArgumentInput;
+import seedu.fitchasers.parser.addexercise.AddExerciseArguments;
+import seedu.fitchasers.parser.addexercise.AddExerciseParser;
+import seedu.fitchasers.parser.addset.AddSetParser;
+import seedu.fitchasers.parser.createworkout.CreateWorkoutArguments;
+import seedu.fitchasers.parser.createworkout.CreateWorkoutParser;
+import seedu.fitchasers.parser.deleteworkout.DeleteParser;
+import seedu.fitchasers.parser.endworkout.EndWorkoutArguments;
+import seedu.fitchasers.parser.endworkout.EndWorkoutParser;
 import seedu.fitchasers.storage.FileHandler;
 import seedu.fitchasers.ui.UI;
 import seedu.fitchasers.tagger.DefaultTagger;
@@ -11,22 +21,35 @@ import seedu.fitchasers.tagger.Tagger;
 import java.io.IOException;
 
 import java.lang.reflect.Field;
+import java.nio.file.Path;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 //@@author Kart04
 class WorkoutManagerTest {
+    private static final DateTimeFormatter DATE_FMT = DateTimeFormatter.ofPattern("dd/MM/yy");
+
     //methodName_whatIsTheConditionYouAreTesting_Outcome(If 2 Paths Can Exclude)
     private WorkoutManager manager;
+    private FileHandler fileHandler;
     private UI mockUi;
 
+    @TempDir
+    Path tempDir;
+
     @BeforeEach
-    void setup() throws FileNonexistent, IOException, NoSuchFieldException, IllegalAccessException {
+    void setup() throws IOException, InvalidArgumentInput, NoSuchFieldException, IllegalAccessException {
         Tagger tagger = new DefaultTagger();
-        FileHandler fileHandler = new FileHandler();
+        // Mutations are journaled on top of the month file, so start every test from an empty data folder.
+        fileHandler = new FileHandler(tempDir);
         manager = new WorkoutManager(tagger, fileHandler);
 
         // Create a mock UI that always confirms prompts
@@ -56,7 +79,25 @@ class WorkoutManagerTest {
         String dateStr = today.format(java.time.format.DateTimeFormatter.ofPattern("dd/MM/yy"));
         // pick a fixed time that is valid
         String timeStr = "1400";
-        manager.addWorkout("/create_workout n/TestWorkout d/" + dateStr + " t/" + timeStr);
+        manager.addWorkout(createWorkout("n/TestWorkout d/" + dateStr + " t/" + timeStr));
+    }
+
+    private static CreateWorkoutArguments createWorkout(String arguments) throws InvalidArgumentInput {
+        return new CreateWorkoutParser().parse(arguments, null);
+    }
+
+    private static AddExerciseArguments exercise(String arguments) throws InvalidArgumentInput {
+        return new AddExerciseParser().parse(arguments, null);
+    }
+
+    private static EndWorkoutArguments endWorkout(String arguments) throws InvalidArgumentInput {
+        return new EndWorkoutParser().parse(arguments, null);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        // the writer thread must be done with the data folder before it is deleted
+        fileHandler.flushJournal();
     }
 
     @Test
@@ -66,17 +107,17 @@ class WorkoutManagerTest {
     }
 
     @Test
-    void addExercise_validInput_addsExerciseToCurrentWorkout() throws IOException {
-        manager.addExercise("n/PushUp r/10");
+    void addExercise_validInput_addsExerciseToCurrentWorkout() throws IOException, InvalidArgumentInput {
+        manager.addExercise(exercise("n/PushUp r/10"));
         Workout w = manager.getWorkouts().get(0);
         assertEquals(1, w.getExercises().size());
         assertEquals("PushUp", w.getExercises().get(0).getName());
     }
 
     @Test
-    void addSet_validInput_addsSetToCurrentExercise() throws IOException {
-        manager.addExercise("n/Squat r/12");
-        manager.addSet("r/15");
+    void addSet_validInput_addsSetToCurrentExercise() throws IOException, InvalidArgumentInput {
+        manager.addExercise(exercise("n/Squat r/12"));
+        manager.addSet(new AddSetParser().parse("r/15", null));
 
         Workout w = manager.getWorkouts().get(0);
         Exercise ex = w.getExercises().get(0);
@@ -95,28 +136,46 @@ class WorkoutManagerTest {
                     .invoke(current);
             LocalDateTime end = start.plusMinutes(1);
 
-            String endArgs = String.format("/end_workout d/%s t/%s",
+            String endArgs = String.format("d/%s t/%s",
                     end.format(DateTimeFormatter.ofPattern("dd/MM/yy")),
                     end.format(DateTimeFormatter.ofPattern("HHmm")));
 
-            manager.endWorkout(endArgs);
+            manager.endWorkout(endWorkout(endArgs));
         }
 
         java.time.LocalDate today = java.time.LocalDate.now();
         String dateStr = today.format(java.time.format.DateTimeFormatter.ofPattern("dd/MM/yy"));
-        manager.addWorkout("/create_workout n/run d/" + dateStr + " t/2030");
+        manager.addWorkout(createWorkout("n/run d/" + dateStr + " t/2030"));
 
         assertEquals(2, manager.getWorkouts().size());
         assertEquals("run", manager.getWorkouts().get(1).getWorkoutName());
     }
 
     @Test
-    void deleteWorkout_acessingDeletedWorkout_indexOutOfBoundsException() throws IOException, FileNonexistent {
+    void endWorkout_overlapsWorkoutInNextMonth_rejected() throws Exception {
+        LocalDateTime setupEnd = LocalDate.now().atTime(14, 1);
+        manager.endWorkout(endWorkout("d/" + setupEnd.format(DATE_FMT) + " t/1401"));
+        YearMonth nextMonth = YearMonth.now().plusMonths(1);
+        LocalDateTime savedStart = nextMonth.atDay(1).atTime(0, 30);
+        fileHandler.saveMonthList(nextMonth, new ArrayList<>(List.of(
+                new Workout("early swim", savedStart, savedStart.plusHours(1)))));
+
+        LocalDate lastDay = YearMonth.now().atEndOfMonth();
+        manager.addWorkout(createWorkout("n/late run d/" + lastDay.format(DATE_FMT) + " t/2300"));
+        manager.endWorkout(endWorkout("d/" + nextMonth.atDay(1).format(DATE_FMT) + " t/0100"));
+
+        Workout lateRun = manager.getWorkouts().get(manager.getWorkouts().size() - 1);
+        assertEquals("late run", lateRun.getWorkoutName());
+        assertNull(lateRun.getWorkoutEndDateTime());
+    }
+
+    @Test
+    void deleteWorkout_acessingDeletedWorkout_indexOutOfBoundsException() throws Exception {
         // To make this test meaningful, we first add a workout to delete.
-        manager.addWorkout("/create_workout n/run d/01/01/25 t/1200");
+        manager.addWorkout(createWorkout("n/run d/01/01/25 t/1200"));
 
         // Delete the second workout using index-based deletion (id/2)
-        manager.deleteParser("id/2");
+        manager.deleteWorkout(new DeleteParser().parse("id/2", manager.getCreationDate()));
 
         // Accessing index 1 should throw IndexOutOfBoundsException since we only have 1 workout left
         assertThrows(IndexOutOfBoundsException.class,
@@ -124,14 +183,14 @@ class WorkoutManagerTest {
     }
 
     @Test
-    void removeWorkout_nonExistingWorkout_printsWorkoutNotFound() throws IOException, FileNonexistent {
+    void removeWorkout_nonExistingWorkout_printsWorkoutNotFound() throws Exception {
         // This test is tricky because the mock UI suppresses output.
         // A better approach would be to check the state of the application.
         // For now, let's ensure the list size doesn't change.
         int initialSize = manager.getWorkouts().size();
 
         // Try to delete a workout with invalid index (id/99 - doesn't exist)
-        manager.deleteParser("id/99");
+        manager.deleteWorkout(new DeleteParser().parse("id/99", manager.getCreationDate()));
 
         // List size should remain the same
         assertEquals(initialSize, manager.getWorkouts().size());
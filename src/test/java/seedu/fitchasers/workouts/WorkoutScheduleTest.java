@@ -0,0 +1,77 @@
+package seedu.fitchasers.workouts;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+//@@author ZhongBaode
+class WorkoutScheduleTest {
+    private static final YearMonth OCT = YearMonth.of(2025, 10);
+    private static final YearMonth NOV = YearMonth.of(2025, 11);
+
+    @Test
+    void findContaining_sessionCrossingMonthBoundary_detectsOverlap() {
+        WorkoutSchedule schedule = new WorkoutSchedule();
+        Workout lateNight = new Workout("Late", LocalDateTime.of(2025, 10, 31, 23, 0),
+                LocalDateTime.of(2025, 11, 1, 1, 0));
+        schedule.replaceMonth(OCT, List.of(lateNight));
+        schedule.replaceMonth(NOV, new ArrayList<>());
+
+        assertSame(lateNight, schedule.findContaining(LocalDateTime.of(2025, 11, 1, 0, 30)));
+        assertNull(schedule.findContaining(LocalDateTime.of(2025, 11, 1, 1, 0)));
+    }
+
+    @Test
+    void findContaining_unendedWorkout_blocksRestOfDayOnly() {
+        WorkoutSchedule schedule = new WorkoutSchedule();
+        Workout ongoing = new Workout("Ongoing", LocalDateTime.of(2025, 10, 14, 18, 0));
+        schedule.add(OCT, ongoing);
+
+        assertSame(ongoing, schedule.findContaining(LocalDateTime.of(2025, 10, 14, 23, 59)));
+        assertNull(schedule.findContaining(LocalDateTime.of(2025, 10, 15, 0, 0)));
+        assertNull(schedule.findContaining(LocalDateTime.of(2025, 10, 14, 17, 59)));
+    }
+
+    @Test
+    void findOverlapping_manyWorkouts_matchesLinearScan() {
+        WorkoutSchedule schedule = new WorkoutSchedule();
+        List<Workout> all = new ArrayList<>();
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 6, 0);
+        for (int i = 0; i < 2000; i++) {
+            LocalDateTime start = base.plusHours(i * 5L);
+            Workout w = new Workout("W" + i, start, start.plusMinutes(30 + (i % 7) * 40));
+            all.add(w);
+            schedule.add(YearMonth.from(start), w);
+        }
+
+        for (int i = 0; i < 2000 * 5; i += 3) {
+            LocalDateTime from = base.plusHours(i).plusMinutes(17);
+            LocalDateTime to = from.plusMinutes(45);
+            boolean expected = all.stream().anyMatch(w -> w.getWorkoutStartDateTime().isBefore(to)
+                    && w.getWorkoutEndDateTime().isAfter(from));
+            assertEquals(expected, schedule.findOverlapping(from, to) != null);
+        }
+    }
+
+    @Test
+    void removeMonth_afterReplace_dropsOnlyThatMonth() {
+        WorkoutSchedule schedule = new WorkoutSchedule();
+        Workout oct = new Workout("Oct", LocalDateTime.of(2025, 10, 2, 8, 0), LocalDateTime.of(2025, 10, 2, 9, 0));
+        Workout nov = new Workout("Nov", LocalDateTime.of(2025, 11, 2, 8, 0), LocalDateTime.of(2025, 11, 2, 9, 0));
+        schedule.replaceMonth(OCT, List.of(oct));
+        schedule.replaceMonth(NOV, List.of(nov));
+
+        schedule.removeMonth(OCT);
+
+        assertEquals(1, schedule.size());
+        assertNull(schedule.findContaining(LocalDateTime.of(2025, 10, 2, 8, 30)));
+        assertSame(nov, schedule.findContaining(LocalDateTime.of(2025, 11, 2, 8, 30)));
+    }
+}